@@ -2,9 +2,9 @@ package io.openems.backend.alerting.scheduler;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import io.openems.backend.alerting.Handler;
@@ -16,19 +16,38 @@ import io.openems.backend.alerting.Message;
  * After the specified time is reached, the scheduler sends the Messages to
  * their {@link Handler} and removes them from itself.
  * </p>
+ * <p>
+ * Messages are kept in a hashed timing wheel with a resolution of one minute,
+ * matching the {@link MinuteTimer}. Scheduling and removing a Message are O(1)
+ * and can be called concurrently; {@link #handle(ZonedDateTime)} only visits
+ * the slots of the minutes that passed since its last call.
+ * </p>
  *
  * @param <T> type of Message
  */
 public class MessageScheduler<T extends Message> {
-	private final Map<String, T> messageForId;
-	private final PriorityQueue<T> queue;
+
+	/** Number of slots; one slot per minute of a day. */
+	private static final int SLOTS = 24 * 60;
+
+	private static record Entry<T>(T msg, long minute) {
+	}
+
+	private final Map<String, Entry<T>> entryForId = new ConcurrentHashMap<>();
+	private final Map<String, Entry<T>>[] wheel;
 
 	private final Handler<T> handler;
 
+	/** The last minute that was handled; Long.MIN_VALUE before the first call. */
+	private volatile long lastMinute = Long.MIN_VALUE;
+
+	@SuppressWarnings("unchecked")
 	public MessageScheduler(Handler<T> handler) {
 		this.handler = handler;
-		this.queue = new PriorityQueue<>();
-		this.messageForId = new TreeMap<>();
+		this.wheel = new Map[SLOTS];
+		for (var i = 0; i < SLOTS; i++) {
+			this.wheel[i] = new ConcurrentHashMap<>();
+		}
 	}
 
 	/**
@@ -40,11 +59,16 @@ public class MessageScheduler<T extends Message> {
 		if (msg == null) {
 			return;
 		}
-		synchronized (this) {
-			this.messageForId.computeIfAbsent(msg.getId(), (key) -> {
-				this.queue.add(msg);
-				return msg;
-			});
+		var entry = new Entry<>(msg, this.getMinuteToHandle(toMinute(msg.getNotifyStamp())));
+		if (this.entryForId.putIfAbsent(msg.getId(), entry) != null) {
+			return;
+		}
+		this.put(entry);
+
+		// handle() might have passed the slot in the meantime
+		var lastMinute = this.lastMinute;
+		if (entry.minute() <= lastMinute) {
+			this.move(entry, lastMinute + 1);
 		}
 	}
 
@@ -58,13 +82,12 @@ public class MessageScheduler<T extends Message> {
 		if (msgId == null) {
 			return null;
 		}
-		synchronized (this) {
-			var msg = this.messageForId.remove(msgId);
-			if (msg != null) {
-				this.queue.remove(msg);
-			}
-			return msg;
+		var entry = this.entryForId.remove(msgId);
+		if (entry == null) {
+			return null;
 		}
+		this.slot(entry.minute()).remove(msgId, entry);
+		return entry.msg();
 	}
 
 	/**
@@ -74,7 +97,7 @@ public class MessageScheduler<T extends Message> {
 	 * @return true if is scheduled
 	 */
 	public boolean isScheduled(Message msg) {
-		return this.queue.contains(msg);
+		return msg != null && this.entryForId.containsKey(msg.getId());
 	}
 
 	/**
@@ -84,7 +107,7 @@ public class MessageScheduler<T extends Message> {
 	 * @return true if is scheduled
 	 */
 	public boolean isScheduled(Predicate<T> find) {
-		return this.queue.stream().anyMatch(find);
+		return this.entryForId.values().stream().map(Entry::msg).anyMatch(find);
 	}
 
 	public Class<T> getGeneric() {
@@ -97,7 +120,7 @@ public class MessageScheduler<T extends Message> {
 	 * @return size of message queue
 	 */
 	public int size() {
-		return this.queue.size();
+		return this.entryForId.size();
 	}
 
 	/**
@@ -106,33 +129,84 @@ public class MessageScheduler<T extends Message> {
 	 * @param now TimeStamp on call
 	 */
 	public void handle(ZonedDateTime now) {
+		final var minute = toMinute(now);
+		final var lastMinute = this.lastMinute;
+		if (minute <= lastMinute) {
+			return;
+		}
+		this.lastMinute = minute;
+
 		var msgs = new ArrayList<T>();
-		while (this.hasTimeElapsed(now, this.peek())) {
-			msgs.add(this.poll());
+		if (lastMinute == Long.MIN_VALUE || minute - lastMinute >= SLOTS) {
+			for (var i = 0; i < SLOTS; i++) {
+				this.handleSlot(this.wheel[i], now, minute, msgs);
+			}
+		} else {
+			for (var m = lastMinute + 1; m <= minute; m++) {
+				this.handleSlot(this.slot(m), now, minute, msgs);
+			}
 		}
+
 		if (!msgs.isEmpty()) {
+			Collections.sort(msgs);
 			this.handler.send(now, msgs);
 		}
 	}
 
-	private boolean hasTimeElapsed(ZonedDateTime now, T msg) {
-		return msg != null && now.isAfter(msg.getNotifyStamp());
+	private void handleSlot(Map<String, Entry<T>> slot, ZonedDateTime now, long minute, ArrayList<T> msgs) {
+		for (var entry : slot.values()) {
+			if (entry.minute() > minute) {
+				// Scheduled for a later round of the wheel
+				continue;
+			}
+			var msg = entry.msg();
+			slot.remove(msg.getId(), entry);
+			if (now.isAfter(msg.getNotifyStamp())) {
+				if (this.entryForId.remove(msg.getId(), entry)) {
+					msgs.add(msg);
+				}
+			} else {
+				// Due later within this minute
+				this.move(entry, minute + 1);
+			}
+		}
 	}
 
-	private T poll() {
-		synchronized (this) {
-			var msg = this.queue.poll();
-			if (msg != null) {
-				this.messageForId.remove(msg.getId());
-			}
-			return msg;
+	/**
+	 * Moves the {@link Entry} to the slot of the given minute, if it was not
+	 * removed in the meantime.
+	 *
+	 * @param entry  the {@link Entry}
+	 * @param minute the new minute
+	 */
+	private void move(Entry<T> entry, long minute) {
+		var id = entry.msg().getId();
+		var moved = new Entry<>(entry.msg(), minute);
+		if (this.entryForId.replace(id, entry, moved)) {
+			this.slot(entry.minute()).remove(id, entry);
+			this.put(moved);
 		}
 	}
 
-	private T peek() {
-		synchronized (this) {
-			return this.queue.peek();
+	private void put(Entry<T> entry) {
+		this.slot(entry.minute()).put(entry.msg().getId(), entry);
+	}
+
+	private Map<String, Entry<T>> slot(long minute) {
+		return this.wheel[(int) Math.floorMod(minute, (long) SLOTS)];
+	}
+
+	private long getMinuteToHandle(long minute) {
+		var lastMinute = this.lastMinute;
+		if (lastMinute != Long.MIN_VALUE && minute <= lastMinute) {
+			// Already overdue -> handle on next call
+			return lastMinute + 1;
 		}
+		return minute;
+	}
+
+	private static long toMinute(ZonedDateTime dateTime) {
+		return Math.floorDiv(dateTime.toEpochSecond(), 60);
 	}
 
 	/**
@@ -0,0 +1,132 @@
+package io.openems.backend.alerting.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+import io.openems.backend.alerting.Handler;
+import io.openems.backend.alerting.Message;
+import io.openems.common.event.EventReader;
+
+public class MessageSchedulerTest {
+
+	private static final int EDGES = 100_000;
+	private static final ZonedDateTime NOW = ZonedDateTime.of(2024, 1, 1, 12, 0, 30, 0, ZoneOffset.UTC);
+
+	@Test
+	public void testMassDisconnectAndReconnect() {
+		final var handler = new DummyHandler();
+		final var sut = new MessageScheduler<>(handler);
+		sut.handle(NOW);
+
+		// All Edges disconnect; offline alerts in 5 to 15 minutes
+		IntStream.range(0, EDGES).parallel() //
+				.forEach(i -> sut.schedule(new DummyMessage("edge" + i, NOW.plusMinutes(5 + i % 11))));
+		assertEquals(EDGES, sut.size());
+
+		// Every other Edge reconnects
+		IntStream.range(0, EDGES).parallel() //
+				.filter(i -> i % 2 == 0) //
+				.forEach(i -> sut.remove("edge" + i));
+		assertEquals(EDGES / 2, sut.size());
+		assertFalse(sut.isScheduled(new DummyMessage("edge0", NOW)));
+		assertTrue(sut.isScheduled(new DummyMessage("edge1", NOW)));
+
+		for (var minute = 1; minute <= 16; minute++) {
+			sut.handle(NOW.plusMinutes(minute));
+		}
+		assertEquals(0, sut.size());
+		assertEquals(EDGES / 2, handler.received.size());
+		for (var i = 1; i < handler.received.size(); i++) {
+			assertTrue(handler.received.get(i - 1).compareTo(handler.received.get(i)) <= 0);
+		}
+	}
+
+	@Test
+	public void testHandle() {
+		final var handler = new DummyHandler();
+		final var sut = new MessageScheduler<>(handler);
+
+		// Overdue before first handle
+		sut.schedule(new DummyMessage("overdue", NOW.minusDays(3)));
+		// Later within the same minute
+		sut.schedule(new DummyMessage("same-minute", NOW.plusSeconds(20)));
+		// Next round of the wheel
+		sut.schedule(new DummyMessage("next-day", NOW.plusDays(1).plusMinutes(1)));
+
+		sut.handle(NOW);
+		assertEquals(List.of("overdue"), handler.receivedIds());
+
+		sut.handle(NOW.plusMinutes(1));
+		assertEquals(List.of("overdue", "same-minute"), handler.receivedIds());
+
+		// Overdue after handle -> next call
+		sut.schedule(new DummyMessage("late", NOW.minusMinutes(10)));
+		sut.handle(NOW.plusMinutes(2));
+		assertEquals(List.of("overdue", "same-minute", "late"), handler.receivedIds());
+
+		sut.handle(NOW.plusDays(1));
+		assertEquals(1, sut.size());
+		sut.handle(NOW.plusDays(1).plusMinutes(2));
+		assertEquals(0, sut.size());
+	}
+
+	/* *********************************************** */
+	private static class DummyMessage extends Message {
+		private final ZonedDateTime notifyStamp;
+
+		public DummyMessage(String messageId, ZonedDateTime notifyStamp) {
+			super(messageId);
+			this.notifyStamp = notifyStamp;
+		}
+
+		@Override
+		public ZonedDateTime getNotifyStamp() {
+			return this.notifyStamp;
+		}
+
+		@Override
+		public JsonObject getParams() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static class DummyHandler implements Handler<DummyMessage> {
+		private final List<DummyMessage> received = new ArrayList<>();
+
+		private List<String> receivedIds() {
+			return this.received.stream().map(Message::getId).toList();
+		}
+
+		@Override
+		public Consumer<EventReader> getEventHandler(String eventTopic) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void stop() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void send(ZonedDateTime sentAt, List<DummyMessage> messages) {
+			this.received.addAll(messages);
+		}
+
+		@Override
+		public Class<DummyMessage> getGeneric() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -1,11 +1,14 @@
 package io.openems.backend.common.edgewebsocket;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
-import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
@@ -13,65 +16,161 @@ import com.google.gson.JsonNull;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 
+/**
+ * Caches the latest Channel values of one Edge.
+ *
+ * <p>
+ * Channel-Addresses are interned to dense integer IDs per Edge. Values are kept
+ * in immutable snapshots of fixed-size chunks, indexed by ID. An update copies
+ * only the chunks that contain a changed value and shares all others with the
+ * previous snapshot (copy-on-write). Readers never block; writers of one Edge
+ * are serialized.
+ */
 public class EdgeCache {
 
-	private final ChannelDataCache current = new ChannelDataCache();
-	private final ChannelDataCache aggregated = new ChannelDataCache();
+	/** Cache is not anymore valid if it is older than 15 minutes. */
+	private static final long MAX_AGE = 15 * 60 * 1000;
+
+	private static final int CHUNK_BITS = 6;
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
 
 	public static record Pair<A, B>(A a, B b) {
 
 	}
 
+	/**
+	 * Immutable snapshot of a {@link ChannelDataCache}.
+	 *
+	 * <p>
+	 * The 'ids' map is shared with following snapshots and only ever grows until
+	 * the cache is cleared; IDs that were added later are beyond 'size' or point
+	 * to an empty slot of this snapshot.
+	 *
+	 * @param timestamp the timestamp of the data
+	 * @param ids       Channel-Address to ID
+	 * @param size      the number of IDs known to this snapshot
+	 * @param chunks    the values in chunks of {@link EdgeCache#CHUNK_SIZE}
+	 */
+	private static record Snapshot(long timestamp, Map<String, Integer> ids, int size, JsonElement[][] chunks) {
+
+		private static final Snapshot EMPTY = new Snapshot(0L, Collections.emptyMap(), 0, new JsonElement[0][]);
+
+		/**
+		 * Gets the value for the Channel-Address.
+		 *
+		 * @param address the Channel-Address
+		 * @return the value; null if it is not in this snapshot
+		 */
+		private JsonElement get(String address) {
+			var id = this.ids.get(address);
+			if (id == null || id >= this.size) {
+				return null;
+			}
+			return this.chunks[id >>> CHUNK_BITS][id & CHUNK_MASK];
+		}
+
+		/**
+		 * Creates a new {@link Snapshot} with the given data.
+		 *
+		 * <p>
+		 * Only chunks with changed values are copied; all other chunks are shared
+		 * with this snapshot.
+		 *
+		 * @param timestamp the timestamp of the data
+		 * @param clear     clear existing data
+		 * @param data      the incoming data
+		 * @return the new {@link Snapshot}
+		 */
+		private Snapshot merge(long timestamp, boolean clear, Map<String, JsonElement> data) {
+			final Map<String, Integer> ids;
+			final JsonElement[][] previous;
+			int size;
+			if (clear || this.ids == EMPTY.ids) {
+				ids = new ConcurrentHashMap<>();
+				previous = EMPTY.chunks;
+				size = 0;
+			} else {
+				ids = this.ids;
+				previous = this.chunks;
+				size = this.size;
+			}
+
+			var chunks = previous;
+			for (var entry : data.entrySet()) {
+				var value = entry.getValue();
+				var id = ids.get(entry.getKey());
+				if (id == null) {
+					id = size++;
+					ids.put(entry.getKey(), id);
+				}
+				var c = id >>> CHUNK_BITS;
+				var slot = id & CHUNK_MASK;
+
+				if (c < previous.length && chunks[c] == previous[c]) {
+					// Chunk is still shared with the previous snapshot
+					if (Objects.equals(previous[c][slot], value)) {
+						continue;
+					}
+					if (chunks == previous) {
+						chunks = previous.clone();
+					}
+					chunks[c] = previous[c].clone();
+
+				} else if (c >= chunks.length) {
+					// New chunk
+					chunks = Arrays.copyOf(chunks, c + 1);
+					chunks[c] = new JsonElement[CHUNK_SIZE];
+				}
+				chunks[c][slot] = value;
+			}
+			return new Snapshot(timestamp, ids, size, chunks);
+		}
+	}
+
 	private static class ChannelDataCache {
-		private long timestamp = 0L;
-		private final HashMap<String, JsonElement> data = new HashMap<>();
+
+		private volatile Snapshot snapshot = Snapshot.EMPTY;
 
 		/**
 		 * Gets the channel value from cache.
 		 *
 		 * @param address the Channel-Address of the channel
-		 * @return the value; {@link JsonNull} if it is not in cache
+		 * @return the value; null if it is not in cache
 		 */
 		public final JsonElement getChannelValue(String address) {
-			synchronized (this) {
-				return this.data.get(address);
-			}
+			return this.snapshot.get(address);
 		}
 
 		/**
-		 * Updates the Cache.
+		 * Updates the Cache. Must be called synchronized.
 		 *
 		 * @param incomingDatas the incoming data
 		 */
 		public void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
+			var snapshot = this.snapshot;
 			for (var entry : incomingDatas.entrySet()) {
 				var incomingTimestamp = entry.getKey();
 				var incomingData = entry.getValue();
 
 				// Check if cache should be applied
-				if (incomingTimestamp < this.timestamp) {
+				if (incomingTimestamp < snapshot.timestamp) {
 					// Incoming data is older than cache -> do not apply cache
-
-				} else {
-					// Incoming data is more recent than cache
-
-					if (incomingTimestamp > this.timestamp + 15 * 60 * 1000) {
-						// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
-						synchronized (this) {
-							this.data.clear();
-						}
-					}
-
-					// update cache
-					this.timestamp = incomingTimestamp;
-					synchronized (this) {
-						this.data.putAll(incomingData);
-					}
+					continue;
 				}
+
+				// Incoming data is more recent than cache. Cache is not anymore valid if it
+				// is older than 15 minutes -> clear Cache
+				var clear = incomingTimestamp > snapshot.timestamp + MAX_AGE;
+				snapshot = snapshot.merge(incomingTimestamp, clear, incomingData);
 			}
+			this.snapshot = snapshot;
 		}
 	}
 
+	private final ChannelDataCache current = new ChannelDataCache();
+	private final ChannelDataCache aggregated = new ChannelDataCache();
+
 	/**
 	 * Gets the channel value from cache.
 	 *
@@ -95,27 +194,33 @@ public class EdgeCache {
 	 *
 	 * @param addresses the Channel-Addresses of the channels
 	 * @return a) Map of Channel-Address to values ({@link JsonNull} if not in
-	 *         cache); b) Set of Channel-Addresses that are only available as
-	 *         aggregated data
+	 *         cache) in the iteration order of 'addresses'; b) Set of
+	 *         Channel-Addresses that are only available as aggregated data
 	 */
 	public final Pair<Map<String, JsonElement>, Set<String>> getChannelValues(Set<String> addresses) {
-		final var result = new TreeMap<String, JsonElement>();
-		final var aggregatedChannelValues = new TreeSet<String>();
+		final var current = this.current.snapshot;
+		final var aggregated = this.aggregated.snapshot;
+		final var result = new LinkedHashMap<String, JsonElement>(addresses.size() * 4 / 3 + 1);
+		Set<String> aggregatedChannelValues = null;
 		for (var address : addresses) {
-			final var value = this.current.getChannelValue(address);
+			var value = current.get(address);
 			if (value != null) {
 				result.put(address, value);
 				continue;
 			}
-			final var aggregatedValue = this.aggregated.getChannelValue(address);
-			if (aggregatedValue != null) {
-				result.put(address, aggregatedValue);
+			value = aggregated.get(address);
+			if (value != null) {
+				result.put(address, value);
+				if (aggregatedChannelValues == null) {
+					aggregatedChannelValues = new TreeSet<>();
+				}
 				aggregatedChannelValues.add(address);
 				continue;
 			}
 			result.put(address, JsonNull.INSTANCE);
 		}
-		return new Pair<>(result, aggregatedChannelValues);
+		return new Pair<>(result,
+				aggregatedChannelValues == null ? Collections.emptySet() : aggregatedChannelValues);
 	}
 
 	/**
@@ -123,7 +228,7 @@ public class EdgeCache {
 	 *
 	 * @param notification the incoming data
 	 */
-	public void updateCurrentData(TimestampedDataNotification notification) {
+	public synchronized void updateCurrentData(TimestampedDataNotification notification) {
 		this.current.update(notification.getData().rowMap());
 	}
 
@@ -132,7 +237,7 @@ public class EdgeCache {
 	 *
 	 * @param notification the incoming data
 	 */
-	public void updateAggregatedData(AggregatedDataNotification notification) {
+	public synchronized void updateAggregatedData(AggregatedDataNotification notification) {
 		this.aggregated.update(notification.getData().rowMap());
 	}
 
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.osgi.annotation.versioning.ProviderType;
@@ -54,6 +55,27 @@ public interface Metadata {
 	 */
 	public User authenticate(String username, String password) throws OpenemsNamedException;
 
+	/**
+	 * Authenticates the User by username and password without blocking the
+	 * calling thread.
+	 *
+	 * <p>
+	 * The default implementation calls
+	 * {@link #authenticate(String, String)} synchronously.
+	 *
+	 * @param username the Username
+	 * @param password the Password
+	 * @return the {@link User} as {@link CompletableFuture}; completes
+	 *         exceptionally with an {@link OpenemsNamedException} on error
+	 */
+	public default CompletableFuture<User> authenticateAsync(String username, String password) {
+		try {
+			return CompletableFuture.completedFuture(this.authenticate(username, password));
+		} catch (OpenemsNamedException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
 	/**
 	 * Authenticates the User by a Token.
 	 *
@@ -63,6 +85,25 @@ public interface Metadata {
 	 */
 	public User authenticate(String token) throws OpenemsNamedException;
 
+	/**
+	 * Authenticates the User by a Token without blocking the calling thread.
+	 *
+	 * <p>
+	 * The default implementation calls {@link #authenticate(String)}
+	 * synchronously.
+	 *
+	 * @param token the Token
+	 * @return the {@link User} as {@link CompletableFuture}; completes
+	 *         exceptionally with an {@link OpenemsNamedException} on error
+	 */
+	public default CompletableFuture<User> authenticateAsync(String token) {
+		try {
+			return CompletableFuture.completedFuture(this.authenticate(token));
+		} catch (OpenemsNamedException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
 	/**
 	 * Closes a session for a User.
 	 *
@@ -387,6 +428,28 @@ public interface Metadata {
 	public List<EdgeMetadata> getPageDevice(User user, PaginationOptions paginationOptions)
 			throws OpenemsNamedException;
 
+	/**
+	 * Gets a map of Edge-IDs with the role of the given user without blocking the
+	 * calling thread.
+	 *
+	 * <p>
+	 * The default implementation calls
+	 * {@link #getPageDevice(User, PaginationOptions)} synchronously.
+	 *
+	 * @param user              {@link User} the current user
+	 * @param paginationOptions the options of the requesting page
+	 * @return the role to the Edge-IDs as {@link CompletableFuture}; completes
+	 *         exceptionally with an {@link OpenemsNamedException} on error
+	 */
+	public default CompletableFuture<List<EdgeMetadata>> getPageDeviceAsync(User user,
+			PaginationOptions paginationOptions) {
+		try {
+			return CompletableFuture.completedFuture(this.getPageDevice(user, paginationOptions));
+		} catch (OpenemsNamedException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
 	/**
 	 * Gets the Role for a edge of the current user.
 	 *
@@ -397,6 +460,27 @@ public interface Metadata {
 	 */
 	public EdgeMetadata getEdgeMetadataForUser(User user, String edgeId) throws OpenemsNamedException;
 
+	/**
+	 * Gets the Role for a edge of the current user without blocking the calling
+	 * thread.
+	 *
+	 * <p>
+	 * The default implementation calls
+	 * {@link #getEdgeMetadataForUser(User, String)} synchronously.
+	 *
+	 * @param user   {@link User} the current user
+	 * @param edgeId the Edge-ID
+	 * @return the role to the edge as {@link CompletableFuture}; completes
+	 *         exceptionally with an {@link OpenemsNamedException} on error
+	 */
+	public default CompletableFuture<EdgeMetadata> getEdgeMetadataForUserAsync(User user, String edgeId) {
+		try {
+			return CompletableFuture.completedFuture(this.getEdgeMetadataForUser(user, edgeId));
+		} catch (OpenemsNamedException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
 	/**
 	 * Get the SumState of the edge with the given edgeId.
 	 *
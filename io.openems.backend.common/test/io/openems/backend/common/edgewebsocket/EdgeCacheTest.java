@@ -1,10 +1,12 @@
 package io.openems.backend.common.edgewebsocket;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.junit.Test;
 
@@ -51,6 +53,38 @@ public class EdgeCacheTest {
 		assertEquals("value3", cache.getChannelValue(CHANNEL3).getAsString());
 	}
 
+	@Test
+	public void testManyChannels() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		var channels = new TreeSet<String>();
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		for (var i = 0; i < 200; i++) {
+			var channel = new ChannelAddress("foo", "bar" + i).toString();
+			channels.add(channel);
+			table.put(0L, channel, new JsonPrimitive(i));
+		}
+		cache.updateCurrentData(new TimestampedDataNotification(table));
+
+		// Update a few values, add a new Channel
+		table = TreeBasedTable.<Long, String, JsonElement>create();
+		table.put(1000L, new ChannelAddress("foo", "bar5").toString(), new JsonPrimitive(-5));
+		table.put(1000L, new ChannelAddress("foo", "bar150").toString(), new JsonPrimitive(-150));
+		table.put(1000L, new ChannelAddress("foo", "bar200").toString(), new JsonPrimitive(-200));
+		cache.updateCurrentData(new TimestampedDataNotification(table));
+		channels.add(new ChannelAddress("foo", "bar200").toString());
+
+		var values = cache.getChannelValues(channels).a();
+		assertEquals(201, values.size());
+		for (var i = 0; i <= 200; i++) {
+			var expected = switch (i) {
+			case 5, 150, 200 -> -i;
+			default -> i;
+			};
+			assertEquals(expected, values.get(new ChannelAddress("foo", "bar" + i).toString()).getAsInt());
+		}
+		assertTrue(cache.getChannelValues(channels).b().isEmpty());
+	}
+
 	private static TimestampedDataNotification buildData(long timestamp, String channel, String value)
 			throws OpenemsNamedException {
 		var data = new TreeMap<Long, Map<String, JsonElement>>();
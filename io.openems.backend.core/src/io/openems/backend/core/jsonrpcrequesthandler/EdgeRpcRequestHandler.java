@@ -111,7 +111,7 @@ public class EdgeRpcRequestHandler {
 	 */
 	private CompletableFuture<JsonrpcResponseSuccess> handleQueryHistoricDataRequest(String edgeId, User user,
 			QueryHistoricTimeseriesDataRequest request) throws OpenemsNamedException {
-		var historicData = this.parent.timedataManager.queryHistoricData(edgeId, request);
+		var historicData = this.parent.timedataManager.queryHistoricDataColumnar(edgeId, request);
 
 		// JSON-RPC response
 		return CompletableFuture
@@ -13,4 +13,16 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Timedata-IDs", description = "IDs of Timedata Services. Execution is going to be sorted in the order of the IDs.")
 	String[] timedata_ids() default {};
 
+	@AttributeDefinition(name = "Query-Cache Size", description = "Maximum number of cached results of historic queries; 0 disables the cache.")
+	int queryCacheSize() default 1000;
+
+	@AttributeDefinition(name = "Query-Cache Max Values", description = "Maximum number of values (i.e. timestamps times Channels) of all cached results of historic queries. Limits the memory usage of the cache.")
+	long queryCacheMaxValues() default 2_000_000;
+
+	@AttributeDefinition(name = "Query-Cache Time-To-Live", description = "Seconds until results of historic queries that are not closed yet are queried again.")
+	int queryCacheTtlSeconds() default 60;
+
+	@AttributeDefinition(name = "Query-Cache Grace Period", description = "Minutes after the end of a time range until its results are closed, i.e. cached without Time-To-Live. Covers data that arrives late.")
+	int queryCacheGracePeriodMinutes() default 180;
+
 }
\ No newline at end of file
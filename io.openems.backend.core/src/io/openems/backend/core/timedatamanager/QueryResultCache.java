@@ -0,0 +1,325 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.timedata.HistoricData;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * A size-bounded read-through cache for results of historic queries.
+ *
+ * <p>
+ * The cache is bounded by the number of entries and by the total number of
+ * values of all entries (see {@link #weigh(Object)}), because a single result
+ * for a long time range can hold millions of values.
+ *
+ * <p>
+ * Results for time ranges that ended more than a grace period ago are 'closed'
+ * and kept until they are evicted (least-recently-used) or invalidated by
+ * resent data of the Edge. All other results are 'open' and expire after a
+ * short time, so the latest data is queried again. The grace period covers
+ * data that arrives late, e.g. aggregated data of the Edge or delayed writes
+ * of the database.
+ *
+ * <p>
+ * Concurrent requests for the same {@link Key} are coalesced: only the first
+ * one queries the database, the others wait for its result.
+ *
+ * <p>
+ * Every invalidation increments a per-Edge generation. A query that was
+ * running while the data of its Edge got invalidated still returns its result,
+ * but the result is not cached.
+ */
+public class QueryResultCache {
+
+	/**
+	 * The key of a cached query result.
+	 *
+	 * @param method     the name of the query method
+	 * @param edgeId     the Edge-ID
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution} as String; null if not applicable
+	 */
+	public static record Key(String method, String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, String resolution) {
+
+		/**
+		 * Creates a {@link Key}.
+		 *
+		 * @param method     the name of the query method
+		 * @param edgeId     the Edge-ID
+		 * @param fromDate   the From-Date
+		 * @param toDate     the To-Date
+		 * @param channels   the Channels
+		 * @param resolution the {@link Resolution}; possibly null
+		 * @return the {@link Key}
+		 */
+		public static Key of(String method, String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+				Set<ChannelAddress> channels, Resolution resolution) {
+			return new Key(method, edgeId, fromDate, toDate, Set.copyOf(channels),
+					resolution == null ? null : resolution.toString());
+		}
+	}
+
+	private static record Entry(Object value, long expiresAt, long queryNanos, long weight) {
+	}
+
+	private final int maxSize;
+	private final long maxWeight;
+	private final Duration openTtl;
+	private final Duration gracePeriod;
+	private final Clock clock;
+
+	/** Entries in access-order; guarded by 'this'. */
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** Sum of the weights of all entries; guarded by 'this'. */
+	private long weight = 0;
+
+	/** Invalidation generation per Edge-ID; guarded by 'this'. */
+	private final Map<String, Long> generations = new HashMap<>();
+
+	private final Map<Key, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong savedNanos = new AtomicLong();
+
+	public QueryResultCache(int maxSize, long maxWeight, Duration openTtl, Duration gracePeriod, Clock clock) {
+		this.maxSize = maxSize;
+		this.maxWeight = maxWeight;
+		this.openTtl = openTtl;
+		this.gracePeriod = gracePeriod;
+		this.clock = clock;
+	}
+
+	/**
+	 * Gets the cached result for the {@link Key}; executes the query if there is
+	 * no valid cached result.
+	 *
+	 * @param <T>   the type of the result
+	 * @param key   the {@link Key}
+	 * @param query the query
+	 * @return the result; possibly null
+	 * @throws OpenemsNamedException on error
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(Key key, ThrowingSupplier<T, OpenemsNamedException> query) throws OpenemsNamedException {
+		if (this.maxSize <= 0) {
+			return query.get();
+		}
+		final var cached = this.getValid(key);
+		if (cached != null) {
+			this.hit(cached);
+			return (T) cached.value();
+		}
+
+		final var future = new CompletableFuture<Entry>();
+		final var running = this.inFlight.putIfAbsent(key, future);
+		if (running != null) {
+			// Coalesce with the running query
+			final var entry = join(running);
+			this.hit(entry);
+			return (T) entry.value();
+		}
+
+		this.misses.incrementAndGet();
+		try {
+			final long generation;
+			synchronized (this) {
+				generation = this.getGeneration(key.edgeId());
+			}
+			final var start = System.nanoTime();
+			final var value = query.get();
+			final var entry = new Entry(value, this.getExpiresAt(key), System.nanoTime() - start, weigh(value));
+			if (value != null && entry.weight() <= this.maxWeight) {
+				synchronized (this) {
+					// Data might have been invalidated while the query was running
+					if (this.getGeneration(key.edgeId()) == generation) {
+						this.put(key, entry);
+					}
+				}
+			}
+			future.complete(entry);
+			return value;
+
+		} catch (OpenemsNamedException | RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+
+		} finally {
+			this.inFlight.remove(key, future);
+		}
+	}
+
+	/**
+	 * Invalidates all cached results of the Edge that overlap the given time
+	 * range, e.g. after data was resent.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param from   the start in milliseconds since epoch, inclusive
+	 * @param to     the end in milliseconds since epoch, inclusive
+	 */
+	public synchronized void invalidate(String edgeId, long from, long to) {
+		this.generations.merge(edgeId, 1L, Long::sum);
+		final var iterator = this.entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			final var entry = iterator.next();
+			final var key = entry.getKey();
+			if (key.edgeId().equals(edgeId) //
+					&& key.fromDate().toInstant().toEpochMilli() <= to //
+					&& key.toDate().toInstant().toEpochMilli() >= from) {
+				iterator.remove();
+				this.weight -= entry.getValue().weight();
+			}
+		}
+		// Following requests must not join queries that might miss the resent data
+		this.inFlight.keySet().removeIf(key -> key.edgeId().equals(edgeId));
+	}
+
+	/**
+	 * Gets some output that is suitable for a continuous Debug log.
+	 *
+	 * @return the debug log output
+	 */
+	public String debugLog() {
+		final int size;
+		final long weight;
+		synchronized (this) {
+			size = this.entries.size();
+			weight = this.weight;
+		}
+		return "QueryCache Size:" + size //
+				+ "|Values:" + weight //
+				+ "|Hits:" + this.hits.get() //
+				+ "|Misses:" + this.misses.get() //
+				+ "|HitRate:" + Math.round(this.getHitRate() * 100) + "%" //
+				+ "|Saved:" + this.getSavedMillis() + "ms";
+	}
+
+	/**
+	 * Gets the ratio of requests that were answered without querying the
+	 * database.
+	 *
+	 * @return the hit rate between 0 and 1
+	 */
+	public double getHitRate() {
+		final var hits = this.hits.get();
+		final var total = hits + this.misses.get();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	/**
+	 * Gets the total query time that was saved by cache hits.
+	 *
+	 * @return the saved time in milliseconds
+	 */
+	public long getSavedMillis() {
+		return this.savedNanos.get() / 1_000_000;
+	}
+
+	private synchronized Entry getValid(Key key) {
+		final var entry = this.entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt() <= this.clock.millis()) {
+			this.entries.remove(key);
+			this.weight -= entry.weight();
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Adds an entry; removes least-recently-used entries until the size and the
+	 * weight are within their limits. Must be called while holding the lock.
+	 *
+	 * @param key   the {@link Key}
+	 * @param entry the {@link Entry}
+	 */
+	private void put(Key key, Entry entry) {
+		final var previous = this.entries.put(key, entry);
+		if (previous != null) {
+			this.weight -= previous.weight();
+		}
+		this.weight += entry.weight();
+		final var iterator = this.entries.values().iterator();
+		while (iterator.hasNext() && (this.entries.size() > this.maxSize || this.weight > this.maxWeight)) {
+			this.weight -= iterator.next().weight();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Gets the weight of a query result, i.e. its approximate number of values.
+	 *
+	 * @param value the query result
+	 * @return the weight; at least 1
+	 */
+	protected static long weigh(Object value) {
+		if (value instanceof HistoricData data) {
+			return Math.max(1L, (long) data.size() * data.getChannels().size());
+		}
+		if (value instanceof Map<?, ?> map) {
+			var result = 0L;
+			for (var v : map.values()) {
+				result += v instanceof Map<?, ?> m ? m.size() : 1;
+			}
+			return Math.max(1L, result);
+		}
+		return 1L;
+	}
+
+	private long getGeneration(String edgeId) {
+		return this.generations.getOrDefault(edgeId, 0L);
+	}
+
+	private void hit(Entry entry) {
+		this.hits.incrementAndGet();
+		this.savedNanos.addAndGet(entry.queryNanos());
+	}
+
+	private long getExpiresAt(Key key) {
+		final var now = this.clock.instant();
+		if (!key.toDate().toInstant().isAfter(now.minus(this.gracePeriod))) {
+			// closed time range
+			return Long.MAX_VALUE;
+		}
+		return now.toEpochMilli() + this.openTtl.toMillis();
+	}
+
+	private static Entry join(CompletableFuture<Entry> future) throws OpenemsNamedException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OpenemsException("Interrupted while waiting for query result");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof OpenemsNamedException one) {
+				throw one;
+			}
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new OpenemsException(e.getCause().getMessage());
+		}
+	}
+
+}
@@ -1,10 +1,13 @@
 package io.openems.backend.core.timedatamanager;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.concurrent.atomic.AtomicReference;
@@ -23,8 +26,10 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.timedata.InternalTimedataException;
 import io.openems.backend.common.timedata.Timedata;
 import io.openems.backend.common.timedata.TimedataManager;
@@ -36,6 +41,7 @@ import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.timedata.HistoricData;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 
@@ -44,7 +50,7 @@ import io.openems.common.types.ChannelAddress;
 		name = "Core.TimedataManager", //
 		immediate = true //
 )
-public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager {
+public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager, DebugLoggable {
 
 	private final Logger log = LoggerFactory.getLogger(TimedataManagerImpl.class);
 
@@ -52,6 +58,8 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	private final List<Timedata> _rawTimedatas = new ArrayList<>();
 	private final AtomicReference<ImmutableSortedSet<Timedata>> timedatas = new AtomicReference<>(
 			ImmutableSortedSet.of());
+	private volatile QueryResultCache queryCache = new QueryResultCache(0, 0, Duration.ZERO,
+			Duration.ZERO, Clock.systemUTC());
 
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
@@ -116,6 +124,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public void activate(Config config) {
 		this._configTimedataIds = Arrays.asList(config.timedata_ids());
 		this.updateSortedTimedatas();
+		this.queryCache = new QueryResultCache(config.queryCacheSize(), config.queryCacheMaxValues(),
+				Duration.ofSeconds(config.queryCacheTtlSeconds()),
+				Duration.ofMinutes(config.queryCacheGracePeriodMinutes()), Clock.systemDefaultZone());
 	}
 
 	/**
@@ -129,7 +140,31 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricData(edgeId, fromDate, toDate, channels, resolution));
+		final var value = this.queryCache.get(
+				QueryResultCache.Key.of("queryHistoricData", edgeId, fromDate, toDate, channels, resolution),
+				() -> this.firstOf(t -> t.queryHistoricData(edgeId, fromDate, toDate, channels, resolution)));
+		if (value != null) {
+			return value;
+		}
+		// no result
+		this.logWarn(this.log, "No timedata result for 'queryHistoricData' on Edge=" + edgeId + "; FromDate=" + fromDate
+				+ "; ToDate=" + toDate + "; Channels=" + channels + "; Resolution=" + resolution);
+		throw new OpenemsException("Unable to query historic data. Result is null");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The {@link TimedataManager} implementation never returns null, but throws an
+	 * Exception instead
+	 */
+	@Override
+	public HistoricData queryHistoricDataColumnar(String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution) throws OpenemsNamedException {
+		final var value = this.queryCache.get(
+				QueryResultCache.Key.of("queryHistoricDataColumnar", edgeId, fromDate, toDate, channels, resolution),
+				() -> this.firstOf(t -> t.queryHistoricDataColumnar(edgeId, fromDate, toDate, channels, resolution)));
 		if (value != null) {
 			return value;
 		}
@@ -149,7 +184,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels));
+		final var value = this.queryCache.get(
+				QueryResultCache.Key.of("queryHistoricEnergy", edgeId, fromDate, toDate, channels, null),
+				() -> this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels)));
 		if (value != null) {
 			return value;
 		}
@@ -170,8 +207,11 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this
-				.firstOf(t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution));
+		final var value = this.queryCache.get(
+				QueryResultCache.Key.of("queryHistoricEnergyPerPeriod", edgeId, fromDate, toDate, channels,
+						resolution),
+				() -> this.firstOf(
+						t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution)));
 		if (value != null) {
 			return value;
 		}
@@ -231,6 +271,25 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public void write(String edgeId, ResendDataNotification data) {
 		this.write(edgeId, data, Timedata::write);
+
+		// Resent data changes past results
+		final var timestamps = data.getData().rowKeySet();
+		if (!timestamps.isEmpty()) {
+			this.queryCache.invalidate(edgeId, timestamps.first(), timestamps.last());
+		}
+	}
+
+	@Override
+	public String debugLog() {
+		return "[" + this.getName() + "] " + this.queryCache.debugLog();
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		return Map.of(//
+				this.getName() + "/QueryCacheHitRate", new JsonPrimitive(this.queryCache.getHitRate()), //
+				this.getName() + "/QueryCacheSavedMillis", new JsonPrimitive(this.queryCache.getSavedMillis()) //
+		);
 	}
 
 	private <T extends AbstractDataNotification> void write(//
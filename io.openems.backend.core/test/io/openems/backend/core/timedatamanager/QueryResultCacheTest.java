@@ -0,0 +1,206 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.common.timedata.HistoricData;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+public class QueryResultCacheTest {
+
+	private static final ZonedDateTime TODAY = ZonedDateTime.of(2024, 6, 10, 0, 0, 0, 0, ZoneOffset.UTC);
+	private static final Set<ChannelAddress> CHANNELS = Set.of(new ChannelAddress("_sum", "EssSoc"));
+	private static final Resolution RESOLUTION = new Resolution(5, ChronoUnit.MINUTES);
+	private static final Duration GRACE_PERIOD = Duration.ofHours(3);
+	private static final long MAX_WEIGHT = 1000;
+
+	private static TimeLeapClock clock() {
+		return new TimeLeapClock(TODAY.plusHours(12).toInstant(), ZoneOffset.UTC);
+	}
+
+	private static QueryResultCache.Key key(ZonedDateTime fromDate, ZonedDateTime toDate) {
+		return QueryResultCache.Key.of("query", "edge0", fromDate, toDate, CHANNELS, RESOLUTION);
+	}
+
+	@Test
+	public void testClosedAndOpenRanges() throws Exception {
+		final var clock = clock();
+		final var sut = new QueryResultCache(10, MAX_WEIGHT, Duration.ofMinutes(1), GRACE_PERIOD, clock);
+		final var queries = new AtomicInteger();
+
+		// Yesterday: closed
+		final var yesterday = key(TODAY.minusDays(1), TODAY);
+		final var result = sut.get(yesterday, () -> "yesterday" + queries.incrementAndGet());
+		clock.leap(1, ChronoUnit.HOURS);
+		assertSame(result, sut.get(yesterday, () -> "yesterday" + queries.incrementAndGet()));
+
+		// Today: open
+		final var today = key(TODAY, TODAY.plusDays(1));
+		assertEquals("today2", sut.get(today, () -> "today" + queries.incrementAndGet()));
+		assertEquals("today2", sut.get(today, () -> "today" + queries.incrementAndGet()));
+		clock.leap(2, ChronoUnit.MINUTES);
+		assertEquals("today3", sut.get(today, () -> "today" + queries.incrementAndGet()));
+
+		// Resent data invalidates overlapping results
+		sut.invalidate("edge0", TODAY.minusHours(2).toInstant().toEpochMilli(),
+				TODAY.minusHours(1).toInstant().toEpochMilli());
+		assertEquals("yesterday4", sut.get(yesterday, () -> "yesterday" + queries.incrementAndGet()));
+		assertEquals("today3", sut.get(today, () -> "today" + queries.incrementAndGet()));
+
+		assertEquals(3. / 7, sut.getHitRate(), 0.001);
+	}
+
+	@Test
+	public void testGracePeriod() throws Exception {
+		final var clock = new TimeLeapClock(TODAY.plusMinutes(5).toInstant(), ZoneOffset.UTC);
+		final var sut = new QueryResultCache(10, MAX_WEIGHT, Duration.ofMinutes(1), GRACE_PERIOD, clock);
+		final var queries = new AtomicInteger();
+
+		// Just after midnight: yesterday is still open
+		final var yesterday = key(TODAY.minusDays(1), TODAY);
+		assertEquals("yesterday1", sut.get(yesterday, () -> "yesterday" + queries.incrementAndGet()));
+		clock.leap(2, ChronoUnit.MINUTES);
+		assertEquals("yesterday2", sut.get(yesterday, () -> "yesterday" + queries.incrementAndGet()));
+
+		// After the grace period: yesterday is closed
+		clock.leap(GRACE_PERIOD.toMinutes(), ChronoUnit.MINUTES);
+		assertEquals("yesterday3", sut.get(yesterday, () -> "yesterday" + queries.incrementAndGet()));
+		clock.leap(1, ChronoUnit.DAYS);
+		assertEquals("yesterday3", sut.get(yesterday, () -> "yesterday" + queries.incrementAndGet()));
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		final var sut = new QueryResultCache(2, MAX_WEIGHT, Duration.ofMinutes(1), GRACE_PERIOD, clock());
+		final var queries = new AtomicInteger();
+		for (var day = 1; day <= 3; day++) {
+			final var key = key(TODAY.minusDays(day), TODAY.minusDays(day - 1));
+			sut.get(key, () -> queries.incrementAndGet());
+		}
+		// Least-recently-used was evicted
+		sut.get(key(TODAY.minusDays(1), TODAY), () -> queries.incrementAndGet());
+		assertEquals(4, queries.get());
+		sut.get(key(TODAY.minusDays(3), TODAY.minusDays(2)), () -> queries.incrementAndGet());
+		assertEquals(4, queries.get());
+	}
+
+	@Test
+	public void testMaxWeight() throws Exception {
+		final var sut = new QueryResultCache(10, 90, Duration.ofMinutes(1), GRACE_PERIOD, clock());
+		final var queries = new AtomicInteger();
+		final ThrowingSupplier<HistoricData, OpenemsNamedException> query = () -> {
+			queries.incrementAndGet();
+			return historicData(20);
+		};
+
+		// 4 * 20 values fit; the fifth result evicts the least-recently-used
+		for (var day = 1; day <= 5; day++) {
+			sut.get(key(TODAY.minusDays(day), TODAY.minusDays(day - 1)), query);
+		}
+		assertEquals(5, queries.get());
+		sut.get(key(TODAY.minusDays(5), TODAY.minusDays(4)), query);
+		assertEquals(5, queries.get());
+		sut.get(key(TODAY.minusDays(1), TODAY), query);
+		assertEquals(6, queries.get());
+
+		// Results that exceed the limit on their own are not cached
+		final var key = key(TODAY.minusDays(10), TODAY.minusDays(9));
+		sut.get(key, () -> historicData(91));
+		sut.get(key, query);
+		assertEquals(7, queries.get());
+	}
+
+	private static HistoricData historicData(int size) {
+		final var channel = CHANNELS.iterator().next();
+		final var builder = HistoricData.create(ZoneOffset.UTC);
+		for (var i = 0; i < size; i++) {
+			builder.put(TODAY.minusDays(1).plusMinutes(5 * i), channel, i);
+		}
+		return builder.build();
+	}
+
+	@Test
+	public void testCoalesce() throws Exception {
+		final var sut = new QueryResultCache(10, MAX_WEIGHT, Duration.ofMinutes(1), GRACE_PERIOD, clock());
+		final var key = key(TODAY.minusDays(1), TODAY);
+		final var queries = new AtomicInteger();
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var executor = Executors.newFixedThreadPool(2);
+		try {
+			final var first = executor.submit(() -> sut.get(key, () -> {
+				queries.incrementAndGet();
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new OpenemsException(e.getMessage());
+				}
+				return "result";
+			}));
+			started.await();
+			final var second = executor.submit(() -> sut.get(key, () -> {
+				queries.incrementAndGet();
+				return "other";
+			}));
+			Thread.sleep(50);
+			release.countDown();
+			assertEquals("result", first.get(1, TimeUnit.SECONDS));
+			assertEquals("result", second.get(1, TimeUnit.SECONDS));
+			assertEquals(1, queries.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testInvalidateDuringQuery() throws Exception {
+		final var sut = new QueryResultCache(10, MAX_WEIGHT, Duration.ofMinutes(1), GRACE_PERIOD, clock());
+		final var key = key(TODAY.minusDays(1), TODAY);
+		final var queries = new AtomicInteger();
+
+		// Data is resent while the query is running -> result is not cached
+		assertEquals("stale", sut.get(key, () -> {
+			queries.incrementAndGet();
+			sut.invalidate("edge0", TODAY.minusHours(2).toInstant().toEpochMilli(),
+					TODAY.minusHours(1).toInstant().toEpochMilli());
+			return "stale";
+		}));
+		assertEquals("fresh2", sut.get(key, () -> "fresh" + queries.incrementAndGet()));
+		assertEquals("fresh2", sut.get(key, () -> "fresh" + queries.incrementAndGet()));
+
+		// Invalidation of another Edge does not affect the result
+		final var other = key(TODAY.minusDays(2), TODAY.minusDays(1));
+		assertEquals("other3", sut.get(other, () -> {
+			sut.invalidate("edge1", 0, Long.MAX_VALUE);
+			return "other" + queries.incrementAndGet();
+		}));
+		assertEquals("other3", sut.get(other, () -> "other" + queries.incrementAndGet()));
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testError() throws Exception {
+		final var sut = new QueryResultCache(10, MAX_WEIGHT, Duration.ofMinutes(1), GRACE_PERIOD, clock());
+		sut.get(key(TODAY.minusDays(1), TODAY), () -> {
+			throw new OpenemsException("error");
+		});
+	}
+
+}
@@ -2,14 +2,19 @@ package io.openems.backend.edgewebsocket;
 
 import org.java_websocket.WebSocket;
 import org.java_websocket.framing.CloseFrame;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonObject;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.DataFormatNotification;
 import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.BinaryDataCodec;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
+	private final Logger log = LoggerFactory.getLogger(OnOpen.class);
 	private final EdgeWebsocketImpl parent;
 
 	public OnOpen(EdgeWebsocketImpl parent) {
@@ -49,6 +54,18 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 			edge.setLastmessage();
 			wsData.setEdgeId(edgeId);
 
+			// Negotiate binary data format
+			if (JsonUtils.getAsOptionalString(handshake, BinaryDataCodec.HANDSHAKE_HEADER) //
+					.filter(BinaryDataCodec.FORMAT::equals) //
+					.isPresent()) {
+				wsData.enableBinaryDataFormat();
+				try {
+					wsData.send(new DataFormatNotification(BinaryDataCodec.FORMAT));
+				} catch (OpenemsException e) {
+					this.parent.logWarn(this.log, edgeId, "Unable to confirm data format: " + e.getMessage());
+				}
+			}
+
 			// TODO send notification to UI
 		} catch (OpenemsException e) {
 			if (this.parent.metadata.isInitialized()) {
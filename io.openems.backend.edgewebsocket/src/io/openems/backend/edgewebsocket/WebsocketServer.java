@@ -1,5 +1,6 @@
 package io.openems.backend.edgewebsocket;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -14,6 +15,7 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.java_websocket.WebSocket;
+import org.java_websocket.framing.CloseFrame;
 import org.slf4j.Logger;
 
 import com.google.gson.JsonElement;
@@ -130,6 +132,24 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		throw new OpenemsException("EdgeWs. handleNonJsonrpcMessage", lastException);
 	}
 
+	@Override
+	protected JsonrpcMessage handleBinaryMessage(WebSocket ws, ByteBuffer binaryMessage)
+			throws OpenemsNamedException {
+		WsData wsData = ws.getAttachment();
+		var decoder = wsData == null ? null : wsData.getBinaryDataDecoder();
+		if (decoder == null) {
+			throw new OpenemsException("Binary data format was not negotiated");
+		}
+		try {
+			return decoder.decode(binaryMessage);
+
+		} catch (OpenemsNamedException e) {
+			// Decoder state is undefined now: reconnect to negotiate a fresh state
+			ws.close(CloseFrame.PROTOCOL_ERROR, "Invalid binary data frame");
+			throw e;
+		}
+	}
+
 	@Override
 	protected void logInfo(Logger log, String message) {
 		this.parent.logInfo(log, message);
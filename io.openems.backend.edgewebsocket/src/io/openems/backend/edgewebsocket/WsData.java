@@ -11,6 +11,7 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.utils.StringUtils;
+import io.openems.common.websocket.BinaryDataCodec;
 
 public class WsData extends io.openems.common.websocket.WsData {
 
@@ -23,6 +24,11 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private final CompletableFuture<Void> isAuthenticated = new CompletableFuture<>();
 	public final EdgeCache edgeCache = new EdgeCache();
 
+	/**
+	 * Decoder for binary data frames; null if the session uses JSON-RPC.
+	 */
+	private volatile BinaryDataCodec.Decoder binaryDataDecoder = null;
+
 	/**
 	 * Asserts that the Edge-ID is available (i.e. properly authenticated).
 	 *
@@ -69,6 +75,22 @@ public class WsData extends io.openems.common.websocket.WsData {
 		return this.edgeId;
 	}
 
+	/**
+	 * Enables the {@link BinaryDataCodec} for this session.
+	 */
+	public void enableBinaryDataFormat() {
+		this.binaryDataDecoder = new BinaryDataCodec.Decoder();
+	}
+
+	/**
+	 * Gets the {@link BinaryDataCodec.Decoder} of this session.
+	 *
+	 * @return the Decoder; null if the binary data format is not enabled
+	 */
+	public BinaryDataCodec.Decoder getBinaryDataDecoder() {
+		return this.binaryDataDecoder;
+	}
+
 	@Override
 	public String toString() {
 		return "EdgeWebsocket.WsData [" //
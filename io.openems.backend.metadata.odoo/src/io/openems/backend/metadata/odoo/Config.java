@@ -26,6 +26,12 @@ public @interface Config {
 	@AttributeDefinition(name = "Odoo Password", description = "The odoo login password")
 	String odooPassword();
 
+	@AttributeDefinition(name = "Odoo Max Concurrent Requests", description = "The maximum number of concurrent JSON-RPC requests to odoo")
+	int odooMaxConcurrentRequests() default 20;
+
+	@AttributeDefinition(name = "Odoo Max Queued Requests", description = "The maximum number of JSON-RPC requests to odoo that wait for a free slot; further requests fail immediately")
+	int odooMaxQueuedRequests() default 1000;
+
 	@AttributeDefinition(name = "Postgres Host", description = "The Postgres host")
 	String pgHost() default "localhost";
 
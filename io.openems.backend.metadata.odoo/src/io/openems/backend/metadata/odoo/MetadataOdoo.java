@@ -13,6 +13,8 @@ import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -54,6 +56,7 @@ import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.metadata.User;
 import io.openems.backend.metadata.odoo.odoo.FieldValue;
 import io.openems.backend.metadata.odoo.odoo.OdooHandler;
+import io.openems.backend.metadata.odoo.odoo.OdooJsonrpcClient;
 import io.openems.backend.metadata.odoo.odoo.OdooUserRole;
 import io.openems.backend.metadata.odoo.odoo.OdooUtils.DateTime;
 import io.openems.backend.metadata.odoo.postgres.PostgresHandler;
@@ -148,7 +151,13 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 
 	@Override
 	public User authenticate(String username, String password) throws OpenemsNamedException {
-		return this.authenticate(this.odooHandler.authenticate(username, password));
+		return OdooJsonrpcClient.await(this.authenticateAsync(username, password));
+	}
+
+	@Override
+	public CompletableFuture<User> authenticateAsync(String username, String password) {
+		return this.odooHandler.authenticateAsync(username, password) //
+				.thenCompose(this::authenticateAsync);
 	}
 
 	/**
@@ -160,8 +169,22 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 	 */
 	@Override
 	public User authenticate(String sessionId) throws OpenemsNamedException {
-		var result = this.odooHandler.authenticateSession(sessionId);
+		return OdooJsonrpcClient.await(this.authenticateAsync(sessionId));
+	}
 
+	@Override
+	public CompletableFuture<User> authenticateAsync(String sessionId) {
+		return this.odooHandler.authenticateSessionAsync(sessionId) //
+				.thenApply(result -> {
+					try {
+						return this.createUser(sessionId, result);
+					} catch (OpenemsNamedException e) {
+						throw new CompletionException(e);
+					}
+				});
+	}
+
+	private User createUser(String sessionId, JsonObject result) throws OpenemsNamedException {
 		// Parse Result
 		var jUser = JsonUtils.getAsJsonObject(result, "user");
 		var odooUserId = JsonUtils.getAsInt(jUser, "id");
@@ -466,11 +489,11 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 
 	@Override
 	public void sendMail(ZonedDateTime sendAt, String template, JsonElement params) {
-		try {
-			this.odooHandler.sendNotificationMailAsync(sendAt, template, params);
-		} catch (OpenemsNamedException e) {
-			e.printStackTrace();
-		}
+		this.odooHandler.sendNotificationMailAsync(sendAt, template, params).whenComplete((r, e) -> {
+			if (e != null) {
+				this.logWarn(this.log, "Unable to send mail [" + template + "]: " + e.getMessage());
+			}
+		});
 	}
 
 	@Override
@@ -582,18 +605,42 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 			final User user, //
 			final PaginationOptions paginationOptions //
 	) throws OpenemsNamedException {
-		var result = this.odooHandler.getEdges((MyUser) user, paginationOptions);
-		final var jsonArray = JsonUtils.getAsJsonArray(result, "devices");
-		final var resultMetadata = new ArrayList<EdgeMetadata>(jsonArray.size());
-		for (var jElement : jsonArray) {
-			resultMetadata.add(this.convertToEdgeMetadata(user, jElement));
-		}
-		return resultMetadata;
+		return OdooJsonrpcClient.await(this.getPageDeviceAsync(user, paginationOptions));
+	}
+
+	@Override
+	public CompletableFuture<List<EdgeMetadata>> getPageDeviceAsync(//
+			final User user, //
+			final PaginationOptions paginationOptions //
+	) {
+		return this.odooHandler.getEdgesAsync((MyUser) user, paginationOptions).thenApply(result -> {
+			try {
+				final var jsonArray = JsonUtils.getAsJsonArray(result, "devices");
+				final var resultMetadata = new ArrayList<EdgeMetadata>(jsonArray.size());
+				for (var jElement : jsonArray) {
+					resultMetadata.add(this.convertToEdgeMetadata(user, jElement));
+				}
+				return resultMetadata;
+			} catch (OpenemsNamedException e) {
+				throw new CompletionException(e);
+			}
+		});
 	}
 
 	@Override
 	public EdgeMetadata getEdgeMetadataForUser(User user, String edgeId) throws OpenemsNamedException {
-		return this.convertToEdgeMetadata(user, this.odooHandler.getEdgeWithRole(user, edgeId));
+		return OdooJsonrpcClient.await(this.getEdgeMetadataForUserAsync(user, edgeId));
+	}
+
+	@Override
+	public CompletableFuture<EdgeMetadata> getEdgeMetadataForUserAsync(User user, String edgeId) {
+		return this.odooHandler.getEdgeWithRoleAsync(user, edgeId).thenApply(result -> {
+			try {
+				return this.convertToEdgeMetadata(user, result);
+			} catch (OpenemsNamedException e) {
+				throw new CompletionException(e);
+			}
+		});
 	}
 
 	private EdgeMetadata convertToEdgeMetadata(User user, JsonElement jDevice) throws OpenemsNamedException {
@@ -20,7 +20,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -68,11 +69,13 @@ public class OdooHandler {
 
 	private final Logger log = LoggerFactory.getLogger(OdooHandler.class);
 	private final Credentials credentials;
+	private final OdooJsonrpcClient client;
 
 	public OdooHandler(MetadataOdoo parent, EdgeCache edgeCache, Config config) {
 		this.parent = parent;
 		this.edgeCache = edgeCache;
 		this.credentials = Credentials.fromConfig(config);
+		this.client = new OdooJsonrpcClient(config.odooMaxConcurrentRequests(), config.odooMaxQueuedRequests());
 	}
 
 	/**
@@ -202,7 +205,18 @@ public class OdooHandler {
 	 * @throws OpenemsNamedException on login error
 	 */
 	public String authenticate(String username, String password) throws OpenemsNamedException {
-		return OdooUtils.login(this.credentials, username, password);
+		return OdooJsonrpcClient.await(this.authenticateAsync(username, password));
+	}
+
+	/**
+	 * Authenticates a user using Username and Password in async.
+	 *
+	 * @param username the Username
+	 * @param password the Password
+	 * @return the session_id as {@link CompletableFuture}
+	 */
+	public CompletableFuture<String> authenticateAsync(String username, String password) {
+		return OdooUtils.loginAsync(this.client, this.credentials, username, password);
 	}
 
 	/**
@@ -213,23 +227,37 @@ public class OdooHandler {
 	 * @throws OpenemsNamedException on error
 	 */
 	public JsonObject authenticateSession(String sessionId) throws OpenemsNamedException {
-		return getAsJsonObject(OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/openems_backend/info",
-				"session_id=" + sessionId, new JsonObject()).result);
+		return OdooJsonrpcClient.await(this.authenticateSessionAsync(sessionId));
+	}
+
+	/**
+	 * Authenticates a user using a Session-ID in async.
+	 *
+	 * @param sessionId the Odoo Session-ID
+	 * @return the {@link JsonObject} received from /openems_backend/info as
+	 *         {@link CompletableFuture}
+	 */
+	public CompletableFuture<JsonObject> authenticateSessionAsync(String sessionId) {
+		return this.client.lookupAsync(this.credentials.getUrl() + "/openems_backend/info", //
+				"session_id=" + sessionId, new JsonObject()) //
+				.thenApply(OdooHandler::getResultAsJsonObject);
 	}
 
 	/**
 	 * Logout a User.
 	 *
+	 * <p>
+	 * The session is destroyed in async; errors are only logged.
+	 *
 	 * @param sessionId the Session-ID
-	 * @throws OpenemsNamedException on error
 	 */
 	public void logout(String sessionId) {
-		try {
-			OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/web/session/destroy", "session_id=" + sessionId,
-					new JsonObject());
-		} catch (OpenemsNamedException e) {
-			this.log.warn("Unable to logout session [" + sessionId + "]: " + e.getMessage());
-		}
+		this.client.sendAsync(this.credentials.getUrl() + "/web/session/destroy", "session_id=" + sessionId,
+				new JsonObject()).whenComplete((r, e) -> {
+					if (e != null) {
+						this.log.warn("Unable to logout session [" + sessionId + "]: " + e.getMessage());
+					}
+				});
 	}
 
 	/**
@@ -407,8 +435,8 @@ public class OdooHandler {
 	 * @throws OpenemsNamedException on error
 	 */
 	public byte[] getOdooSetupProtocolReport(int setupProtocolId) throws OpenemsNamedException {
-		return OdooUtils.getOdooReport(this.credentials, "openems.report_openems_setup_protocol_template",
-				setupProtocolId);
+		return OdooUtils.getOdooReport(this.client, this.credentials,
+				"openems.report_openems_setup_protocol_template", setupProtocolId);
 	}
 
 	/**
@@ -520,12 +548,13 @@ public class OdooHandler {
 	 * @throws OpenemsNamedException on error
 	 */
 	private void sendSetupProtocolMail(MyUser user, int protocolId, String edgeId) throws OpenemsNamedException {
-		OdooUtils.sendAdminJsonrpcRequest(this.credentials, "/openems_backend/sendSetupProtocolEmail", buildJsonObject() //
-				.add("params", buildJsonObject() //
-						.addProperty("setupProtocolId", protocolId) //
-						.addProperty("edgeId", edgeId) //
-						.build()) //
-				.build());
+		OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials, "/openems_backend/sendSetupProtocolEmail",
+				buildJsonObject() //
+						.add("params", buildJsonObject() //
+								.addProperty("setupProtocolId", protocolId) //
+								.addProperty("edgeId", edgeId) //
+								.build()) //
+						.build());
 	}
 
 	/**
@@ -835,7 +864,7 @@ public class OdooHandler {
 	 */
 	private void sendRegistrationMail(int odooUserId, String password, String oem) {
 		try {
-			OdooUtils.sendAdminJsonrpcRequest(this.credentials, "/openems_backend/sendRegistrationEmail",
+			OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials, "/openems_backend/sendRegistrationEmail",
 					buildJsonObject() //
 							.add("params", buildJsonObject() //
 									.addProperty("userId", odooUserId) //
@@ -854,13 +883,12 @@ public class OdooHandler {
 	 * @param sentAt   TimeStamp for last_notification field
 	 * @param template template to use for mail
 	 * @param params   arguments for the template
-	 * @return {@link Future} of {@link SuccessResponseAndHeaders}
-	 * @throws OpenemsNamedException error
+	 * @return {@link CompletableFuture} of {@link SuccessResponseAndHeaders}
 	 */
-	public Future<SuccessResponseAndHeaders> sendNotificationMailAsync(ZonedDateTime sentAt, String template,
-			JsonElement params) throws OpenemsNamedException {
-		return OdooUtils.sendAdminJsonrpcRequestAsync(this.credentials, "/openems_backend/mail/" + template,
-				buildJsonObject() //
+	public CompletableFuture<SuccessResponseAndHeaders> sendNotificationMailAsync(ZonedDateTime sentAt,
+			String template, JsonElement params) {
+		return OdooUtils.sendAdminJsonrpcRequestAsync(this.client, this.credentials,
+				"/openems_backend/mail/" + template, buildJsonObject() //
 						.add("params", buildJsonObject() //
 								.addProperty("sentAt", OdooUtils.DateTime.dateTimeToString(sentAt)) //
 								.add("params", params) //
@@ -903,9 +931,9 @@ public class OdooHandler {
 				.build();
 
 		// call odoo api
-		return getAsJsonObject(
-				OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/openems_backend/get_latest_setup_protocol",
-						"session_id=" + user.getToken(), request).result);
+		return OdooJsonrpcClient.await(this.client.lookupAsync(
+				this.credentials.getUrl() + "/openems_backend/get_latest_setup_protocol",
+				"session_id=" + user.getToken(), request).thenApply(OdooHandler::getResultAsJsonObject));
 	}
 
 	/**
@@ -955,7 +983,7 @@ public class OdooHandler {
 						.build()) //
 				.build();
 
-		var result = getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		var result = getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/is_key_applicable", request).result);
 		return result;
 	}
@@ -983,7 +1011,7 @@ public class OdooHandler {
 						.build()) //
 				.build();
 
-		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/add_install_app_instance_history", request).result);
 	}
 
@@ -1007,7 +1035,7 @@ public class OdooHandler {
 						.addPropertyIfNotNull("userId", userId) //
 						.build()) //
 				.build();
-		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/add_deinstall_app_instance_history", request).result);
 	}
 
@@ -1031,7 +1059,7 @@ public class OdooHandler {
 						.addProperty("userId", user.getId()) //
 						.build()) //
 				.build();
-		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/add_register_key_history", request).result);
 	}
 
@@ -1057,7 +1085,7 @@ public class OdooHandler {
 						.build())
 				.build();
 
-		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/add_deregister_key_history", request).result);
 	}
 
@@ -1076,7 +1104,7 @@ public class OdooHandler {
 						.addPropertyIfNotNull("appId", appId) //
 						.build()) //
 				.build();
-		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/get_registered_key", request).result);
 	}
 
@@ -1095,7 +1123,7 @@ public class OdooHandler {
 						.addProperty("key", key) //
 						.build()) //
 				.build();
-		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/get_possible_apps", request).result);
 	}
 
@@ -1112,7 +1140,7 @@ public class OdooHandler {
 						.addProperty("edgeId", edgeId) //
 						.build()) //
 				.build();
-		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/get_installed_apps", request).result);
 	}
 
@@ -1307,6 +1335,18 @@ public class OdooHandler {
 	 * @throws OpenemsNamedException on error
 	 */
 	public JsonObject getEdges(MyUser user, PaginationOptions paginationOptions) throws OpenemsNamedException {
+		return OdooJsonrpcClient.await(this.getEdgesAsync(user, paginationOptions));
+	}
+
+	/**
+	 * Gets the Edges of the given user matching the {@link PaginationOptions} in
+	 * async.
+	 *
+	 * @param user              the current {@link MyUser}
+	 * @param paginationOptions the {@link PaginationOptions}
+	 * @return the edges as {@link CompletableFuture}
+	 */
+	public CompletableFuture<JsonObject> getEdgesAsync(MyUser user, PaginationOptions paginationOptions) {
 		var request = buildJsonObject() //
 				.add("params", buildJsonObject() //
 						.addProperty("page", paginationOptions.getPage()) //
@@ -1317,8 +1357,9 @@ public class OdooHandler {
 						.build()) //
 				.build();
 
-		return getAsJsonObject(OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/openems_backend/get_edges",
-				"session_id=" + user.getToken(), request).result);
+		return this.client.lookupAsync(this.credentials.getUrl() + "/openems_backend/get_edges", //
+				"session_id=" + user.getToken(), request) //
+				.thenApply(OdooHandler::getResultAsJsonObject);
 	}
 
 	/**
@@ -1330,15 +1371,26 @@ public class OdooHandler {
 	 * @throws OpenemsNamedException on error
 	 */
 	public JsonObject getEdgeWithRole(User user, String edgeId) throws OpenemsNamedException {
+		return OdooJsonrpcClient.await(this.getEdgeWithRoleAsync(user, edgeId));
+	}
+
+	/**
+	 * Gets the edge with the {@link Role} of the user in async.
+	 *
+	 * @param user   the current {@link MyUser}
+	 * @param edgeId the id of the edge
+	 * @return the edge with the role of the user as {@link CompletableFuture}
+	 */
+	public CompletableFuture<JsonObject> getEdgeWithRoleAsync(User user, String edgeId) {
 		var request = buildJsonObject() //
 				.add("params", buildJsonObject() //
 						.addProperty("edge_id", edgeId) //
 						.build()) //
 				.build();
 
-		return getAsJsonObject(
-				OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/openems_backend/get_edge_with_role",
-						"session_id=" + user.getToken(), request).result);
+		return this.client.lookupAsync(this.credentials.getUrl() + "/openems_backend/get_edge_with_role", //
+				"session_id=" + user.getToken(), request) //
+				.thenApply(OdooHandler::getResultAsJsonObject);
 	}
 
 	/**
@@ -1369,12 +1421,21 @@ public class OdooHandler {
 	 * @param settings the settings of the user
 	 */
 	public void updateUserSettings(User user, JsonObject settings) throws OpenemsNamedException {
-		OdooUtils.sendAdminJsonrpcRequest(this.credentials, "/openems_backend/set_user_settings", buildJsonObject() //
-				.add("params", buildJsonObject() //
-						.add("settings", settings)//
-						.addProperty("userId", user.getId()) //
-						.build()) //
-				.build());
+		OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials, "/openems_backend/set_user_settings",
+				buildJsonObject() //
+						.add("params", buildJsonObject() //
+								.add("settings", settings)//
+								.addProperty("userId", user.getId()) //
+								.build()) //
+						.build());
+	}
+
+	private static JsonObject getResultAsJsonObject(SuccessResponseAndHeaders response) {
+		try {
+			return getAsJsonObject(response.result);
+		} catch (OpenemsNamedException e) {
+			throw new CompletionException(e);
+		}
 	}
 
 }
@@ -0,0 +1,272 @@
+package io.openems.backend.metadata.odoo.odoo;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.JsonObject;
+
+import io.openems.backend.metadata.odoo.odoo.OdooUtils.SuccessResponseAndHeaders;
+import io.openems.common.exceptions.OpenemsError;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Non-blocking JSON-RPC client for an Odoo server.
+ *
+ * <p>
+ * All requests share one HTTP/1.1 {@link HttpClient}, which keeps connections
+ * to Odoo alive and pools them. At most {@link #maxConcurrentRequests}
+ * requests are sent to Odoo at the same time; further requests wait in a queue
+ * without blocking the calling thread. The queue is bounded: if it is full,
+ * requests fail immediately. The timeout of a request starts when it is
+ * queued, i.e. it includes the time waiting in the queue.
+ *
+ * <p>
+ * Requests sent via {@link #lookupAsync(String, String, JsonObject)} are
+ * coalesced: as long as a request with the same URL, Cookie and body is in
+ * flight, further callers get the same result instead of a new request.
+ */
+public class OdooJsonrpcClient {
+
+	public static final int DEFAULT_TIMEOUT = 5000; // [ms]
+	public static final int DEFAULT_MAX_QUEUED_REQUESTS = 1000;
+
+	private static record Key(String url, String cookie, String body) {
+	}
+
+	private final HttpClient httpClient;
+	private final int maxConcurrentRequests;
+	private final int maxQueuedRequests;
+	private final Semaphore permits;
+	private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicBoolean draining = new AtomicBoolean(false);
+	private final ConcurrentHashMap<Key, CompletableFuture<SuccessResponseAndHeaders>> inFlight = //
+			new ConcurrentHashMap<>();
+
+	public OdooJsonrpcClient(int maxConcurrentRequests) {
+		this(maxConcurrentRequests, DEFAULT_MAX_QUEUED_REQUESTS);
+	}
+
+	public OdooJsonrpcClient(int maxConcurrentRequests, int maxQueuedRequests) {
+		this.httpClient = HttpClient.newBuilder() //
+				.version(HttpClient.Version.HTTP_1_1) //
+				.connectTimeout(Duration.ofMillis(DEFAULT_TIMEOUT)) //
+				.build();
+		this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+		this.maxQueuedRequests = Math.max(1, maxQueuedRequests);
+		this.permits = new Semaphore(this.maxConcurrentRequests);
+	}
+
+	/**
+	 * Sends a JSON-RPC Request to an Odoo server.
+	 *
+	 * @param url     the URL
+	 * @param cookie  a Cookie string; empty for none
+	 * @param request the JSON-RPC Request as {@link JsonObject}
+	 * @return a future for the {@link SuccessResponseAndHeaders}; completes
+	 *         exceptionally with an {@link OpenemsNamedException} on error
+	 */
+	public CompletableFuture<SuccessResponseAndHeaders> sendAsync(String url, String cookie, JsonObject request) {
+		return this.sendAsync(url, cookie, request, DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * Sends a JSON-RPC Request to an Odoo server.
+	 *
+	 * @param url     the URL
+	 * @param cookie  a Cookie string; empty for none
+	 * @param request the JSON-RPC Request as {@link JsonObject}
+	 * @param timeout the timeout in milliseconds, including the time waiting in
+	 *                the queue
+	 * @return a future for the {@link SuccessResponseAndHeaders}; completes
+	 *         exceptionally with an {@link OpenemsNamedException} on error
+	 */
+	public CompletableFuture<SuccessResponseAndHeaders> sendAsync(String url, String cookie, JsonObject request,
+			int timeout) {
+		if (this.queued.incrementAndGet() > this.maxQueuedRequests) {
+			this.queued.decrementAndGet();
+			return CompletableFuture.failedFuture(OpenemsError.GENERIC.exception(//
+					"Odoo request queue is full [" + this.maxQueuedRequests + "]"));
+		}
+		final var result = new CompletableFuture<SuccessResponseAndHeaders>();
+		final var body = request.toString();
+		final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		final Runnable task = () -> {
+			final var remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+			if (result.isDone() || remaining <= 0) {
+				// Timed out while waiting in the queue
+				this.permits.release();
+				return;
+			}
+			CompletableFuture<SuccessResponseAndHeaders> response;
+			try {
+				response = this.send(url, cookie, request, body, (int) remaining);
+			} catch (RuntimeException e) {
+				response = CompletableFuture.failedFuture(e);
+			}
+			response.whenComplete((r, e) -> {
+				this.permits.release();
+				this.drain();
+				if (e != null) {
+					result.completeExceptionally(toOpenemsNamedException(e));
+				} else {
+					result.complete(r);
+				}
+			});
+		};
+		this.waiting.add(task);
+		result.orTimeout(timeout, TimeUnit.MILLISECONDS).whenComplete((r, e) -> {
+			if (e instanceof TimeoutException && this.waiting.remove(task)) {
+				// Drop the queued request
+				this.queued.decrementAndGet();
+			}
+		});
+		this.drain();
+		return result.exceptionallyCompose(e -> CompletableFuture.failedFuture(e instanceof TimeoutException //
+				? OpenemsError.GENERIC.exception("Odoo request timed out after " + timeout + "ms [" + url + "]") //
+				: toOpenemsNamedException(e)));
+	}
+
+	/**
+	 * Sends a JSON-RPC Request without side effects to an Odoo server.
+	 *
+	 * <p>
+	 * If an identical request is already in flight, its result is shared instead
+	 * of sending a new request.
+	 *
+	 * @param url     the URL
+	 * @param cookie  a Cookie string; empty for none
+	 * @param request the JSON-RPC Request as {@link JsonObject}
+	 * @return a future for the {@link SuccessResponseAndHeaders}; completes
+	 *         exceptionally with an {@link OpenemsNamedException} on error
+	 */
+	public CompletableFuture<SuccessResponseAndHeaders> lookupAsync(String url, String cookie, JsonObject request) {
+		final var key = new Key(url, cookie, request.toString());
+		final var created = new CompletableFuture<SuccessResponseAndHeaders>();
+		final var existing = this.inFlight.putIfAbsent(key, created);
+		if (existing != null) {
+			return existing.copy();
+		}
+		this.sendAsync(url, cookie, request).whenComplete((r, e) -> {
+			this.inFlight.remove(key, created);
+			if (e != null) {
+				created.completeExceptionally(e);
+			} else {
+				created.complete(r);
+			}
+		});
+		return created.copy();
+	}
+
+	/**
+	 * Waits for the result of a future returned by this client.
+	 *
+	 * @param <T>    the type of the result
+	 * @param future the {@link CompletableFuture}
+	 * @return the result
+	 * @throws OpenemsNamedException on error
+	 */
+	public static <T> T await(CompletableFuture<T> future) throws OpenemsNamedException {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw toOpenemsNamedException(e);
+		}
+	}
+
+	public int getMaxConcurrentRequests() {
+		return this.maxConcurrentRequests;
+	}
+
+	public int getMaxQueuedRequests() {
+		return this.maxQueuedRequests;
+	}
+
+	/**
+	 * Gets the number of requests waiting for a free slot.
+	 *
+	 * @return the number of queued requests
+	 */
+	public int getQueueSize() {
+		return this.queued.get();
+	}
+
+	/**
+	 * Starts waiting requests while permits are available.
+	 *
+	 * <p>
+	 * Not reentrant: a request that fails synchronously completes inside
+	 * {@link Runnable#run()} and calls this method again; that call returns
+	 * immediately and the running loop picks up the released permit.
+	 */
+	private void drain() {
+		while (this.draining.compareAndSet(false, true)) {
+			try {
+				while (!this.waiting.isEmpty() && this.permits.tryAcquire()) {
+					var task = this.waiting.poll();
+					if (task == null) {
+						this.permits.release();
+						continue;
+					}
+					this.queued.decrementAndGet();
+					task.run();
+				}
+			} finally {
+				this.draining.set(false);
+			}
+			// Requests or permits might have been added after the last check
+			if (this.waiting.isEmpty() || this.permits.availablePermits() == 0) {
+				return;
+			}
+		}
+	}
+
+	private CompletableFuture<SuccessResponseAndHeaders> send(String url, String cookie, JsonObject request,
+			String body, int timeout) {
+		var builder = HttpRequest.newBuilder(URI.create(url)) //
+				.timeout(Duration.ofMillis(timeout)) //
+				.header("Content-Type", "application/json") //
+				.POST(BodyPublishers.ofString(body));
+		if (!cookie.isEmpty()) {
+			builder.header("Cookie", cookie);
+		}
+		return this.httpClient.sendAsync(builder.build(), BodyHandlers.ofString()) //
+				.thenApply(response -> parse(url, request, response));
+	}
+
+	private static SuccessResponseAndHeaders parse(String url, JsonObject request, HttpResponse<String> response) {
+		try {
+			return OdooUtils.handleJsonrpcResponse(url, request, JsonUtils.parseToJsonObject(response.body()),
+					response.headers().map());
+		} catch (OpenemsNamedException e) {
+			throw new CompletionException(e);
+		}
+	}
+
+	private static OpenemsNamedException toOpenemsNamedException(Throwable e) {
+		if (e instanceof CompletionException && e.getCause() != null) {
+			e = e.getCause();
+		}
+		if (e instanceof OpenemsNamedException one) {
+			return one;
+		}
+		return OpenemsError.GENERIC.exception(e.getMessage());
+	}
+
+}
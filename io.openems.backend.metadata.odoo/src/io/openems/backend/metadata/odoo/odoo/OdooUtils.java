@@ -1,9 +1,5 @@
 package io.openems.backend.metadata.odoo.odoo;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -18,7 +14,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,7 +40,7 @@ public class OdooUtils {
 
 	/**
 	 * Wrapper for the reply of a call to
-	 * {@link OdooUtils#sendJsonrpcRequest(String, JsonObject)}.
+	 * {@link OdooJsonrpcClient#sendAsync(String, String, JsonObject)}.
 	 */
 	public static class SuccessResponseAndHeaders {
 		public final JsonElement result;
@@ -57,201 +53,164 @@ public class OdooUtils {
 	}
 
 	/**
-	 * Sends a JSON-RPC Request to an Odoo server - without Cookie header.
+	 * Handles the JSON-RPC response of an Odoo server.
 	 *
 	 * @param url     the URL
 	 * @param request the JSON-RPC Request as {@link JsonObject}
+	 * @param json    the JSON-RPC Response as {@link JsonObject}
+	 * @param headers the HTTP headers of the response
 	 * @return the {@link JsonObject} response and HTTP connection headers on
 	 *         success
 	 * @throws OpenemsNamedException on error
 	 */
-	public static SuccessResponseAndHeaders sendJsonrpcRequest(String url, JsonObject request)
-			throws OpenemsNamedException {
-		return OdooUtils.sendJsonrpcRequest(url, "", request);
-	}
-
-	/**
-	 * Sends a JSON-RPC Request to an Odoo server - without Cookie header.
-	 *
-	 * @param url     the URL
-	 * @param cookie  the Cookie
-	 * @param request the JSON-RPC Request as {@link JsonObject}
-	 * @return the {@link JsonObject} response and HTTP connection headers on
-	 *         success
-	 * @throws OpenemsNamedException on error
-	 */
-	public static SuccessResponseAndHeaders sendJsonrpcRequest(String url, String cookie, JsonObject request)
-			throws OpenemsNamedException {
-		return OdooUtils.sendJsonrpcRequest(url, cookie, request, 5000);
-	}
-
-	/**
-	 * Sends a JSON-RPC Request to an Odoo server.
-	 *
-	 * @param url     the URL
-	 * @param cookie  a Cookie string
-	 * @param request the JSON-RPC Request as {@link JsonObject}
-	 * @param timeout readtimeout in milliseconds
-	 * @return the {@link JsonObject} response and HTTP connection headers on
-	 *         success
-	 * @throws OpenemsNamedException on error
-	 */
-	public static SuccessResponseAndHeaders sendJsonrpcRequest(String url, String cookie, JsonObject request,
-			int timeout) throws OpenemsNamedException {
-		HttpURLConnection connection = null;
-		try {
-			// Open connection to Odoo
-			connection = (HttpURLConnection) new URL(url).openConnection();
-			connection.setConnectTimeout(5000);// 5 secs
-			connection.setReadTimeout(timeout);// 5 secs
-			connection.setRequestProperty("Accept-Charset", "US-ASCII");
-			connection.setRequestMethod("POST");
-			connection.setDoOutput(true);
-			connection.setRequestProperty("Content-Type", "application/json");
-			if (!cookie.isEmpty()) {
-				connection.setRequestProperty("Cookie", cookie);
-			}
-
-			// send JSON-RPC request
-			try (var out = new OutputStreamWriter(connection.getOutputStream())) {
-				out.write(request.toString());
-				out.flush();
-			}
-
-			// read JSON-RPC response
-			var sb = new StringBuilder();
-			String line = null;
-			try (var br = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-				while ((line = br.readLine()) != null) {
-					sb.append(line);
+	protected static SuccessResponseAndHeaders handleJsonrpcResponse(String url, JsonObject request, JsonObject json,
+			Map<String, List<String>> headers) throws OpenemsNamedException {
+		// Handle Success or Error
+		if (json.has("error")) {
+			var error = JsonUtils.getAsJsonObject(json, "error");
+			// "code":200",
+			var code = JsonUtils.getAsInt(error, "code");
+			// "message":"Odoo Server Error",
+			var message = JsonUtils.getAsString(error, "message");
+			var data = JsonUtils.getAsJsonObject(error, "data");
+			// "name":"odoo.exceptions.AccessDenied",
+			var dataName = JsonUtils.getAsString(data, "name");
+			// "debug":"Traceback (most recent call last):\n...",
+			var dataDebug = JsonUtils.getAsString(data, "debug");
+			// "message":"Access denied",
+			var dataMessage = JsonUtils.getAsString(data, "message");
+			// "arguments":["Access denied"],
+			var dataArguments = JsonUtils.getAsJsonArray(data, "arguments");
+			// "exception_type":"access_denied"
+			var dataExceptionType = JsonUtils.getAsOptionalString(data, "exception_type");
+
+			switch (dataName) {
+			case "odoo.exceptions.AccessDenied":
+				throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
+
+			case "odoo.http.SessionExpiredException":
+				throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
+
+			default:
+				// for OpenemsExceptions from Odoo only throw OpenemsException with message for
+				// more readability
+				if (dataName.endsWith("OpenemsException")) {
+					throw new OpenemsException(dataMessage);
 				}
-			}
-			var json = JsonUtils.parseToJsonObject(sb.toString());
-
-			// Handle Success or Error
-			if (json.has("error")) {
-				var error = JsonUtils.getAsJsonObject(json, "error");
-				// "code":200",
-				var code = JsonUtils.getAsInt(error, "code");
-				// "message":"Odoo Server Error",
-				var message = JsonUtils.getAsString(error, "message");
-				var data = JsonUtils.getAsJsonObject(error, "data");
-				// "name":"odoo.exceptions.AccessDenied",
-				var dataName = JsonUtils.getAsString(data, "name");
-				// "debug":"Traceback (most recent call last):\n...",
-				var dataDebug = JsonUtils.getAsString(data, "debug");
-				// "message":"Access denied",
-				var dataMessage = JsonUtils.getAsString(data, "message");
-				// "arguments":["Access denied"],
-				var dataArguments = JsonUtils.getAsJsonArray(data, "arguments");
-				// "exception_type":"access_denied"
-				var dataExceptionType = JsonUtils.getAsOptionalString(data, "exception_type");
-
-				switch (dataName) {
-				case "odoo.exceptions.AccessDenied":
-					throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
-
-				case "odoo.http.SessionExpiredException":
-					throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
-
-				default:
-					// for OpenemsExceptions from Odoo only throw OpenemsException with message for
-					// more readability
-					if (dataName.endsWith("OpenemsException")) {
-						throw new OpenemsException(dataMessage);
-					}
-
-					var exception = "Exception for Request [" + request.toString() + "] to URL [" + url + "]: " //
-							+ dataMessage + ";" //
-							+ " Code [" + code + "]" //
-							+ " Code [" + code + "]" //
-							+ " Message [" + message + "]" //
-							+ " Name [" + dataName + "]" //
-							+ " ExceptionType [" + dataExceptionType.orElse("n/a") + "]" //
-							+ " Arguments [" + dataArguments + "]" //
-							+ " Debug [" + dataDebug + "]";
-					throw new OpenemsException(exception);
-				}
-			} else if (json.has("result")) {
-				return new SuccessResponseAndHeaders(JsonUtils.getSubElement(json, "result"),
-						connection.getHeaderFields());
-
-			} else {
-				// JSON-RPC response by Odoo on /logout is {jsonrpc:2.0, id:null} - without
-				// 'result' attribute
-				return new SuccessResponseAndHeaders(json, connection.getHeaderFields());
 
+				var exception = "Exception for Request [" + request.toString() + "] to URL [" + url + "]: " //
+						+ dataMessage + ";" //
+						+ " Code [" + code + "]" //
+						+ " Code [" + code + "]" //
+						+ " Message [" + message + "]" //
+						+ " Name [" + dataName + "]" //
+						+ " ExceptionType [" + dataExceptionType.orElse("n/a") + "]" //
+						+ " Arguments [" + dataArguments + "]" //
+						+ " Debug [" + dataDebug + "]";
+				throw new OpenemsException(exception);
 			}
+		} else if (json.has("result")) {
+			return new SuccessResponseAndHeaders(JsonUtils.getSubElement(json, "result"), headers);
 
-		} catch (IOException e) {
-			throw OpenemsError.GENERIC.exception(e.getMessage());
-		} finally {
-			if (connection != null) {
-				connection.disconnect();
-			}
-		}
-	}
+		} else {
+			// JSON-RPC response by Odoo on /logout is {jsonrpc:2.0, id:null} - without
+			// 'result' attribute
+			return new SuccessResponseAndHeaders(json, headers);
 
-	protected static SuccessResponseAndHeaders sendAdminJsonrpcRequest(Credentials credentials, String url,
-			JsonObject request, int timeout) throws OpenemsNamedException {
-		var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
-		return OdooUtils.sendJsonrpcRequest(credentials.getUrl() + url, "session_id=" + session, request, timeout);
+		}
 	}
 
 	/**
 	 * Sends a request with admin privileges.
 	 *
+	 * @param client      the {@link OdooJsonrpcClient}
 	 * @param credentials the Odoo credentials
 	 * @param url         to send the request
 	 * @param request     to send
 	 * @return SuccessResponseAndHeaders response
 	 * @throws OpenemsNamedException on error
 	 */
-	protected static SuccessResponseAndHeaders sendAdminJsonrpcRequest(Credentials credentials, String url,
-			JsonObject request) throws OpenemsNamedException {
-		var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
-		return OdooUtils.sendJsonrpcRequest(credentials.getUrl() + url, "session_id=" + session, request);
+	protected static SuccessResponseAndHeaders sendAdminJsonrpcRequest(OdooJsonrpcClient client,
+			Credentials credentials, String url, JsonObject request) throws OpenemsNamedException {
+		return OdooJsonrpcClient.await(sendAdminJsonrpcRequestAsync(client, credentials, url, request));
 	}
 
 	/**
 	 * Sends a request with admin privileges in async.
 	 *
+	 * @param client      the {@link OdooJsonrpcClient}
 	 * @param credentials the Odoo credentials
 	 * @param url         to send the request
 	 * @param request     to send
-	 * @return SuccessResponseAndHeaders response as Future
-	 * @throws OpenemsNamedException on error
+	 * @return SuccessResponseAndHeaders response as {@link CompletableFuture}
 	 */
-	protected static Future<SuccessResponseAndHeaders> sendAdminJsonrpcRequestAsync(Credentials credentials, String url,
-			JsonObject request) throws OpenemsNamedException {
-		var completableFuture = new CompletableFuture<SuccessResponseAndHeaders>();
-		completableFuture.completeAsync(() -> {
-			try {
-				return sendAdminJsonrpcRequest(credentials, url, request);
-			} catch (OpenemsNamedException e) {
-				completableFuture.completeExceptionally(e);
-			}
-			return null;
-		});
-		return completableFuture;
+	protected static CompletableFuture<SuccessResponseAndHeaders> sendAdminJsonrpcRequestAsync(
+			OdooJsonrpcClient client, Credentials credentials, String url, JsonObject request) {
+		return OdooUtils.adminLoginAsync(client, credentials) //
+				.thenCompose(session -> client.sendAsync(credentials.getUrl() + url, "session_id=" + session, request));
 	}
 
 	/**
 	 * Authenticates a user using Username and Password.
 	 *
+	 * @param client      the {@link OdooJsonrpcClient}
 	 * @param credentials used to get Odoo url
 	 * @param username    the Username
 	 * @param password    the Password
 	 * @return the session_id
 	 * @throws OpenemsNamedException on login error
 	 */
-	protected static String login(Credentials credentials, String username, String password)
-			throws OpenemsNamedException {
+	protected static String login(OdooJsonrpcClient client, Credentials credentials, String username,
+			String password) throws OpenemsNamedException {
+		return OdooJsonrpcClient.await(loginAsync(client, credentials, username, password));
+	}
+
+	/**
+	 * Authenticates a user using Username and Password in async.
+	 *
+	 * <p>
+	 * Every call creates a new session, so that a logout does not affect other
+	 * logins of the same user.
+	 *
+	 * @param client      the {@link OdooJsonrpcClient}
+	 * @param credentials used to get Odoo url
+	 * @param username    the Username
+	 * @param password    the Password
+	 * @return the session_id as {@link CompletableFuture}
+	 */
+	protected static CompletableFuture<String> loginAsync(OdooJsonrpcClient client, Credentials credentials,
+			String username, String password) {
 		if (username.isBlank() || password.isBlank()) {
 			// Do not even send request if username or password are blank
-			throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
+			return CompletableFuture.failedFuture(OpenemsError.COMMON_AUTHENTICATION_FAILED.exception());
+		}
+		return client.sendAsync(credentials.getUrl() + "/web/session/authenticate", "", //
+				getAuthenticateRequest(credentials, username, password)) //
+				.thenApply(OdooUtils::getSessionId);
+	}
+
+	/**
+	 * Authenticates the admin user in async.
+	 *
+	 * <p>
+	 * The admin session is only used internally and never logged out, so
+	 * identical logins that are in flight at the same time share one request.
+	 *
+	 * @param client      the {@link OdooJsonrpcClient}
+	 * @param credentials the Odoo credentials
+	 * @return the session_id as {@link CompletableFuture}
+	 */
+	protected static CompletableFuture<String> adminLoginAsync(OdooJsonrpcClient client, Credentials credentials) {
+		if (credentials.getPassword().isBlank()) {
+			return CompletableFuture.failedFuture(OpenemsError.COMMON_AUTHENTICATION_FAILED.exception());
 		}
-		var request = JsonUtils.buildJsonObject() //
+		return client.lookupAsync(credentials.getUrl() + "/web/session/authenticate", "", //
+				getAuthenticateRequest(credentials, "admin", credentials.getPassword())) //
+				.thenApply(OdooUtils::getSessionId);
+	}
+
+	private static JsonObject getAuthenticateRequest(Credentials credentials, String username, String password) {
+		return JsonUtils.buildJsonObject() //
 				.addProperty("jsonrpc", "2.0") //
 				.addProperty("method", "call") //
 				.add("params", JsonUtils.buildJsonObject() //
@@ -260,12 +219,11 @@ public class OdooUtils {
 						.addProperty("password", password) //
 						.build()) //
 				.build();
-		var response = OdooUtils.sendJsonrpcRequest(credentials.getUrl() + "/web/session/authenticate", request);
-		var sessionIdOpt = getFieldFromSetCookieHeader(response.headers, "session_id");
-		if (!sessionIdOpt.isPresent()) {
-			throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
-		}
-		return sessionIdOpt.get();
+	}
+
+	private static String getSessionId(SuccessResponseAndHeaders response) {
+		return getFieldFromSetCookieHeader(response.headers, "session_id") //
+				.orElseThrow(() -> new CompletionException(OpenemsError.COMMON_AUTHENTICATION_FAILED.exception()));
 	}
 
 	private static Object executeKw(Credentials creds, String model, String action, Object[] arg)
@@ -546,14 +504,16 @@ public class OdooUtils {
 	 * Returns a Odoo report as a byte array. Search for the given template id in
 	 * combination with the concrete report id.
 	 *
+	 * @param client      the {@link OdooJsonrpcClient}
 	 * @param credentials the Odoo credentialss
 	 * @param report      the Odoo template id
 	 * @param id          the Odoo report id
 	 * @return the Odoo report as a byte array
 	 * @throws OpenemsNamedException on error
 	 */
-	protected static byte[] getOdooReport(Credentials credentials, String report, int id) throws OpenemsNamedException {
-		var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
+	protected static byte[] getOdooReport(OdooJsonrpcClient client, Credentials credentials, String report, int id)
+			throws OpenemsNamedException {
+		var session = OdooUtils.login(client, credentials, "admin", credentials.getPassword());
 
 		HttpURLConnection connection = null;
 		try {
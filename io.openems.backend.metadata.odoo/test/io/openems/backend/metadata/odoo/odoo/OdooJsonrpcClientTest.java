@@ -0,0 +1,298 @@
+package io.openems.backend.metadata.odoo.odoo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.openems.backend.metadata.odoo.odoo.OdooUtils.SuccessResponseAndHeaders;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.utils.JsonUtils;
+
+public class OdooJsonrpcClientTest {
+
+	/**
+	 * Local fake of the Odoo JSON-RPC API.
+	 */
+	private static class FakeOdoo implements AutoCloseable {
+
+		private final HttpServer server;
+		private final ExecutorService executor = Executors.newCachedThreadPool();
+		private final CountDownLatch gate = new CountDownLatch(1);
+		private final AtomicInteger requests = new AtomicInteger();
+		private final AtomicInteger active = new AtomicInteger();
+		private final AtomicInteger maxActive = new AtomicInteger();
+
+		public FakeOdoo() throws IOException {
+			this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			this.server.setExecutor(this.executor);
+			this.server.createContext("/web/session/authenticate", this::handleAuthenticate);
+			this.server.createContext("/openems_backend/get_edges", this::handleGetEdges);
+			this.server.start();
+		}
+
+		private void handleAuthenticate(HttpExchange exchange) throws IOException {
+			var number = this.requests.incrementAndGet();
+			var request = JsonParser.parseString(new String(exchange.getRequestBody().readAllBytes(), //
+					StandardCharsets.UTF_8)).getAsJsonObject();
+			var login = request.getAsJsonObject("params").get("login").getAsString();
+			var password = request.getAsJsonObject("params").get("password").getAsString();
+			if (login.equals("slow")) {
+				this.awaitGate();
+			}
+			if (password.equals("admin")) {
+				exchange.getResponseHeaders().add("Set-Cookie",
+						"session_id=" + (login.equals("admin") ? "abc" : login + number) + "; Path=/");
+				this.respond(exchange, "{\"jsonrpc\":\"2.0\",\"id\":null,\"result\":{}}");
+			} else {
+				this.respond(exchange, "{\"jsonrpc\":\"2.0\",\"id\":null,\"error\":{\"code\":200," //
+						+ "\"message\":\"Odoo Server Error\",\"data\":{\"name\":\"odoo.exceptions.AccessDenied\"," //
+						+ "\"debug\":\"\",\"message\":\"Access denied\",\"arguments\":[\"Access denied\"]}}}");
+			}
+		}
+
+		private void handleGetEdges(HttpExchange exchange) throws IOException {
+			this.requests.incrementAndGet();
+			var active = this.active.incrementAndGet();
+			this.maxActive.accumulateAndGet(active, Math::max);
+			this.awaitGate();
+			this.active.decrementAndGet();
+			var body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+			this.respond(exchange, "{\"jsonrpc\":\"2.0\",\"id\":null,\"result\":{\"request\":" + body + "}}");
+		}
+
+		private void awaitGate() {
+			try {
+				this.gate.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void respond(HttpExchange exchange, String body) throws IOException {
+			var response = body.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, response.length);
+			exchange.getResponseBody().write(response);
+			exchange.close();
+		}
+
+		public String getUrl() {
+			return "http://localhost:" + this.server.getAddress().getPort();
+		}
+
+		@Override
+		public void close() {
+			this.gate.countDown();
+			this.server.stop(0);
+			this.executor.shutdownNow();
+		}
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		for (var i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+			Thread.sleep(50);
+		}
+		assertTrue(condition.getAsBoolean());
+	}
+
+	private static JsonObject getEdgesRequest(int page) {
+		return JsonUtils.buildJsonObject() //
+				.add("params", JsonUtils.buildJsonObject() //
+						.addProperty("page", page) //
+						.build()) //
+				.build();
+	}
+
+	private static int getPage(SuccessResponseAndHeaders response) throws OpenemsNamedException {
+		var request = JsonUtils.getAsJsonObject(response.result, "request");
+		return JsonUtils.getAsInt(JsonUtils.getAsJsonObject(request, "params"), "page");
+	}
+
+	@Test
+	public void testLookupsAreCoalesced() throws Exception {
+		try (var odoo = new FakeOdoo()) {
+			var sut = new OdooJsonrpcClient(10);
+			var url = odoo.getUrl() + "/openems_backend/get_edges";
+
+			var futures = new ArrayList<CompletableFuture<SuccessResponseAndHeaders>>();
+			for (var i = 0; i < 20; i++) {
+				futures.add(sut.lookupAsync(url, "session_id=abc", getEdgesRequest(0)));
+			}
+			futures.add(sut.lookupAsync(url, "session_id=abc", getEdgesRequest(1)));
+			futures.add(sut.lookupAsync(url, "session_id=def", getEdgesRequest(0)));
+			await(() -> odoo.requests.get() == 3);
+
+			odoo.gate.countDown();
+			for (var future : futures) {
+				OdooJsonrpcClient.await(future);
+			}
+			assertEquals(3, odoo.requests.get());
+			assertEquals(0, getPage(OdooJsonrpcClient.await(futures.get(0))));
+			assertEquals(1, getPage(OdooJsonrpcClient.await(futures.get(20))));
+
+			// Completed lookups are not cached
+			OdooJsonrpcClient.await(sut.lookupAsync(url, "session_id=abc", getEdgesRequest(0)));
+			assertEquals(4, odoo.requests.get());
+		}
+	}
+
+	@Test
+	public void testConcurrencyLimit() throws Exception {
+		try (var odoo = new FakeOdoo()) {
+			var sut = new OdooJsonrpcClient(2);
+			var url = odoo.getUrl() + "/openems_backend/get_edges";
+
+			var futures = new ArrayList<CompletableFuture<SuccessResponseAndHeaders>>();
+			for (var i = 0; i < 10; i++) {
+				futures.add(sut.sendAsync(url, "", getEdgesRequest(i)));
+			}
+			await(() -> odoo.active.get() == 2);
+			assertEquals(8, sut.getQueueSize());
+
+			odoo.gate.countDown();
+			for (var i = 0; i < futures.size(); i++) {
+				assertEquals(i, getPage(OdooJsonrpcClient.await(futures.get(i))));
+			}
+			assertEquals(10, odoo.requests.get());
+			assertEquals(2, odoo.maxActive.get());
+			assertEquals(0, sut.getQueueSize());
+		}
+	}
+
+	@Test
+	public void testLogin() throws Exception {
+		try (var odoo = new FakeOdoo()) {
+			var sut = new OdooJsonrpcClient(10);
+			var port = Integer.parseInt(odoo.getUrl().substring(odoo.getUrl().lastIndexOf(':') + 1));
+			var credentials = new Credentials(Protocol.HTTP, "localhost", port, 1, "admin", "db");
+
+			assertEquals("abc", OdooUtils.login(sut, credentials, "admin", "admin"));
+			assertThrows(OpenemsNamedException.class, () -> OdooUtils.login(sut, credentials, "admin", "wrong"));
+			assertEquals(2, odoo.requests.get());
+
+			// Blank passwords are not even sent
+			assertThrows(OpenemsNamedException.class, () -> OdooUtils.login(sut, credentials, "admin", " "));
+			assertEquals(2, odoo.requests.get());
+		}
+	}
+
+	@Test
+	public void testUserLoginsAreNotCoalesced() throws Exception {
+		try (var odoo = new FakeOdoo()) {
+			var sut = new OdooJsonrpcClient(10);
+			var port = Integer.parseInt(odoo.getUrl().substring(odoo.getUrl().lastIndexOf(':') + 1));
+			var credentials = new Credentials(Protocol.HTTP, "localhost", port, 1, "admin", "db");
+
+			var login1 = OdooUtils.loginAsync(sut, credentials, "slow", "admin");
+			var login2 = OdooUtils.loginAsync(sut, credentials, "slow", "admin");
+			var admin1 = OdooUtils.adminLoginAsync(sut, credentials);
+			var admin2 = OdooUtils.adminLoginAsync(sut, credentials);
+			await(() -> odoo.requests.get() == 3);
+
+			odoo.gate.countDown();
+			assertNotEquals(OdooJsonrpcClient.await(login1), OdooJsonrpcClient.await(login2));
+			assertEquals("abc", OdooJsonrpcClient.await(admin1));
+			assertEquals("abc", OdooJsonrpcClient.await(admin2));
+			assertEquals(3, odoo.requests.get());
+		}
+	}
+
+	@Test(timeout = 30_000L)
+	public void testSynchronousFailures() throws Exception {
+		try (var odoo = new FakeOdoo()) {
+			var sut = new OdooJsonrpcClient(1, 50_000);
+			var blocking = sut.sendAsync(odoo.getUrl() + "/openems_backend/get_edges", "", getEdgesRequest(0));
+			await(() -> odoo.active.get() == 1);
+
+			// Invalid URLs fail before sending; all of them complete in one drain
+			var futures = new ArrayList<CompletableFuture<SuccessResponseAndHeaders>>();
+			for (var i = 0; i < 50_000; i++) {
+				futures.add(sut.sendAsync("invalid url", "", getEdgesRequest(i)));
+			}
+			odoo.gate.countDown();
+			OdooJsonrpcClient.await(blocking);
+			for (var future : futures) {
+				assertThrows(OpenemsNamedException.class, () -> OdooJsonrpcClient.await(future));
+			}
+			assertEquals(0, sut.getQueueSize());
+		}
+	}
+
+	@Test
+	public void testQueueTimeout() throws Exception {
+		try (var odoo = new FakeOdoo()) {
+			var sut = new OdooJsonrpcClient(1);
+			var url = odoo.getUrl() + "/openems_backend/get_edges";
+			var blocking = sut.sendAsync(url, "", getEdgesRequest(0), 10_000);
+			await(() -> odoo.active.get() == 1);
+
+			// Timeout includes the time waiting in the queue
+			var queued = sut.sendAsync(url, "", getEdgesRequest(1), 100);
+			assertEquals(1, sut.getQueueSize());
+			assertThrows(OpenemsNamedException.class, () -> OdooJsonrpcClient.await(queued));
+			assertEquals(0, sut.getQueueSize());
+
+			// Timed out request is never sent
+			odoo.gate.countDown();
+			OdooJsonrpcClient.await(blocking);
+			Thread.sleep(100);
+			assertEquals(1, odoo.requests.get());
+		}
+	}
+
+	@Test
+	public void testQueueFull() throws Exception {
+		try (var odoo = new FakeOdoo()) {
+			var sut = new OdooJsonrpcClient(1, 2);
+			var url = odoo.getUrl() + "/openems_backend/get_edges";
+			var blocking = sut.sendAsync(url, "", getEdgesRequest(0));
+			await(() -> odoo.active.get() == 1);
+
+			var queued1 = sut.sendAsync(url, "", getEdgesRequest(1));
+			var queued2 = sut.sendAsync(url, "", getEdgesRequest(2));
+			var rejected = sut.sendAsync(url, "", getEdgesRequest(3));
+			assertTrue(rejected.isCompletedExceptionally());
+			assertThrows(OpenemsNamedException.class, () -> OdooJsonrpcClient.await(rejected));
+			assertEquals(2, sut.getQueueSize());
+
+			odoo.gate.countDown();
+			assertEquals(0, getPage(OdooJsonrpcClient.await(blocking)));
+			assertEquals(1, getPage(OdooJsonrpcClient.await(queued1)));
+			assertEquals(2, getPage(OdooJsonrpcClient.await(queued2)));
+			assertEquals(3, odoo.requests.get());
+		}
+	}
+
+	@Test
+	public void testConnectionRefused() throws Exception {
+		String url;
+		try (var odoo = new FakeOdoo()) {
+			url = odoo.getUrl() + "/openems_backend/get_edges";
+		}
+		var sut = new OdooJsonrpcClient(1);
+		assertThrows(OpenemsNamedException.class,
+				() -> OdooJsonrpcClient.await(sut.sendAsync(url, "", getEdgesRequest(0))));
+		assertEquals(0, sut.getQueueSize());
+	}
+
+}
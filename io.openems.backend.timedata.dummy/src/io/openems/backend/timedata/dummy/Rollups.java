@@ -0,0 +1,386 @@
+package io.openems.backend.timedata.dummy;
+
+import java.time.Instant;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.common.timedata.Timedata;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * In-memory rollups of numeric Channel values for {@link TimedataDummy}.
+ *
+ * <p>
+ * For every Edge and Channel the first, last, min, max and average value is
+ * kept per hour, per day and per month. The buckets are updated as data
+ * arrives. Queries are answered from the coarsest {@link Level} whose buckets
+ * fit exactly into the requested periods, e.g. a 'year' view with monthly
+ * resolution reads twelve monthly buckets instead of all raw values.
+ *
+ * <p>
+ * Days and months are calculated in the {@link ZoneId} given in the
+ * constructor; queries in other time zones are answered from the hourly
+ * buckets.
+ *
+ * <p>
+ * Nothing is persisted. Per Channel and {@link Level}, buckets that are older
+ * than the retention of the {@link Level}, counted back from the latest
+ * bucket, are dropped.
+ */
+public class Rollups {
+
+	public enum Level {
+		HOUR(Period.ofMonths(3)), //
+		DAY(Period.ofYears(3)), //
+		MONTH(Period.ofYears(20));
+
+		/** Buckets are kept for this period. */
+		private final Period retention;
+
+		private Level(Period retention) {
+			this.retention = retention;
+		}
+
+		private ZonedDateTime truncate(ZonedDateTime time) {
+			return switch (this) {
+			case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+			case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+			case MONTH -> time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+			};
+		}
+	}
+
+	/**
+	 * The aggregated values of one period.
+	 */
+	public static final class Bucket {
+
+		private long firstTime = Long.MAX_VALUE;
+		private long lastTime = Long.MIN_VALUE;
+		private double first = Double.NaN;
+		private double last = Double.NaN;
+		private double min = Double.NaN;
+		private double max = Double.NaN;
+		private double sum = 0;
+		private long count = 0;
+
+		private void add(long time, double value) {
+			this.merge(time, value, time, value, value, value, value, 1);
+		}
+
+		private void add(Bucket other) {
+			this.merge(other.firstTime, other.first, other.lastTime, other.last, other.min, other.max, other.sum,
+					other.count);
+		}
+
+		private void merge(long firstTime, double first, long lastTime, double last, double min, double max,
+				double sum, long count) {
+			if (firstTime < this.firstTime) {
+				this.firstTime = firstTime;
+				this.first = first;
+			}
+			if (lastTime >= this.lastTime) {
+				this.lastTime = lastTime;
+				this.last = last;
+			}
+			this.min = this.count == 0 ? min : Math.min(this.min, min);
+			this.max = this.count == 0 ? max : Math.max(this.max, max);
+			this.sum += sum;
+			this.count += count;
+		}
+
+		public double getFirst() {
+			return this.first;
+		}
+
+		public double getLast() {
+			return this.last;
+		}
+
+		public double getMin() {
+			return this.min;
+		}
+
+		public double getMax() {
+			return this.max;
+		}
+
+		/**
+		 * Gets the average of all values.
+		 *
+		 * @return the average; NaN if there are no values
+		 */
+		public double getAverage() {
+			return this.count == 0 ? Double.NaN : this.sum / this.count;
+		}
+
+		public long getCount() {
+			return this.count;
+		}
+	}
+
+	private final ZoneId zone;
+
+	/** Edge-ID to Channel to Level to buckets by their start in epoch seconds. */
+	private final Map<String, Map<ChannelAddress, EnumMap<Level, NavigableMap<Long, Bucket>>>> data = new HashMap<>();
+
+	public Rollups(ZoneId zone) {
+		this.zone = zone;
+	}
+
+	/**
+	 * Adds all numeric values of an {@link AbstractDataNotification}.
+	 *
+	 * @param edgeId       the Edge-ID
+	 * @param notification the {@link AbstractDataNotification}
+	 */
+	public synchronized void add(String edgeId, AbstractDataNotification notification) {
+		for (var row : notification.getData().rowMap().entrySet()) {
+			for (var entry : row.getValue().entrySet()) {
+				if (!JsonUtils.isNumber(entry.getValue())) {
+					continue;
+				}
+				final ChannelAddress channel;
+				try {
+					channel = ChannelAddress.fromString(entry.getKey());
+				} catch (OpenemsNamedException e) {
+					continue;
+				}
+				this.add(edgeId, channel, row.getKey(), entry.getValue().getAsDouble());
+			}
+		}
+	}
+
+	/**
+	 * Adds a value.
+	 *
+	 * @param edgeId    the Edge-ID
+	 * @param channel   the {@link ChannelAddress}
+	 * @param timestamp the timestamp in milliseconds since epoch
+	 * @param value     the value
+	 */
+	public synchronized void add(String edgeId, ChannelAddress channel, long timestamp, double value) {
+		final var levels = this.data //
+				.computeIfAbsent(edgeId, e -> new HashMap<>()) //
+				.computeIfAbsent(channel, c -> new EnumMap<>(Level.class));
+		final var time = Instant.ofEpochMilli(timestamp).atZone(this.zone);
+		for (var level : Level.values()) {
+			final var buckets = levels.computeIfAbsent(level, l -> new TreeMap<>());
+			final var start = level.truncate(time);
+			if (buckets.isEmpty() || start.toEpochSecond() > buckets.lastKey()) {
+				// New latest bucket: drop buckets that are older than the retention
+				buckets.headMap(start.minus(level.retention).toEpochSecond()).clear();
+
+			} else if (start.toEpochSecond() < buckets.firstKey()
+					&& start.toEpochSecond() < this.getRetentionStart(level, buckets.lastKey())) {
+				// Value is older than the retention
+				continue;
+			}
+			buckets.computeIfAbsent(start.toEpochSecond(), t -> new Bucket()) //
+					.add(timestamp, value);
+		}
+	}
+
+	private long getRetentionStart(Level level, long latest) {
+		return Instant.ofEpochSecond(latest).atZone(this.zone).minus(level.retention).toEpochSecond();
+	}
+
+	/**
+	 * Gets the coarsest {@link Level} whose buckets start at every given
+	 * boundary.
+	 *
+	 * @param boundaries the period boundaries
+	 * @return the {@link Level}; null if no Level fits
+	 */
+	protected Level getLevel(List<ZonedDateTime> boundaries) {
+		final var levels = Level.values();
+		for (var i = levels.length - 1; i >= 0; i--) {
+			final var level = levels[i];
+			if (boundaries.stream().allMatch(b -> this.isBucketStart(level, b))) {
+				return level;
+			}
+		}
+		return null;
+	}
+
+	private boolean isBucketStart(Level level, ZonedDateTime time) {
+		final var local = time.withZoneSameInstant(this.zone);
+		return level.truncate(local).isEqual(local);
+	}
+
+	/**
+	 * Queries the average values per period. See
+	 * {@link Timedata#queryHistoricData(String, ZonedDateTime, ZonedDateTime, Set, Resolution)}.
+	 *
+	 * @param edgeId     the Edge-ID
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @return the result; null if the periods do not fit into the buckets
+	 */
+	public synchronized SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(
+			String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels,
+			Resolution resolution) {
+		final var boundaries = getBoundaries(fromDate, toDate, resolution);
+		final var level = this.getLevel(boundaries);
+		if (level == null) {
+			return null;
+		}
+		final var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		for (var i = 0; i < boundaries.size() - 1; i++) {
+			final var from = boundaries.get(i);
+			final var to = boundaries.get(i + 1);
+			final var values = new TreeMap<ChannelAddress, JsonElement>();
+			for (var channel : channels) {
+				final var period = merge(this.getBuckets(edgeId, channel, level), from, to);
+				values.put(channel, period.getCount() == 0 //
+						? JsonNull.INSTANCE //
+						: new JsonPrimitive(period.getAverage()));
+			}
+			result.put(from, values);
+		}
+		return result;
+	}
+
+	/**
+	 * Queries the energy of cumulated Channels. See
+	 * {@link Timedata#queryHistoricEnergy(String, ZonedDateTime, ZonedDateTime, Set)}.
+	 *
+	 * @param edgeId   the Edge-ID
+	 * @param fromDate the From-Date
+	 * @param toDate   the To-Date
+	 * @param channels the Channels
+	 * @return the result; null if the dates do not fit into the buckets
+	 */
+	public synchronized SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId,
+			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels) {
+		final var level = this.getLevel(List.of(fromDate, toDate));
+		if (level == null) {
+			return null;
+		}
+		final var result = new TreeMap<ChannelAddress, JsonElement>();
+		for (var channel : channels) {
+			final var buckets = this.getBuckets(edgeId, channel, level);
+			result.put(channel, energy(buckets, fromDate, toDate));
+		}
+		return result;
+	}
+
+	/**
+	 * Queries the energy of cumulated Channels per period. See
+	 * {@link Timedata#queryHistoricEnergyPerPeriod(String, ZonedDateTime, ZonedDateTime, Set, Resolution)}.
+	 *
+	 * @param edgeId     the Edge-ID
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @return the result; null if the periods do not fit into the buckets
+	 */
+	public synchronized SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(
+			String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels,
+			Resolution resolution) {
+		final var boundaries = getBoundaries(fromDate, toDate, resolution);
+		final var level = this.getLevel(boundaries);
+		if (level == null) {
+			return null;
+		}
+		final var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		for (var i = 0; i < boundaries.size() - 1; i++) {
+			final var from = boundaries.get(i);
+			final var to = boundaries.get(i + 1);
+			final var values = new TreeMap<ChannelAddress, JsonElement>();
+			for (var channel : channels) {
+				values.put(channel, energy(this.getBuckets(edgeId, channel, level), from, to));
+			}
+			result.put(from, values);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates the energy of a cumulated Channel within a period, i.e. the last
+	 * value of the period minus the last value before the period. If there is no
+	 * value before the period, the first value of the period is used.
+	 *
+	 * @param buckets the buckets of one {@link Level}
+	 * @param from    the start of the period, inclusive
+	 * @param to      the end of the period, exclusive
+	 * @return the energy; {@link JsonNull} if not available
+	 */
+	private static JsonElement energy(NavigableMap<Long, Bucket> buckets, ZonedDateTime from, ZonedDateTime to) {
+		final var period = merge(buckets, from, to);
+		if (period.getCount() == 0) {
+			return JsonNull.INSTANCE;
+		}
+		final var before = buckets.lowerEntry(from.toEpochSecond());
+		final var start = before != null ? before.getValue().getLast() : period.getFirst();
+		final var energy = period.getLast() - start;
+		if (energy < 0) {
+			return JsonNull.INSTANCE;
+		}
+		return new JsonPrimitive(energy);
+	}
+
+	private static Bucket merge(NavigableMap<Long, Bucket> buckets, ZonedDateTime from, ZonedDateTime to) {
+		final var result = new Bucket();
+		for (var bucket : buckets.subMap(from.toEpochSecond(), true, to.toEpochSecond(), false).values()) {
+			result.add(bucket);
+		}
+		return result;
+	}
+
+	private NavigableMap<Long, Bucket> getBuckets(String edgeId, ChannelAddress channel, Level level) {
+		final var channels = this.data.get(edgeId);
+		if (channels == null) {
+			return new TreeMap<>();
+		}
+		final var levels = channels.get(channel);
+		if (levels == null) {
+			return new TreeMap<>();
+		}
+		return levels.getOrDefault(level, new TreeMap<>());
+	}
+
+	/**
+	 * Splits the time range into periods of the given {@link Resolution}.
+	 *
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param resolution the {@link Resolution}
+	 * @return the boundaries of the periods, including From-Date and To-Date
+	 */
+	protected static List<ZonedDateTime> getBoundaries(ZonedDateTime fromDate, ZonedDateTime toDate,
+			Resolution resolution) {
+		final var result = new ArrayList<ZonedDateTime>();
+		var time = fromDate;
+		for (var i = 1; time.isBefore(toDate); i++) {
+			result.add(time);
+			// Always add to fromDate to avoid drifting, e.g. on the 31st of a month
+			time = fromDate.plus(i * resolution.getValue(), resolution.getUnit());
+		}
+		result.add(toDate);
+		return result;
+	}
+
+}
@@ -1,5 +1,6 @@
 package io.openems.backend.timedata.dummy;
 
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -38,6 +39,7 @@ public class TimedataDummy extends AbstractOpenemsBackendComponent implements Ti
 
 	private final Logger log = LoggerFactory.getLogger(TimedataDummy.class);
 	private final Map<String, EdgeCache> edgeCacheMap = new HashMap<>();
+	private final Rollups rollups = new Rollups(ZoneId.systemDefault());
 
 	private Config config;
 
@@ -84,35 +86,47 @@ public class TimedataDummy extends AbstractOpenemsBackendComponent implements Ti
 			// Update the Data Cache
 			edgeCache.updateAggregatedData(data);
 		}
+		this.rollups.add(edgeId, data);
 	}
 
 	@Override
 	public void write(String edgeId, ResendDataNotification data) {
-		// TODO Auto-generated method stub
-
+		this.rollups.add(edgeId, data);
 	}
 
 	@Override
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		this.logWarn(this.log, "I do not support querying historic data");
-		return new TreeMap<>();
+		final var result = this.rollups.queryHistoricData(edgeId, fromDate, toDate, channels, resolution);
+		if (result == null) {
+			this.logWarn(this.log, "I do not support querying historic data in resolution " + resolution);
+			return new TreeMap<>();
+		}
+		return result;
 	}
 
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
-		this.logWarn(this.log, "I do not support querying historic energy");
-		return new TreeMap<>();
+		final var result = this.rollups.queryHistoricEnergy(edgeId, fromDate, toDate, channels);
+		if (result == null) {
+			this.logWarn(this.log, "I do not support querying historic energy from " + fromDate + " to " + toDate);
+			return new TreeMap<>();
+		}
+		return result;
 	}
 
 	@Override
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		this.logWarn(this.log, "I do not support querying historic energy per period");
-		return new TreeMap<>();
+		final var result = this.rollups.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution);
+		if (result == null) {
+			this.logWarn(this.log, "I do not support querying historic energy per period in resolution " + resolution);
+			return new TreeMap<>();
+		}
+		return result;
 	}
 
 	@Override
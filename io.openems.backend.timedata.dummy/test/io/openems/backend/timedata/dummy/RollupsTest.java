@@ -0,0 +1,126 @@
+package io.openems.backend.timedata.dummy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.timedata.dummy.Rollups.Level;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+public class RollupsTest {
+
+	private static final String EDGE_ID = "edge0";
+	private static final ChannelAddress ENERGY = new ChannelAddress("_sum", "ProductionActiveEnergy");
+	private static final ChannelAddress POWER = new ChannelAddress("_sum", "ProductionActivePower");
+	private static final ZonedDateTime START = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	/**
+	 * Every 5 minutes from January to February: Energy increases by 1, Power
+	 * alternates between 0 and 100.
+	 */
+	private static Rollups createRollups() {
+		final var sut = new Rollups(ZoneOffset.UTC);
+		final var notification = new AggregatedDataNotification();
+		var i = 0;
+		for (var time = START; time.isBefore(START.plusMonths(2)); time = time.plusMinutes(5)) {
+			final var timestamp = time.toInstant().toEpochMilli();
+			notification.add(timestamp, ENERGY.toString(), new JsonPrimitive(i));
+			notification.add(timestamp, POWER.toString(), new JsonPrimitive(i % 2 * 100));
+			i++;
+		}
+		sut.add(EDGE_ID, notification);
+		return sut;
+	}
+
+	@Test
+	public void testQueryHistoricEnergyPerPeriod() {
+		final var sut = createRollups();
+
+		final var result = sut.queryHistoricEnergyPerPeriod(EDGE_ID, START, START.plusYears(1), Set.of(ENERGY),
+				new Resolution(1, ChronoUnit.MONTHS));
+		assertEquals(12, result.size());
+		// January: no value before -> last minus first
+		assertEquals(31 * 24 * 12 - 1, result.get(START).get(ENERGY).getAsInt());
+		// February: last minus last of January
+		assertEquals(29 * 24 * 12, result.get(START.plusMonths(1)).get(ENERGY).getAsInt());
+		assertTrue(result.get(START.plusMonths(2)).get(ENERGY).isJsonNull());
+
+		// Same result from daily and hourly buckets
+		final var berlin = ZoneId.of("Europe/Berlin");
+		final var fromDate = ZonedDateTime.of(2020, 1, 10, 0, 0, 0, 0, berlin);
+		final var daily = sut.queryHistoricEnergyPerPeriod(EDGE_ID, fromDate, fromDate.plusDays(2), Set.of(ENERGY),
+				new Resolution(1, ChronoUnit.DAYS));
+		assertEquals(2, daily.size());
+		assertEquals(24 * 12, daily.get(fromDate).get(ENERGY).getAsInt());
+	}
+
+	@Test
+	public void testQueryHistoricEnergy() {
+		final var sut = createRollups();
+		final var result = sut.queryHistoricEnergy(EDGE_ID, START.plusDays(1), START.plusDays(11), Set.of(ENERGY));
+		assertEquals(10 * 24 * 12, result.get(ENERGY).getAsInt());
+	}
+
+	@Test
+	public void testQueryHistoricData() {
+		final var sut = createRollups();
+		final var result = sut.queryHistoricData(EDGE_ID, START, START.plusDays(1), Set.of(POWER),
+				new Resolution(1, ChronoUnit.HOURS));
+		assertEquals(24, result.size());
+		assertEquals(50, result.get(START).get(POWER).getAsDouble(), 0.001);
+
+		// Resolution is finer than the buckets
+		assertNull(sut.queryHistoricData(EDGE_ID, START, START.plusDays(1), Set.of(POWER),
+				new Resolution(15, ChronoUnit.MINUTES)));
+	}
+
+	@Test
+	public void testRetention() {
+		final var sut = new Rollups(ZoneOffset.UTC);
+		final var channels = Set.of(ENERGY);
+		sut.add(EDGE_ID, ENERGY, START.toInstant().toEpochMilli(), 1);
+		sut.add(EDGE_ID, ENERGY, START.plusMonths(6).toInstant().toEpochMilli(), 2);
+
+		// Hourly buckets of January are dropped; daily and monthly ones are kept
+		assertTrue(sut.queryHistoricData(EDGE_ID, START, START.plusHours(1), channels,
+				new Resolution(1, ChronoUnit.HOURS)).get(START).get(ENERGY).isJsonNull());
+		assertEquals(1, sut.queryHistoricData(EDGE_ID, START, START.plusDays(1), channels,
+				new Resolution(1, ChronoUnit.DAYS)).get(START).get(ENERGY).getAsInt());
+
+		// Values older than the retention of a Level are ignored only on that Level
+		final var february = START.plusMonths(1);
+		sut.add(EDGE_ID, ENERGY, february.toInstant().toEpochMilli(), 3);
+		assertTrue(sut.queryHistoricData(EDGE_ID, february, february.plusHours(1), channels,
+				new Resolution(1, ChronoUnit.HOURS)).get(february).get(ENERGY).isJsonNull());
+		assertEquals(3, sut.queryHistoricData(EDGE_ID, february, february.plusDays(1), channels,
+				new Resolution(1, ChronoUnit.DAYS)).get(february).get(ENERGY).getAsInt());
+	}
+
+	@Test
+	public void testGetLevel() {
+		final var sut = new Rollups(ZoneOffset.UTC);
+		final var berlin = ZoneId.of("Europe/Berlin");
+		final var kolkata = ZoneId.of("Asia/Kolkata");
+		final var month = new Resolution(1, ChronoUnit.MONTHS);
+
+		assertEquals(Level.MONTH, sut.getLevel(Rollups.getBoundaries(START, START.plusYears(1), month)));
+		assertEquals(Level.DAY, sut.getLevel(Rollups.getBoundaries(START.plusDays(3), START.plusYears(1), month)));
+		assertEquals(Level.HOUR, sut.getLevel(Rollups.getBoundaries(START.withZoneSameLocal(berlin),
+				START.withZoneSameLocal(berlin).plusYears(1), month)));
+		assertNull(sut.getLevel(Rollups.getBoundaries(START.withZoneSameLocal(kolkata),
+				START.withZoneSameLocal(kolkata).plusYears(1), month)));
+	}
+
+}
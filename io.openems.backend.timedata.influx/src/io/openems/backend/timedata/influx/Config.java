@@ -46,6 +46,9 @@ import io.openems.shared.influxdb.QueryLanguageConfig;
 	@AttributeDefinition(name = "Number of max scheduled tasks", description = "Max-Size of Queued tasks.")
 	int maxQueueSize() default 5000;
 
+	@AttributeDefinition(name = "Max Spool-Size [MB]", description = "Max-Size of the local write-ahead spool for data that could not be written to InfluxDB; 0 to disable.")
+	int spoolMaxSize() default 0;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata InfluxDB";
 
 }
@@ -0,0 +1,125 @@
+package io.openems.backend.timedata.influx;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonElement;
+
+/**
+ * Remembers the Channels that were written recently per Edge and timestamp.
+ *
+ * <p>
+ * Per Edge the timestamps are held in a sorted, fixed-size array; if it is full
+ * the oldest timestamp is evicted. The written Channels of a timestamp are held
+ * as a {@link BitSet} of per-Edge Channel indexes.
+ */
+public class RecentWrites {
+
+	private static class Window {
+
+		private final Map<String, Integer> channelIndexes = new HashMap<>();
+		private final long[] timestamps;
+		private final BitSet[] channels;
+		private int size = 0;
+
+		private Window(int capacity) {
+			this.timestamps = new long[capacity];
+			this.channels = new BitSet[capacity];
+		}
+
+		private synchronized Map<String, JsonElement> removeWritten(long timestamp, Map<String, JsonElement> values) {
+			var index = Arrays.binarySearch(this.timestamps, 0, this.size, timestamp);
+			if (index < 0) {
+				return values;
+			}
+			var written = this.channels[index];
+			var result = new HashMap<String, JsonElement>();
+			for (var entry : values.entrySet()) {
+				var channelIndex = this.channelIndexes.get(entry.getKey());
+				if (channelIndex == null || !written.get(channelIndex)) {
+					result.put(entry.getKey(), entry.getValue());
+				}
+			}
+			return result;
+		}
+
+		private synchronized void add(long timestamp, Collection<String> channels) {
+			var index = Arrays.binarySearch(this.timestamps, 0, this.size, timestamp);
+			if (index < 0) {
+				index = this.insert(-index - 1, timestamp);
+				if (index < 0) {
+					// older than the whole window
+					return;
+				}
+			}
+			var written = this.channels[index];
+			for (var channel : channels) {
+				written.set(this.channelIndexes.computeIfAbsent(channel, c -> this.channelIndexes.size()));
+			}
+		}
+
+		private int insert(int insert, long timestamp) {
+			if (this.size < this.timestamps.length) {
+				System.arraycopy(this.timestamps, insert, this.timestamps, insert + 1, this.size - insert);
+				System.arraycopy(this.channels, insert, this.channels, insert + 1, this.size - insert);
+				this.size++;
+			} else if (insert == 0) {
+				return -1;
+			} else {
+				// evict the oldest timestamp
+				insert--;
+				System.arraycopy(this.timestamps, 1, this.timestamps, 0, insert);
+				System.arraycopy(this.channels, 1, this.channels, 0, insert);
+			}
+			this.timestamps[insert] = timestamp;
+			this.channels[insert] = new BitSet();
+			return insert;
+		}
+	}
+
+	private final int capacity;
+	private final Map<Integer, Window> windows = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a {@link RecentWrites}.
+	 *
+	 * @param capacity the max number of timestamps per Edge
+	 */
+	public RecentWrites(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Adds written Channels.
+	 *
+	 * @param influxEdgeId the numeric Edge-ID
+	 * @param timestamp    the timestamp in epoch milliseconds
+	 * @param channels     the written Channels
+	 */
+	public void add(int influxEdgeId, long timestamp, Collection<String> channels) {
+		this.windows.computeIfAbsent(influxEdgeId, id -> new Window(this.capacity)).add(timestamp, channels);
+	}
+
+	/**
+	 * Removes the values of Channels that were written recently.
+	 *
+	 * @param influxEdgeId the numeric Edge-ID
+	 * @param timestamp    the timestamp in epoch milliseconds
+	 * @param values       the Channels and values
+	 * @return the values that were not yet written; 'values' itself if nothing
+	 *         is known about the timestamp
+	 */
+	public Map<String, JsonElement> removeWritten(int influxEdgeId, long timestamp,
+			Map<String, JsonElement> values) {
+		var window = this.windows.get(influxEdgeId);
+		if (window == null) {
+			return values;
+		}
+		return window.removeWritten(timestamp, values);
+	}
+
+}
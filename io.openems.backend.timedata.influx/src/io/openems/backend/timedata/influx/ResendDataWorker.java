@@ -0,0 +1,325 @@
+package io.openems.backend.timedata.influx;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.influxdb.client.write.Point;
+import com.influxdb.exceptions.BadRequestException;
+
+import io.openems.common.function.TriFunction;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.worker.AbstractImmediateWorker;
+import io.openems.shared.influxdb.InfluxConnector;
+
+/**
+ * Writes {@link ResendDataNotification}s on a separate, low-priority write
+ * lane.
+ *
+ * <p>
+ * Resent rows of all Edges are merged into large, timestamp-ordered batches.
+ * Channels that were already written recently for the same timestamp - either
+ * live or by a previous resend - are skipped. Batches are only written while the writing of current data is
+ * not backlogged, so a flood of resends after a mass reconnect does not starve
+ * live data.
+ */
+public class ResendDataWorker extends AbstractImmediateWorker {
+
+	private static final int QUEUE_SIZE = 10_000; // [notifications]
+	private static final int MAX_ROWS_PER_BATCH = 10_000;
+	private static final int MAX_POINTS_PER_WRITE = 5_000;
+	private static final int POLL_TIMEOUT = 1; // [s]
+	private static final int BACKLOG_WAIT = 100; // [ms]
+	private static final int MAX_BACKLOG_WAIT = 30; // [s]
+	/** One day of five-minute aggregated data. */
+	private static final int RECENT_TIMESTAMPS_PER_EDGE = 288;
+
+	protected record Resend(int influxEdgeId, TreeBasedTable<Long, String, JsonElement> data, long receivedAt) {
+	}
+
+	protected record Row(int influxEdgeId, long timestamp, Map<String, JsonElement> values) {
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ResendDataWorker.class);
+
+	private final InfluxConnector influxConnector;
+	private final TriFunction<Integer, Long, Map<String, JsonElement>, Point> toPoint;
+	private final Consumer<BadRequestException> onWriteError;
+	private final BlockingQueue<Resend> queue = new LinkedBlockingQueue<>(QUEUE_SIZE);
+	private final RecentWrites recentWrites = new RecentWrites(RECENT_TIMESTAMPS_PER_EDGE);
+
+	private final AtomicLong writtenRows = new AtomicLong();
+	private final AtomicLong deduplicatedRows = new AtomicLong();
+	private final AtomicLong droppedNotifications = new AtomicLong();
+	private long lastWrittenRows = 0;
+	private Instant lastRateAt = Instant.now();
+	private volatile double rate = 0; // [rows/s]
+	private volatile long lastBatchLag = 0; // [ms]
+
+	/**
+	 * Creates a {@link ResendDataWorker}.
+	 *
+	 * @param influxConnector the {@link InfluxConnector}
+	 * @param toPoint         builds the InfluxDB Point of a row, given the numeric
+	 *                        Edge-ID, the timestamp in epoch milliseconds and the
+	 *                        values; returns null if the row should not be
+	 *                        written
+	 * @param onWriteError    A consumer for write-errors
+	 */
+	public ResendDataWorker(InfluxConnector influxConnector,
+			TriFunction<Integer, Long, Map<String, JsonElement>, Point> toPoint,
+			Consumer<BadRequestException> onWriteError) {
+		this.influxConnector = influxConnector;
+		this.toPoint = toPoint;
+		this.onWriteError = onWriteError;
+		this.setPriority(Thread.MIN_PRIORITY);
+	}
+
+	/**
+	 * Queues a {@link ResendDataNotification} for writing.
+	 *
+	 * @param influxEdgeId the numeric Edge-ID
+	 * @param notification the {@link ResendDataNotification}
+	 * @return true if the notification was queued; false if the queue is full
+	 */
+	public boolean offer(int influxEdgeId, ResendDataNotification notification) {
+		if (notification.getData().isEmpty()) {
+			return true;
+		}
+		if (this.queue.offer(new Resend(influxEdgeId, notification.getData(), System.currentTimeMillis()))) {
+			return true;
+		}
+		this.droppedNotifications.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * Marks Channels of a row as written, e.g. by live aggregated data.
+	 *
+	 * @param influxEdgeId the numeric Edge-ID
+	 * @param timestamp    the timestamp in epoch milliseconds
+	 * @param channels     the written Channels
+	 */
+	public void markWritten(int influxEdgeId, long timestamp, Collection<String> channels) {
+		this.recentWrites.add(influxEdgeId, timestamp, channels);
+	}
+
+	@Override
+	protected void forever() throws InterruptedException {
+		this.updateRate();
+
+		var first = this.queue.poll(POLL_TIMEOUT, TimeUnit.SECONDS);
+		if (first == null) {
+			return;
+		}
+		var resends = new ArrayList<Resend>();
+		resends.add(first);
+		var numberOfRows = first.data().rowKeySet().size();
+		while (numberOfRows < MAX_ROWS_PER_BATCH) {
+			var next = this.queue.poll();
+			if (next == null) {
+				break;
+			}
+			resends.add(next);
+			numberOfRows += next.data().rowKeySet().size();
+		}
+
+		var rows = this.merge(resends);
+		this.awaitLiveData();
+		this.write(rows);
+		this.lastBatchLag = System.currentTimeMillis() - first.receivedAt();
+	}
+
+	/**
+	 * Merges {@link Resend}s to rows, ordered by timestamp and Edge-ID.
+	 *
+	 * <p>
+	 * Rows of the same Edge and timestamp are merged; Channels that were already
+	 * written recently for the timestamp are skipped, and so are rows without
+	 * remaining Channels.
+	 *
+	 * @param resends the {@link Resend}s
+	 * @return the rows
+	 */
+	protected List<Row> merge(List<Resend> resends) {
+		var merged = new TreeMap<Long, TreeMap<Integer, Map<String, JsonElement>>>();
+		var deduplicated = 0;
+		for (var resend : resends) {
+			for (var entry : resend.data().rowMap().entrySet()) {
+				final long timestamp = entry.getKey();
+				var remaining = this.recentWrites.removeWritten(resend.influxEdgeId(), timestamp, entry.getValue());
+				if (remaining.isEmpty()) {
+					deduplicated++;
+					continue;
+				}
+				var values = merged.computeIfAbsent(timestamp, t -> new TreeMap<>()) //
+						.get(resend.influxEdgeId());
+				if (values == null) {
+					merged.get(timestamp).put(resend.influxEdgeId(), new HashMap<>(remaining));
+				} else {
+					deduplicated++;
+					values.putAll(remaining);
+				}
+			}
+		}
+		this.deduplicatedRows.addAndGet(deduplicated);
+
+		var result = new ArrayList<Row>();
+		for (var timestampEntry : merged.entrySet()) {
+			for (var edgeEntry : timestampEntry.getValue().entrySet()) {
+				result.add(new Row(edgeEntry.getKey(), timestampEntry.getKey(), edgeEntry.getValue()));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Waits while the writing of current data is backlogged; at most
+	 * {@link #MAX_BACKLOG_WAIT} seconds.
+	 *
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	private void awaitLiveData() throws InterruptedException {
+		var deadline = Instant.now().plusSeconds(MAX_BACKLOG_WAIT);
+		while (this.influxConnector.isWriteBacklogged() && Instant.now().isBefore(deadline)) {
+			Thread.sleep(BACKLOG_WAIT);
+		}
+	}
+
+	private void write(List<Row> rows) {
+		var points = new ArrayList<Point>(MAX_POINTS_PER_WRITE);
+		var written = new ArrayList<Row>(MAX_POINTS_PER_WRITE);
+		for (var row : rows) {
+			var point = this.toPoint.apply(row.influxEdgeId(), row.timestamp(), row.values());
+			if (point == null || !point.hasFields()) {
+				continue;
+			}
+			points.add(point);
+			written.add(row);
+			if (points.size() >= MAX_POINTS_PER_WRITE) {
+				this.write(points, written);
+				points.clear();
+				written.clear();
+			}
+		}
+		if (!points.isEmpty()) {
+			this.write(points, written);
+		}
+	}
+
+	private void write(List<Point> points, List<Row> rows) {
+		try {
+			this.influxConnector.writeBlocking(points);
+
+		} catch (BadRequestException e) {
+			// Points are invalid and will never be accepted
+			this.log.warn("Unable to write resent data. Dropping [" + points.size() + "] points. " + e.getMessage());
+			this.onWriteError.accept(e);
+			return;
+
+		} catch (Throwable t) {
+			// Hand over to the default write lane, which spools if configured
+			this.log.warn("Unable to write resent data. Queuing [" + points.size() + "] points. "
+					+ t.getClass().getSimpleName() + ": " + t.getMessage());
+			points.forEach(this.influxConnector::write);
+		}
+		for (var row : rows) {
+			this.recentWrites.add(row.influxEdgeId(), row.timestamp(), getNonNullChannels(row.values()));
+		}
+		this.writtenRows.addAndGet(rows.size());
+	}
+
+	/**
+	 * Gets the Channels with a value.
+	 *
+	 * @param values the Channels and values
+	 * @return the Channels whose value is not null
+	 */
+	protected static List<String> getNonNullChannels(Map<String, JsonElement> values) {
+		var result = new ArrayList<String>(values.size());
+		for (var entry : values.entrySet()) {
+			if (entry.getValue() != null && !entry.getValue().isJsonNull()) {
+				result.add(entry.getKey());
+			}
+		}
+		return result;
+	}
+
+	private void updateRate() {
+		var now = Instant.now();
+		var seconds = (now.toEpochMilli() - this.lastRateAt.toEpochMilli()) / 1000.;
+		if (seconds < 1) {
+			return;
+		}
+		var written = this.writtenRows.get();
+		this.rate = (written - this.lastWrittenRows) / seconds;
+		this.lastWrittenRows = written;
+		this.lastRateAt = now;
+	}
+
+	/**
+	 * Gets the lag of the oldest queued {@link ResendDataNotification}; or of the
+	 * last written batch if the queue is empty.
+	 *
+	 * @return the lag in milliseconds
+	 */
+	private long getLag() {
+		var head = this.queue.peek();
+		if (head == null) {
+			return this.lastBatchLag;
+		}
+		return System.currentTimeMillis() - head.receivedAt();
+	}
+
+	/**
+	 * Returns a debug log of the current state.
+	 *
+	 * @return the debug log string
+	 */
+	public String debugLog() {
+		var dropped = this.droppedNotifications.get();
+		return new StringBuilder("Resend[") //
+				.append(this.queue.size()) //
+				.append("/") //
+				.append(QUEUE_SIZE) //
+				.append("|Rate:") //
+				.append(Math.round(this.rate)) //
+				.append("/s|Lag:") //
+				.append(this.getLag() / 1000) //
+				.append("s|Dedup:") //
+				.append(this.deduplicatedRows.get()) //
+				.append(dropped > 0 ? "|Dropped:" + dropped : "") //
+				.append("]") //
+				.toString();
+	}
+
+	/**
+	 * Gets the metrics of the resend write lane.
+	 *
+	 * @return a map of metric names to values
+	 */
+	public Map<String, Long> debugMetrics() {
+		return Map.of(//
+				"ResendQueue", (long) this.queue.size(), //
+				"ResendRate", Math.round(this.rate), // [rows/s]
+				"ResendLag", this.getLag(), // [ms]
+				"ResendWrittenRows", this.writtenRows.get(), //
+				"ResendDeduplicatedRows", this.deduplicatedRows.get(), //
+				"ResendDroppedNotifications", this.droppedNotifications.get());
+	}
+
+}
@@ -1,8 +1,13 @@
 package io.openems.backend.timedata.influx;
 
 import java.net.URI;
+import java.nio.file.Paths;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
@@ -34,14 +39,17 @@ import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.metadata.Edge;
 import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.timedata.Timedata;
+import io.openems.common.OpenemsConstants;
 import io.openems.common.event.EventReader;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingTriConsumer;
 import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.oem.OpenemsBackendOem;
+import io.openems.common.timedata.HistoricData;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.StringUtils;
@@ -58,6 +66,8 @@ import io.openems.shared.influxdb.InfluxConnector;
 })
 public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements Timedata, EventHandler, DebugLoggable {
 
+	private static final String SPOOL_PATH = "influxdb-spool";
+
 	private final Logger log = LoggerFactory.getLogger(TimedataInfluxDb.class);
 	private final FieldTypeConflictHandler fieldTypeConflictHandler;
 
@@ -69,6 +79,7 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 
 	private Config config;
 	private InfluxConnector influxConnector = null;
+	private ResendDataWorker resendDataWorker = null;
 	private TimeFilter timeFilter;
 
 	// edgeId, channelIds which are timestamped channels
@@ -95,14 +106,29 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 		this.influxConnector = new InfluxConnector(config.id(), config.queryLanguage(), URI.create(config.url()),
 				config.org(), config.apiKey(), config.bucket(), this.oem.getInfluxdbTag(), config.isReadOnly(),
 				config.poolSize(), config.maxQueueSize(), //
+				(e) -> {
+					this.fieldTypeConflictHandler.handleException(e);
+				}, false /* disable safe write */, //
+				config.spoolMaxSize() > 0 //
+						? Paths.get(OpenemsConstants.getOpenemsDataDir(), SPOOL_PATH, config.id())
+						: null, //
+				config.spoolMaxSize() * 1024L * 1024L);
+
+		this.resendDataWorker = new ResendDataWorker(this.influxConnector, //
+				(influxEdgeId, timestamp, values) -> this.buildPoint(influxEdgeId, timestamp, values.entrySet(),
+						(edgeId, channel) -> true, null), //
 				(e) -> {
 					this.fieldTypeConflictHandler.handleException(e);
 				});
+		this.resendDataWorker.activate("TimedataInfluxDb-Resend-" + config.id());
 	}
 
 	@Deactivate
 	private void deactivate() {
 		this.logInfo(this.log, "Deactivate");
+		if (this.resendDataWorker != null) {
+			this.resendDataWorker.deactivate();
+		}
 		if (this.influxConnector != null) {
 			this.influxConnector.deactivate();
 		}
@@ -140,6 +166,8 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				(influxEdgeId, channel) -> {
 					this.timestampedChannelsForEdge.put(influxEdgeId, channel);
 					return true;
+				}, //
+				(influxEdgeId, timestamp, channels) -> {
 				});
 	}
 
@@ -153,12 +181,28 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 		this.writeData(//
 				edgeId, //
 				notification, //
-				(influxEdgeId, channel) -> !this.isTimestampedChannel(influxEdgeId, channel));
+				(influxEdgeId, channel) -> !this.isTimestampedChannel(influxEdgeId, channel), //
+				this.resendDataWorker::markWritten);
 	}
 
 	@Override
 	public void write(String edgeId, ResendDataNotification data) {
-		// TODO Auto-generated method stub
+		if (this.config.isReadOnly()) {
+			return;
+		}
+
+		final int influxEdgeId;
+		try {
+			influxEdgeId = InfluxConnector.parseNumberFromName(edgeId);
+		} catch (OpenemsException e) {
+			this.logWarn(this.log, "Unable to parse numeric Influx Edge-ID [" + edgeId + "] :" + e.getMessage());
+			return;
+		}
+
+		// Write data on the low-priority resend lane
+		if (!this.resendDataWorker.offer(influxEdgeId, data)) {
+			this.logWarn(this.log, "Resend queue is full. Dropping resent data of [" + edgeId + "]");
+		}
 	}
 
 	private boolean isTimestampedChannel(int edgeId, String channel) {
@@ -178,12 +222,15 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	 * @param notification     the {@link AbstractDataNotification}
 	 * @param shouldWriteValue the function which determines if the value should be
 	 *                         written
+	 * @param onWritten        called with the numeric Edge-ID, the timestamp and
+	 *                         the Channels of every written point
 	 * @throws OpenemsException on error
 	 */
 	private void writeData(//
 			String edgeId, //
 			AbstractDataNotification notification, //
-			BiFunction<Integer, String, Boolean> shouldWriteValue //
+			BiFunction<Integer, String, Boolean> shouldWriteValue, //
+			ThrowingTriConsumer<Integer, Long, Collection<String>, RuntimeException> onWritten //
 	) {
 		final int influxEdgeId;
 		try {
@@ -208,29 +255,54 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 			}
 
 			var timestamp = dataEntry.getKey();
-
-			if (!this.timeFilter.isValid(timestamp)) {
-				// timestamp is not within the TimeFilter
+			var channels = new ArrayList<String>(channelEntries.size());
+			var point = this.buildPoint(influxEdgeId, timestamp, channelEntries, shouldWriteValue, channels);
+			if (point == null) {
 				continue;
 			}
 
-			// this builds an InfluxDB record ("point") for a given timestamp
-			var point = Point //
-					.measurement(this.config.measurement()) //
-					.addTag(this.oem.getInfluxdbTag(), String.valueOf(influxEdgeId)) //
-					.time(timestamp, WritePrecision.MS);
-			for (var channelEntry : channelEntries) {
-				if (!shouldWriteValue.apply(influxEdgeId, channelEntry.getKey())) {
-					continue;
-				}
-				this.addValue(//
-						point, //
-						channelEntry.getKey(), //
-						channelEntry.getValue());
-			}
-
 			this.influxConnector.write(point);
+			onWritten.accept(influxEdgeId, timestamp, channels);
+		}
+	}
+
+	/**
+	 * Builds an InfluxDB record ("point") for a given timestamp.
+	 *
+	 * @param influxEdgeId     the numeric Edge-ID
+	 * @param timestamp        the timestamp in epoch milliseconds
+	 * @param channelEntries   the Channel-Addresses and values
+	 * @param shouldWriteValue the function which determines if the value should be
+	 *                         written
+	 * @param channels         collects the Channels with a value that should be
+	 *                         written; possibly null
+	 * @return the {@link Point}; null if the timestamp is not within the
+	 *         {@link TimeFilter}
+	 */
+	private Point buildPoint(int influxEdgeId, long timestamp, Set<Entry<String, JsonElement>> channelEntries,
+			BiFunction<Integer, String, Boolean> shouldWriteValue, Collection<String> channels) {
+		if (!this.timeFilter.isValid(timestamp)) {
+			// timestamp is not within the TimeFilter
+			return null;
+		}
+
+		var point = Point //
+				.measurement(this.config.measurement()) //
+				.addTag(this.oem.getInfluxdbTag(), String.valueOf(influxEdgeId)) //
+				.time(timestamp, WritePrecision.MS);
+		for (var channelEntry : channelEntries) {
+			if (!shouldWriteValue.apply(influxEdgeId, channelEntry.getKey())) {
+				continue;
+			}
+			if (channels != null && channelEntry.getValue() != null && !channelEntry.getValue().isJsonNull()) {
+				channels.add(channelEntry.getKey());
+			}
+			this.addValue(//
+					point, //
+					channelEntry.getKey(), //
+					channelEntry.getValue());
 		}
+		return point;
 	}
 
 	@Override
@@ -248,6 +320,20 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				this.config.measurement());
 	}
 
+	@Override
+	public HistoricData queryHistoricDataColumnar(String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution) throws OpenemsNamedException {
+		if (!this.timeFilter.isValid(fromDate, toDate)) {
+			return null;
+		}
+
+		// parse the numeric EdgeId
+		Optional<Integer> influxEdgeId = Optional.of(InfluxConnector.parseNumberFromName(edgeId));
+
+		return this.influxConnector.queryHistoricDataColumnar(influxEdgeId, fromDate, toDate, channels, resolution,
+				this.config.measurement());
+	}
+
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
@@ -443,12 +529,17 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public String debugLog() {
-		return "[" + this.getName() + "] " + this.config.id() + " " + this.influxConnector.debugLog();
+		return "[" + this.getName() + "] " + this.config.id() + " " + this.influxConnector.debugLog() + ", "
+				+ this.resendDataWorker.debugLog();
 	}
 
 	@Override
 	public Map<String, JsonElement> debugMetrics() {
-		return null;
+		final var metrics = new HashMap<String, JsonElement>();
+		this.resendDataWorker.debugMetrics().forEach((key, value) -> {
+			metrics.put(this.config.id() + "/" + key, new JsonPrimitive(value));
+		});
+		return metrics;
 	}
 
 }
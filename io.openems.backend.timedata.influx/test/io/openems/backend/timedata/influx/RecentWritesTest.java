@@ -0,0 +1,57 @@
+package io.openems.backend.timedata.influx;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+public class RecentWritesTest {
+
+	private static final Map<String, JsonElement> VALUES = Map.of(//
+			"_sum/EssSoc", new JsonPrimitive(50), //
+			"_sum/ProductionActivePower", new JsonPrimitive(1000));
+
+	private static int remaining(RecentWrites sut, int influxEdgeId, long timestamp) {
+		return sut.removeWritten(influxEdgeId, timestamp, VALUES).size();
+	}
+
+	@Test
+	public void test() {
+		var sut = new RecentWrites(3);
+		assertEquals(2, remaining(sut, 1, 1000));
+
+		sut.add(1, 3000, VALUES.keySet());
+		sut.add(1, 1000, VALUES.keySet());
+		sut.add(1, 2000, List.of("_sum/EssSoc"));
+		assertEquals(0, remaining(sut, 1, 1000));
+		assertEquals(0, remaining(sut, 1, 3000));
+		assertEquals(2, remaining(sut, 2, 1000));
+
+		// Only Channels that were written are removed
+		assertEquals(Map.of("_sum/ProductionActivePower", new JsonPrimitive(1000)),
+				sut.removeWritten(1, 2000, VALUES));
+		sut.add(1, 2000, List.of("_sum/ProductionActivePower"));
+		assertEquals(0, remaining(sut, 1, 2000));
+
+		// Evicts the oldest timestamp
+		sut.add(1, 2500, VALUES.keySet());
+		assertEquals(2, remaining(sut, 1, 1000));
+		assertEquals(0, remaining(sut, 1, 2000));
+		assertEquals(0, remaining(sut, 1, 2500));
+		assertEquals(0, remaining(sut, 1, 3000));
+
+		// Older than the window
+		sut.add(1, 500, VALUES.keySet());
+		assertEquals(2, remaining(sut, 1, 500));
+
+		sut.add(1, 4000, VALUES.keySet());
+		assertEquals(2, remaining(sut, 1, 2000));
+		assertEquals(0, remaining(sut, 1, 4000));
+	}
+
+}
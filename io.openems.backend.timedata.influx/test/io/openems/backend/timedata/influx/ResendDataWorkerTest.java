@@ -0,0 +1,57 @@
+package io.openems.backend.timedata.influx;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.timedata.influx.ResendDataWorker.Resend;
+
+public class ResendDataWorkerTest {
+
+	private static final String SUM_PRODUCTION = "_sum/ProductionActivePower";
+	private static final String SUM_SOC = "_sum/EssSoc";
+
+	private static Resend resend(int influxEdgeId, long... timestamps) {
+		var data = TreeBasedTable.<Long, String, JsonElement>create();
+		for (var timestamp : timestamps) {
+			data.put(timestamp, SUM_PRODUCTION, new JsonPrimitive(influxEdgeId));
+		}
+		return new Resend(influxEdgeId, data, 0);
+	}
+
+	@Test
+	public void testMerge() {
+		var sut = new ResendDataWorker(null, (influxEdgeId, timestamp, values) -> null, e -> {
+		});
+		sut.markWritten(1, 600_000, List.of(SUM_PRODUCTION));
+		sut.markWritten(2, 300_000, List.of(SUM_PRODUCTION));
+
+		var soc = resend(2, 300_000);
+		soc.data().put(300_000L, SUM_SOC, new JsonPrimitive(50));
+		var rows = sut.merge(List.of(//
+				resend(1, 900_000, 300_000, 600_000), //
+				resend(2, 300_000), //
+				soc));
+
+		// Ordered by timestamp and Edge-ID; merged and deduplicated
+		assertEquals(3, rows.size());
+		assertEquals(1, rows.get(0).influxEdgeId());
+		assertEquals(300_000, rows.get(0).timestamp());
+		assertEquals(2, rows.get(1).influxEdgeId());
+		assertEquals(300_000, rows.get(1).timestamp());
+		assertEquals(1, rows.get(2).influxEdgeId());
+		assertEquals(900_000, rows.get(2).timestamp());
+		assertEquals(2L, (long) sut.debugMetrics().get("ResendDeduplicatedRows"));
+
+		// Only Channels that were not yet written are kept
+		assertEquals(Set.of(SUM_SOC), rows.get(1).values().keySet());
+	}
+
+}
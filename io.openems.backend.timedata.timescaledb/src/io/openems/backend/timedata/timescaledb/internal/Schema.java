@@ -6,7 +6,9 @@ import java.sql.Statement;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import com.google.gson.JsonElement;
 import com.zaxxer.hikari.HikariDataSource;
@@ -126,14 +128,50 @@ public class Schema {
 		try (var con = dataSource.getConnection()) {
 			var stmnt = con.createStatement();
 			var cache = Cache.fromDatabase(stmnt);
-			return new Schema(cache);
+			var continuousAggregates = queryContinuousAggregates(stmnt);
+			return new Schema(cache, continuousAggregates);
 		}
 	}
 
+	/**
+	 * Queries the names of the existing continuous aggregates.
+	 * 
+	 * @param stmnt {@link Statement}
+	 * @return the view names
+	 * @throws SQLException on error
+	 */
+	private static Set<String> queryContinuousAggregates(Statement stmnt) throws SQLException {
+		var rs = stmnt.executeQuery("" //
+				+ "SELECT view_name" //
+				+ " FROM timescaledb_information.continuous_aggregates;");
+		var result = new HashSet<String>();
+		while (rs.next()) {
+			result.add(rs.getString("view_name"));
+		}
+		return result;
+	}
+
 	private final Cache cache;
+	private final Set<String> continuousAggregates;
 
-	private Schema(Cache cache) {
+	private Schema(Cache cache, Set<String> continuousAggregates) {
 		this.cache = cache;
+		this.continuousAggregates = continuousAggregates;
+	}
+
+	/**
+	 * Is the continuous aggregate with the given name available?.
+	 * 
+	 * <p>
+	 * Aggregates that were added to the schema later, e.g. the hourly aggregate,
+	 * might not exist in every database.
+	 * 
+	 * @param viewName the name of the view, e.g.
+	 *                 {@link Type#getAggregate1hTableName(Priority)}
+	 * @return true if it exists
+	 */
+	public boolean hasContinuousAggregate(String viewName) {
+		return this.continuousAggregates.contains(viewName);
 	}
 
 	/**
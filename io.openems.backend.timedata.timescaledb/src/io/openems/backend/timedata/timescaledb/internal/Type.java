@@ -15,6 +15,7 @@ import de.bytefish.pgbulkinsert.row.SimpleRowWriter;
 import io.openems.backend.timedata.timescaledb.internal.write.Point;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.function.ThrowingBiFunction;
+import io.openems.common.timedata.HistoricData;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.JsonUtils;
 import io.openems.common.utils.StringUtils;
@@ -36,6 +37,7 @@ public enum Type {
 
 	private final Map<Priority, String> rawTableName = new EnumMap<>(Priority.class);
 	private final Map<Priority, String> aggregate5mTableName = new EnumMap<>(Priority.class);
+	private final Map<Priority, String> aggregate1hTableName = new EnumMap<>(Priority.class);
 
 	private final ThrowingBiFunction<ResultSet, Integer, JsonElement, SQLException> parseValueFromResultSet;
 	private final ThrowingBiFunction<JsonElement, JsonElement, JsonElement, OpenemsNamedException> subtractFunction;
@@ -72,6 +74,17 @@ public enum Type {
 		return this.aggregate5mTableName.computeIfAbsent(priority, t -> this.baseTableName(priority) + "_5m");
 	}
 
+	/**
+	 * Gets the hourly aggregate table name of the current type and the specified
+	 * priority. It aggregates the 5 minutes aggregate table.
+	 * 
+	 * @param priority the priority of the table
+	 * @return the table name
+	 */
+	public String getAggregate1hTableName(Priority priority) {
+		return this.aggregate1hTableName.computeIfAbsent(priority, t -> this.baseTableName(priority) + "_1h");
+	}
+
 	private String baseTableName(Priority priority) {
 		return this.prefix + "_" + priority.getTableSuffix();
 	}
@@ -104,6 +117,36 @@ public enum Type {
 		return this.parseValueFromResultSet.apply(rs, columnIndex);
 	}
 
+	/**
+	 * Puts a value from a {@link ResultSet} to a {@link HistoricData.Builder}
+	 * without creating an intermediate {@link JsonElement} for numbers.
+	 * 
+	 * @param rs          the {@link ResultSet}
+	 * @param columnIndex the first column is 1, the second is 2, ...
+	 * @param builder     the {@link HistoricData.Builder}
+	 * @param epochMilli  the timestamp in milliseconds since epoch
+	 * @param column      the column index in the {@link HistoricData.Builder}
+	 * @throws SQLException on error
+	 */
+	public void putValueFromResultSet(ResultSet rs, int columnIndex, HistoricData.Builder builder, long epochMilli,
+			int column) throws SQLException {
+		switch (this) {
+		case INTEGER -> {
+			var value = rs.getLong(columnIndex);
+			if (!rs.wasNull()) {
+				builder.put(epochMilli, column, value);
+			}
+		}
+		case FLOAT -> {
+			var value = rs.getDouble(columnIndex);
+			if (!rs.wasNull()) {
+				builder.put(epochMilli, column, value);
+			}
+		}
+		case STRING -> builder.put(epochMilli, column, this.parseValueFromResultSet(rs, columnIndex));
+		}
+	}
+
 	/**
 	 * Subtracts two values.
 	 * 
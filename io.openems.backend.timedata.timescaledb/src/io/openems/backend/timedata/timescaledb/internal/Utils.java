@@ -23,6 +23,7 @@ import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.timedata.timescaledb.TimedataTimescaleDb;
 import io.openems.backend.timedata.timescaledb.internal.Schema.ChannelRecord;
+import io.openems.common.timedata.HistoricData;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 
@@ -111,6 +112,32 @@ public class Utils {
 		return result;
 	}
 
+	/**
+	 * Prepares a {@link HistoricData.Builder} with null values for every
+	 * timestamp/ChannelAddress.
+	 * 
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @return a prefilled {@link HistoricData.Builder}
+	 */
+	public static HistoricData.Builder prepareHistoricData(ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution) {
+		var result = HistoricData.create(fromDate.getZone());
+		for (var channel : channels) {
+			result.addChannel(channel);
+		}
+
+		var timestamp = fromDate;
+		while (timestamp.isBefore(toDate)) {
+			result.addTimestamp(timestamp);
+			timestamp = timestamp.plus(resolution.getValue(), resolution.getUnit());
+		}
+
+		return result;
+	}
+
 	/**
 	 * Prefills a Result-Map with JsonNull values for every
 	 * timestamp/ChannelAddress.
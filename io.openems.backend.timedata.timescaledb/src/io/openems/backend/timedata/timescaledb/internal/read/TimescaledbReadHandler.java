@@ -1,8 +1,10 @@
 package io.openems.backend.timedata.timescaledb.internal.read;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -20,11 +22,14 @@ import com.google.gson.JsonElement;
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.timedata.timescaledb.Config;
+import io.openems.backend.timedata.timescaledb.internal.Priority;
 import io.openems.backend.timedata.timescaledb.internal.Schema;
+import io.openems.backend.timedata.timescaledb.internal.Type;
 import io.openems.backend.timedata.timescaledb.internal.Utils;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.timedata.CommonTimedataService;
+import io.openems.common.timedata.HistoricData;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 
@@ -72,15 +77,32 @@ public class TimescaledbReadHandler {
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
+		return this.queryHistoricDataColumnar(edgeId, fromDate, toDate, channels, resolution).toMap();
+	}
+
+	/**
+	 * See
+	 * {@link CommonTimedataService#queryHistoricDataColumnar(String, ZonedDateTime, ZonedDateTime, Set, Resolution)}.
+	 * 
+	 * @param edgeId     the Edge-ID; or null query all
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @return the query result
+	 */
+	public HistoricData queryHistoricDataColumnar(String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution) throws OpenemsNamedException {
 		var channelStrings = toStringSet(channels);
 
 		// handle empty call
 		if (channels.isEmpty()) {
-			return new TreeMap<>();
+			return HistoricData.create(fromDate.getZone()).build();
 		}
 
-		var result = Utils.prepareDataMap(fromDate, toDate, channels, resolution);
-		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
+		var result = Utils.prepareHistoricData(fromDate, toDate, channels, resolution);
+		var schema = this.assertAndGetSchema();
+		var types = Utils.querySchemaCache(schema, edgeId, channelStrings);
 
 		// Open ONE database connection
 		try (var con = this.dataSource.getConnection()) {
@@ -100,7 +122,8 @@ public class TimescaledbReadHandler {
 							+ "        data.time)," //
 							+ "    data.edge_channel_id," //
 							+ "    " + type.defaultAggregateFunction + "(data." + type.defaultAggregateFunction + ") " //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " data " //
+							+ "FROM " + getAggregateTableName(schema, type, priority, fromDate, toDate, resolution)
+							+ " data " //
 							+ "WHERE" //
 							+ "    data.edge_channel_id IN (" //
 							+ ids.keySet().stream() //
@@ -125,13 +148,17 @@ public class TimescaledbReadHandler {
 						pst.setObject(i++, fromDate.toOffsetDateTime());
 						pst.setObject(i++, toDate.toOffsetDateTime());
 
+						// Column index per Channel-ID
+						var columns = new HashMap<Integer, Integer>();
+						for (var id : ids.entrySet()) {
+							columns.put(id.getKey(), result.addColumn(ChannelAddress.fromString(id.getValue())));
+						}
+
 						var rs = pst.executeQuery();
 						while (rs.next()) {
-							var time = rs.getObject(1, OffsetDateTime.class).atZoneSameInstant(fromDate.getZone());
-							var channelAddress = ChannelAddress.fromString(ids.get(rs.getInt(2)));
-							var value = type.parseValueFromResultSet(rs, 3);
-							var resultTime = result.computeIfAbsent(time, t -> new TreeMap<>());
-							resultTime.put(channelAddress, value);
+							var time = rs.getObject(1, OffsetDateTime.class).toInstant().toEpochMilli();
+							var column = columns.get(rs.getInt(2));
+							type.putValueFromResultSet(rs, 3, result, time, column);
 						}
 
 					} catch (SQLException e) {
@@ -145,7 +172,7 @@ public class TimescaledbReadHandler {
 			this.log.error("Unable to query historic data: " + e.getMessage());
 			throw new OpenemsException("Error while querying historic data");
 		}
-		return result;
+		return result.build();
 	}
 
 	/**
@@ -168,7 +195,8 @@ public class TimescaledbReadHandler {
 		}
 
 		var result = Utils.prepareEnergyMap(fromDate, toDate, channels);
-		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
+		var schema = this.assertAndGetSchema();
+		var types = Utils.querySchemaCache(schema, edgeId, channelStrings);
 
 		// Open ONE database connection
 		try (var con = this.dataSource.getConnection()) {
@@ -185,7 +213,7 @@ public class TimescaledbReadHandler {
 					var sql = "SELECT" //
 							+ "	   d.edge_channel_id," //
 							+ "    LAST(\"max\", d.time) - FIRST(\"min\", d.time) " //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " d " //
+							+ "FROM " + getAggregateTableName(schema, type, priority, fromDate, toDate, null) + " d " //
 							+ "WHERE" //
 							+ "    d.edge_channel_id = ANY (?) AND" // [1] Channel-ID
 							+ "    d.time >= ? AND" // [2] FromDate
@@ -245,7 +273,8 @@ public class TimescaledbReadHandler {
 		}
 
 		var result = Utils.prepareDataMap(fromDate, toDate, channels, resolution);
-		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
+		var schema = this.assertAndGetSchema();
+		var types = Utils.querySchemaCache(schema, edgeId, channelStrings);
 
 		// Open ONE database connection
 		try (var con = this.dataSource.getConnection()) {
@@ -266,7 +295,8 @@ public class TimescaledbReadHandler {
 							+ "        timezone => ?)," // [2] timezone
 							+ "    data.edge_channel_id," //
 							+ "    LAST(\"max\", data.time)" //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " data " //
+							+ "FROM " + getAggregateTableName(schema, type, priority, fromDate, toDate, resolution)
+							+ " data " //
 							+ "WHERE" //
 							+ "    data.edge_channel_id = ANY (?) AND" // [3] Channel IDs
 							+ "    data.time >= ? AND" // [4] FromDate
@@ -339,6 +369,44 @@ public class TimescaledbReadHandler {
 		return Collections.emptyMap();
 	}
 
+	/**
+	 * Gets the coarsest aggregate table whose buckets fit into the requested
+	 * periods.
+	 * 
+	 * <p>
+	 * The hourly aggregate is used if it exists, the {@link Resolution} is at
+	 * least one hour and the periods start at full hours; otherwise the 5 minutes
+	 * aggregate.
+	 * 
+	 * @param schema     the {@link Schema}
+	 * @param type       the {@link Type}
+	 * @param priority   the {@link Priority}
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param resolution the {@link Resolution}; null for one period from
+	 *                   From-Date to To-Date
+	 * @return the table name
+	 */
+	protected static String getAggregateTableName(Schema schema, Type type, Priority priority,
+			ZonedDateTime fromDate, ZonedDateTime toDate, Resolution resolution) {
+		final var hourly = type.getAggregate1hTableName(priority);
+		if (!schema.hasContinuousAggregate(hourly)) {
+			return type.getAggregate5mTableName(priority);
+		}
+		if (resolution != null && resolution.getUnit().getDuration().compareTo(Duration.ofHours(1)) < 0) {
+			return type.getAggregate5mTableName(priority);
+		}
+		if (!isFullHour(fromDate) || !isFullHour(toDate)) {
+			return type.getAggregate5mTableName(priority);
+		}
+		return hourly;
+	}
+
+	private static boolean isFullHour(ZonedDateTime time) {
+		return time.getOffset().getTotalSeconds() % 3600 == 0 //
+				&& time.truncatedTo(ChronoUnit.HOURS).isEqual(time);
+	}
+
 	/**
 	 * Gets the Schema, never null. Throws an {@link OpenemsException} if the Schema
 	 * has not been loaded yet.
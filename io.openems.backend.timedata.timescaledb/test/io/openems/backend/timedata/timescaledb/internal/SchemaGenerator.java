@@ -98,7 +98,10 @@ public class SchemaGenerator {
 						// .append(this.alterCompression(type, priority)) //
 						// .append(this.addCompression(type, priority)) //
 						.append(this.createAggregateTable(type, priority)) //
-						.append(this.addContinuousAggregate(type, priority)) //
+						.append(this.addContinuousAggregate(type.getAggregate5mTableName(priority),
+								priority == Priority.HIGH ? "10 minutes" : "60 minutes")) //
+						.append(this.createAggregate1hTable(type, priority)) //
+						.append(this.addContinuousAggregate(type.getAggregate1hTableName(priority), "2 hours")) //
 				;
 			}
 		}
@@ -156,19 +159,47 @@ public class SchemaGenerator {
 		// TODO set chunk time interval for materialized view to 1 day
 	}
 
-	private String addContinuousAggregate(Type type, Priority priority) {
-		return "SELECT add_continuous_aggregate_policy('" + type.getAggregate5mTableName(priority) + "',\n" //
+	/**
+	 * Creates the hourly aggregate on top of the 5 minutes aggregate (requires
+	 * TimescaleDB 2.9 or later). Daily, monthly and yearly energy is queried from
+	 * this table.
+	 * 
+	 * @param type     the {@link Type}
+	 * @param priority the {@link Priority}
+	 * @return the SQL
+	 */
+	private String createAggregate1hTable(Type type, Priority priority) {
+		return "CREATE MATERIALIZED VIEW " + type.getAggregate1hTableName(priority) //
+				+ "(time, edge_channel_id, " //
+				+ Stream.of(type.aggregateFunctions) //
+						.map(s -> "\"" + s + "\"") //
+						.collect(Collectors.joining(", "))
+				+ ")\n" //
+				// Real-time aggregation: the not yet materialized hours are calculated on query
+				+ "  WITH (timescaledb.continuous, timescaledb.materialized_only = false) AS\n" //
+				+ "  SELECT time_bucket ('1 hour', time) AS time,\n" //
+				+ "    edge_channel_id,\n" //
+				+ "    " + Stream.of(type.aggregateFunctions) //
+						.map(s -> s + "(\"" + s + "\")") //
+						.collect(Collectors.joining(", "))
+				+ "\n" //
+				+ "  FROM " + type.getAggregate5mTableName(priority) + "\n" //
+				+ "  GROUP BY (1, 2)\n" + "WITH NO DATA;\n\n";
+	}
+
+	private String addContinuousAggregate(String viewName, String interval) {
+		return "SELECT add_continuous_aggregate_policy('" + viewName + "',\n" //
 				+ "  start_offset => NULL,\n" //
 				// + " start_offset => interval '30 days',\n" // TODO switch to 30 days after
-				+ "  end_offset => interval '" + (priority == Priority.HIGH ? "10" : "60") + " minutes',\n" //
-				+ "  schedule_interval => interval '" + (priority == Priority.HIGH ? "10" : "60") + " minutes'\n" //
+				+ "  end_offset => interval '" + interval + "',\n" //
+				+ "  schedule_interval => interval '" + interval + "'\n" //
 				+ ");\n" //
 
 				+ "SELECT set_chunk_time_interval(\n" //
 				+ "  (\n" //
 				+ "    SELECT format('%I.%I', materialization_hypertable_schema, materialization_hypertable_name) AS materialization_hypertable\n"
 				+ "    FROM timescaledb_information.continuous_aggregates\n" //
-				+ "    WHERE view_name LIKE '" + type.getAggregate5mTableName(priority) + "'\n" //
+				+ "    WHERE view_name LIKE '" + viewName + "'\n" //
 				+ "  ), INTERVAL '1 day'\n" //
 				+ ");\n" //
 
@@ -179,7 +210,7 @@ public class SchemaGenerator {
 				+ "    INNER JOIN timescaledb_information.continuous_aggregates ca\n" //
 				+ "    ON j.hypertable_schema = ca.materialization_hypertable_schema\n" //
 				+ "      AND j.hypertable_name = ca.materialization_hypertable_name\n" //
-				+ "    WHERE ca.view_name like '" + type.getAggregate5mTableName(priority) + "'\n" //
+				+ "    WHERE ca.view_name like '" + viewName + "'\n" //
 				+ "  ), next_start => now()\n" //
 				+ ");\n\n";
 	}
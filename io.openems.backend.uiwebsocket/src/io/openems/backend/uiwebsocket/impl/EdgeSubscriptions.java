@@ -0,0 +1,90 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of Edge-IDs to the UI sessions that subscribed them via
+ * SubscribeEdgesRequest.
+ *
+ * <p>
+ * Lookups are lock-free, so a data notification of an Edge touches only the
+ * sessions that are actually interested in it. Updates are synchronized.
+ */
+public class EdgeSubscriptions {
+
+	private final Map<String, Set<WsData>> sessionsByEdgeId = new ConcurrentHashMap<>();
+	private final Map<WsData, Set<String>> edgeIdsBySession = new HashMap<>();
+
+	/**
+	 * Replaces the subscribed Edge-IDs of a UI session.
+	 *
+	 * @param wsData  the {@link WsData} of the UI session
+	 * @param edgeIds the subscribed Edge-IDs
+	 */
+	public synchronized void subscribe(WsData wsData, Set<String> edgeIds) {
+		var previous = this.edgeIdsBySession.put(wsData, Set.copyOf(edgeIds));
+		if (previous != null) {
+			for (var edgeId : previous) {
+				if (!edgeIds.contains(edgeId)) {
+					this.removeSession(edgeId, wsData);
+				}
+			}
+		}
+		for (var edgeId : edgeIds) {
+			this.sessionsByEdgeId.computeIfAbsent(edgeId, e -> ConcurrentHashMap.newKeySet()).add(wsData);
+		}
+	}
+
+	/**
+	 * Removes all subscriptions of a UI session, e.g. on close.
+	 *
+	 * @param wsData the {@link WsData} of the UI session
+	 */
+	public synchronized void unsubscribe(WsData wsData) {
+		var previous = this.edgeIdsBySession.remove(wsData);
+		if (previous == null) {
+			return;
+		}
+		for (var edgeId : previous) {
+			this.removeSession(edgeId, wsData);
+		}
+	}
+
+	/**
+	 * Gets the UI sessions that subscribed the given Edge-ID.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link WsData}s; empty if there are none
+	 */
+	public Set<WsData> getSessions(String edgeId) {
+		var result = this.sessionsByEdgeId.get(edgeId);
+		if (result == null) {
+			return Collections.emptySet();
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of Edge-IDs with at least one subscribed UI session.
+	 *
+	 * @return the number of Edge-IDs
+	 */
+	public int getNumberOfSubscribedEdges() {
+		return this.sessionsByEdgeId.size();
+	}
+
+	private void removeSession(String edgeId, WsData wsData) {
+		var sessions = this.sessionsByEdgeId.get(edgeId);
+		if (sessions == null) {
+			return;
+		}
+		sessions.remove(wsData);
+		if (sessions.isEmpty()) {
+			this.sessionsByEdgeId.remove(edgeId);
+		}
+	}
+}
@@ -8,6 +8,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.java_websocket.WebSocket;
 
@@ -135,7 +136,7 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 	private CompletableFuture<JsonrpcResponseSuccess> handleAuthenticateWithTokenRequest(WsData wsData,
 			AuthenticateWithTokenRequest request) throws OpenemsNamedException {
 		return this.handleAuthentication(wsData, request.getId(),
-				this.parent.metadata.authenticate(request.getToken()));
+				this.parent.metadata.authenticateAsync(request.getToken()));
 	}
 
 	/**
@@ -150,9 +151,10 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 			AuthenticateWithPasswordRequest request) throws OpenemsNamedException {
 		if (request.usernameOpt.isPresent()) {
 			return this.handleAuthentication(wsData, request.getId(),
-					this.parent.metadata.authenticate(request.usernameOpt.get(), request.password));
+					this.parent.metadata.authenticateAsync(request.usernameOpt.get(), request.password));
 		}
-		return this.handleAuthentication(wsData, request.getId(), this.parent.metadata.authenticate(request.password));
+		return this.handleAuthentication(wsData, request.getId(),
+				this.parent.metadata.authenticateAsync(request.password));
 	}
 
 	/**
@@ -161,16 +163,17 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 	 *
 	 * @param wsData    the WebSocket attachment
 	 * @param requestId the ID of the original {@link JsonrpcRequest}
-	 * @param user      the authenticated {@link User}
+	 * @param user      the future of the authenticated {@link User}
 	 * @return the JSON-RPC Success Response Future
-	 * @throws OpenemsNamedException on error
 	 */
-	private CompletableFuture<JsonrpcResponseSuccess> handleAuthentication(WsData wsData, UUID requestId, User user)
-			throws OpenemsNamedException {
-		wsData.setUserId(user.getId());
-		wsData.setToken(user.getToken());
-		return CompletableFuture.completedFuture(new AuthenticateResponse(requestId, user.getToken(), user,
-				User.generateEdgeMetadatas(user, this.parent.metadata), user.getLanguage()));
+	private CompletableFuture<JsonrpcResponseSuccess> handleAuthentication(WsData wsData, UUID requestId,
+			CompletableFuture<User> user) {
+		return user.thenApply(u -> {
+			wsData.setUserId(u.getId());
+			wsData.setToken(u.getToken());
+			return new AuthenticateResponse(requestId, u.getToken(), u,
+					User.generateEdgeMetadatas(u, this.parent.metadata), u.getLanguage());
+		});
 	}
 
 	/**
@@ -596,8 +599,8 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 			final User user, //
 			final GetEdgesRequest request //
 	) throws OpenemsNamedException {
-		final var edgeMetadata = this.parent.metadata.getPageDevice(user, request.getPaginationOptions());
-		return CompletableFuture.completedFuture(new GetEdgesResponse(request.getId(), edgeMetadata));
+		return this.parent.metadata.getPageDeviceAsync(user, request.getPaginationOptions()) //
+				.thenApply(edgeMetadata -> new GetEdgesResponse(request.getId(), edgeMetadata));
 	}
 
 	/**
@@ -612,13 +615,14 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 			final User user, //
 			final GetEdgeRequest request //
 	) throws OpenemsNamedException {
-		final var edgeMetadata = this.parent.metadata.getEdgeMetadataForUser(user, request.edgeId);
-		if (edgeMetadata == null) {
-			throw new OpenemsException("Unable to find edge with id [" + request.edgeId + "]");
-		}
-
-		return CompletableFuture //
-				.completedFuture(new GetEdgeResponse(request.getId(), edgeMetadata));
+		return this.parent.metadata.getEdgeMetadataForUserAsync(user, request.edgeId) //
+				.thenApply(edgeMetadata -> {
+					if (edgeMetadata == null) {
+						throw new CompletionException(
+								new OpenemsException("Unable to find edge with id [" + request.edgeId + "]"));
+					}
+					return new GetEdgeResponse(request.getId(), edgeMetadata);
+				});
 	}
 
 	/**
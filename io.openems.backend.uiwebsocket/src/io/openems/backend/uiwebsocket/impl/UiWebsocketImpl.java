@@ -2,9 +2,10 @@ package io.openems.backend.uiwebsocket.impl;
 
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -53,6 +54,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 
 	private static final String COMPONENT_ID = "uiwebsocket0";
 
+	protected final EdgeSubscriptions edgeSubscriptions = new EdgeSubscriptions();
+
 	protected WebsocketServer server = null;
 
 	@Reference
@@ -141,10 +144,9 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var wsDatas = this.getWsDatasForEdgeId(edgeId);
 		OpenemsNamedException exception = null;
-		for (WsData wsData : wsDatas) {
-			if (!wsData.isEdgeSubscribed(edgeId)) {
+		for (var wsData : this.edgeSubscriptions.getSessions(edgeId)) {
+			if (!this.hasAccess(wsData, edgeId)) {
 				continue;
 			}
 			try {
@@ -180,37 +182,24 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	}
 
 	/**
-	 * Gets the WebSocket connection attachments of all connections accessing an
-	 * Edge-ID.
+	 * Does the User of the WebSocket connection have access to the Edge-ID?.
 	 *
+	 * @param wsData the WebSocket attachment
 	 * @param edgeId the Edge-ID
-	 * @return the WsDatas; empty list if there are none
+	 * @return true if the User has a Role for this Edge-ID
 	 */
-	private List<WsData> getWsDatasForEdgeId(String edgeId) {
-		var result = new ArrayList<WsData>();
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData == null) {
-				continue;
-			}
-			// get attachment User-ID
-			var userIdOpt = wsData.getUserId();
-			if (userIdOpt.isPresent()) {
-				var userId = userIdOpt.get();
-				// get User for User-ID
-				var userOpt = this.metadata.getUser(userId);
-				if (userOpt.isPresent()) {
-					var user = userOpt.get();
-					var edgeRoleOpt = user.getRole(edgeId);
-					if (edgeRoleOpt.isPresent()) {
-						// User has access to this Edge-ID
-						result.add(wsData);
-					}
-				}
-			}
+	private boolean hasAccess(WsData wsData, String edgeId) {
+		// get attachment User-ID
+		var userIdOpt = wsData.getUserId();
+		if (userIdOpt.isEmpty()) {
+			return false;
 		}
-		return result;
+		// get User for User-ID
+		var userOpt = this.metadata.getUser(userIdOpt.get());
+		if (userOpt.isEmpty()) {
+			return false;
+		}
+		return userOpt.get().getRole(edgeId).isPresent();
 	}
 
 	@Override
@@ -224,15 +213,9 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 
 	@Override
 	public void sendSubscribedChannels(String edgeId, EdgeCache edgeCache) {
-		if (this.server == null) {
-			return;
-		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData != null) {
-				wsData.sendSubscribedChannels(edgeId, edgeCache);
-			}
+		final var messages = new HashMap<Set<String>, ByteBuffer>();
+		for (var wsData : this.edgeSubscriptions.getSessions(edgeId)) {
+			wsData.sendSubscribedChannels(edgeId, edgeCache, messages);
 		}
 	}
 
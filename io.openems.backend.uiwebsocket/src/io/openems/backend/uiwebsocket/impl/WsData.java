@@ -1,5 +1,6 @@
 package io.openems.backend.uiwebsocket.impl;
 
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -47,6 +48,16 @@ public class WsData extends io.openems.common.websocket.WsData {
 			}
 		}
 
+		/**
+		 * Gets the subscribed Channels of an Edge.
+		 *
+		 * @param edgeId the Edge-ID
+		 * @return the Channels; null if there are none
+		 */
+		public synchronized SortedSet<String> getChannels(String edgeId) {
+			return this.subscribedChannels.get(edgeId);
+		}
+
 		/**
 		 * Gets the values for subscribed Channels.
 		 * 
@@ -91,6 +102,12 @@ public class WsData extends io.openems.common.websocket.WsData {
 		this.parent = parent;
 	}
 
+	@Override
+	public void dispose() {
+		super.dispose();
+		this.parent.parent.edgeSubscriptions.unsubscribe(this);
+	}
+
 	/**
 	 * Logout and invalidate Session.
 	 */
@@ -198,26 +215,38 @@ public class WsData extends io.openems.common.websocket.WsData {
 	public void handleSubscribeEdgesRequest(Set<String> edgeIds) {
 		// TODO maybe only add and remove on explicit request
 		this.subscribedEdges = edgeIds;
+		this.parent.parent.edgeSubscriptions.subscribe(this, edgeIds);
 	}
 
 	/**
 	 * Sends the subscribed Channels to the UI session.
 	 * 
+	 * <p>
+	 * UI sessions that subscribed the same Channels of the Edge get the same
+	 * message; it is serialized only once per push and shared via 'messages'.
+	 * 
 	 * @param edgeId    the Edge-ID
 	 * @param edgeCache the {@link EdgeCache} for the Edge-ID
+	 * @param messages  the serialized messages of this push per subscribed
+	 *                  Channels
 	 */
-	public void sendSubscribedChannels(String edgeId, EdgeCache edgeCache) {
+	public void sendSubscribedChannels(String edgeId, EdgeCache edgeCache, Map<Set<String>, ByteBuffer> messages) {
 		if (!this.isEdgeSubscribed(edgeId)) {
 			return;
 		}
-		var values = this.subscribedChannels.getChannelValues(edgeId, edgeCache);
-		if (values.isEmpty()) {
+		var channels = this.subscribedChannels.getChannels(edgeId);
+		if (channels == null || channels.isEmpty()) {
 			return;
 		}
+		var message = messages.get(channels);
+		if (message == null) {
+			var values = this.subscribedChannels.getChannelValues(edgeId, edgeCache);
+			message = new EdgeRpcNotification(edgeId, //
+					new CurrentDataNotification(values)).toUtf8();
+			messages.put(channels, message);
+		}
 		try {
-			this.send(//
-					new EdgeRpcNotification(edgeId, //
-							new CurrentDataNotification(values)));
+			this.send(message);
 
 		} catch (OpenemsException e) {
 			// Log & stop subscribes
@@ -0,0 +1,171 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.java_websocket.WebSocket;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.common.edgewebsocket.EdgeCache;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcRequest;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+import io.openems.common.websocket.DummyWebsocketServer;
+
+/**
+ * This little application runs a load test for the UI fan-out: many Edges push
+ * data, but only the subscribed UI sessions are served.
+ *
+ * <p>
+ * Uses real websocket connections and takes a few seconds, so it is not part
+ * of the test suite. The correctness of the fan-out is covered by
+ * {@link UiWebsocketFanOutTest}.
+ */
+public class UiWebsocketFanOutLoadApp {
+
+	private static final String CHANNEL = "_sum/GridActivePower";
+
+	private static final int NUMBER_OF_EDGES = 5_000;
+	private static final int NUMBER_OF_SESSIONS = 2_000;
+	private static final int NUMBER_OF_CONNECTIONS = 10;
+
+	private static class CountingClient extends WebSocketClient {
+
+		private final AtomicInteger messages;
+
+		public CountingClient(URI serverUri, AtomicInteger messages) {
+			super(serverUri);
+			this.messages = messages;
+		}
+
+		@Override
+		public void onOpen(ServerHandshake handshakedata) {
+		}
+
+		@Override
+		public void onMessage(String message) {
+			this.messages.incrementAndGet();
+		}
+
+		@Override
+		public void onClose(int code, String reason, boolean remote) {
+		}
+
+		@Override
+		public void onError(Exception ex) {
+		}
+	}
+
+	/**
+	 * Run the Application.
+	 *
+	 * @param args the args
+	 * @throws Exception on error
+	 */
+	public static void main(String[] args) throws Exception {
+		var messages = new AtomicInteger();
+		try (final var dummyServer = DummyWebsocketServer.create() //
+				.build()) {
+			dummyServer.start();
+
+			// block until Port is not anymore zero
+			int port;
+			do {
+				Thread.sleep(100);
+				port = dummyServer.getPort();
+			} while (port == 0);
+
+			// Real websocket connections; shared by all simulated UI sessions
+			var clients = new ArrayList<CountingClient>();
+			for (var i = 0; i < NUMBER_OF_CONNECTIONS; i++) {
+				var client = new CountingClient(new URI("ws://localhost:" + port), messages);
+				if (!client.connectBlocking()) {
+					throw new IllegalStateException("Unable to connect to Dummy Websocket Server");
+				}
+				clients.add(client);
+			}
+			while (dummyServer.getConnections().size() < NUMBER_OF_CONNECTIONS) {
+				Thread.sleep(10);
+			}
+			var connections = dummyServer.getConnections().toArray(WebSocket[]::new);
+
+			// Simulated UI sessions; each subscribes one Edge
+			var sut = new UiWebsocketImpl();
+			var server = new WebsocketServer(sut, "Ui.Websocket", 0, 1, DebugMode.OFF);
+			var sessions = new ArrayList<WsData>();
+			for (var i = 0; i < NUMBER_OF_SESSIONS; i++) {
+				var edgeId = "edge" + i % NUMBER_OF_EDGES;
+				var wsData = new WsData(server);
+				wsData.setWebsocket(connections[i % NUMBER_OF_CONNECTIONS]);
+				wsData.handleSubscribeEdgesRequest(Set.of(edgeId));
+				wsData.handleSubscribeChannelsRequest(edgeId, subscribeChannels());
+				sessions.add(wsData);
+			}
+
+			// Every Edge pushes data
+			var edgeCaches = new ArrayList<EdgeCache>();
+			for (var i = 0; i < NUMBER_OF_EDGES; i++) {
+				var edgeCache = new EdgeCache();
+				edgeCache.updateCurrentData(buildData(i));
+				edgeCaches.add(edgeCache);
+			}
+			var start = System.nanoTime();
+			pushAll(sut, edgeCaches);
+			awaitMessages(messages, NUMBER_OF_SESSIONS, start);
+
+			// Close half of the sessions
+			for (var i = 0; i < NUMBER_OF_SESSIONS; i += 2) {
+				sessions.get(i).dispose();
+			}
+			start = System.nanoTime();
+			pushAll(sut, edgeCaches);
+			awaitMessages(messages, NUMBER_OF_SESSIONS + NUMBER_OF_SESSIONS / 2, start);
+
+			for (var client : clients) {
+				client.closeBlocking();
+			}
+			dummyServer.stop();
+		}
+	}
+
+	private static void pushAll(UiWebsocketImpl sut, ArrayList<EdgeCache> edgeCaches) {
+		for (var i = 0; i < edgeCaches.size(); i++) {
+			sut.sendSubscribedChannels("edge" + i, edgeCaches.get(i));
+		}
+	}
+
+	private static void awaitMessages(AtomicInteger messages, int expected, long start)
+			throws InterruptedException {
+		for (var i = 0; i < 100 && messages.get() < expected; i++) {
+			Thread.sleep(100);
+		}
+		System.out.println("Received [" + messages.get() + "/" + expected + "] messages after ["
+				+ (System.nanoTime() - start) / 1_000_000 + "ms]");
+	}
+
+	private static SubscribeChannelsRequest subscribeChannels() throws OpenemsNamedException {
+		return SubscribeChannelsRequest.from(new GenericJsonrpcRequest(SubscribeChannelsRequest.METHOD, //
+				JsonUtils.buildJsonObject() //
+						.addProperty("count", 0) //
+						.add("channels", JsonUtils.buildJsonArray() //
+								.add(CHANNEL) //
+								.build()) //
+						.build()));
+	}
+
+	private static TimestampedDataNotification buildData(int value) {
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		table.put(0L, CHANNEL, new JsonPrimitive(value));
+		return new TimestampedDataNotification(table);
+	}
+}
@@ -0,0 +1,183 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.java_websocket.WebSocket;
+import org.java_websocket.framing.Framedata;
+import org.junit.Test;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.common.edgewebsocket.EdgeCache;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcRequest;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
+
+public class UiWebsocketFanOutTest {
+
+	private static final String CHANNEL0 = "_sum/GridActivePower";
+	private static final String CHANNEL1 = "_sum/EssSoc";
+
+	/**
+	 * Creates a {@link WebSocket} that records the payloads of sent frames.
+	 *
+	 * @param payloads the recorded payloads
+	 * @return the {@link WebSocket}
+	 */
+	private static WebSocket recordingWebsocket(List<ByteBuffer> payloads) {
+		return (WebSocket) Proxy.newProxyInstance(WebSocket.class.getClassLoader(), new Class<?>[] { WebSocket.class },
+				(proxy, method, args) -> {
+					if (method.getName().equals("sendFrame") && args[0] instanceof Framedata frame) {
+						payloads.add(frame.getPayloadData());
+					}
+					return null;
+				});
+	}
+
+	private static WsData createSession(WebsocketServer server, List<ByteBuffer> payloads, String edgeId,
+			String... channels) throws OpenemsNamedException {
+		var wsData = new WsData(server);
+		wsData.setWebsocket(recordingWebsocket(payloads));
+		wsData.handleSubscribeEdgesRequest(Set.of(edgeId));
+		wsData.handleSubscribeChannelsRequest(edgeId, subscribeChannels(channels));
+		return wsData;
+	}
+
+	@Test
+	public void testEdgeSubscriptions() {
+		var sut = new UiWebsocketImpl();
+		var server = new WebsocketServer(sut, "Ui.Websocket", 0, 1, DebugMode.OFF);
+		var wsData0 = new WsData(server);
+		var wsData1 = new WsData(server);
+
+		wsData0.handleSubscribeEdgesRequest(Set.of("edge0", "edge1"));
+		wsData1.handleSubscribeEdgesRequest(Set.of("edge1"));
+		assertEquals(Set.of(wsData0), sut.edgeSubscriptions.getSessions("edge0"));
+		assertEquals(Set.of(wsData0, wsData1), sut.edgeSubscriptions.getSessions("edge1"));
+
+		// Replace subscription
+		wsData0.handleSubscribeEdgesRequest(Set.of("edge2"));
+		assertTrue(sut.edgeSubscriptions.getSessions("edge0").isEmpty());
+		assertEquals(Set.of(wsData1), sut.edgeSubscriptions.getSessions("edge1"));
+		assertEquals(Set.of(wsData0), sut.edgeSubscriptions.getSessions("edge2"));
+
+		// Close
+		wsData0.dispose();
+		wsData1.dispose();
+		assertEquals(0, sut.edgeSubscriptions.getNumberOfSubscribedEdges());
+	}
+
+	@Test
+	public void testSendSubscribedChannels() throws OpenemsNamedException {
+		var sut = new UiWebsocketImpl();
+		var server = new WebsocketServer(sut, "Ui.Websocket", 0, 1, DebugMode.OFF);
+		var payloads0 = new ArrayList<ByteBuffer>();
+		var payloads1 = new ArrayList<ByteBuffer>();
+		var payloads2 = new ArrayList<ByteBuffer>();
+		var payloads3 = new ArrayList<ByteBuffer>();
+		createSession(server, payloads0, "edge0", CHANNEL0);
+		var wsData1 = createSession(server, payloads1, "edge0", CHANNEL0);
+		createSession(server, payloads2, "edge0", CHANNEL0, CHANNEL1);
+		createSession(server, payloads3, "edge1", CHANNEL0);
+
+		var edgeCache = new EdgeCache();
+		edgeCache.updateCurrentData(buildData(123));
+		sut.sendSubscribedChannels("edge0", edgeCache);
+
+		assertEquals(1, payloads0.size());
+		assertEquals(1, payloads1.size());
+		assertEquals(1, payloads2.size());
+		assertEquals(0, payloads3.size());
+
+		// Same Channels: serialized once
+		assertSame(payloads0.get(0).array(), payloads1.get(0).array());
+		assertNotSame(payloads0.get(0).array(), payloads2.get(0).array());
+		assertEquals(123, getCurrentData(payloads0.get(0)).get(CHANNEL0).getAsInt());
+		assertEquals(123, getCurrentData(payloads1.get(0)).get(CHANNEL0).getAsInt());
+		assertTrue(getCurrentData(payloads2.get(0)).get(CHANNEL1).isJsonNull());
+
+		// Closed sessions are not served anymore
+		wsData1.dispose();
+		sut.sendSubscribedChannels("edge0", edgeCache);
+		assertEquals(2, payloads0.size());
+		assertEquals(1, payloads1.size());
+		assertEquals(2, payloads2.size());
+		assertEquals(0, payloads3.size());
+	}
+
+	@Test
+	public void testEachSessionGetsOneMessage() throws OpenemsNamedException {
+		var sut = new UiWebsocketImpl();
+		var server = new WebsocketServer(sut, "Ui.Websocket", 0, 1, DebugMode.OFF);
+		var payloads = new ArrayList<List<ByteBuffer>>();
+		var sessions = new ArrayList<WsData>();
+		for (var i = 0; i < 100; i++) {
+			var p = new ArrayList<ByteBuffer>();
+			payloads.add(p);
+			sessions.add(createSession(server, p, "edge" + i % 10, CHANNEL0));
+		}
+
+		var edgeCache = new EdgeCache();
+		edgeCache.updateCurrentData(buildData(123));
+		for (var i = 0; i < 10; i++) {
+			sut.sendSubscribedChannels("edge" + i, edgeCache);
+		}
+		for (var p : payloads) {
+			assertEquals(1, p.size());
+		}
+
+		// Close half of the sessions
+		for (var i = 0; i < sessions.size(); i += 2) {
+			sessions.get(i).dispose();
+		}
+		for (var i = 0; i < 10; i++) {
+			sut.sendSubscribedChannels("edge" + i, edgeCache);
+		}
+		for (var i = 0; i < payloads.size(); i++) {
+			assertEquals(i % 2 == 0 ? 1 : 2, payloads.get(i).size());
+		}
+	}
+
+	private static JsonObject getCurrentData(ByteBuffer payload) {
+		var message = JsonParser.parseString(StandardCharsets.UTF_8.decode(payload.duplicate()).toString())
+				.getAsJsonObject();
+		return message.getAsJsonObject("params") //
+				.getAsJsonObject("payload") //
+				.getAsJsonObject("params");
+	}
+
+	private static SubscribeChannelsRequest subscribeChannels(String... channels) throws OpenemsNamedException {
+		var array = JsonUtils.buildJsonArray();
+		for (var channel : channels) {
+			array.add(channel);
+		}
+		return SubscribeChannelsRequest.from(new GenericJsonrpcRequest(SubscribeChannelsRequest.METHOD, //
+				JsonUtils.buildJsonObject() //
+						.addProperty("count", 0) //
+						.add("channels", array.build()) //
+						.build()));
+	}
+
+	private static TimestampedDataNotification buildData(int value) {
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		table.put(0L, CHANNEL0, new JsonPrimitive(value));
+		return new TimestampedDataNotification(table);
+	}
+}
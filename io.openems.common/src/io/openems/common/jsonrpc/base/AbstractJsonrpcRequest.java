@@ -1,6 +1,9 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
+
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.utils.JsonUtils;
 
@@ -68,4 +71,23 @@ public abstract class AbstractJsonrpcRequest extends JsonrpcMessage {
 				.add("params", this.getParams()) //
 				.build();
 	}
+
+	@Override
+	protected void writeMembers(JsonWriter writer) throws IOException {
+		super.writeMembers(writer);
+		writer.name("method").value(this.method);
+		writer.name("params");
+		this.writeParams(writer);
+	}
+
+	/**
+	 * Streams the params of the {@link JsonrpcRequest}; equal to
+	 * {@link #getParams()}.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	protected void writeParams(JsonWriter writer) throws IOException {
+		JsonUtils.writeTo(writer, this.getParams());
+	}
 }
\ No newline at end of file
@@ -1,6 +1,11 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
+
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+import io.openems.common.utils.JsonUtils;
 
 /**
  * Represents a wrapper around JSON-RPC Notification for compatibility with
@@ -30,4 +35,9 @@ public class DeprecatedJsonrpcNotification extends JsonrpcNotification {
 		return this.jMessage;
 	}
 
+	@Override
+	public void writeTo(JsonWriter writer) throws IOException {
+		JsonUtils.writeTo(writer, this.jMessage);
+	}
+
 }
@@ -1,6 +1,9 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
+
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.utils.JsonUtils;
@@ -45,16 +48,60 @@ public class GenericJsonrpcNotification extends JsonrpcNotification {
 		return new GenericJsonrpcNotification(method, params);
 	}
 
+	/**
+	 * Parses a {@link RawJsonObject} to a {@link GenericJsonrpcNotification}; the
+	 * params are kept unparsed until they are accessed.
+	 *
+	 * @param j the {@link RawJsonObject}
+	 * @return the {@link GenericJsonrpcNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static GenericJsonrpcNotification from(RawJsonObject j) throws OpenemsNamedException {
+		var method = j.getAsString("method");
+		var params = j.getAsRawJsonObject("params");
+		return new GenericJsonrpcNotification(method, params);
+	}
+
 	private final JsonObject params;
+	private final RawJsonObject rawParams;
 
 	public GenericJsonrpcNotification(String method, JsonObject params) {
 		super(method);
 		this.params = params;
+		this.rawParams = null;
+	}
+
+	public GenericJsonrpcNotification(String method, RawJsonObject params) {
+		super(method);
+		this.params = null;
+		this.rawParams = params;
 	}
 
 	@Override
 	public JsonObject getParams() {
+		if (this.rawParams != null) {
+			return this.rawParams.toJsonObject();
+		}
 		return this.params;
 	}
 
+	/**
+	 * Gets the unparsed params, if this notification was parsed from a
+	 * {@link RawJsonObject}.
+	 *
+	 * @return the {@link RawJsonObject}; null if not available
+	 */
+	public RawJsonObject getRawParams() {
+		return this.rawParams;
+	}
+
+	@Override
+	protected void writeParams(JsonWriter writer) throws IOException {
+		if (this.rawParams != null) {
+			this.rawParams.writeTo(writer);
+		} else {
+			super.writeParams(writer);
+		}
+	}
+
 }
@@ -1,9 +1,11 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.utils.JsonUtils;
@@ -52,6 +54,22 @@ public class GenericJsonrpcRequest extends JsonrpcRequest {
 		return new GenericJsonrpcRequest(id, method, params, timeoutOpt);
 	}
 
+	/**
+	 * Parses the {@link RawJsonObject} to a {@link GenericJsonrpcRequest}; the
+	 * params are kept unparsed until they are accessed.
+	 *
+	 * @param j the {@link RawJsonObject}
+	 * @return the {@link GenericJsonrpcRequest}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static GenericJsonrpcRequest from(RawJsonObject j) throws OpenemsNamedException {
+		var id = j.getAsUUID("id");
+		var method = j.getAsString("method");
+		var params = j.getAsRawJsonObject("params");
+		var timeoutOpt = j.getAsOptionalInt("timeout");
+		return new GenericJsonrpcRequest(id, method, params, timeoutOpt);
+	}
+
 	/**
 	 * Parses the String to a {@link GenericJsonrpcRequest}. If the request UUID is
 	 * missing, it is replaced by a random UUID.
@@ -81,25 +99,57 @@ public class GenericJsonrpcRequest extends JsonrpcRequest {
 	}
 
 	private final JsonObject params;
+	private final RawJsonObject rawParams;
 
 	public GenericJsonrpcRequest(UUID id, String method, JsonObject params, int timeout) {
 		super(id, method, timeout);
 		this.params = params;
+		this.rawParams = null;
 	}
 
 	public GenericJsonrpcRequest(UUID id, String method, JsonObject params, Optional<Integer> timeoutOpt) {
 		super(id, method, timeoutOpt);
 		this.params = params;
+		this.rawParams = null;
+	}
+
+	public GenericJsonrpcRequest(UUID id, String method, RawJsonObject params, Optional<Integer> timeoutOpt) {
+		super(id, method, timeoutOpt);
+		this.params = null;
+		this.rawParams = params;
 	}
 
 	public GenericJsonrpcRequest(String method, JsonObject params) {
 		super(method);
 		this.params = params;
+		this.rawParams = null;
 	}
 
 	@Override
 	public JsonObject getParams() {
+		if (this.rawParams != null) {
+			return this.rawParams.toJsonObject();
+		}
 		return this.params;
 	}
 
+	/**
+	 * Gets the unparsed params, if this request was parsed from a
+	 * {@link RawJsonObject}.
+	 *
+	 * @return the {@link RawJsonObject}; null if not available
+	 */
+	public RawJsonObject getRawParams() {
+		return this.rawParams;
+	}
+
+	@Override
+	protected void writeParams(JsonWriter writer) throws IOException {
+		if (this.rawParams != null) {
+			this.rawParams.writeTo(writer);
+		} else {
+			super.writeParams(writer);
+		}
+	}
+
 }
@@ -1,8 +1,10 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
 import java.util.UUID;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Represents a generic JSON-RPC Success Response.
@@ -21,6 +23,7 @@ import com.google.gson.JsonObject;
 public class GenericJsonrpcResponseSuccess extends JsonrpcResponseSuccess {
 
 	private final JsonObject result;
+	private final RawJsonObject rawResult;
 
 	public GenericJsonrpcResponseSuccess(UUID id) {
 		this(id, new JsonObject());
@@ -29,11 +32,40 @@ public class GenericJsonrpcResponseSuccess extends JsonrpcResponseSuccess {
 	public GenericJsonrpcResponseSuccess(UUID id, JsonObject result) {
 		super(id);
 		this.result = result;
+		this.rawResult = null;
+	}
+
+	public GenericJsonrpcResponseSuccess(UUID id, RawJsonObject result) {
+		super(id);
+		this.result = null;
+		this.rawResult = result;
 	}
 
 	@Override
 	public JsonObject getResult() {
+		if (this.rawResult != null) {
+			return this.rawResult.toJsonObject();
+		}
 		return this.result;
 	}
 
+	/**
+	 * Gets the unparsed result, if this response was parsed from a
+	 * {@link RawJsonObject}.
+	 *
+	 * @return the {@link RawJsonObject}; null if not available
+	 */
+	public RawJsonObject getRawResult() {
+		return this.rawResult;
+	}
+
+	@Override
+	protected void writeResult(JsonWriter writer) throws IOException {
+		if (this.rawResult != null) {
+			this.rawResult.writeTo(writer);
+		} else {
+			super.writeResult(writer);
+		}
+	}
+
 }
\ No newline at end of file
@@ -1,6 +1,15 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
@@ -32,7 +41,41 @@ public abstract class JsonrpcMessage {
 	 * @throws OpenemsNamedException on error
 	 */
 	public static JsonrpcMessage from(String json) throws OpenemsNamedException {
-		return JsonrpcMessage.from(JsonUtils.parseToJsonObject(json));
+		var raw = RawJsonObject.from(json);
+		if (raw == null) {
+			// Not strict JSON: let Gson parse it or produce the error
+			return JsonrpcMessage.from(JsonUtils.parseToJsonObject(json));
+		}
+		return JsonrpcMessage.from(raw);
+	}
+
+	/**
+	 * Parses a {@link RawJsonObject} to a {@link JsonrpcMessage}.
+	 *
+	 * <p>
+	 * 'params' and 'result' are kept unparsed until they are accessed.
+	 *
+	 * @param j the {@link RawJsonObject}
+	 * @return the {@link JsonrpcMessage}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static JsonrpcMessage from(RawJsonObject j) throws OpenemsNamedException {
+		if (j.has("method") && j.has("params")) {
+			if (j.has("id")) {
+				return GenericJsonrpcRequest.from(j);
+			}
+			return GenericJsonrpcNotification.from(j);
+
+		}
+		if (j.has("result")) {
+			return JsonrpcResponseSuccess.from(j);
+
+		}
+		if (j.has("error")) {
+			return JsonrpcResponseError.from(j.toJsonObject());
+		}
+		throw new OpenemsException("JsonrpcMessage is not a valid Request, Result or Notification: "
+				+ StringUtils.toShortString(j.toString(), 100));
 	}
 
 	/**
@@ -72,12 +115,66 @@ public abstract class JsonrpcMessage {
 				.build();
 	}
 
+	/**
+	 * Streams the JSON representation of this {@link JsonrpcMessage} to a
+	 * {@link JsonWriter}; equal to {@link #toJsonObject()}.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	public void writeTo(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		this.writeMembers(writer);
+		writer.endObject();
+	}
+
+	/**
+	 * Writes the members of this {@link JsonrpcMessage}; see
+	 * {@link #writeTo(JsonWriter)}.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	protected void writeMembers(JsonWriter writer) throws IOException {
+		writer.name("jsonrpc").value(JsonrpcMessage.JSONRPC_VERSION);
+	}
+
+	/**
+	 * Streams this JsonrpcMessage to UTF-8 encoded JSON, e.g. for a websocket text
+	 * frame.
+	 *
+	 * @return the {@link ByteBuffer}
+	 */
+	public ByteBuffer toUtf8() {
+		var out = new ByteArrayOutputStream() {
+			private ByteBuffer toByteBuffer() {
+				// avoid another copy of the buffer
+				return ByteBuffer.wrap(this.buf, 0, this.count);
+			}
+		};
+		try (var writer = new JsonWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+			writer.setLenient(true);
+			this.writeTo(writer);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteBuffer();
+	}
+
 	/**
 	 * Returns this JsonrpcMessage as a JSON String.
 	 */
 	@Override
 	public String toString() {
-		return this.toJsonObject().toString();
+		var out = new StringWriter();
+		var writer = new JsonWriter(out);
+		writer.setLenient(true);
+		try {
+			this.writeTo(writer);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toString();
 	}
 
 }
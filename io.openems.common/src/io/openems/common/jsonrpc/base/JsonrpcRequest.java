@@ -1,9 +1,11 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.utils.JsonUtils;
 
@@ -139,4 +141,13 @@ public abstract class JsonrpcRequest extends AbstractJsonrpcRequest {
 		}
 		return builder.build();
 	}
+
+	@Override
+	protected void writeMembers(JsonWriter writer) throws IOException {
+		super.writeMembers(writer);
+		writer.name("id").value(this.getId().toString());
+		if (this.timeoutOpt.isPresent()) {
+			writer.name("timeout").value(this.timeoutOpt.get());
+		}
+	}
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
 import java.util.UUID;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
@@ -71,4 +73,10 @@ public abstract class JsonrpcResponse extends JsonrpcMessage {
 				.build();
 	}
 
+	@Override
+	protected void writeMembers(JsonWriter writer) throws IOException {
+		super.writeMembers(writer);
+		writer.name("id").value(this.getId().toString());
+	}
+
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -7,6 +8,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
@@ -126,6 +128,11 @@ public class JsonrpcResponseError extends JsonrpcResponse {
 				.build();
 	}
 
+	@Override
+	public void writeTo(JsonWriter writer) throws IOException {
+		JsonUtils.writeTo(writer, this.toJsonObject());
+	}
+
 	public OpenemsError getOpenemsError() {
 		return this.openemsError;
 	}
@@ -1,8 +1,10 @@
 package io.openems.common.jsonrpc.base;
 
+import java.io.IOException;
 import java.util.UUID;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
@@ -39,6 +41,21 @@ public abstract class JsonrpcResponseSuccess extends JsonrpcResponse {
 		return (JsonrpcResponseSuccess) response;
 	}
 
+	/**
+	 * Parses the {@link RawJsonObject} to a JSON-RPC Success Response; the
+	 * 'result' is kept unparsed until it is accessed.
+	 *
+	 * @param j the {@link RawJsonObject}
+	 * @return the JSON-RPC Success Response
+	 * @throws OpenemsNamedException if it was not a Success Response
+	 */
+	public static JsonrpcResponseSuccess from(RawJsonObject j) throws OpenemsNamedException {
+		if (!j.has("result")) {
+			throw OpenemsError.GENERIC.exception("Expected a JSON-RPC Success Response");
+		}
+		return new GenericJsonrpcResponseSuccess(j.getAsUUID("id"), j.getAsRawJsonObject("result"));
+	}
+
 	public JsonrpcResponseSuccess(UUID id) {
 		super(id);
 	}
@@ -50,6 +67,28 @@ public abstract class JsonrpcResponseSuccess extends JsonrpcResponse {
 				.build();
 	}
 
+	@Override
+	protected void writeMembers(JsonWriter writer) throws IOException {
+		super.writeMembers(writer);
+		writer.name("result");
+		this.writeResult(writer);
+	}
+
+	/**
+	 * Streams the result of this {@link JsonrpcResponseSuccess}; equal to
+	 * {@link #getResult()}.
+	 *
+	 * <p>
+	 * Responses with large results should override this method to avoid building
+	 * the {@link JsonObject}.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	protected void writeResult(JsonWriter writer) throws IOException {
+		JsonUtils.writeTo(writer, this.getResult());
+	}
+
 	/**
 	 * Gets the result of this {@link JsonrpcResponseSuccess}.
 	 *
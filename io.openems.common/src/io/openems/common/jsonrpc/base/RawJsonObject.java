@@ -0,0 +1,435 @@
+package io.openems.common.jsonrpc.base;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+
+import io.openems.common.exceptions.OpenemsError;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.utils.StringUtils;
+
+/**
+ * A JSON-Object that is kept in its serialized form.
+ *
+ * <p>
+ * Only the top-level members are located in the String; nested values are not
+ * parsed before they are actually accessed. This allows to dispatch JSON-RPC
+ * messages on their 'method' and to forward large 'params' or 'result' objects
+ * without building a tree of {@link JsonElement}s.
+ */
+public final class RawJsonObject {
+
+	/**
+	 * Scans a JSON String.
+	 *
+	 * @param json the JSON String
+	 * @return the {@link RawJsonObject}; null if the String is not a valid,
+	 *         strict JSON-Object
+	 */
+	public static RawJsonObject from(String json) {
+		var scanner = new Scanner(json);
+		try {
+			scanner.skipWhitespace();
+			var members = scanner.readMembers();
+			scanner.skipWhitespace();
+			if (scanner.pos != json.length()) {
+				return null;
+			}
+			return new RawJsonObject(json, members);
+
+		} catch (ScanException e) {
+			return null;
+		}
+	}
+
+	private final String json;
+	private final Map<String, String> members;
+	private JsonObject jsonObject = null;
+
+	private RawJsonObject(String json, Map<String, String> members) {
+		this.json = json;
+		this.members = members;
+	}
+
+	/**
+	 * Does this JSON-Object have a member with the given name?.
+	 *
+	 * @param memberName the name of the member
+	 * @return true if the member exists
+	 */
+	public boolean has(String memberName) {
+		return this.members.containsKey(memberName);
+	}
+
+	/**
+	 * Parses a member to a {@link JsonElement}.
+	 *
+	 * @param memberName the name of the member
+	 * @return the {@link JsonElement}
+	 * @throws OpenemsNamedException if the member does not exist
+	 */
+	public JsonElement getAsJsonElement(String memberName) throws OpenemsNamedException {
+		return JsonParser.parseString(this.getRaw(memberName));
+	}
+
+	/**
+	 * Parses a member to a String.
+	 *
+	 * @param memberName the name of the member
+	 * @return the String
+	 * @throws OpenemsNamedException on error
+	 */
+	public String getAsString(String memberName) throws OpenemsNamedException {
+		return JsonUtils.getAsString(this.getAsJsonElement(memberName));
+	}
+
+	/**
+	 * Parses a member to a {@link UUID}.
+	 *
+	 * @param memberName the name of the member
+	 * @return the {@link UUID}
+	 * @throws OpenemsNamedException on error
+	 */
+	public UUID getAsUUID(String memberName) throws OpenemsNamedException {
+		return JsonUtils.getAsUUID(this.getAsJsonElement(memberName));
+	}
+
+	/**
+	 * Parses a member to an Optional Integer.
+	 *
+	 * @param memberName the name of the member
+	 * @return the Integer; empty if the member does not exist or is not an Integer
+	 */
+	public Optional<Integer> getAsOptionalInt(String memberName) {
+		var raw = this.members.get(memberName);
+		if (raw == null) {
+			return Optional.empty();
+		}
+		return JsonUtils.getAsOptionalInt(JsonParser.parseString(raw));
+	}
+
+	/**
+	 * Parses a member to a {@link JsonObject}.
+	 *
+	 * @param memberName the name of the member
+	 * @return the {@link JsonObject}
+	 * @throws OpenemsNamedException on error
+	 */
+	public JsonObject getAsJsonObject(String memberName) throws OpenemsNamedException {
+		return JsonUtils.getAsJsonObject(this.getAsJsonElement(memberName));
+	}
+
+	/**
+	 * Gets a member as {@link RawJsonObject} without parsing it.
+	 *
+	 * @param memberName the name of the member
+	 * @return the {@link RawJsonObject}
+	 * @throws OpenemsNamedException if the member does not exist or is not a
+	 *                               JSON-Object
+	 */
+	public RawJsonObject getAsRawJsonObject(String memberName) throws OpenemsNamedException {
+		var raw = this.getRaw(memberName);
+		var result = RawJsonObject.from(raw);
+		if (result == null) {
+			throw OpenemsError.JSON_NO_OBJECT.exception(StringUtils.toShortString(raw, 100).replace("%", "%%"));
+		}
+		return result;
+	}
+
+	/**
+	 * Parses this JSON-Object to a {@link JsonObject}. The result is cached.
+	 *
+	 * @return the {@link JsonObject}
+	 */
+	public synchronized JsonObject toJsonObject() {
+		if (this.jsonObject == null) {
+			this.jsonObject = JsonParser.parseString(this.json).getAsJsonObject();
+		}
+		return this.jsonObject;
+	}
+
+	/**
+	 * Writes this JSON-Object to a {@link JsonWriter}; unchanged if it was never
+	 * parsed.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	public void writeTo(JsonWriter writer) throws IOException {
+		final JsonObject jsonObject;
+		synchronized (this) {
+			jsonObject = this.jsonObject;
+		}
+		if (jsonObject != null) {
+			// might have been modified
+			JsonUtils.writeTo(writer, jsonObject);
+		} else {
+			writer.jsonValue(this.json);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.json;
+	}
+
+	private String getRaw(String memberName) throws OpenemsNamedException {
+		var raw = this.members.get(memberName);
+		if (raw == null) {
+			throw OpenemsError.JSON_HAS_NO_MEMBER.exception(memberName,
+					StringUtils.toShortString(this.json, 100).replace("%", "%%"));
+		}
+		return raw;
+	}
+
+	private static class ScanException extends Exception {
+
+		private static final long serialVersionUID = 1L;
+
+		private ScanException() {
+			super(null, null, false, false);
+		}
+	}
+
+	/**
+	 * Validates strict JSON (RFC 8259) without building {@link JsonElement}s.
+	 * Nested values are skipped iteratively, so deep nesting can not overflow the
+	 * stack.
+	 */
+	private static class Scanner {
+
+		private final String json;
+		private int pos = 0;
+
+		private Scanner(String json) {
+			this.json = json;
+		}
+
+		private Map<String, String> readMembers() throws ScanException {
+			var members = new LinkedHashMap<String, String>();
+			this.expect('{');
+			this.skipWhitespace();
+			if (this.peek() == '}') {
+				this.pos++;
+				return members;
+			}
+			while (true) {
+				var name = this.readName();
+				var start = this.pos;
+				this.skipValue();
+				members.put(name, this.json.substring(start, this.pos));
+				this.skipWhitespace();
+				if (this.peek() == ',') {
+					this.pos++;
+					this.skipWhitespace();
+					continue;
+				}
+				this.expect('}');
+				return members;
+			}
+		}
+
+		/**
+		 * Reads a member name and the following colon.
+		 *
+		 * @return the name
+		 * @throws ScanException on error
+		 */
+		private String readName() throws ScanException {
+			var start = this.pos;
+			var hasEscape = this.skipString();
+			var token = this.json.substring(start, this.pos);
+			this.skipColon();
+			if (hasEscape) {
+				return JsonParser.parseString(token).getAsString();
+			}
+			return token.substring(1, token.length() - 1);
+		}
+
+		/**
+		 * Skips a member name and the following colon.
+		 *
+		 * @throws ScanException on error
+		 */
+		private void skipName() throws ScanException {
+			this.skipString();
+			this.skipColon();
+		}
+
+		private void skipColon() throws ScanException {
+			this.skipWhitespace();
+			this.expect(':');
+			this.skipWhitespace();
+		}
+
+		private void skipValue() throws ScanException {
+			// true: JSON-Object; false: JSON-Array
+			var stack = new BitSet();
+			var depth = 0;
+			while (true) {
+				// Expect a value
+				var c = this.peek();
+				if (c == '{' || c == '[') {
+					this.pos++;
+					this.skipWhitespace();
+					if (this.peek() == (c == '{' ? '}' : ']')) {
+						this.pos++;
+					} else {
+						stack.set(depth, c == '{');
+						depth++;
+						if (c == '{') {
+							this.skipName();
+						}
+						continue;
+					}
+				} else {
+					this.skipScalar();
+				}
+
+				// After a value
+				while (true) {
+					if (depth == 0) {
+						return;
+					}
+					this.skipWhitespace();
+					var isObject = stack.get(depth - 1);
+					c = this.next();
+					if (c == ',') {
+						this.skipWhitespace();
+						if (isObject) {
+							this.skipName();
+						}
+						break;
+					}
+					if (c != (isObject ? '}' : ']')) {
+						throw new ScanException();
+					}
+					depth--;
+				}
+			}
+		}
+
+		private void skipScalar() throws ScanException {
+			switch (this.peek()) {
+			case '"' -> this.skipString();
+			case 't' -> this.skipLiteral("true");
+			case 'f' -> this.skipLiteral("false");
+			case 'n' -> this.skipLiteral("null");
+			default -> this.skipNumber();
+			}
+		}
+
+		/**
+		 * Skips a String.
+		 *
+		 * @return true if the String contains escape sequences
+		 * @throws ScanException on error
+		 */
+		private boolean skipString() throws ScanException {
+			this.expect('"');
+			var hasEscape = false;
+			while (true) {
+				var c = this.next();
+				if (c == '"') {
+					return hasEscape;
+				}
+				if (c == '\\') {
+					hasEscape = true;
+					c = this.next();
+					if (c == 'u') {
+						for (var i = 0; i < 4; i++) {
+							if (Character.digit(this.next(), 16) < 0) {
+								throw new ScanException();
+							}
+						}
+					} else if ("\"\\/bfnrt".indexOf(c) < 0) {
+						throw new ScanException();
+					}
+				} else if (c < 0x20) {
+					// also end of String
+					throw new ScanException();
+				}
+			}
+		}
+
+		private void skipLiteral(String literal) throws ScanException {
+			if (!this.json.startsWith(literal, this.pos)) {
+				throw new ScanException();
+			}
+			this.pos += literal.length();
+		}
+
+		private void skipNumber() throws ScanException {
+			if (this.peek() == '-') {
+				this.pos++;
+			}
+			if (this.peek() == '0') {
+				this.pos++;
+			} else {
+				this.skipDigits();
+			}
+			if (this.peek() == '.') {
+				this.pos++;
+				this.skipDigits();
+			}
+			if (this.peek() == 'e' || this.peek() == 'E') {
+				this.pos++;
+				if (this.peek() == '+' || this.peek() == '-') {
+					this.pos++;
+				}
+				this.skipDigits();
+			}
+		}
+
+		private void skipDigits() throws ScanException {
+			var start = this.pos;
+			while (this.peek() >= '0' && this.peek() <= '9') {
+				this.pos++;
+			}
+			if (this.pos == start) {
+				throw new ScanException();
+			}
+		}
+
+		private void skipWhitespace() {
+			while (true) {
+				var c = this.peek();
+				if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+					return;
+				}
+				this.pos++;
+			}
+		}
+
+		private void expect(char expected) throws ScanException {
+			if (this.next() != expected) {
+				throw new ScanException();
+			}
+		}
+
+		/**
+		 * Gets the next character without consuming it.
+		 *
+		 * @return the character; -1 at the end
+		 */
+		private int peek() {
+			return this.pos < this.json.length() ? this.json.charAt(this.pos) : -1;
+		}
+
+		private int next() {
+			var c = this.peek();
+			this.pos++;
+			return c;
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+package io.openems.common.jsonrpc.notification;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.BinaryDataCodec;
+
+/**
+ * Represents a JSON-RPC Notification from Backend to Edge that confirms the
+ * data format for the following data notifications of this session.
+ *
+ * <p>
+ * See {@link BinaryDataCodec}.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "dataFormat",
+ *   "params": {
+ *     "format": string
+ *   }
+ * }
+ * </pre>
+ */
+public class DataFormatNotification extends JsonrpcNotification {
+
+	public static final String METHOD = "dataFormat";
+
+	/**
+	 * Parses a {@link JsonrpcNotification} to a {@link DataFormatNotification}.
+	 *
+	 * @param notification the {@link JsonrpcNotification}
+	 * @return the {@link DataFormatNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static DataFormatNotification from(JsonrpcNotification notification) throws OpenemsNamedException {
+		return new DataFormatNotification(JsonUtils.getAsString(notification.getParams(), "format"));
+	}
+
+	private final String format;
+
+	public DataFormatNotification(String format) {
+		super(DataFormatNotification.METHOD);
+		this.format = format;
+	}
+
+	/**
+	 * Gets the format, e.g. {@link BinaryDataCodec#FORMAT}.
+	 *
+	 * @return the format
+	 */
+	public String getFormat() {
+		return this.format;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("format", this.format) //
+				.build();
+	}
+
+}
@@ -1,8 +1,10 @@
 package io.openems.common.jsonrpc.request;
 
+import java.io.IOException;
 import java.util.Optional;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.function.ThrowingFunction;
@@ -59,6 +61,13 @@ public class AuthenticatedRpcRequest<USER extends AbstractUser> extends JsonrpcR
 	 */
 	public static <USER extends AbstractUser> AuthenticatedRpcRequest<USER> from(JsonrpcRequest r,
 			ThrowingFunction<JsonObject, USER, OpenemsNamedException> userFactory) throws OpenemsNamedException {
+		if (r instanceof GenericJsonrpcRequest g && g.getRawParams() != null) {
+			// Keep the payload unparsed until it is handled
+			var p = g.getRawParams();
+			var user = userFactory.apply(p.getAsJsonObject("user"));
+			JsonrpcRequest payload = GenericJsonrpcRequest.from(p.getAsRawJsonObject("payload"));
+			return new AuthenticatedRpcRequest<>(r, Optional.empty(), user, payload);
+		}
 		var p = r.getParams();
 		var user = userFactory.apply(JsonUtils.getAsJsonObject(p, "user"));
 		JsonrpcRequest payload = GenericJsonrpcRequest.from(JsonUtils.getAsJsonObject(p, "payload"));
@@ -112,6 +121,23 @@ public class AuthenticatedRpcRequest<USER extends AbstractUser> extends JsonrpcR
 	 */
 	@Override
 	public JsonObject getParams() {
+		return JsonUtils.buildJsonObject() //
+				.add("user", this.getUserJson()) //
+				.add("payload", this.payload.toJsonObject()) //
+				.build();
+	}
+
+	@Override
+	protected void writeParams(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		writer.name("user");
+		JsonUtils.writeTo(writer, this.getUserJson());
+		writer.name("payload");
+		this.payload.writeTo(writer);
+		writer.endObject();
+	}
+
+	private JsonObject getUserJson() {
 		final Role role;
 		if (this.edgeId.isPresent()) {
 			role = this.user.getRole(this.edgeId.get()).orElse(this.user.getGlobalRole());
@@ -119,13 +145,10 @@ public class AuthenticatedRpcRequest<USER extends AbstractUser> extends JsonrpcR
 			role = this.user.getGlobalRole();
 		}
 		return JsonUtils.buildJsonObject() //
-				.add("user", JsonUtils.buildJsonObject() //
-						.addProperty("id", this.user.getId()) //
-						.addProperty("name", this.user.getName()) //
-						.addPropertyIfNotNull("language", this.user.getLanguage()) //
-						.add("role", role.asJson()) //
-						.build()) //
-				.add("payload", this.payload.toJsonObject()) //
+				.addProperty("id", this.user.getId()) //
+				.addProperty("name", this.user.getName()) //
+				.addPropertyIfNotNull("language", this.user.getLanguage()) //
+				.add("role", role.asJson()) //
 				.build();
 	}
 
@@ -1,6 +1,9 @@
 package io.openems.common.jsonrpc.request;
 
+import java.io.IOException;
+
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.GenericJsonrpcRequest;
@@ -35,6 +38,13 @@ public class EdgeRpcRequest extends JsonrpcRequest {
 	 * @throws OpenemsNamedException on parse error
 	 */
 	public static EdgeRpcRequest from(JsonrpcRequest r) throws OpenemsNamedException {
+		if (r instanceof GenericJsonrpcRequest g && g.getRawParams() != null) {
+			// Keep the payload unparsed; it is usually forwarded to the Edge
+			var p = g.getRawParams();
+			var edgeId = p.getAsString("edgeId");
+			JsonrpcRequest payload = GenericJsonrpcRequest.from(p.getAsRawJsonObject("payload"));
+			return new EdgeRpcRequest(r, edgeId, payload);
+		}
 		var p = r.getParams();
 		var edgeId = JsonUtils.getAsString(p, "edgeId");
 		JsonrpcRequest payload = GenericJsonrpcRequest.from(JsonUtils.getAsJsonObject(p, "payload"));
@@ -82,4 +92,13 @@ public class EdgeRpcRequest extends JsonrpcRequest {
 				.build();
 	}
 
+	@Override
+	protected void writeParams(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		writer.name("edgeId").value(this.edgeId);
+		writer.name("payload");
+		this.payload.writeTo(writer);
+		writer.endObject();
+	}
+
 }
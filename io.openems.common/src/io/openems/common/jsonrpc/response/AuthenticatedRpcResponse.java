@@ -1,10 +1,13 @@
 package io.openems.common.jsonrpc.response;
 
+import java.io.IOException;
 import java.util.UUID;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcResponseSuccess;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
 import io.openems.common.utils.JsonUtils;
 
@@ -32,6 +35,11 @@ public class AuthenticatedRpcResponse extends JsonrpcResponseSuccess {
 	 * @throws OpenemsNamedException on error
 	 */
 	public static AuthenticatedRpcResponse from(JsonrpcResponseSuccess r) throws OpenemsNamedException {
+		if (r instanceof GenericJsonrpcResponseSuccess g && g.getRawResult() != null) {
+			// Keep the payload unparsed; it is usually forwarded to the UI
+			var payload = JsonrpcResponseSuccess.from(g.getRawResult().getAsRawJsonObject("payload"));
+			return new AuthenticatedRpcResponse(r.getId(), payload);
+		}
 		var p = r.getResult();
 		var payload = JsonrpcResponseSuccess.from(JsonUtils.getAsJsonObject(p, "payload"));
 		return new AuthenticatedRpcResponse(r.getId(), payload);
@@ -55,4 +63,12 @@ public class AuthenticatedRpcResponse extends JsonrpcResponseSuccess {
 				.build();
 	}
 
+	@Override
+	protected void writeResult(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		writer.name("payload");
+		this.payload.writeTo(writer);
+		writer.endObject();
+	}
+
 }
@@ -1,8 +1,10 @@
 package io.openems.common.jsonrpc.response;
 
+import java.io.IOException;
 import java.util.UUID;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
 import io.openems.common.utils.JsonUtils;
@@ -36,4 +38,12 @@ public class EdgeRpcResponse extends JsonrpcResponseSuccess {
 				.build();
 	}
 
+	@Override
+	protected void writeResult(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		writer.name("payload");
+		this.payload.writeTo(writer);
+		writer.endObject();
+	}
+
 }
@@ -1,16 +1,16 @@
 package io.openems.common.jsonrpc.response;
 
+import java.io.IOException;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.UUID;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.timedata.HistoricData;
 import io.openems.common.types.ChannelAddress;
 
 /**
@@ -35,7 +35,7 @@ import io.openems.common.types.ChannelAddress;
  */
 public class QueryHistoricTimeseriesDataResponse extends JsonrpcResponseSuccess {
 
-	private final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table;
+	private final HistoricData data;
 
 	public QueryHistoricTimeseriesDataResponse(SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table) {
 		this(UUID.randomUUID(), table);
@@ -43,39 +43,31 @@ public class QueryHistoricTimeseriesDataResponse extends JsonrpcResponseSuccess
 
 	public QueryHistoricTimeseriesDataResponse(UUID id,
 			SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table) {
+		this(id, HistoricData.fromMap(table));
+	}
+
+	public QueryHistoricTimeseriesDataResponse(UUID id, HistoricData data) {
 		super(id);
-		this.table = table;
+		this.data = data;
+	}
+
+	/**
+	 * Gets the columnar query result.
+	 *
+	 * @return the {@link HistoricData}
+	 */
+	public HistoricData getData() {
+		return this.data;
 	}
 
 	@Override
 	public JsonObject getResult() {
-		var result = new JsonObject();
-
-		var timestamps = new JsonArray();
-		for (ZonedDateTime timestamp : this.table.keySet()) {
-			timestamps.add(timestamp.format(DateTimeFormatter.ISO_INSTANT));
-		}
-		result.add("timestamps", timestamps);
-
-		var data = new JsonObject();
-		for (Entry<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> rowEntry : this.table.entrySet()) {
-			for (Entry<ChannelAddress, JsonElement> colEntry : rowEntry.getValue().entrySet()) {
-				var channelAddress = colEntry.getKey().toString();
-				var value = colEntry.getValue();
-				var channelValuesElement = data.get(channelAddress);
-				JsonArray channelValues;
-				if (channelValuesElement != null) {
-					channelValues = channelValuesElement.getAsJsonArray();
-				} else {
-					channelValues = new JsonArray();
-				}
-				channelValues.add(value);
-				data.add(channelAddress, channelValues);
-			}
-		}
-		result.add("data", data);
+		return this.data.toJson();
+	}
 
-		return result;
+	@Override
+	protected void writeResult(JsonWriter writer) throws IOException {
+		this.data.writeTo(writer);
 	}
 
 }
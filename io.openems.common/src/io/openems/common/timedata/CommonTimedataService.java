@@ -116,6 +116,49 @@ public interface CommonTimedataService {
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException;
 
+	/**
+	 * Queries historic data in columnar form.
+	 *
+	 * <p>
+	 * Implementations should override this method to build the
+	 * {@link HistoricData} directly from their storage; the default converts the
+	 * result of
+	 * {@link #queryHistoricData(String, ZonedDateTime, ZonedDateTime, Set, Resolution)}.
+	 *
+	 * @param edgeId     the Edge-ID; or null query all
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @return the query result; possibly null
+	 */
+	public default HistoricData queryHistoricDataColumnar(String edgeId, ZonedDateTime fromDate,
+			ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution) throws OpenemsNamedException {
+		var result = this.queryHistoricData(edgeId, fromDate, toDate, channels, resolution);
+		if (result == null) {
+			return null;
+		}
+		return HistoricData.fromMap(result);
+	}
+
+	/**
+	 * Queries historic data in columnar form. The 'resolution' of the query is
+	 * calculated dynamically according to the length of the period.
+	 *
+	 * @param edgeId  the Edge-ID
+	 * @param request the {@link QueryHistoricTimeseriesDataRequest}
+	 * @return the query result; possibly null
+	 */
+	public default HistoricData queryHistoricDataColumnar(String edgeId, QueryHistoricTimeseriesDataRequest request)
+			throws OpenemsNamedException {
+		// calculate resolution based on the length of the period
+		var resolution = request.getResolution() //
+				.orElse(CommonTimedataService.calculateResolution(request.getFromDate(), request.getToDate()));
+
+		return this.queryHistoricDataColumnar(edgeId, request.getFromDate(), request.getToDate(),
+				request.getChannels(), resolution);
+	}
+
 	/**
 	 * Queries historic energy.
 	 *
@@ -147,4 +190,27 @@ public interface CommonTimedataService {
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException;
+
+	/**
+	 * Queries historic energy per period in columnar form.
+	 *
+	 * <p>
+	 * See
+	 * {@link #queryHistoricEnergyPerPeriod(String, ZonedDateTime, ZonedDateTime, Set, Resolution)}.
+	 *
+	 * @param edgeId     the Edge-ID; or null query all
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @return the query result; possibly null
+	 */
+	public default HistoricData queryHistoricEnergyPerPeriodColumnar(String edgeId, ZonedDateTime fromDate,
+			ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution) throws OpenemsNamedException {
+		var result = this.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution);
+		if (result == null) {
+			return null;
+		}
+		return HistoricData.fromMap(result);
+	}
 }
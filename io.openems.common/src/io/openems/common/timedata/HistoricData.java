@@ -0,0 +1,586 @@
+package io.openems.common.timedata;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Columnar result of a historic data query.
+ *
+ * <p>
+ * Holds one sorted array of timestamps and one primitive array of values per
+ * Channel, with a bitmap that marks the available numeric values. Integral
+ * values are additionally kept in a lazily created long array, so they are not
+ * limited to the precision of a double. Non-numeric values are kept as
+ * {@link JsonElement}s in a lazily created side array.
+ * Compared to a {@code SortedMap<ZonedDateTime, SortedMap<ChannelAddress,
+ * JsonElement>>} this avoids one boxed object per value.
+ *
+ * <p>
+ * Use {@link #create(ZoneId)} to build an instance; {@link #fromMap(SortedMap)}
+ * and {@link #toMap()} convert from and to the map form.
+ */
+public final class HistoricData {
+
+	/** Largest integral double that is written as JSON integer. */
+	private static final double MAX_EXACT_LONG = 1L << 53;
+
+	private static final class Column {
+
+		private double[] values;
+		private final BitSet numeric;
+		private long[] longs = null;
+		private final BitSet integral = new BitSet();
+		private JsonElement[] others = null;
+
+		private Column(int capacity) {
+			this.values = new double[capacity];
+			this.numeric = new BitSet(capacity);
+		}
+
+		private void ensureCapacity(int size) {
+			if (size > this.values.length) {
+				var capacity = Math.max(size, this.values.length * 2);
+				this.values = Arrays.copyOf(this.values, capacity);
+				if (this.longs != null) {
+					this.longs = Arrays.copyOf(this.longs, capacity);
+				}
+				if (this.others != null) {
+					this.others = Arrays.copyOf(this.others, capacity);
+				}
+			}
+		}
+
+		private void put(int index, double value) {
+			if (Double.isNaN(value)) {
+				this.numeric.clear(index);
+			} else {
+				this.values[index] = value;
+				this.numeric.set(index);
+			}
+			this.integral.clear(index);
+			if (this.others != null) {
+				this.others[index] = null;
+			}
+		}
+
+		private void put(int index, long value) {
+			this.put(index, (double) value);
+			if (this.longs == null) {
+				this.longs = new long[this.values.length];
+			}
+			this.longs[index] = value;
+			this.integral.set(index);
+		}
+
+		private void put(int index, JsonElement value) {
+			if (value == null || value.isJsonNull()) {
+				this.put(index, Double.NaN);
+				return;
+			}
+			if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isNumber()) {
+				var number = value.getAsNumber();
+				if (number instanceof Double || number instanceof Float) {
+					this.put(index, number.doubleValue());
+				} else if (number instanceof Long || number instanceof Integer || number instanceof Short
+						|| number instanceof Byte) {
+					this.put(index, number.longValue());
+				} else {
+					// e.g. LazilyParsedNumber or BigInteger
+					try {
+						this.put(index, Long.parseLong(number.toString()));
+					} catch (NumberFormatException e) {
+						this.put(index, number.doubleValue());
+					}
+				}
+				return;
+			}
+			this.numeric.clear(index);
+			this.integral.clear(index);
+			if (this.others == null) {
+				this.others = new JsonElement[this.values.length];
+			}
+			this.others[index] = value;
+		}
+
+		private Column permute(int[] order) {
+			var result = new Column(order.length);
+			for (var i = 0; i < order.length; i++) {
+				var from = order[i];
+				if (this.integral.get(from)) {
+					result.put(i, this.longs[from]);
+				} else if (this.numeric.get(from)) {
+					result.values[i] = this.values[from];
+					result.numeric.set(i);
+				} else if (this.others != null && this.others[from] != null) {
+					if (result.others == null) {
+						result.others = new JsonElement[order.length];
+					}
+					result.others[i] = this.others[from];
+				}
+			}
+			return result;
+		}
+
+		private boolean isNumeric(int index) {
+			return this.numeric.get(index);
+		}
+
+		private boolean isIntegral(int index) {
+			return this.integral.get(index);
+		}
+
+		private JsonElement getOther(int index) {
+			if (this.others == null || this.others[index] == null) {
+				return JsonNull.INSTANCE;
+			}
+			return this.others[index];
+		}
+	}
+
+	public static class Builder {
+
+		private final ZoneId zone;
+		private final Map<ChannelAddress, Integer> columnIndexes = new HashMap<>();
+		private final List<Column> columns = new ArrayList<>();
+		private long[] timestamps = new long[16];
+		private int size = 0;
+		/** Row index by timestamp; only created once timestamps are added unsorted. */
+		private Map<Long, Integer> rowIndexes = null;
+
+		private Builder(ZoneId zone) {
+			this.zone = zone;
+		}
+
+		/**
+		 * Adds a timestamp, even if there are no values for it.
+		 *
+		 * @param timestamp the timestamp
+		 * @return myself
+		 */
+		public Builder addTimestamp(ZonedDateTime timestamp) {
+			this.rowIndex(timestamp.toInstant().toEpochMilli());
+			return this;
+		}
+
+		/**
+		 * Adds a Channel, even if there are no values for it.
+		 *
+		 * @param channel the {@link ChannelAddress}
+		 * @return myself
+		 */
+		public Builder addChannel(ChannelAddress channel) {
+			this.addColumn(channel);
+			return this;
+		}
+
+		/**
+		 * Adds a Channel, if it is not yet known, and gets the index of its column
+		 * for {@link #put(long, int, double)} and its overloads.
+		 *
+		 * @param channel the {@link ChannelAddress}
+		 * @return the column index
+		 */
+		public int addColumn(ChannelAddress channel) {
+			var index = this.columnIndexes.get(channel);
+			if (index == null) {
+				index = this.columns.size();
+				this.columns.add(new Column(Math.max(this.timestamps.length, 1)));
+				this.columnIndexes.put(channel, index);
+			}
+			return index;
+		}
+
+		/**
+		 * Puts a numeric value.
+		 *
+		 * @param timestamp the timestamp
+		 * @param channel   the {@link ChannelAddress}
+		 * @param value     the value; {@link Double#NaN} for null
+		 * @return myself
+		 */
+		public Builder put(ZonedDateTime timestamp, ChannelAddress channel, double value) {
+			return this.put(timestamp.toInstant().toEpochMilli(), this.addColumn(channel), value);
+		}
+
+		/**
+		 * Puts an integral value.
+		 *
+		 * @param timestamp the timestamp
+		 * @param channel   the {@link ChannelAddress}
+		 * @param value     the value
+		 * @return myself
+		 */
+		public Builder put(ZonedDateTime timestamp, ChannelAddress channel, long value) {
+			return this.put(timestamp.toInstant().toEpochMilli(), this.addColumn(channel), value);
+		}
+
+		/**
+		 * Puts a value.
+		 *
+		 * @param timestamp the timestamp
+		 * @param channel   the {@link ChannelAddress}
+		 * @param value     the value; numbers are stored as primitives
+		 * @return myself
+		 */
+		public Builder put(ZonedDateTime timestamp, ChannelAddress channel, JsonElement value) {
+			return this.put(timestamp.toInstant().toEpochMilli(), this.addColumn(channel), value);
+		}
+
+		/**
+		 * Puts a numeric value.
+		 *
+		 * @param epochMilli the timestamp in milliseconds since epoch
+		 * @param column     the column index; see {@link #addColumn(ChannelAddress)}
+		 * @param value      the value; {@link Double#NaN} for null
+		 * @return myself
+		 */
+		public Builder put(long epochMilli, int column, double value) {
+			var index = this.rowIndex(epochMilli);
+			this.columns.get(column).put(index, value);
+			return this;
+		}
+
+		/**
+		 * Puts an integral value.
+		 *
+		 * @param epochMilli the timestamp in milliseconds since epoch
+		 * @param column     the column index; see {@link #addColumn(ChannelAddress)}
+		 * @param value      the value
+		 * @return myself
+		 */
+		public Builder put(long epochMilli, int column, long value) {
+			var index = this.rowIndex(epochMilli);
+			this.columns.get(column).put(index, value);
+			return this;
+		}
+
+		/**
+		 * Puts a value.
+		 *
+		 * @param epochMilli the timestamp in milliseconds since epoch
+		 * @param column     the column index; see {@link #addColumn(ChannelAddress)}
+		 * @param value      the value; numbers are stored as primitives
+		 * @return myself
+		 */
+		public Builder put(long epochMilli, int column, JsonElement value) {
+			var index = this.rowIndex(epochMilli);
+			this.columns.get(column).put(index, value);
+			return this;
+		}
+
+		private int rowIndex(long timestamp) {
+			if (this.rowIndexes != null) {
+				var index = this.rowIndexes.get(timestamp);
+				return index != null ? index : this.addRow(timestamp);
+			}
+			// Timestamps are sorted so far
+			if (this.size == 0 || timestamp > this.timestamps[this.size - 1]) {
+				return this.addRow(timestamp);
+			}
+			var index = Arrays.binarySearch(this.timestamps, 0, this.size, timestamp);
+			if (index >= 0) {
+				return index;
+			}
+			this.rowIndexes = new HashMap<>();
+			for (var i = 0; i < this.size; i++) {
+				this.rowIndexes.put(this.timestamps[i], i);
+			}
+			return this.addRow(timestamp);
+		}
+
+		private int addRow(long timestamp) {
+			if (this.size == this.timestamps.length) {
+				this.timestamps = Arrays.copyOf(this.timestamps, this.size * 2);
+			}
+			this.timestamps[this.size] = timestamp;
+			if (this.rowIndexes != null) {
+				this.rowIndexes.put(timestamp, this.size);
+			}
+			for (var column : this.columns) {
+				column.ensureCapacity(this.size + 1);
+			}
+			return this.size++;
+		}
+
+		/**
+		 * Builds the {@link HistoricData}.
+		 *
+		 * @return the {@link HistoricData}
+		 */
+		public HistoricData build() {
+			// Sort columns by Channel
+			var channels = this.columnIndexes.keySet().toArray(ChannelAddress[]::new);
+			Arrays.sort(channels);
+			var columns = new Column[channels.length];
+			for (var i = 0; i < channels.length; i++) {
+				columns[i] = this.columns.get(this.columnIndexes.get(channels[i]));
+			}
+
+			// Sort rows by timestamp
+			var timestamps = Arrays.copyOf(this.timestamps, this.size);
+			if (this.rowIndexes != null) {
+				var order = new int[timestamps.length];
+				for (var i = 0; i < order.length; i++) {
+					order[i] = i;
+				}
+				order = Arrays.stream(order).boxed() //
+						.sorted((a, b) -> Long.compare(timestamps[a], timestamps[b])) //
+						.mapToInt(Integer::intValue) //
+						.toArray();
+				var sortedTimestamps = new long[timestamps.length];
+				for (var i = 0; i < order.length; i++) {
+					sortedTimestamps[i] = timestamps[order[i]];
+				}
+				for (var i = 0; i < columns.length; i++) {
+					columns[i] = columns[i].permute(order);
+				}
+				return new HistoricData(this.zone, sortedTimestamps, channels, columns);
+			}
+			return new HistoricData(this.zone, timestamps, channels, columns);
+		}
+	}
+
+	/**
+	 * Creates a {@link Builder}.
+	 *
+	 * @param zone the {@link ZoneId} of the timestamps
+	 * @return the {@link Builder}
+	 */
+	public static Builder create(ZoneId zone) {
+		return new Builder(zone);
+	}
+
+	/**
+	 * Converts the map form of a historic data query result.
+	 *
+	 * @param table the result table
+	 * @return the {@link HistoricData}
+	 */
+	public static HistoricData fromMap(SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table) {
+		var zone = table.isEmpty() ? ZoneOffset.UTC : table.firstKey().getZone();
+		var builder = create(zone);
+		for (var row : table.entrySet()) {
+			builder.addTimestamp(row.getKey());
+			for (var cell : row.getValue().entrySet()) {
+				builder.put(row.getKey(), cell.getKey(), cell.getValue());
+			}
+		}
+		return builder.build();
+	}
+
+	private final ZoneId zone;
+	private final long[] timestamps;
+	private final ChannelAddress[] channels;
+	private final Column[] columns;
+
+	private HistoricData(ZoneId zone, long[] timestamps, ChannelAddress[] channels, Column[] columns) {
+		this.zone = zone;
+		this.timestamps = timestamps;
+		this.channels = channels;
+		this.columns = columns;
+	}
+
+	/**
+	 * Gets the number of timestamps.
+	 *
+	 * @return the number of timestamps
+	 */
+	public int size() {
+		return this.timestamps.length;
+	}
+
+	/**
+	 * Gets the timestamp at the given index.
+	 *
+	 * @param index the index
+	 * @return the timestamp
+	 */
+	public ZonedDateTime getTimestamp(int index) {
+		return ZonedDateTime.ofInstant(Instant.ofEpochMilli(this.timestamps[index]), this.zone);
+	}
+
+	/**
+	 * Gets the sorted Channels.
+	 *
+	 * @return the {@link ChannelAddress}es
+	 */
+	public List<ChannelAddress> getChannels() {
+		return Collections.unmodifiableList(Arrays.asList(this.channels));
+	}
+
+	/**
+	 * Gets a numeric value.
+	 *
+	 * @param channel the {@link ChannelAddress}
+	 * @param index   the index of the timestamp
+	 * @return the value; {@link Double#NaN} if it is null, not numeric or the
+	 *         Channel is unknown
+	 */
+	public double getDouble(ChannelAddress channel, int index) {
+		var column = this.getColumn(channel);
+		if (column == null || !column.isNumeric(index)) {
+			return Double.NaN;
+		}
+		return column.values[index];
+	}
+
+	/**
+	 * Gets a value.
+	 *
+	 * @param channel the {@link ChannelAddress}
+	 * @param index   the index of the timestamp
+	 * @return the value; {@link JsonNull} if it is null or the Channel is unknown
+	 */
+	public JsonElement getValue(ChannelAddress channel, int index) {
+		var column = this.getColumn(channel);
+		if (column == null) {
+			return JsonNull.INSTANCE;
+		}
+		return toJson(column, index);
+	}
+
+	private Column getColumn(ChannelAddress channel) {
+		var index = Arrays.binarySearch(this.channels, channel);
+		return index < 0 ? null : this.columns[index];
+	}
+
+	/**
+	 * Converts to the map form of a historic data query result.
+	 *
+	 * @return the result table
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> toMap() {
+		var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		for (var i = 0; i < this.timestamps.length; i++) {
+			var row = new TreeMap<ChannelAddress, JsonElement>();
+			for (var c = 0; c < this.channels.length; c++) {
+				row.put(this.channels[c], toJson(this.columns[c], i));
+			}
+			result.put(this.getTimestamp(i), row);
+		}
+		return result;
+	}
+
+	/**
+	 * Converts to the JSON form used by 'queryHistoricTimeseriesData'.
+	 *
+	 * <pre>
+	 * {
+	 *   "timestamps": ['2011-12-03T10:15:30Z',...],
+	 *   "data": {
+	 *     "componentId/channelId": [value1, value2,...]
+	 *   }
+	 * }
+	 * </pre>
+	 *
+	 * @return the {@link JsonObject}
+	 */
+	public JsonObject toJson() {
+		var timestamps = new JsonArray(this.timestamps.length);
+		for (var timestamp : this.timestamps) {
+			timestamps.add(formatTimestamp(timestamp));
+		}
+		var data = new JsonObject();
+		for (var c = 0; c < this.channels.length; c++) {
+			var values = new JsonArray(this.timestamps.length);
+			for (var i = 0; i < this.timestamps.length; i++) {
+				values.add(toJson(this.columns[c], i));
+			}
+			data.add(this.channels[c].toString(), values);
+		}
+		var result = new JsonObject();
+		result.add("timestamps", timestamps);
+		result.add("data", data);
+		return result;
+	}
+
+	/**
+	 * Streams the JSON form (see {@link #toJson()}) to a {@link JsonWriter}
+	 * without creating intermediate {@link JsonElement}s.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @throws IOException on error
+	 */
+	public void writeTo(JsonWriter writer) throws IOException {
+		writer.beginObject();
+		writer.name("timestamps").beginArray();
+		for (var timestamp : this.timestamps) {
+			writer.value(formatTimestamp(timestamp));
+		}
+		writer.endArray();
+		writer.name("data").beginObject();
+		for (var c = 0; c < this.channels.length; c++) {
+			final var column = this.columns[c];
+			writer.name(this.channels[c].toString()).beginArray();
+			for (var i = 0; i < this.timestamps.length; i++) {
+				if (column.isIntegral(i)) {
+					writer.value(column.longs[i]);
+				} else if (column.isNumeric(i)) {
+					writeNumber(writer, column.values[i]);
+				} else {
+					var other = column.getOther(i);
+					if (other.isJsonNull()) {
+						writer.nullValue();
+					} else {
+						writer.jsonValue(other.toString());
+					}
+				}
+			}
+			writer.endArray();
+		}
+		writer.endObject();
+		writer.endObject();
+	}
+
+	private static String formatTimestamp(long timestamp) {
+		return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(timestamp));
+	}
+
+	private static JsonElement toJson(Column column, int index) {
+		if (column.isIntegral(index)) {
+			return new JsonPrimitive(column.longs[index]);
+		}
+		if (column.isNumeric(index)) {
+			var value = column.values[index];
+			if (isExactLong(value)) {
+				return new JsonPrimitive((long) value);
+			}
+			return new JsonPrimitive(value);
+		}
+		return column.getOther(index);
+	}
+
+	private static void writeNumber(JsonWriter writer, double value) throws IOException {
+		if (isExactLong(value)) {
+			writer.value((long) value);
+		} else {
+			writer.value(value);
+		}
+	}
+
+	private static boolean isExactLong(double value) {
+		return value == Math.rint(value) && Math.abs(value) < MAX_EXACT_LONG;
+	}
+}
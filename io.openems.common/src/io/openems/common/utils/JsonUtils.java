@@ -2,6 +2,7 @@ package io.openems.common.utils;
 
 import static io.openems.common.utils.EnumUtils.toEnum;
 
+import java.io.IOException;
 import java.net.Inet4Address;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -23,6 +24,7 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Function;
 import com.google.common.base.Supplier;
 import com.google.common.collect.Sets;
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -31,6 +33,8 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.exceptions.NotImplementedException;
 import io.openems.common.exceptions.OpenemsError;
@@ -452,6 +456,8 @@ public class JsonUtils {
 
 	private static final Logger LOG = LoggerFactory.getLogger(JsonUtils.class);
 
+	private static final TypeAdapter<JsonElement> JSON_ELEMENT_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
 	/**
 	 * Creates a JsonArray using a Builder.
 	 *
@@ -1809,6 +1815,21 @@ public class JsonUtils {
 		return new GsonBuilder().setPrettyPrinting().serializeNulls().create().toJson(j);
 	}
 
+	/**
+	 * Writes a {@link JsonElement} to a {@link JsonWriter}.
+	 *
+	 * <p>
+	 * Unlike {@link com.google.gson.Gson#toJson(JsonElement, JsonWriter)} this
+	 * keeps the settings of the {@link JsonWriter}.
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @param j      the {@link JsonElement}
+	 * @throws IOException on error
+	 */
+	public static void writeTo(JsonWriter writer, JsonElement j) throws IOException {
+		JSON_ELEMENT_ADAPTER.write(writer, j);
+	}
+
 	/**
 	 * Check if the given {@link JsonElement} is an empty JsonObject {}.
 	 *
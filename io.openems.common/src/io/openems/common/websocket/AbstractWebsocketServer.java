@@ -2,6 +2,7 @@ package io.openems.common.websocket;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -123,26 +124,53 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 						return;
 					}
 
-					if (message instanceof JsonrpcRequest) {
-						AbstractWebsocketServer.this.execute(new OnRequestHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcRequest) message, response -> {
-									AbstractWebsocketServer.this.sendMessage(ws, response);
-								}));
+					this.handleMessage(ws, message);
 
-					} else if (message instanceof JsonrpcResponse) {
-						AbstractWebsocketServer.this.execute(
-								new OnResponseHandler(AbstractWebsocketServer.this, ws, (JsonrpcResponse) message));
+				} catch (Throwable t) {
+					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
+				}
+			}
 
-					} else if (message instanceof JsonrpcNotification) {
-						AbstractWebsocketServer.this.execute(new OnNotificationHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcNotification) message));
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer binaryMessage) {
+				try {
+					final JsonrpcMessage message;
+					try {
+						// Decoded synchronously to keep the order of stateful binary frames
+						message = AbstractWebsocketServer.this.handleBinaryMessage(ws, binaryMessage);
+						if (message == null) {
+							// silently ignore 'null'
+							return;
+						}
+					} catch (OpenemsNamedException e) {
+						AbstractWebsocketServer.this.handleInternalErrorAsync(e, WebsocketUtils.getWsDataString(ws));
+						return;
 					}
 
+					this.handleMessage(ws, message);
+
 				} catch (Throwable t) {
 					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
 				}
 			}
 
+			private void handleMessage(WebSocket ws, JsonrpcMessage message) {
+				if (message instanceof JsonrpcRequest) {
+					AbstractWebsocketServer.this.execute(new OnRequestHandler(AbstractWebsocketServer.this, ws,
+							(JsonrpcRequest) message, response -> {
+								AbstractWebsocketServer.this.sendMessage(ws, response);
+							}));
+
+				} else if (message instanceof JsonrpcResponse) {
+					AbstractWebsocketServer.this.execute(
+							new OnResponseHandler(AbstractWebsocketServer.this, ws, (JsonrpcResponse) message));
+
+				} else if (message instanceof JsonrpcNotification) {
+					AbstractWebsocketServer.this.execute(new OnNotificationHandler(AbstractWebsocketServer.this, ws,
+							(JsonrpcNotification) message));
+				}
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
 				try {
@@ -268,7 +296,7 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 	 */
 	public void sendMessage(WebSocket ws, JsonrpcMessage message) {
 		try {
-			ws.send(message.toString());
+			WebsocketUtils.send(ws, message);
 
 		} catch (WebsocketNotConnectedException e) {
 			WsData wsData = ws.getAttachment();
@@ -385,4 +413,20 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		throw new OpenemsException("Unhandled Non-JSON-RPC message", e);
 	}
 
+	/**
+	 * Handle binary messages.
+	 *
+	 * <p>
+	 * Called synchronously in the order the messages were received.
+	 *
+	 * @param ws            the {@link WebSocket}
+	 * @param binaryMessage the message
+	 * @return message converted to {@link JsonrpcMessage}; or null
+	 * @throws OpenemsNamedException if conversion is not possible
+	 */
+	protected JsonrpcMessage handleBinaryMessage(WebSocket ws, ByteBuffer binaryMessage)
+			throws OpenemsNamedException {
+		throw new OpenemsException("Unhandled binary message");
+	}
+
 }
@@ -0,0 +1,448 @@
+package io.openems.common.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.DataFormatNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Compact binary wire format for {@link AbstractDataNotification}s sent from
+ * Edge to Backend.
+ *
+ * <p>
+ * The format is negotiated per websocket session: the Edge announces support
+ * via the {@link #HANDSHAKE_HEADER}; the Backend answers with a
+ * {@link DataFormatNotification}. Peers that do not know the format keep on
+ * using JSON-RPC.
+ *
+ * <p>
+ * Channel-Addresses are sent only once per session and afterwards referenced
+ * by a numeric ID. Encoder and Decoder keep the same state, so frames have to
+ * be decoded in the order they were encoded. Every frame carries a sequence
+ * number: the Decoder rejects frames that do not directly follow the previous
+ * one; sequence 0 marks a fresh Encoder state (e.g. after {@link Encoder#reset()})
+ * and resets the Decoder. After any decoding error the Decoder state is
+ * undefined and the session has to be closed.
+ *
+ * <pre>
+ * frame      = VERSION type varint(sequence) definitions rows
+ * type       = 1 (timestampedData) | 2 (aggregatedData) | 3 (resendData)
+ * definitions= varint(count) { varint(id) string(channelAddress) }
+ * rows       = varint(count) { zigzag(timestamp - previous timestamp of the frame) values }
+ * values     = varint(count) { varint(id - previous id) tag [payload] }
+ * </pre>
+ *
+ * <p>
+ * Integers are sent as zigzag varint; either absolute or as delta to the
+ * previous integer value of the same Channel.
+ */
+public final class BinaryDataCodec {
+
+	/** Handshake header, sent by the Edge to announce support. */
+	public static final String HANDSHAKE_HEADER = "openems-data-format";
+	/** Name of the format in the {@link #HANDSHAKE_HEADER}. */
+	public static final String FORMAT = "binary-v1";
+
+	private static final byte VERSION = 1;
+
+	private static final byte TYPE_TIMESTAMPED = 1;
+	private static final byte TYPE_AGGREGATED = 2;
+	private static final byte TYPE_RESEND = 3;
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_TRUE = 1;
+	private static final byte TAG_FALSE = 2;
+	private static final byte TAG_LONG = 3;
+	private static final byte TAG_LONG_DELTA = 4;
+	private static final byte TAG_FLOAT = 5;
+	private static final byte TAG_DOUBLE = 6;
+	private static final byte TAG_STRING = 7;
+	private static final byte TAG_JSON = 8;
+
+	private BinaryDataCodec() {
+	}
+
+	/**
+	 * Holds the state that is shared between {@link Encoder} and {@link Decoder}.
+	 */
+	private abstract static class State {
+
+		protected long[] lastLongs = new long[64];
+		protected final BitSet hasLastLong = new BitSet();
+
+		protected void setLastLong(int id, long value) {
+			if (id >= this.lastLongs.length) {
+				this.lastLongs = Arrays.copyOf(this.lastLongs, Math.max(id + 1, this.lastLongs.length * 2));
+			}
+			this.lastLongs[id] = value;
+			this.hasLastLong.set(id);
+		}
+	}
+
+	/**
+	 * Encodes {@link AbstractDataNotification}s of one session.
+	 *
+	 * <p>
+	 * If a frame could not be sent, {@link #reset()} has to be called before the
+	 * next frame.
+	 */
+	public static final class Encoder extends State {
+
+		private final Map<String, Integer> ids = new HashMap<>();
+		private long sequence = 0;
+
+		/**
+		 * Encodes a {@link AbstractDataNotification} to a binary frame.
+		 *
+		 * @param notification the {@link TimestampedDataNotification},
+		 *                     {@link AggregatedDataNotification} or
+		 *                     {@link ResendDataNotification}
+		 * @return the frame
+		 * @throws IllegalArgumentException if the type of notification is not
+		 *                                  supported
+		 */
+		public synchronized byte[] encode(AbstractDataNotification notification) throws IllegalArgumentException {
+			final byte type;
+			if (notification instanceof TimestampedDataNotification) {
+				type = TYPE_TIMESTAMPED;
+			} else if (notification instanceof AggregatedDataNotification) {
+				type = TYPE_AGGREGATED;
+			} else if (notification instanceof ResendDataNotification) {
+				type = TYPE_RESEND;
+			} else {
+				throw new IllegalArgumentException(
+						"Unsupported notification [" + notification.getClass().getSimpleName() + "]");
+			}
+			final var data = notification.getData();
+
+			// Definitions of new Channel-Addresses
+			var definitions = new ByteArrayOutputStream();
+			var numberOfDefinitions = 0;
+			for (var channelAddress : data.columnKeySet()) {
+				if (this.ids.containsKey(channelAddress)) {
+					continue;
+				}
+				var id = this.ids.size();
+				this.ids.put(channelAddress, id);
+				writeVarint(definitions, id);
+				writeString(definitions, channelAddress);
+				numberOfDefinitions++;
+			}
+
+			var out = new ByteArrayOutputStream();
+			out.write(VERSION);
+			out.write(type);
+			writeVarint(out, this.sequence++);
+			writeVarint(out, numberOfDefinitions);
+			out.writeBytes(definitions.toByteArray());
+
+			writeVarint(out, data.rowKeySet().size());
+			var lastTimestamp = 0L;
+			for (var row : data.rowMap().entrySet()) {
+				final long timestamp = row.getKey();
+				writeVarint(out, zigzag(timestamp - lastTimestamp));
+				lastTimestamp = timestamp;
+
+				// Sort values by ID; high bits: ID, low bits: index
+				var values = row.getValue().values().toArray(JsonElement[]::new);
+				var keys = new long[values.length];
+				var index = 0;
+				for (var channelAddress : row.getValue().keySet()) {
+					keys[index] = ((long) this.ids.get(channelAddress) << 32) | index;
+					index++;
+				}
+				Arrays.sort(keys);
+
+				writeVarint(out, keys.length);
+				var lastId = 0;
+				for (var key : keys) {
+					var id = (int) (key >>> 32);
+					writeVarint(out, id - lastId);
+					lastId = id;
+					this.writeValue(out, id, values[(int) key]);
+				}
+			}
+			return out.toByteArray();
+		}
+
+		private void writeValue(ByteArrayOutputStream out, int id, JsonElement value) {
+			if (value == null || value.isJsonNull()) {
+				out.write(TAG_NULL);
+				this.hasLastLong.clear(id);
+				return;
+			}
+			if (value.isJsonPrimitive()) {
+				var p = value.getAsJsonPrimitive();
+				if (p.isBoolean()) {
+					out.write(p.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+					this.hasLastLong.clear(id);
+					return;
+				}
+				if (p.isString()) {
+					out.write(TAG_STRING);
+					writeString(out, p.getAsString());
+					this.hasLastLong.clear(id);
+					return;
+				}
+				var n = p.getAsNumber();
+				if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte) {
+					var l = n.longValue();
+					if (this.hasLastLong.get(id) && isShorter(l - this.lastLongs[id], l)) {
+						out.write(TAG_LONG_DELTA);
+						writeVarint(out, zigzag(l - this.lastLongs[id]));
+					} else {
+						out.write(TAG_LONG);
+						writeVarint(out, zigzag(l));
+					}
+					this.setLastLong(id, l);
+					return;
+				}
+				if (n instanceof Float) {
+					out.write(TAG_FLOAT);
+					var bits = Float.floatToIntBits(n.floatValue());
+					for (var shift = 24; shift >= 0; shift -= 8) {
+						out.write(bits >>> shift);
+					}
+					this.hasLastLong.clear(id);
+					return;
+				}
+				if (n instanceof Double) {
+					out.write(TAG_DOUBLE);
+					var bits = Double.doubleToLongBits(n.doubleValue());
+					for (var shift = 56; shift >= 0; shift -= 8) {
+						out.write((int) (bits >>> shift));
+					}
+					this.hasLastLong.clear(id);
+					return;
+				}
+			}
+			// Any other value, e.g. a lazily parsed number: keep its JSON representation
+			out.write(TAG_JSON);
+			writeString(out, value.toString());
+			this.hasLastLong.clear(id);
+		}
+
+		/**
+		 * Resets the state, e.g. after a frame could not be sent.
+		 */
+		public synchronized void reset() {
+			this.ids.clear();
+			this.hasLastLong.clear();
+			this.sequence = 0;
+		}
+	}
+
+	/**
+	 * Decodes frames of one session.
+	 */
+	public static final class Decoder extends State {
+
+		private String[] channelAddresses = new String[64];
+		private int numberOfChannelAddresses = 0;
+		private long nextSequence = 0;
+
+		/**
+		 * Decodes a binary frame.
+		 *
+		 * <p>
+		 * On error the state of the Decoder is undefined; the session has to be
+		 * closed, so that both sides start again with a fresh state.
+		 *
+		 * @param frame the frame
+		 * @return the {@link TimestampedDataNotification},
+		 *         {@link AggregatedDataNotification} or
+		 *         {@link ResendDataNotification}
+		 * @throws OpenemsNamedException on error
+		 */
+		public synchronized AbstractDataNotification decode(ByteBuffer frame) throws OpenemsNamedException {
+			try {
+				var version = frame.get();
+				if (version != VERSION) {
+					throw new OpenemsException("Unsupported binary data version [" + version + "]");
+				}
+				var type = frame.get();
+
+				var sequence = readVarint(frame);
+				if (sequence == 0) {
+					// Encoder started with a fresh state
+					this.numberOfChannelAddresses = 0;
+					this.hasLastLong.clear();
+				} else if (sequence != this.nextSequence) {
+					throw new OpenemsException(
+							"Unexpected binary data sequence [" + sequence + "]. Expected [" + this.nextSequence + "]");
+				}
+
+				var numberOfDefinitions = readCount(frame);
+				for (var i = 0; i < numberOfDefinitions; i++) {
+					// IDs are defined in ascending order without gaps
+					var id = readVarint(frame);
+					if (id != this.numberOfChannelAddresses) {
+						throw new OpenemsException("Unexpected Channel-ID definition [" + id + "]. Expected ["
+								+ this.numberOfChannelAddresses + "]");
+					}
+					if (id >= this.channelAddresses.length) {
+						this.channelAddresses = Arrays.copyOf(this.channelAddresses, this.channelAddresses.length * 2);
+					}
+					this.channelAddresses[(int) id] = readString(frame);
+					this.hasLastLong.clear((int) id);
+					this.numberOfChannelAddresses++;
+				}
+
+				var data = TreeBasedTable.<Long, String, JsonElement>create();
+				var numberOfRows = readCount(frame);
+				var lastTimestamp = 0L;
+				for (var r = 0; r < numberOfRows; r++) {
+					var timestamp = lastTimestamp + unzigzag(readVarint(frame));
+					lastTimestamp = timestamp;
+
+					var numberOfValues = readCount(frame);
+					var id = 0;
+					for (var v = 0; v < numberOfValues; v++) {
+						var delta = readVarint(frame);
+						if (delta < 0 || delta >= this.numberOfChannelAddresses - id) {
+							throw new OpenemsException("Undefined Channel-ID [" + id + " + " + delta + "]");
+						}
+						id += (int) delta;
+						data.put(timestamp, this.channelAddresses[id], this.readValue(frame, id));
+					}
+				}
+
+				final AbstractDataNotification result = switch (type) {
+				case TYPE_TIMESTAMPED -> new TimestampedDataNotification(data);
+				case TYPE_AGGREGATED -> new AggregatedDataNotification(data);
+				case TYPE_RESEND -> new ResendDataNotification(data);
+				default -> throw new OpenemsException("Unsupported binary data type [" + type + "]");
+				};
+				this.nextSequence = sequence + 1;
+				return result;
+
+			} catch (BufferUnderflowException | JsonParseException | IllegalArgumentException e) {
+				throw new OpenemsException("Invalid binary data frame. " + e.getClass().getSimpleName());
+			}
+		}
+
+		private JsonElement readValue(ByteBuffer frame, int id) throws OpenemsException {
+			var tag = frame.get();
+			if (tag == TAG_LONG || tag == TAG_LONG_DELTA) {
+				var l = unzigzag(readVarint(frame));
+				if (tag == TAG_LONG_DELTA) {
+					if (!this.hasLastLong.get(id)) {
+						throw new OpenemsException("Missing previous value of [" + this.channelAddresses[id] + "]");
+					}
+					l += this.lastLongs[id];
+				}
+				this.setLastLong(id, l);
+				return new JsonPrimitive(l);
+			}
+
+			this.hasLastLong.clear(id);
+			return switch (tag) {
+			case TAG_NULL -> JsonNull.INSTANCE;
+			case TAG_TRUE -> new JsonPrimitive(true);
+			case TAG_FALSE -> new JsonPrimitive(false);
+			case TAG_FLOAT -> {
+				// Same value as parsing the JSON representation of the float
+				var f = Float.intBitsToFloat(frame.getInt());
+				yield new JsonPrimitive(Double.parseDouble(Float.toString(f)));
+			}
+			case TAG_DOUBLE -> new JsonPrimitive(frame.getDouble());
+			case TAG_STRING -> new JsonPrimitive(readString(frame));
+			case TAG_JSON -> JsonParser.parseString(readString(frame));
+			default -> throw new OpenemsException("Unsupported value tag [" + tag + "]");
+			};
+		}
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static int varintSize(long value) {
+		var size = 1;
+		while ((value & ~0x7FL) != 0) {
+			value >>>= 7;
+			size++;
+		}
+		return size;
+	}
+
+	private static boolean isShorter(long delta, long absolute) {
+		return varintSize(zigzag(delta)) < varintSize(zigzag(absolute));
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarint(ByteBuffer in) throws OpenemsException {
+		long result = 0;
+		for (var shift = 0; shift < 64; shift += 7) {
+			var b = in.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new OpenemsException("Invalid varint");
+	}
+
+	/**
+	 * Reads the number of following entries. Every entry takes at least one byte,
+	 * so the count is limited by the remaining bytes of the frame.
+	 *
+	 * @param in the frame
+	 * @return the count
+	 * @throws OpenemsException if the count is invalid
+	 */
+	private static int readCount(ByteBuffer in) throws OpenemsException {
+		var count = readVarint(in);
+		if (count < 0 || count > in.remaining()) {
+			throw new OpenemsException("Invalid count [" + count + "]");
+		}
+		return (int) count;
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String value) {
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarint(out, bytes.length);
+		out.writeBytes(bytes);
+	}
+
+	private static String readString(ByteBuffer in) throws OpenemsException {
+		var length = readVarint(in);
+		if (length < 0 || length > in.remaining()) {
+			throw new OpenemsException("Invalid string length [" + length + "]");
+		}
+		var bytes = new byte[(int) length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
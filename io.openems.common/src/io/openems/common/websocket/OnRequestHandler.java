@@ -1,6 +1,7 @@
 package io.openems.common.websocket;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -68,6 +69,11 @@ public class OnRequestHandler implements Runnable {
 	}
 
 	private void handleException(Throwable t) {
+		if (t instanceof CompletionException && t.getCause() != null) {
+			// Unwrap exceptions of dependent CompletableFutures
+			t = t.getCause();
+		}
+
 		// Log Error
 		var log = new StringBuilder() //
 				.append("JSON-RPC Error "); //
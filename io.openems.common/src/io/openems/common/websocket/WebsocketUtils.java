@@ -1,10 +1,16 @@
 package io.openems.common.websocket;
 
+import java.nio.ByteBuffer;
+
 import org.java_websocket.WebSocket;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
+import org.java_websocket.framing.TextFrame;
 import org.java_websocket.handshake.Handshakedata;
 
 import com.google.gson.JsonObject;
 
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+
 public class WebsocketUtils {
 
 	/**
@@ -28,6 +34,37 @@ public class WebsocketUtils {
 		return j;
 	}
 
+	/**
+	 * Sends a {@link JsonrpcMessage} as text frame.
+	 *
+	 * <p>
+	 * The message is streamed directly to UTF-8 bytes, without creating the JSON
+	 * String first.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the {@link JsonrpcMessage}
+	 * @throws WebsocketNotConnectedException if the WebSocket is not connected
+	 */
+	public static void send(WebSocket ws, JsonrpcMessage message) throws WebsocketNotConnectedException {
+		send(ws, message.toUtf8());
+	}
+
+	/**
+	 * Sends an already serialized {@link JsonrpcMessage} as text frame.
+	 *
+	 * <p>
+	 * The same payload can be sent to many WebSockets; it is not modified.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param payload the UTF-8 payload, see {@link JsonrpcMessage#toUtf8()}
+	 * @throws WebsocketNotConnectedException if the WebSocket is not connected
+	 */
+	public static void send(WebSocket ws, ByteBuffer payload) throws WebsocketNotConnectedException {
+		var frame = new TextFrame();
+		frame.setPayload(payload.duplicate());
+		ws.sendFrame(frame);
+	}
+
 	/**
 	 * Gets the toString() content of the WsData attachment of the WebSocket; or
 	 * empty string if not available.
@@ -1,5 +1,6 @@
 package io.openems.common.websocket;
 
+import java.nio.ByteBuffer;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -91,22 +92,33 @@ public abstract class WsData {
 	}
 
 	/**
-	 * Sends the JSON-RPC message.
+	 * Sends an already serialized JSON-RPC Notification to a WebSocket.
 	 *
-	 * @param message the JSON-RPC Message
+	 * @param notification the UTF-8 payload of the JSON-RPC Notification, see
+	 *                     {@link JsonrpcMessage#toUtf8()}
 	 * @throws OpenemsException on error
 	 */
-	private void sendMessage(JsonrpcMessage message) throws OpenemsException {
+	public void send(ByteBuffer notification) throws OpenemsException {
 		if (this.websocket == null) {
 			throw new OpenemsException("There is no Websocket defined for this WsData.");
 		}
 		try {
-			this.websocket.send(message.toString());
+			WebsocketUtils.send(this.websocket, notification);
 		} catch (WebsocketNotConnectedException e) {
 			throw new OpenemsException("Websocket is not connected: " + e.getMessage());
 		}
 	}
 
+	/**
+	 * Sends the JSON-RPC message.
+	 *
+	 * @param message the JSON-RPC Message
+	 * @throws OpenemsException on error
+	 */
+	private void sendMessage(JsonrpcMessage message) throws OpenemsException {
+		this.send(message.toUtf8());
+	}
+
 	/**
 	 * Handles a JSON-RPC response by completing the previously registers request
 	 * Future.
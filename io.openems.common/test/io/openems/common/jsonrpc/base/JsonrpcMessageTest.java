@@ -0,0 +1,78 @@
+package io.openems.common.jsonrpc.base;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+
+import io.openems.common.exceptions.OpenemsError;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.request.EdgeRpcRequest;
+import io.openems.common.jsonrpc.response.EdgeRpcResponse;
+import io.openems.common.utils.JsonUtils;
+
+public class JsonrpcMessageTest {
+
+	private static final UUID ID = UUID.fromString("1e5b0bd5-9c66-4c7c-9b0d-0c8a9b4d5d3f");
+
+	private static void assertStreamed(JsonrpcMessage message) {
+		var expected = message.toJsonObject().toString();
+		assertEquals(expected, message.toString());
+		var utf8 = message.toUtf8();
+		assertEquals(expected, StandardCharsets.UTF_8.decode(utf8).toString());
+	}
+
+	@Test
+	public void testWriteTo() {
+		var array = new JsonArray();
+		array.add(Double.NaN);
+		array.add(JsonNull.INSTANCE);
+		var params = JsonUtils.buildJsonObject() //
+				.addProperty("text", "\u00e4\u00f6\u00fc <&> \"\u20ac\"") //
+				.add("array", array) //
+				.build();
+
+		assertStreamed(new GenericJsonrpcRequest(ID, "foo", params, 10));
+		assertStreamed(new GenericJsonrpcNotification("foo", params));
+		assertStreamed(new GenericJsonrpcResponseSuccess(ID, params));
+		assertStreamed(new JsonrpcResponseError(ID, OpenemsError.GENERIC.exception("error")));
+		assertStreamed(new EdgeRpcRequest("edge0", new GenericJsonrpcRequest("foo", params)));
+		assertStreamed(new EdgeRpcResponse(ID, new GenericJsonrpcResponseSuccess(ID, params)));
+	}
+
+	@Test
+	public void testForwardEdgeRpc() throws OpenemsNamedException {
+		var json = "{\"jsonrpc\":\"2.0\",\"method\":\"edgeRpc\",\"params\":{\"edgeId\":\"edge0\",\"payload\":"
+				+ "{\"jsonrpc\":\"2.0\",\"method\":\"foo\",\"params\":{ \"big\": [1, 2, 3] },\"id\":\"" + ID + "\"}},"
+				+ "\"id\":\"" + ID + "\"}";
+		var request = EdgeRpcRequest.from((JsonrpcRequest) JsonrpcMessage.from(json));
+		assertEquals("edge0", request.getEdgeId());
+
+		var payload = (GenericJsonrpcRequest) request.getPayload();
+		assertEquals("foo", payload.getMethod());
+		assertEquals(ID, payload.getId());
+
+		// Payload params are forwarded unchanged
+		assertNotNull(payload.getRawParams());
+		assertTrue(payload.toString().contains("\"params\":{ \"big\": [1, 2, 3] }"));
+
+		// ...and can still be parsed
+		assertEquals(3, payload.getParams().getAsJsonArray("big").size());
+	}
+
+	@Test
+	public void testFromLenient() throws OpenemsNamedException {
+		var message = JsonrpcMessage.from("{jsonrpc:'2.0',method:'foo',params:{}}");
+		assertNull(((GenericJsonrpcNotification) message).getRawParams());
+		assertEquals("foo", ((GenericJsonrpcNotification) message).getMethod());
+	}
+
+}
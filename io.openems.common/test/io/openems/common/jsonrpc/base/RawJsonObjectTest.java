@@ -0,0 +1,81 @@
+package io.openems.common.jsonrpc.base;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+
+public class RawJsonObjectTest {
+
+	@Test
+	public void testFrom() throws OpenemsNamedException {
+		var sut = RawJsonObject.from(" { \"a\" : \"b\", \"n\\u0061me\": -1.5e+3, \"o\": {\"x\": [1, {}, [], null, true]},"
+				+ " \"s\": \"q\\\"}\", \"t\": 10 } ");
+		assertNotNull(sut);
+		assertTrue(sut.has("a"));
+		assertTrue(sut.has("name"));
+		assertFalse(sut.has("x"));
+		assertEquals("b", sut.getAsString("a"));
+		assertEquals(-1500, sut.getAsJsonElement("name").getAsDouble(), 0);
+		assertEquals("q\"}", sut.getAsString("s"));
+		assertEquals(Optional.of(10), sut.getAsOptionalInt("t"));
+		assertEquals(Optional.empty(), sut.getAsOptionalInt("x"));
+		assertEquals("{\"x\": [1, {}, [], null, true]}", sut.getAsRawJsonObject("o").toString());
+		assertEquals(JsonParser.parseString("{\"x\":[1,{},[],null,true]}"), sut.getAsJsonObject("o"));
+	}
+
+	@Test
+	public void testFromInvalid() {
+		assertNull(RawJsonObject.from(""));
+		assertNull(RawJsonObject.from("[]"));
+		assertNull(RawJsonObject.from("{\"a\":1"));
+		assertNull(RawJsonObject.from("{\"a\":1}}"));
+		assertNull(RawJsonObject.from("{\"a\":[1,]}"));
+		assertNull(RawJsonObject.from("{\"a\":{\"b\"}}"));
+		assertNull(RawJsonObject.from("{\"a\":01}"));
+		assertNull(RawJsonObject.from("{\"a\":\"\\x\"}"));
+		assertNull(RawJsonObject.from("{a:1}")); // lenient
+		assertNull(RawJsonObject.from("{\"a\":NaN}")); // lenient
+	}
+
+	@Test
+	public void testDeepNesting() {
+		var depth = 100_000;
+		var json = "{\"a\":" + "[".repeat(depth) + "]".repeat(depth) + "}";
+		assertNotNull(RawJsonObject.from(json));
+	}
+
+	@Test(expected = OpenemsNamedException.class)
+	public void testNoObject() throws OpenemsNamedException {
+		RawJsonObject.from("{\"a\":[]}").getAsRawJsonObject("a");
+	}
+
+	@Test
+	public void testWriteTo() throws IOException {
+		var sut = RawJsonObject.from("{ \"a\": 1 }");
+		assertEquals("{ \"a\": 1 }", write(sut));
+
+		// Parsed object might have been modified
+		sut.toJsonObject().addProperty("b", 2);
+		assertEquals("{\"a\":1,\"b\":2}", write(sut));
+	}
+
+	private static String write(RawJsonObject sut) throws IOException {
+		var out = new StringWriter();
+		sut.writeTo(new JsonWriter(out));
+		return out.toString();
+	}
+
+}
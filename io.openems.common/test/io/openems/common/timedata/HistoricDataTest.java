@@ -0,0 +1,142 @@
+package io.openems.common.timedata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+
+import io.openems.common.types.ChannelAddress;
+
+public class HistoricDataTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+	private static final ZonedDateTime T0 = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZONE);
+	private static final ZonedDateTime T1 = T0.plusMinutes(5);
+	private static final ZonedDateTime T2 = T0.plusMinutes(10);
+
+	private static final ChannelAddress SUM_PRODUCTION = new ChannelAddress("_sum", "ProductionActivePower");
+	private static final ChannelAddress SUM_SOC = new ChannelAddress("_sum", "EssSoc");
+	private static final ChannelAddress CTRL_STATE = new ChannelAddress("ctrl0", "StateMachine");
+
+	private static HistoricData build() {
+		// unsorted on purpose
+		return HistoricData.create(ZONE) //
+				.put(T2, SUM_PRODUCTION, 300) //
+				.put(T0, SUM_PRODUCTION, 100) //
+				.put(T0, SUM_SOC, 50.5) //
+				.put(T1, SUM_SOC, Double.NaN) //
+				.put(T1, CTRL_STATE, new JsonPrimitive("RUNNING")) //
+				.addTimestamp(T1) //
+				.build();
+	}
+
+	@Test
+	public void testBuilder() {
+		var sut = build();
+		assertEquals(3, sut.size());
+		assertEquals(T0, sut.getTimestamp(0));
+		assertEquals(T1, sut.getTimestamp(1));
+		assertEquals(T2, sut.getTimestamp(2));
+		assertEquals(List.of(SUM_SOC, SUM_PRODUCTION, CTRL_STATE), sut.getChannels());
+
+		assertEquals(100, sut.getDouble(SUM_PRODUCTION, 0), 0.);
+		assertTrue(Double.isNaN(sut.getDouble(SUM_PRODUCTION, 1)));
+		assertEquals(300, sut.getDouble(SUM_PRODUCTION, 2), 0.);
+		assertEquals(50.5, sut.getDouble(SUM_SOC, 0), 0.);
+		assertEquals(JsonNull.INSTANCE, sut.getValue(SUM_SOC, 1));
+		assertEquals(new JsonPrimitive("RUNNING"), sut.getValue(CTRL_STATE, 1));
+		assertTrue(Double.isNaN(sut.getDouble(CTRL_STATE, 1)));
+		assertEquals(JsonNull.INSTANCE, sut.getValue(new ChannelAddress("foo", "Bar"), 0));
+	}
+
+	@Test
+	public void testMapRoundTrip() {
+		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table = new TreeMap<>();
+		for (var timestamp : List.of(T0, T1, T2)) {
+			var row = new TreeMap<ChannelAddress, JsonElement>();
+			row.put(SUM_PRODUCTION, new JsonPrimitive(timestamp.getMinute()));
+			row.put(SUM_SOC, timestamp.equals(T1) ? JsonNull.INSTANCE : new JsonPrimitive(12.5));
+			table.put(timestamp, row);
+		}
+
+		var sut = HistoricData.fromMap(table);
+		assertEquals(table, sut.toMap());
+		assertEquals(ZONE, sut.toMap().firstKey().getZone());
+
+		var empty = HistoricData.fromMap(new TreeMap<>());
+		assertEquals(0, empty.size());
+		assertTrue(empty.toMap().isEmpty());
+	}
+
+	@Test
+	public void testJson() throws IOException {
+		var sut = build();
+		var expected = JsonParser.parseString("""
+				{
+				  "timestamps": ["2022-12-31T23:00:00Z", "2022-12-31T23:05:00Z", "2022-12-31T23:10:00Z"],
+				  "data": {
+				    "_sum/EssSoc": [50.5, null, null],
+				    "_sum/ProductionActivePower": [100, null, 300],
+				    "ctrl0/StateMachine": [null, "RUNNING", null]
+				  }
+				}""");
+		assertEquals(expected, sut.toJson());
+
+		var writer = new StringWriter();
+		sut.writeTo(new JsonWriter(writer));
+		assertEquals(expected, JsonParser.parseString(writer.toString()));
+	}
+
+	@Test
+	public void testPutByColumn() {
+		var builder = HistoricData.create(ZONE);
+		var soc = builder.addColumn(SUM_SOC);
+		var production = builder.addColumn(SUM_PRODUCTION);
+		assertEquals(soc, builder.addColumn(SUM_SOC));
+		for (var timestamp : List.of(T0, T1, T2)) {
+			builder.put(timestamp.toInstant().toEpochMilli(), soc, 50.5);
+		}
+		for (var timestamp : List.of(T0, T1, T2)) {
+			builder.put(timestamp.toInstant().toEpochMilli(), production, (long) timestamp.getMinute());
+		}
+		var sut = builder.build();
+		assertEquals(3, sut.size());
+		assertEquals(List.of(SUM_SOC, SUM_PRODUCTION), sut.getChannels());
+		assertEquals(50.5, sut.getDouble(SUM_SOC, 2), 0.);
+		assertEquals(new JsonPrimitive(10L), sut.getValue(SUM_PRODUCTION, 2));
+	}
+
+	@Test
+	public void testLongPrecision() throws IOException {
+		var large = (1L << 53) + 1;
+		var sut = HistoricData.create(ZONE) //
+				.put(T1, SUM_PRODUCTION, large) //
+				.put(T0, SUM_PRODUCTION, new JsonPrimitive(Long.MAX_VALUE)) //
+				.put(T2, SUM_PRODUCTION, JsonParser.parseString("-9007199254740993")) //
+				.build();
+		assertEquals(new JsonPrimitive(Long.MAX_VALUE), sut.getValue(SUM_PRODUCTION, 0));
+		assertEquals(large, sut.getValue(SUM_PRODUCTION, 1).getAsLong());
+		assertEquals(-large, sut.getValue(SUM_PRODUCTION, 2).getAsLong());
+		assertEquals(large, sut.getDouble(SUM_PRODUCTION, 1), 1.);
+
+		var writer = new StringWriter();
+		sut.writeTo(new JsonWriter(writer));
+		assertEquals(sut.toJson(), JsonParser.parseString(writer.toString()));
+		assertTrue(writer.toString().contains("[9223372036854775807,9007199254740993,-9007199254740993]"));
+	}
+
+}
@@ -0,0 +1,156 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class BinaryDataCodecTest {
+
+	private static final long T0 = 1_700_000_000_000L;
+
+	private static TimestampedDataNotification timestamped(long timestamp, long energy) {
+		var n = new TimestampedDataNotification();
+		n.add(timestamp, "meter0/ActivePowerL1", new JsonPrimitive(-1234));
+		n.add(timestamp, "meter0/ActiveProductionEnergy", new JsonPrimitive(energy));
+		n.add(timestamp, "meter0/VoltageL1", new JsonPrimitive(230.5));
+		n.add(timestamp, "meter0/Frequency", new JsonPrimitive(49.98F));
+		n.add(timestamp, "_sum/State", new JsonPrimitive(0));
+		n.add(timestamp, "_meta/Version", new JsonPrimitive("2024.1.0"));
+		n.add(timestamp, "ess0/Running", new JsonPrimitive(true));
+		n.add(timestamp, "ess0/Soc", JsonNull.INSTANCE);
+		n.add(timestamp, "ess0/Lazy", JsonParser.parseString("12.50"));
+		var array = new JsonArray();
+		array.add(1);
+		n.add(timestamp, "ess0/Array", array);
+		return n;
+	}
+
+	/**
+	 * Parses the JSON-RPC representation, like for a Backend without binary data
+	 * format.
+	 */
+	private static AbstractDataNotification viaJson(AbstractDataNotification notification)
+			throws OpenemsNamedException {
+		return TimestampedDataNotification.from(GenericJsonrpcNotification.from(notification.toString()));
+	}
+
+	private static void assertSameValues(AbstractDataNotification expected, AbstractDataNotification actual) {
+		assertEquals(expected.getData().rowKeySet(), actual.getData().rowKeySet());
+		for (var cell : expected.getData().cellSet()) {
+			assertEquals(cell.getValue(), actual.getData().get(cell.getRowKey(), cell.getColumnKey()));
+		}
+		assertEquals(expected.getData().size(), actual.getData().size());
+	}
+
+	@Test
+	public void testRoundTrip() throws OpenemsNamedException {
+		var encoder = new BinaryDataCodec.Encoder();
+		var decoder = new BinaryDataCodec.Decoder();
+
+		for (var i = 0; i < 10; i++) {
+			var notification = timestamped(T0 + i * 1000, 987_654_321L + i);
+			var frame = encoder.encode(notification);
+			var decoded = decoder.decode(ByteBuffer.wrap(frame));
+
+			assertTrue(decoded instanceof TimestampedDataNotification);
+			assertSameValues(viaJson(notification), decoded);
+
+			if (i > 0) {
+				// no definitions; small deltas
+				assertTrue(frame.length * 4 < notification.toString().length());
+			}
+		}
+
+		var aggregated = new AggregatedDataNotification();
+		aggregated.add(T0, "meter0/ActivePowerL1", new JsonPrimitive(1));
+		aggregated.add(T0 + 300_000, "meter0/ActivePowerL1", new JsonPrimitive(2));
+		aggregated.add(T0 + 300_000, "meter1/ActivePower", new JsonPrimitive(3));
+		var decoded = decoder.decode(ByteBuffer.wrap(encoder.encode(aggregated)));
+		assertTrue(decoded instanceof AggregatedDataNotification);
+		assertSameValues(aggregated, decoded);
+	}
+
+	@Test
+	public void testFloatLikeJson() throws OpenemsNamedException {
+		var notification = new TimestampedDataNotification();
+		notification.add(T0, "meter0/Frequency", new JsonPrimitive(0.1F));
+		var decoded = new BinaryDataCodec.Decoder()
+				.decode(ByteBuffer.wrap(new BinaryDataCodec.Encoder().encode(notification)));
+		assertEquals(0.1, decoded.getData().get(T0, "meter0/Frequency").getAsDouble(), 0);
+	}
+
+	@Test
+	public void testReset() throws OpenemsNamedException {
+		var encoder = new BinaryDataCodec.Encoder();
+		var decoder = new BinaryDataCodec.Decoder();
+		decoder.decode(ByteBuffer.wrap(encoder.encode(timestamped(T0, 100))));
+
+		// Frame gets lost
+		encoder.encode(timestamped(T0 + 1000, 200));
+		encoder.reset();
+
+		var notification = new TimestampedDataNotification();
+		notification.add(T0 + 2000, "ess0/Soc", new JsonPrimitive(50));
+		notification.add(T0 + 2000, "meter0/ActiveProductionEnergy", new JsonPrimitive(300));
+		var decoded = decoder.decode(ByteBuffer.wrap(encoder.encode(notification)));
+		assertSameValues(notification, decoded);
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testUndefinedChannel() throws OpenemsNamedException {
+		var encoder = new BinaryDataCodec.Encoder();
+		encoder.encode(timestamped(T0, 100));
+
+		// Frame without definitions
+		new BinaryDataCodec.Decoder().decode(ByteBuffer.wrap(encoder.encode(timestamped(T0 + 1000, 101))));
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testLostFrame() throws OpenemsNamedException {
+		var encoder = new BinaryDataCodec.Encoder();
+		var decoder = new BinaryDataCodec.Decoder();
+		decoder.decode(ByteBuffer.wrap(encoder.encode(timestamped(T0, 100))));
+
+		// Frame gets lost without reset of the Encoder: deltas would be wrong
+		encoder.encode(timestamped(T0 + 1000, 200));
+		decoder.decode(ByteBuffer.wrap(encoder.encode(timestamped(T0 + 2000, 300))));
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testInvalidDefinitionId() throws OpenemsNamedException {
+		// VERSION, type, sequence 0, 1 definition with ID 2^31, string ""
+		var frame = new byte[] { 1, 1, 0, 1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x08, 0 };
+		new BinaryDataCodec.Decoder().decode(ByteBuffer.wrap(frame));
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testInvalidValueId() throws OpenemsNamedException {
+		// VERSION, type, sequence 0, 1 definition with ID 0, string "a", 1 row at 0,
+		// 2 values: ID 0 + 0 -> null, ID 0 + 2^32 - 1 -> overflow to -1
+		var frame = new byte[] { 1, 1, 0, 1, 0, 1, 'a', 1, 0, 2, 0, 0, //
+				(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 0 };
+		new BinaryDataCodec.Decoder().decode(ByteBuffer.wrap(frame));
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testInvalidFrame() throws OpenemsNamedException {
+		var frame = new BinaryDataCodec.Encoder().encode(timestamped(T0, 100));
+		new BinaryDataCodec.Decoder().decode(ByteBuffer.wrap(frame, 0, frame.length / 2));
+	}
+
+}
@@ -94,6 +94,7 @@ public class BridgeModbusSerialImpl extends AbstractModbusBridge
 	}
 
 	private void applyConfig(ConfigSerial config) {
+		this.setReadCoalescingMaxGap(config.readCoalescingMaxGap());
 		this.portName = config.portName();
 		this.baudrate = config.baudRate();
 		this.databits = config.databits();
@@ -22,6 +22,8 @@ import io.openems.common.utils.InetAddressUtils;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 
@@ -46,6 +48,8 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	private InetAddress ipAddress = null;
 	private int port;
 
+	private final ModbusTcpPipeline pipeline = new ModbusTcpPipeline();
+
 	public BridgeModbusTcpImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -70,6 +74,9 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	}
 
 	private void applyConfig(ConfigTcp config) {
+		this.setReadCoalescingMaxGap(config.readCoalescingMaxGap());
+		this.worker.setMaxInFlightRequests(config.maxInFlightRequests());
+		this.pipeline.reset();
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
 	}
@@ -96,6 +103,21 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		return transaction;
 	}
 
+	@Override
+	protected ExecuteState[] executePipelined(ReadTask[] tasks) {
+		if (!this.pipeline.isEnabled()) {
+			return super.executePipelined(tasks);
+		}
+		final TCPMasterConnection connection;
+		try {
+			connection = this.getModbusConnection();
+		} catch (OpenemsException e) {
+			// Serial execution handles reconnect and errors
+			return super.executePipelined(tasks);
+		}
+		return this.pipeline.execute(this, connection.getModbusTransport(), tasks);
+	}
+
 	private TCPMasterConnection _connection = null;
 
 	private synchronized TCPMasterConnection getModbusConnection() throws OpenemsException {
@@ -51,5 +51,8 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Read coalescing max gap", description = "Merge HIGH priority read tasks with the same Unit-ID and function code into one request, if at most this number of unused registers is in between. '-1' disables merging.", min = "-1")
+	int readCoalescingMaxGap() default -1;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
\ No newline at end of file
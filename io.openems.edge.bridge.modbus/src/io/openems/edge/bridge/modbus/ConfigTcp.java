@@ -33,5 +33,11 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Read coalescing max gap", description = "Merge HIGH priority read tasks with the same Unit-ID and function code into one request, if at most this number of unused registers is in between. '-1' disables merging.", min = "-1")
+	int readCoalescingMaxGap() default -1;
+
+	@AttributeDefinition(name = "Max requests in flight", description = "Pipelining: number of read requests that are sent before waiting for the responses. The device must support multiple outstanding Transaction-IDs; pipelining is disabled automatically if it misbehaves. '1' disables pipelining.", min = "1")
+	int maxInFlightRequests() default 1;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/TCP [{id}]";
 }
\ No newline at end of file
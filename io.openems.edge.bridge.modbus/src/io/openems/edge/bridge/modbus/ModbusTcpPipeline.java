@@ -0,0 +1,117 @@
+package io.openems.edge.bridge.modbus;
+
+import java.util.HashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.io.AbstractModbusTransport;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.task.AbstractReadTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+
+/**
+ * Executes multiple {@link ReadTask}s on one Modbus/TCP connection with
+ * pipelined requests: all requests are written before the responses are read
+ * and matched by their Transaction-ID.
+ *
+ * <p>
+ * If a device misbehaves - e.g. it does not answer all requests in time or
+ * answers with unknown Transaction-IDs - pipelining is disabled until
+ * {@link #reset()} is called and all unanswered tasks are executed one by one.
+ */
+public class ModbusTcpPipeline {
+
+	/** Max Modbus/TCP Transaction-ID. */
+	private static final int MAX_TRANSACTION_ID = 0xFFFF;
+
+	private final Logger log = LoggerFactory.getLogger(ModbusTcpPipeline.class);
+
+	private int lastTransactionId = 0;
+	private boolean isEnabled = true;
+
+	/**
+	 * Is pipelining enabled, i.e. did the device not misbehave yet?.
+	 *
+	 * @return true if enabled
+	 */
+	public synchronized boolean isEnabled() {
+		return this.isEnabled;
+	}
+
+	/**
+	 * Enables pipelining again, e.g. after the configuration was changed.
+	 */
+	public synchronized void reset() {
+		this.isEnabled = true;
+	}
+
+	/**
+	 * Executes the given {@link ReadTask}s.
+	 *
+	 * <p>
+	 * Tasks that do not support pipelining and tasks without a response are
+	 * executed one by one via {@link ReadTask#execute(AbstractModbusBridge)}.
+	 *
+	 * @param bridge    the {@link AbstractModbusBridge}
+	 * @param transport the {@link AbstractModbusTransport} of an open connection
+	 * @param tasks     the {@link ReadTask}s
+	 * @return the {@link ExecuteState} per task
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public synchronized ExecuteState[] execute(AbstractModbusBridge bridge, AbstractModbusTransport transport,
+			ReadTask[] tasks) {
+		var results = new ExecuteState[tasks.length];
+		if (this.isEnabled) {
+			var requests = new ModbusRequest[tasks.length];
+			var indexByTransactionId = new HashMap<Integer, Integer>();
+			try {
+				// Write all requests
+				for (var i = 0; i < tasks.length; i++) {
+					if (tasks[i] instanceof AbstractReadTask task) {
+						var request = task.createPipelinedRequest();
+						request.setTransactionID(this.nextTransactionId());
+						requests[i] = request;
+						indexByTransactionId.put(request.getTransactionID(), i);
+						transport.writeRequest(request);
+					}
+				}
+
+				// Read all responses
+				while (!indexByTransactionId.isEmpty()) {
+					var response = transport.readResponse();
+					var index = indexByTransactionId.remove(response.getTransactionID());
+					if (index == null) {
+						throw new OpenemsException("Unexpected Transaction-ID [" + response.getTransactionID() + "]");
+					}
+					results[index] = ((AbstractReadTask) tasks[index]).handlePipelinedResponse(bridge, requests[index],
+							response);
+				}
+
+			} catch (Exception e) {
+				this.isEnabled = false;
+				this.log.warn("[" + bridge.id() + "] Disable pipelining. " //
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+				// Drop responses that might still arrive
+				bridge.closeModbusConnection();
+			}
+		}
+
+		// Execute remaining tasks one by one
+		for (var i = 0; i < tasks.length; i++) {
+			if (results[i] == null) {
+				results[i] = tasks[i].execute(bridge);
+			}
+		}
+		return results;
+	}
+
+	private int nextTransactionId() {
+		this.lastTransactionId = this.lastTransactionId % MAX_TRANSACTION_ID + 1;
+		return this.lastTransactionId;
+	}
+}
@@ -10,6 +10,8 @@ import org.osgi.service.event.EventHandler;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
@@ -41,6 +43,8 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	protected final ModbusWorker worker = new ModbusWorker(
 			// Execute Task
 			task -> task.execute(this),
+			// Execute multiple ReadTasks pipelined
+			tasks -> this.executePipelined(tasks),
 			// Invalidate ModbusElements
 			elements -> Stream.of(elements).forEach(e -> e.invalidate(this)),
 			// Set ChannelId.CYCLE_TIME_IS_TOO_SHORT
@@ -100,6 +104,16 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		this.invalidateElementsAfterReadErrors = invalidateElementsAfterReadErrors;
 	}
 
+	/**
+	 * Sets the max gap in registers for merging HIGH priority ReadTasks of the
+	 * same Unit-ID and function code into one request.
+	 *
+	 * @param maxGap the max number of unused registers; negative to disable
+	 */
+	protected void setReadCoalescingMaxGap(int maxGap) {
+		this.worker.setReadCoalescingMaxGap(maxGap);
+	}
+
 	/**
 	 * Adds the protocol.
 	 *
@@ -130,6 +144,8 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		switch (event.getTopic()) {
 		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
 			this.worker.onBeforeProcessImage();
+			this._setCoalescingSavedRequests(this.worker.getCoalescingSavedRequests());
+			this._setCoalescingSavedBytes(this.worker.getCoalescingSavedBytes());
 			break;
 		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
 			this.worker.onExecuteWrite();
@@ -148,6 +164,26 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		};
 	}
 
+	/**
+	 * Executes multiple {@link ReadTask}s with pipelined requests, i.e. all
+	 * requests are sent before waiting for the responses.
+	 *
+	 * <p>
+	 * This is only called if pipelining was enabled via
+	 * {@link ModbusWorker#setMaxInFlightRequests(int)}. The default implementation
+	 * executes the tasks one by one.
+	 *
+	 * @param tasks the {@link ReadTask}s
+	 * @return the {@link ExecuteState} per task
+	 */
+	protected ExecuteState[] executePipelined(ReadTask[] tasks) {
+		var result = new ExecuteState[tasks.length];
+		for (var i = 0; i < tasks.length; i++) {
+			result[i] = tasks[i].execute(this);
+		}
+		return result;
+	}
+
 	/**
 	 * Creates a new Modbus Transaction on an open Modbus connection.
 	 *
@@ -7,6 +7,7 @@ import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
@@ -23,7 +24,17 @@ public interface BridgeModbus extends OpenemsComponent {
 		 * can be reduced by this amount, without causing CYCLE_TIME_IS_TOO_SHORT.
 		 */
 		CYCLE_DELAY(Doc.of(OpenemsType.LONG) //
-				.unit(Unit.MILLISECONDS)); //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Number of Modbus requests that are saved in the current Cycle by merging
+		 * ReadTasks; see 'readCoalescingMaxGap' configuration.
+		 */
+		COALESCING_SAVED_REQUESTS(Doc.of(OpenemsType.INTEGER)), //
+		/**
+		 * Approximate number of bytes on the wire that are saved in the current Cycle
+		 * by merging ReadTasks.
+		 */
+		COALESCING_SAVED_BYTES(Doc.of(OpenemsType.INTEGER)); //
 
 		private final Doc doc;
 
@@ -94,6 +105,64 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getCycleDelayChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#COALESCING_SAVED_REQUESTS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getCoalescingSavedRequestsChannel() {
+		return this.channel(ChannelId.COALESCING_SAVED_REQUESTS);
+	}
+
+	/**
+	 * Gets the number of saved Modbus requests, see
+	 * {@link ChannelId#COALESCING_SAVED_REQUESTS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getCoalescingSavedRequests() {
+		return this.getCoalescingSavedRequestsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#COALESCING_SAVED_REQUESTS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setCoalescingSavedRequests(int value) {
+		this.getCoalescingSavedRequestsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#COALESCING_SAVED_BYTES}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getCoalescingSavedBytesChannel() {
+		return this.channel(ChannelId.COALESCING_SAVED_BYTES);
+	}
+
+	/**
+	 * Gets the number of saved bytes, see
+	 * {@link ChannelId#COALESCING_SAVED_BYTES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getCoalescingSavedBytes() {
+		return this.getCoalescingSavedBytesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#COALESCING_SAVED_BYTES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setCoalescingSavedBytes(int value) {
+		this.getCoalescingSavedBytesChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 *
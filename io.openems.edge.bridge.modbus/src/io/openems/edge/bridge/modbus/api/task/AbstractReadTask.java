@@ -1,6 +1,7 @@
 package io.openems.edge.bridge.modbus.api.task;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -65,6 +66,60 @@ public abstract class AbstractReadTask<//
 		}
 	}
 
+	/**
+	 * Creates the {@link ModbusRequest} for pipelined execution, i.e. the request
+	 * is sent by the Bridge together with other requests before waiting for the
+	 * responses.
+	 *
+	 * @return the {@link ModbusRequest} with Unit-ID
+	 */
+	public REQUEST createPipelinedRequest() {
+		var request = this.createModbusRequest();
+		request.setUnitID(this.getParent().getUnitId());
+		return request;
+	}
+
+	/**
+	 * Handles the {@link ModbusResponse} to a request created by
+	 * {@link #createPipelinedRequest()}.
+	 *
+	 * @param bridge   the {@link AbstractModbusBridge}
+	 * @param request  the {@link ModbusRequest}
+	 * @param response the {@link ModbusResponse}; possibly an exception response
+	 * @return the {@link ExecuteState}
+	 */
+	public ExecuteState handlePipelinedResponse(AbstractModbusBridge bridge, REQUEST request,
+			ModbusResponse response) {
+		var logVerbosity = this.getLogVerbosity(bridge);
+		try {
+			if (!this.responseClazz.isInstance(response)) {
+				throw new OpenemsException("Unexpected Modbus response. " //
+						+ "Expected [" + this.responseClazz.getSimpleName() + "] " //
+						+ "Got [" + response.getClass().getSimpleName() + "]");
+			}
+			var typedResponse = this.responseClazz.cast(response);
+			switch (logVerbosity) {
+			case NONE, DEBUG_LOG -> {
+			}
+			case READS_AND_WRITES, READS_AND_WRITES_VERBOSE, READS_AND_WRITES_DURATION,
+					READS_AND_WRITES_DURATION_TRACE_EVENTS ->
+				logInfo(this.log, "  Execute pipelined", this.toLogMessage(logVerbosity, request, typedResponse));
+			}
+			var result = this.parseResponse(typedResponse);
+			validateResponse(result, this.length);
+			this.fillElements(result);
+			return ExecuteState.OK;
+
+		} catch (Exception e) {
+			logError(this.log, e, "Execute pipelined failed", this.toLogMessage(logVerbosity, request, e));
+
+			// Invalidate Elements
+			Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
+
+			return ExecuteState.ERROR;
+		}
+	}
+
 	/**
 	 * Verify length of response array.
 	 * 
@@ -80,6 +135,19 @@ public abstract class AbstractReadTask<//
 		}
 	}
 
+	/**
+	 * Fills {@link ModbusElement}s with values from the response of a
+	 * {@link MergedReadRegistersTask}, that covers the registers of this task.
+	 *
+	 * @param response the response values of the merged request
+	 * @param offset   the position of {@link #startAddress} within the response
+	 * @throws OpenemsException on error
+	 */
+	void fillElementsFromMergedResponse(T[] response, int offset) throws OpenemsException {
+		validateResponse(response, offset + this.length);
+		this.fillElements(Arrays.copyOfRange(response, offset, offset + this.length));
+	}
+
 	/**
 	 * Fills {@link ModbusElement}s with values from response.
 	 * 
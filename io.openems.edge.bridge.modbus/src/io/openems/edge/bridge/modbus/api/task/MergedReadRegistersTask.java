@@ -0,0 +1,205 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+import com.ghgande.j2mod.modbus.msg.ReadInputRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadInputRegistersResponse;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+import com.ghgande.j2mod.modbus.procimg.Register;
+
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.ModbusUtils;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Reads the registers of multiple {@link FC3ReadRegistersTask}s or
+ * {@link FC4ReadInputRegistersTask}s with one physical request and fans the
+ * response out to the {@link ModbusElement}s of the original tasks.
+ *
+ * <p>
+ * All tasks need to have the same function code and Unit-ID; they are sorted
+ * by start address and must not overlap. Registers in between the tasks are
+ * read but ignored.
+ */
+public class MergedReadRegistersTask extends AbstractTask<ModbusRequest, ModbusResponse> implements ReadTask {
+
+	/** Max number of registers of one read request, limited by the PDU size. */
+	public static final int MAX_LENGTH = 125;
+
+	/**
+	 * Approximate overhead in bytes of one read request plus its response on the
+	 * wire, based on Modbus/RTU framing (Unit-ID, function code, address, quantity,
+	 * byte count and CRC).
+	 */
+	private static final int FRAME_OVERHEAD = 13;
+
+	private final Logger log = LoggerFactory.getLogger(MergedReadRegistersTask.class);
+	private final AbstractReadRegistersTask<?, ?>[] tasks;
+	private final boolean isInputRegisters;
+	private final int mergedLength;
+	private final ModbusElement[] allElements;
+
+	private int failedAttempts = 0;
+	private boolean isDisabled = false;
+
+	/**
+	 * Builds a {@link MergedReadRegistersTask}.
+	 *
+	 * @param tasks the tasks, sorted by start address
+	 */
+	public MergedReadRegistersTask(AbstractReadRegistersTask<?, ?>... tasks) {
+		super("Merged" + tasks[0].name, ModbusResponse.class, tasks[0].getStartAddress());
+		this.tasks = tasks;
+		this.isInputRegisters = tasks[0] instanceof FC4ReadInputRegistersTask;
+		var first = tasks[0];
+		var last = tasks[tasks.length - 1];
+		this.mergedLength = last.getStartAddress() + last.getLength() - first.getStartAddress();
+		if (this.mergedLength > MAX_LENGTH) {
+			throw new IllegalArgumentException(
+					"Merged length [" + this.mergedLength + "] exceeds limit [" + MAX_LENGTH + "]");
+		}
+		this.allElements = Stream.of(tasks) //
+				.flatMap(t -> Stream.of(t.getElements())) //
+				.toArray(ModbusElement[]::new);
+		this.setParent(first.getParent());
+	}
+
+	/**
+	 * Gets the original tasks.
+	 *
+	 * @return the tasks
+	 */
+	public AbstractReadRegistersTask<?, ?>[] getTasks() {
+		return this.tasks;
+	}
+
+	@Override
+	public ModbusElement[] getElements() {
+		return this.allElements;
+	}
+
+	@Override
+	public int getLength() {
+		return this.mergedLength;
+	}
+
+	@Override
+	public Priority getPriority() {
+		return Priority.HIGH;
+	}
+
+	/**
+	 * Gets the number of bytes on the wire that are saved per execution compared
+	 * to executing the original tasks one by one. This is the framing overhead of
+	 * the saved requests minus the unused registers in between.
+	 *
+	 * @return the saved bytes; possibly negative
+	 */
+	public int getSavedBytes() {
+		var usedLength = 0;
+		for (var task : this.tasks) {
+			usedLength += task.getLength();
+		}
+		return (this.tasks.length - 1) * FRAME_OVERHEAD - (this.mergedLength - usedLength) * 2;
+	}
+
+	/**
+	 * Is this merged task disabled, i.e. should the original tasks be executed
+	 * one by one?.
+	 *
+	 * @return true if disabled
+	 */
+	public synchronized boolean isDisabled() {
+		return this.isDisabled;
+	}
+
+	/**
+	 * Called if the merged request failed, but executing the original tasks one
+	 * by one was at least partly successful. This happens e.g. if the device does
+	 * not allow reading the registers in between. After a few such failures the
+	 * merged task gets disabled.
+	 */
+	public synchronized void onFallbackSucceeded() {
+		if (++this.failedAttempts >= 3 && !this.isDisabled) {
+			this.isDisabled = true;
+			this.log.info("Disable merging of [" + this.tasks.length + "] tasks " //
+					+ "[" + this.getParent().id() + ";unitid=" + this.getParent().getUnitId() //
+					+ ";ref=" + this.startAddress + ";length=" + this.mergedLength + "]");
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public ExecuteState execute(AbstractModbusBridge bridge) {
+		try {
+			var response = this.executeRequest(bridge, this.createModbusRequest());
+			var registers = (Register[]) ((AbstractReadRegistersTask) this.tasks[0]).parseResponse(response);
+			for (var task : this.tasks) {
+				((AbstractReadRegistersTask) task).fillElementsFromMergedResponse(registers,
+						task.getStartAddress() - this.startAddress);
+			}
+			synchronized (this) {
+				this.failedAttempts = 0;
+			}
+			return ExecuteState.OK;
+
+		} catch (Exception e) {
+			// On error a log message has already been logged
+			return ExecuteState.ERROR;
+		}
+	}
+
+	private ModbusRequest createModbusRequest() {
+		if (this.isInputRegisters) {
+			return new ReadInputRegistersRequest(this.startAddress, this.mergedLength);
+		}
+		return new ReadMultipleRegistersRequest(this.startAddress, this.mergedLength);
+	}
+
+	@Override
+	protected String toLogMessage(LogVerbosity logVerbosity, ModbusRequest request, ModbusResponse response,
+			Exception e) {
+		return this.toLogMessage(logVerbosity, this.startAddress, this.mergedLength, request, response, e);
+	}
+
+	@Override
+	protected String payloadToString(ModbusRequest request) {
+		return "";
+	}
+
+	@Override
+	protected String payloadToString(ModbusResponse response) {
+		if (response instanceof ReadMultipleRegistersResponse r) {
+			return ModbusUtils.registersToHexString(r.getRegisters());
+		}
+		if (response instanceof ReadInputRegistersResponse r) {
+			return ModbusUtils.registersToHexString(r.getRegisters());
+		}
+		return "";
+	}
+
+	@Override
+	public String toString() {
+		return "MergedReadRegistersTask [" + this.getParent().id() + ";ref=" + this.startAddress + ";length="
+				+ this.mergedLength + ";tasks=" + this.tasks.length + "]";
+	}
+
+	/**
+	 * Can the given task be part of a {@link MergedReadRegistersTask}?.
+	 *
+	 * @param task the task
+	 * @return true if it is a plain {@link FC3ReadRegistersTask} or
+	 *         {@link FC4ReadInputRegistersTask}
+	 */
+	public static boolean isMergeable(Task task) {
+		return task.getClass() == FC3ReadRegistersTask.class || task.getClass() == FC4ReadInputRegistersTask.class;
+	}
+}
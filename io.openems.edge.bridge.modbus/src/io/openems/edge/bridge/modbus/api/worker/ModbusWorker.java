@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -10,6 +11,8 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
@@ -33,17 +36,22 @@ public class ModbusWorker extends AbstractImmediateWorker {
 
 	// Callbacks
 	private final Function<Task, ExecuteState> execute;
+	private final Function<ReadTask[], ExecuteState[]> executePipelined;
 	private final Consumer<ModbusElement[]> invalidate;
 
 	private final DefectiveComponents defectiveComponents;
 	private final TasksSupplierImpl tasksSupplier;
 	private final CycleTasksManager cycleTasksManager;
 
+	private volatile int maxInFlightRequests = 1;
+
 	/**
 	 * Constructor for {@link ModbusWorker}.
 	 * 
 	 * @param execute                    executes a {@link Task}; returns number of
 	 *                                   actually executed subtasks
+	 * @param executePipelined           executes multiple {@link ReadTask}s with
+	 *                                   pipelined requests
 	 * @param invalidate                 invalidates the given
 	 *                                   {@link ModbusElement}s after read errors
 	 * @param cycleTimeIsTooShortChannel sets the
@@ -54,10 +62,12 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 *                                   channel
 	 * @param logVerbosity               the configured {@link LogVerbosity}
 	 */
-	public ModbusWorker(Function<Task, ExecuteState> execute, Consumer<ModbusElement[]> invalidate,
+	public ModbusWorker(Function<Task, ExecuteState> execute,
+			Function<ReadTask[], ExecuteState[]> executePipelined, Consumer<ModbusElement[]> invalidate,
 			Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel,
 			AtomicReference<LogVerbosity> logVerbosity) {
 		this.execute = execute;
+		this.executePipelined = executePipelined;
 		this.invalidate = invalidate;
 
 		this.defectiveComponents = new DefectiveComponents(logVerbosity);
@@ -70,9 +80,88 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	protected void forever() throws InterruptedException {
 		var task = this.cycleTasksManager.getNextTask();
 
-		// execute the task
+		if (task instanceof MergedReadRegistersTask merged) {
+			this.executeMerged(merged);
+		} else if (task instanceof ReadTask readTask && this.maxInFlightRequests > 1) {
+			this.executePipelined(readTask);
+		} else {
+			this.executeTask(task);
+		}
+	}
+
+	/**
+	 * Executes the given {@link ReadTask} together with further ReadTasks of the
+	 * current read phase with pipelined requests.
+	 *
+	 * @param first the first {@link ReadTask}
+	 */
+	private void executePipelined(ReadTask first) {
+		var maxInFlightRequests = this.maxInFlightRequests;
+		var tasks = new ArrayList<ReadTask>(maxInFlightRequests);
+		tasks.add(first);
+		MergedReadRegistersTask merged = null;
+		while (tasks.size() < maxInFlightRequests) {
+			var task = this.cycleTasksManager.pollReadTask();
+			if (task == null) {
+				break;
+			}
+			if (task instanceof MergedReadRegistersTask m) {
+				// has its own fallback handling -> execute separately
+				merged = m;
+				break;
+			}
+			tasks.add(task);
+		}
+
+		if (tasks.size() == 1) {
+			this.executeTask(first);
+		} else {
+			var results = this.executePipelined.apply(tasks.toArray(ReadTask[]::new));
+			for (var i = 0; i < results.length; i++) {
+				this.handleResult(tasks.get(i), results[i]);
+			}
+		}
+
+		if (merged != null) {
+			this.executeMerged(merged);
+		}
+	}
+
+	/**
+	 * Executes a {@link MergedReadRegistersTask}. On error the original tasks are
+	 * executed one by one, so that errors can be assigned to the correct
+	 * {@link ModbusComponent}.
+	 *
+	 * @param merged the {@link MergedReadRegistersTask}
+	 */
+	private void executeMerged(MergedReadRegistersTask merged) {
+		var result = this.execute.apply(merged);
+		if (result == ExecuteState.OK) {
+			for (var task : merged.getTasks()) {
+				this.markComponentAsDefective(task.getParent(), false);
+			}
+			return;
+		}
+
+		// Fallback
+		var anyOk = false;
+		for (var task : merged.getTasks()) {
+			if (this.executeTask(task) == ExecuteState.OK) {
+				anyOk = true;
+			}
+		}
+		if (anyOk) {
+			merged.onFallbackSucceeded();
+		}
+	}
+
+	private ExecuteState executeTask(Task task) {
 		var result = this.execute.apply(task);
+		this.handleResult(task, result);
+		return result;
+	}
 
+	private void handleResult(Task task, ExecuteState result) {
 		switch (result) {
 		case OK -> {
 			// no exception & at least one sub-task executed
@@ -89,7 +178,6 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		case NO_OP -> {
 		}
 		}
-
 	}
 
 	/**
@@ -151,6 +239,47 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		this.defectiveComponents.remove(sourceId);
 	}
 
+	/**
+	 * Sets the max gap in registers for merging HIGH priority ReadTasks of the
+	 * same Unit-ID and function code into one request.
+	 *
+	 * @param maxGap the max number of unused registers; negative to disable
+	 */
+	public void setReadCoalescingMaxGap(int maxGap) {
+		this.tasksSupplier.setReadCoalescingMaxGap(maxGap);
+	}
+
+	/**
+	 * Sets the max number of ReadTask requests that are sent before waiting for
+	 * the responses. Values greater than 1 enable pipelining via the
+	 * 'executePipelined' callback.
+	 *
+	 * @param maxInFlightRequests the max number of requests in flight
+	 */
+	public void setMaxInFlightRequests(int maxInFlightRequests) {
+		this.maxInFlightRequests = Math.max(1, maxInFlightRequests);
+	}
+
+	/**
+	 * Gets the number of Modbus requests that were saved in the current Cycle by
+	 * merging ReadTasks.
+	 *
+	 * @return the number of requests
+	 */
+	public int getCoalescingSavedRequests() {
+		return this.tasksSupplier.getSavedRequests();
+	}
+
+	/**
+	 * Gets the approximate number of bytes that were saved in the current Cycle by
+	 * merging ReadTasks.
+	 *
+	 * @return the number of bytes
+	 */
+	public int getCoalescingSavedBytes() {
+		return this.tasksSupplier.getSavedBytes();
+	}
+
 	/**
 	 * Called on EXECUTE_WRITE event.
 	 */
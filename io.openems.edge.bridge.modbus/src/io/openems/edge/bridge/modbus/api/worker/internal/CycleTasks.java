@@ -1,27 +1,144 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
-import java.util.LinkedList;
-import java.util.Objects;
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
 
 /**
  * Holds the Read- and Write-Tasks for one Cycle.
  */
-public record CycleTasks(LinkedList<ReadTask> reads, LinkedList<WriteTask> writes) {
+public record CycleTasks(TaskQueue<ReadTask> reads, TaskQueue<WriteTask> writes) {
+
+	/**
+	 * A simple array-backed FIFO queue of {@link Task}s that is reused between
+	 * Cycles to avoid allocations.
+	 *
+	 * @param <T> the type of the {@link Task}
+	 */
+	public static final class TaskQueue<T extends Task> {
+
+		private Task[] tasks = new Task[8];
+		private int head = 0;
+		private int tail = 0;
+
+		/**
+		 * Adds a {@link Task} to the end of the queue.
+		 *
+		 * @param task the {@link Task}
+		 */
+		public void add(T task) {
+			if (this.tail == this.tasks.length) {
+				this.tasks = Arrays.copyOf(this.tasks, this.tasks.length * 2);
+			}
+			this.tasks[this.tail++] = task;
+		}
+
+		/**
+		 * Retrieves and removes the head of this queue.
+		 *
+		 * @return the head of this queue; null if the queue is empty
+		 */
+		@SuppressWarnings("unchecked")
+		public T poll() {
+			if (this.head == this.tail) {
+				return null;
+			}
+			var task = (T) this.tasks[this.head];
+			this.tasks[this.head++] = null;
+			return task;
+		}
+
+		/**
+		 * Gets the element at the given position, relative to the head of the
+		 * queue.
+		 *
+		 * @param index the index
+		 * @return the element
+		 */
+		@SuppressWarnings("unchecked")
+		public T get(int index) {
+			if (index < 0 || index >= this.size()) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size());
+			}
+			return (T) this.tasks[this.head + index];
+		}
+
+		/**
+		 * Gets the number of remaining elements.
+		 *
+		 * @return the size
+		 */
+		public int size() {
+			return this.tail - this.head;
+		}
+
+		/**
+		 * Is the queue empty?.
+		 *
+		 * @return true if there are no remaining elements
+		 */
+		public boolean isEmpty() {
+			return this.head == this.tail;
+		}
+
+		/**
+		 * Does the queue contain the given {@link Task}?.
+		 *
+		 * @param task the {@link Task}
+		 * @return true if it is contained
+		 */
+		public boolean contains(Task task) {
+			for (var i = this.head; i < this.tail; i++) {
+				if (this.tasks[i] == task) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Streams the remaining elements.
+		 *
+		 * @return a {@link Stream}
+		 */
+		@SuppressWarnings("unchecked")
+		public Stream<T> stream() {
+			return Arrays.stream(this.tasks, this.head, this.tail).map(t -> (T) t);
+		}
+
+		/**
+		 * Removes all elements.
+		 */
+		public void clear() {
+			Arrays.fill(this.tasks, this.head, this.tail, null);
+			this.head = 0;
+			this.tail = 0;
+		}
+
+		private boolean containsDefectiveComponent(DefectiveComponents defectiveComponents) {
+			for (var i = this.head; i < this.tail; i++) {
+				var parent = this.tasks[i].getParent();
+				if (parent != null && defectiveComponents.isKnown(parent.id())) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
 
 	public static class Builder {
-		private final LinkedList<ReadTask> reads = new LinkedList<>();
-		private final LinkedList<WriteTask> writes = new LinkedList<>();
+		private final TaskQueue<ReadTask> reads = new TaskQueue<>();
+		private final TaskQueue<WriteTask> writes = new TaskQueue<>();
 
 		private Builder() {
 		}
 
 		/**
 		 * Adds {@link ReadTask}s.
-		 * 
+		 *
 		 * @param tasks the tasks
 		 * @return myself
 		 */
@@ -32,7 +149,7 @@ public record CycleTasks(LinkedList<ReadTask> reads, LinkedList<WriteTask> write
 
 		/**
 		 * Adds {@link WriteTask}s.
-		 * 
+		 *
 		 * @param tasks the tasks
 		 * @return myself
 		 */
@@ -55,17 +172,22 @@ public record CycleTasks(LinkedList<ReadTask> reads, LinkedList<WriteTask> write
 		return new Builder();
 	}
 
+	/**
+	 * Removes all Read- and Write-Tasks, so that this object can be reused.
+	 */
+	public void clear() {
+		this.reads.clear();
+		this.writes.clear();
+	}
+
 	/**
 	 * Is any of the tasks belonging to a Component that is known to be defective?.
-	 * 
+	 *
 	 * @param defectiveComponents the {@link DefectiveComponents}
 	 * @return true for defective; false otherwise
 	 */
 	public boolean containsDefectiveComponent(DefectiveComponents defectiveComponents) {
-		return Stream.concat(this.reads.stream(), this.writes.stream()) //
-				.map(t -> t.getParent()) //
-				.filter(Objects::nonNull) //
-				.map(p -> p.id()) //
-				.anyMatch(c -> defectiveComponents.isKnown(c));
+		return this.reads.containsDefectiveComponent(defectiveComponents)
+				|| this.writes.containsDefectiveComponent(defectiveComponents);
 	}
 }
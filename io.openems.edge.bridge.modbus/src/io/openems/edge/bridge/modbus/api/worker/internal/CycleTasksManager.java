@@ -7,6 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
@@ -193,6 +194,23 @@ public class CycleTasksManager {
 		return nextTask;
 	}
 
+	/**
+	 * Polls a further {@link ReadTask} of the current read phase without changing
+	 * the State. This is used by {@link ModbusWorker} to pipeline read requests.
+	 *
+	 * @return the next {@link ReadTask}; null if the current State is not a read
+	 *         phase or if no more ReadTasks are available
+	 */
+	public ReadTask pollReadTask() {
+		if (this.cycleTasks == null) {
+			return null;
+		}
+		return switch (this.state) {
+		case READ_BEFORE_WRITE, READ_AFTER_WRITE -> this.cycleTasks.reads().poll();
+		case INITIAL_WAIT, WAIT_FOR_WRITE, WRITE, WAIT_BEFORE_READ, FINISHED -> null;
+		};
+	}
+
 	/**
 	 * Waiting in INITIAL_WAIT or WAIT_BEFORE_READ finished.
 	 */
@@ -0,0 +1,91 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+
+/**
+ * Merges compatible {@link ReadTask}s - possibly of different Components - to
+ * {@link MergedReadRegistersTask}s.
+ *
+ * <p>
+ * Tasks are compatible if they have the same Unit-ID and function code, do not
+ * overlap, have a gap of at most 'maxGap' registers and fit in one request of
+ * {@link MergedReadRegistersTask#MAX_LENGTH} registers.
+ */
+public class ReadTasksCoalescer {
+
+	private static record Key(Integer unitId, Class<?> clazz) {
+	}
+
+	private ReadTasksCoalescer() {
+	}
+
+	/**
+	 * Merges the given {@link ReadTask}s.
+	 *
+	 * @param tasks  the {@link ReadTask}s
+	 * @param maxGap the max number of unused registers in between two tasks; a
+	 *               negative value disables merging
+	 * @return a list of {@link MergedReadRegistersTask}s; each with at least two
+	 *         original tasks
+	 */
+	public static List<MergedReadRegistersTask> coalesce(List<ReadTask> tasks, int maxGap) {
+		var result = new ArrayList<MergedReadRegistersTask>();
+		if (maxGap < 0) {
+			return result;
+		}
+
+		// Group by Unit-ID and function code
+		var groups = new LinkedHashMap<Key, List<AbstractReadRegistersTask<?, ?>>>();
+		for (var task : tasks) {
+			if (!MergedReadRegistersTask.isMergeable(task) || task.getLength() == 0) {
+				continue;
+			}
+			var t = (AbstractReadRegistersTask<?, ?>) task;
+			if (t.getParent() == null) {
+				continue;
+			}
+			groups.computeIfAbsent(new Key(t.getParent().getUnitId(), t.getClass()), k -> new ArrayList<>()) //
+					.add(t);
+		}
+
+		// Greedily merge tasks sorted by start address
+		for (var group : groups.values()) {
+			group.sort(Comparator.comparingInt(AbstractReadRegistersTask::getStartAddress));
+			var current = new ArrayList<AbstractReadRegistersTask<?, ?>>();
+			var start = 0;
+			var end = 0; // exclusive
+			for (var task : group) {
+				var taskEnd = task.getStartAddress() + task.getLength();
+				if (!current.isEmpty() //
+						&& task.getStartAddress() >= end // no overlap
+						&& task.getStartAddress() - end <= maxGap //
+						&& taskEnd - start <= MergedReadRegistersTask.MAX_LENGTH) {
+					current.add(task);
+					end = taskEnd;
+					continue;
+				}
+				addMerged(result, current);
+				current.clear();
+				current.add(task);
+				start = task.getStartAddress();
+				end = taskEnd;
+			}
+			addMerged(result, current);
+		}
+		return result;
+	}
+
+	private static void addMerged(List<MergedReadRegistersTask> result, List<AbstractReadRegistersTask<?, ?>> tasks) {
+		if (tasks.size() > 1) {
+			var array = tasks.toArray(new AbstractReadRegistersTask<?, ?>[tasks.size()]);
+			result.add(new MergedReadRegistersTask(array));
+		}
+	}
+}
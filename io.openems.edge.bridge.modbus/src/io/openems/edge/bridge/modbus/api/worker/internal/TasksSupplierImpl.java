@@ -1,34 +1,170 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Queue;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
 import io.openems.edge.common.taskmanager.Priority;
 import io.openems.edge.common.taskmanager.TasksManager;
-import io.openems.edge.common.type.Tuple;
 
 /**
  * Supplies Tasks.
+ *
+ * <p>
+ * The Tasks of all registered protocols are compiled into a {@link Plan} of
+ * flat arrays, that is only recalculated if a protocol is added or removed or
+ * if a {@link TasksManager} reports a change. Together with two reused
+ * {@link CycleTasks} buffers this makes {@link #getCycleTasks(DefectiveComponents)}
+ * free of allocations in the steady state.
  */
 public class TasksSupplierImpl implements TasksSupplier {
 
+	private static enum SourceState {
+		/** Component is not defective. */
+		OK,
+		/** Component is defective and due for next try. */
+		DUE,
+		/** Component is defective and not due. */
+		NOT_DUE;
+	}
+
+	/**
+	 * Precompiled view on the Tasks of all registered protocols.
+	 */
+	private static class Plan {
+
+		private final String[] sourceIds;
+		private final TasksManager<?>[] taskManagers;
+		private final int[] versions;
+		private final ReadTask[][] highPriorityReadTasks;
+		private final ReadTask[][] unmergedHighPriorityReadTasks;
+		private final WriteTask[][] writeTasks;
+		private final ReadTask[] lowPriorityReadTasks;
+		private final int[] lowPriorityReadTaskSources;
+		private final MergedReadRegistersTask[] mergedReadTasks;
+		private final int[][] mergedReadTaskSources;
+		private final int[] mergedReadTaskSavedBytes;
+
+		/** Per-Cycle state of each source; see {@link SourceState}. */
+		private final SourceState[] states;
+
+		private Plan(Map<String, TasksManager<Task>> taskManagers, int readCoalescingMaxGap) {
+			var size = taskManagers.size();
+			this.sourceIds = new String[size];
+			this.taskManagers = new TasksManager<?>[size];
+			this.versions = new int[size];
+			this.highPriorityReadTasks = new ReadTask[size][];
+			this.unmergedHighPriorityReadTasks = new ReadTask[size][];
+			this.writeTasks = new WriteTask[size][];
+			this.states = new SourceState[size];
+			var lowReads = new ArrayList<ReadTask>();
+			var lowReadSources = new ArrayList<Integer>();
+			var allHighReads = new ArrayList<ReadTask>();
+			var sourceOfTask = new IdentityHashMap<Task, Integer>();
+			var highReads = new ArrayList<ReadTask>();
+			var writes = new ArrayList<WriteTask>();
+			var i = 0;
+			for (var entry : taskManagers.entrySet()) {
+				var taskManager = entry.getValue();
+				this.sourceIds[i] = entry.getKey();
+				this.taskManagers[i] = taskManager;
+				// read version before tasks: a concurrent change results in a rebuild
+				this.versions[i] = taskManager.getVersion();
+				highReads.clear();
+				writes.clear();
+				for (var task : taskManager.getTasks()) {
+					if (task instanceof WriteTask wt) {
+						writes.add(wt);
+					} else if (task instanceof ReadTask rt) {
+						if (rt.getPriority() == Priority.HIGH) {
+							highReads.add(rt);
+							allHighReads.add(rt);
+							sourceOfTask.put(rt, i);
+						} else if (rt.getPriority() == Priority.LOW) {
+							lowReads.add(rt);
+							lowReadSources.add(i);
+						}
+					}
+				}
+				this.highPriorityReadTasks[i] = highReads.toArray(ReadTask[]::new);
+				this.writeTasks[i] = writes.toArray(WriteTask[]::new);
+				i++;
+			}
+			this.lowPriorityReadTasks = lowReads.toArray(ReadTask[]::new);
+			this.lowPriorityReadTaskSources = lowReadSources.stream().mapToInt(Integer::intValue).toArray();
+
+			// Merge compatible HIGH priority ReadTasks
+			var merged = ReadTasksCoalescer.coalesce(allHighReads, readCoalescingMaxGap);
+			this.mergedReadTasks = merged.toArray(MergedReadRegistersTask[]::new);
+			this.mergedReadTaskSources = new int[this.mergedReadTasks.length][];
+			this.mergedReadTaskSavedBytes = new int[this.mergedReadTasks.length];
+			var mergedTasks = Collections.newSetFromMap(new IdentityHashMap<Task, Boolean>());
+			for (var m = 0; m < this.mergedReadTasks.length; m++) {
+				var tasks = this.mergedReadTasks[m].getTasks();
+				this.mergedReadTaskSources[m] = new int[tasks.length];
+				for (var j = 0; j < tasks.length; j++) {
+					this.mergedReadTaskSources[m][j] = sourceOfTask.get(tasks[j]);
+					mergedTasks.add(tasks[j]);
+				}
+				this.mergedReadTaskSavedBytes[m] = this.mergedReadTasks[m].getSavedBytes();
+			}
+			for (var j = 0; j < size; j++) {
+				this.unmergedHighPriorityReadTasks[j] = Stream.of(this.highPriorityReadTasks[j]) //
+						.filter(t -> !mergedTasks.contains(t)) //
+						.toArray(ReadTask[]::new);
+			}
+		}
+
+		private boolean isUpToDate() {
+			for (var i = 0; i < this.taskManagers.length; i++) {
+				if (this.taskManagers[i].getVersion() != this.versions[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 	/**
 	 * Source-ID -> TasksManager for {@link Task}s.
 	 */
-	private final Map<String, TasksManager<Task>> taskManagers = new HashMap<>();
+	private final Map<String, TasksManager<Task>> taskManagers = new LinkedHashMap<>();
 
 	/**
-	 * Queue of LOW priority {@link ReadTask}s.
+	 * Two alternately used buffers; the {@link CycleTasksManager} may still hold
+	 * the result of the previous call.
 	 */
-	private final Queue<Tuple<String, ReadTask>> nextLowPriorityTasks = new LinkedList<>();
+	private final CycleTasks[] buffers = { //
+			CycleTasks.create().build(), CycleTasks.create().build() };
+
+	private int nextBuffer = 0;
+
+	/**
+	 * The precompiled {@link Plan}; null if it needs to be recalculated.
+	 */
+	private Plan plan = null;
+
+	/**
+	 * Index of the next LOW priority {@link ReadTask} in the {@link Plan}.
+	 */
+	private int nextLowPriorityTask = 0;
+
+	/**
+	 * Max gap for merging {@link ReadTask}s; negative if disabled.
+	 */
+	private int readCoalescingMaxGap = -1;
+
+	private int savedRequests = 0;
+	private int savedBytes = 0;
 
 	/**
 	 * Adds the protocol.
@@ -38,6 +174,7 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	public synchronized void addProtocol(String sourceId, ModbusProtocol protocol) {
 		this.taskManagers.put(sourceId, protocol.getTaskManager());
+		this.plan = null;
 	}
 
 	/**
@@ -47,84 +184,177 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	public synchronized void removeProtocol(String sourceId) {
 		this.taskManagers.remove(sourceId);
+		this.plan = null;
 	}
 
 	@Override
 	public synchronized CycleTasks getCycleTasks(DefectiveComponents defectiveComponents) {
-		Map<String, LinkedList<Task>> tasks = new HashMap<>();
-		// One Low Priority ReadTask
-		{
-			var t = this.getOneLowPriorityReadTask();
-			if (t != null) {
-				tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
-						.add(t.b());
+		var plan = this.getPlan();
+		var result = this.buffers[this.nextBuffer];
+		this.nextBuffer = (this.nextBuffer + 1) % this.buffers.length;
+		result.clear();
+		this.savedRequests = 0;
+		this.savedBytes = 0;
+
+		for (var i = 0; i < plan.sourceIds.length; i++) {
+			var isDue = defectiveComponents.isDueForNextTry(plan.sourceIds[i]);
+			if (isDue == null) {
+				plan.states[i] = SourceState.OK;
+			} else if (isDue) {
+				plan.states[i] = SourceState.DUE;
+			} else {
+				plan.states[i] = SourceState.NOT_DUE;
+			}
+		}
+
+		// One Low Priority ReadTask; always the first ReadTask of the Cycle
+		var lowSource = -1;
+		var lowSourcePick = -1;
+		if (plan.lowPriorityReadTasks.length > 0) {
+			var index = this.nextLowPriorityTask % plan.lowPriorityReadTasks.length;
+			this.nextLowPriorityTask = index + 1;
+			var lowTask = plan.lowPriorityReadTasks[index];
+			lowSource = plan.lowPriorityReadTaskSources[index];
+			switch (plan.states[lowSource]) {
+			case OK -> result.reads().add(lowTask);
+			case DUE -> {
+				lowSourcePick = randomIndex(1 + plan.highPriorityReadTasks[lowSource].length
+						+ plan.writeTasks[lowSource].length);
+				if (lowSourcePick == 0) {
+					result.reads().add(lowTask);
+				}
+			}
+			case NOT_DUE -> {
+			}
 			}
 		}
+
 		// All High Priority ReadTasks + all WriteTasks
-		this.taskManagers.forEach((id, taskManager) -> {
-			var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
-			taskManager.getTasks().stream() //
-					.filter(t -> t instanceof WriteTask || t.getPriority() == Priority.HIGH) //
-					.forEach(list::add);
-		});
-		// Filter out defective components
-		tasks.forEach((id, componentTasks) -> {
-			var isDue = defectiveComponents.isDueForNextTry(id);
-			if (isDue == null) {
-				// Component is not defective -> keep all tasks
-			} else if (isDue) {
+		for (var i = 0; i < plan.sourceIds.length; i++) {
+			switch (plan.states[i]) {
+			case OK -> {
+				// Component is not defective -> keep all tasks; merged tasks are added below
+				for (var task : plan.unmergedHighPriorityReadTasks[i]) {
+					result.reads().add(task);
+				}
+				for (var task : plan.writeTasks[i]) {
+					result.writes().add(task);
+				}
+			}
+
+			case DUE -> {
 				// Component is due for next try -> keep only one random Task
-				Collections.shuffle(componentTasks);
-				while (componentTasks.size() > 1) {
-					componentTasks.pop();
+				var highReads = plan.highPriorityReadTasks[i];
+				var writes = plan.writeTasks[i];
+				final int pick;
+				if (i == lowSource) {
+					pick = lowSourcePick - 1; // -1 if the LOW priority Task was picked
+				} else {
+					pick = randomIndex(highReads.length + writes.length);
 				}
-			} else {
+				if (pick < 0) {
+					continue;
+				} else if (pick < highReads.length) {
+					result.reads().add(highReads[pick]);
+				} else {
+					result.writes().add(writes[pick - highReads.length]);
+				}
+			}
+
+			case NOT_DUE -> {
 				// Component is defective and not due -> drop all tasks
-				componentTasks.clear();
 			}
-		});
-		return new CycleTasks(//
-				tasks.values().stream().flatMap(LinkedList::stream) //
-						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
-						// Sort HIGH priority to the end
-						.sorted((a, b) -> b.getPriority().compareTo(a.getPriority())) //
-						.collect(Collectors.toCollection(LinkedList::new)),
-				tasks.values().stream().flatMap(LinkedList::stream) //
-						.filter(WriteTask.class::isInstance).map(WriteTask.class::cast) //
-						.collect(Collectors.toCollection(LinkedList::new)));
+			}
+		}
+
+		// Merged High Priority ReadTasks; only if all involved Components are not
+		// defective. Otherwise fall back to the original tasks.
+		for (var m = 0; m < plan.mergedReadTasks.length; m++) {
+			var merged = plan.mergedReadTasks[m];
+			var sources = plan.mergedReadTaskSources[m];
+			if (!merged.isDisabled() && allStatesOk(plan.states, sources)) {
+				result.reads().add(merged);
+				this.savedRequests += sources.length - 1;
+				this.savedBytes += plan.mergedReadTaskSavedBytes[m];
+				continue;
+			}
+			var tasks = merged.getTasks();
+			for (var j = 0; j < tasks.length; j++) {
+				if (plan.states[sources[j]] == SourceState.OK) {
+					result.reads().add(tasks[j]);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static boolean allStatesOk(SourceState[] states, int[] sources) {
+		for (var source : sources) {
+			if (states[source] != SourceState.OK) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
-	 * Get one LOW priority task.
+	 * Sets the max gap in registers for merging HIGH priority {@link ReadTask}s,
+	 * see {@link ReadTasksCoalescer}.
 	 *
-	 * @return the next task; null if there is no available task
+	 * @param maxGap the max number of unused registers; negative to disable
 	 */
-	private synchronized Tuple<String, ReadTask> getOneLowPriorityReadTask() {
-		var refilledBefore = false;
-		while (true) {
-			var task = this.nextLowPriorityTasks.poll();
-			if (task != null) {
-				return task;
-			}
-			if (refilledBefore) {
-				// queue had been refilled before, but still cannot find a matching task -> quit
-				return null;
-			}
-			// refill the queue
-			this.taskManagers.forEach((id, taskManager) -> {
-				taskManager.getTasks(Priority.LOW).stream() //
-						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
-						.map(t -> new Tuple<String, ReadTask>(id, t)) //
-						.forEach(this.nextLowPriorityTasks::add);
-			});
-			refilledBefore = true;
+	public synchronized void setReadCoalescingMaxGap(int maxGap) {
+		if (maxGap != this.readCoalescingMaxGap) {
+			this.readCoalescingMaxGap = maxGap;
+			this.plan = null;
 		}
 	}
 
+	/**
+	 * Gets the number of Modbus requests that were saved by merging
+	 * {@link ReadTask}s in the last {@link #getCycleTasks(DefectiveComponents)}.
+	 *
+	 * @return the number of saved requests
+	 */
+	public synchronized int getSavedRequests() {
+		return this.savedRequests;
+	}
+
+	/**
+	 * Gets the approximate number of bytes on the wire that were saved by merging
+	 * {@link ReadTask}s in the last {@link #getCycleTasks(DefectiveComponents)}.
+	 *
+	 * @return the number of saved bytes
+	 */
+	public synchronized int getSavedBytes() {
+		return this.savedBytes;
+	}
+
+	/**
+	 * Gets the current {@link Plan}; recalculates it if required.
+	 *
+	 * @return the {@link Plan}
+	 */
+	private Plan getPlan() {
+		if (this.plan == null || !this.plan.isUpToDate()) {
+			this.plan = new Plan(this.taskManagers, this.readCoalescingMaxGap);
+		}
+		return this.plan;
+	}
+
+	private static int randomIndex(int bound) {
+		if (bound <= 0) {
+			return -1;
+		}
+		return ThreadLocalRandom.current().nextInt(bound);
+	}
+
 	@Override
 	public synchronized int getTotalNumberOfTasks() {
-		return this.taskManagers.values().stream() //
-				.mapToInt(m -> m.countTasks()) //
-				.sum();
+		var result = 0;
+		for (var taskManager : this.taskManagers.values()) {
+			result += taskManager.countTasks();
+		}
+		return result;
 	}
 }
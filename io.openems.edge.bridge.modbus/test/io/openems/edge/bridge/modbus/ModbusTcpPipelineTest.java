@@ -0,0 +1,83 @@
+package io.openems.edge.bridge.modbus;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.net.TCPMasterConnection;
+import com.ghgande.j2mod.modbus.procimg.SimpleProcessImage;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+import com.ghgande.j2mod.modbus.slave.ModbusSlave;
+import com.ghgande.j2mod.modbus.slave.ModbusSlaveFactory;
+
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.taskmanager.Priority;
+import io.openems.edge.common.test.TestUtils;
+
+public class ModbusTcpPipelineTest {
+
+	private static final int UNIT_ID = 1;
+	private static final int NUMBER_OF_TASKS = 8;
+
+	@Test
+	public void test() throws Exception {
+		var port = TestUtils.findRandomOpenPortOnAllLocalInterfaces();
+		ModbusSlave slave = null;
+		TCPMasterConnection connection = null;
+		try {
+			// Local Modbus/TCP Slave
+			slave = ModbusSlaveFactory.createTCPSlave(port, 1);
+			var processImage = new SimpleProcessImage(UNIT_ID);
+			for (var i = 0; i < NUMBER_OF_TASKS; i++) {
+				processImage.addRegister(i, new SimpleRegister(100 + i));
+			}
+			slave.addProcessImage(UNIT_ID, processImage);
+			slave.open();
+
+			connection = new TCPMasterConnection(InetAddress.getLoopbackAddress());
+			connection.setPort(port);
+			connection.connect();
+			connection.getModbusTransport().setTimeout(1000);
+
+			var bridge = new DummyModbusBridge("modbus0");
+			var component = new DummyModbusComponent("device0", bridge, UNIT_ID,
+					new io.openems.edge.common.channel.ChannelId[0]);
+			var values = new AtomicReference<int[]>(new int[NUMBER_OF_TASKS]);
+			var tasks = new ReadTask[NUMBER_OF_TASKS];
+			for (var i = 0; i < NUMBER_OF_TASKS; i++) {
+				final var index = i;
+				var element = new UnsignedWordElement(i);
+				element.onUpdateCallback(v -> values.get()[index] = v);
+				var task = new FC3ReadRegistersTask(i, Priority.HIGH, element);
+				component.getModbusProtocol().addTask(task);
+				tasks[i] = task;
+			}
+
+			var sut = new ModbusTcpPipeline();
+			var results = sut.execute(bridge, connection.getModbusTransport(), tasks);
+
+			assertTrue(sut.isEnabled());
+			for (var result : results) {
+				assertEquals(ExecuteState.OK, result);
+			}
+			assertArrayEquals(new int[] { 100, 101, 102, 103, 104, 105, 106, 107 }, values.get());
+
+		} finally {
+			if (connection != null) {
+				connection.close();
+			}
+			if (slave != null) {
+				slave.close();
+			}
+		}
+	}
+}
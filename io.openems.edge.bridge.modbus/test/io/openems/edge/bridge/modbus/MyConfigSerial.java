@@ -20,6 +20,7 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		private int delayAfterTx;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int readCoalescingMaxGap = -1;
 
 		private Builder() {
 		}
@@ -79,6 +80,11 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 			return this;
 		}
 
+		public Builder setReadCoalescingMaxGap(int readCoalescingMaxGap) {
+			this.readCoalescingMaxGap = readCoalescingMaxGap;
+			return this;
+		}
+
 		public MyConfigSerial build() {
 			return new MyConfigSerial(this);
 		}
@@ -150,4 +156,9 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int readCoalescingMaxGap() {
+		return this.builder.readCoalescingMaxGap;
+	}
+
 }
\ No newline at end of file
@@ -12,6 +12,8 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private int port;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int readCoalescingMaxGap = -1;
+		private int maxInFlightRequests = 1;
 
 		private Builder() {
 		}
@@ -41,6 +43,16 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setReadCoalescingMaxGap(int readCoalescingMaxGap) {
+			this.readCoalescingMaxGap = readCoalescingMaxGap;
+			return this;
+		}
+
+		public Builder setMaxInFlightRequests(int maxInFlightRequests) {
+			this.maxInFlightRequests = maxInFlightRequests;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -82,4 +94,14 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int readCoalescingMaxGap() {
+		return this.builder.readCoalescingMaxGap;
+	}
+
+	@Override
+	public int maxInFlightRequests() {
+		return this.builder.maxInFlightRequests;
+	}
+
 }
\ No newline at end of file
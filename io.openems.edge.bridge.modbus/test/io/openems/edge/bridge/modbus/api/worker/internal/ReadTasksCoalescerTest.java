@@ -0,0 +1,106 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.MergedReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ReadTasksCoalescerTest {
+
+	@Test
+	public void testCoalesce() throws OpenemsException {
+		var component0 = new DummyModbusComponent("device0", "modbus0");
+		var component1 = new DummyModbusComponent("device1", "modbus0");
+		var component2 = new DummyModbusComponent("device2", new DummyModbusBridge("modbus0"), 2,
+				new io.openems.edge.common.channel.ChannelId[0]);
+
+		var t0 = new FC3ReadRegistersTask(0, Priority.HIGH, new UnsignedDoublewordElement(0));
+		var t1 = new FC3ReadRegistersTask(3, Priority.HIGH, new UnsignedDoublewordElement(3));
+		var t2 = new FC3ReadRegistersTask(200, Priority.HIGH, new UnsignedWordElement(200));
+		var t3 = new FC4ReadInputRegistersTask(5, Priority.HIGH, new UnsignedWordElement(5));
+		var t4 = new FC3ReadRegistersTask(5, Priority.HIGH, new UnsignedWordElement(5));
+		component0.getModbusProtocol().addTasks(t0, t2);
+		component1.getModbusProtocol().addTasks(t1, t3);
+		component2.getModbusProtocol().addTasks(t4);
+		List<ReadTask> tasks = List.of(t2, t1, t0, t3, t4);
+
+		// Disabled
+		assertTrue(ReadTasksCoalescer.coalesce(tasks, -1).isEmpty());
+
+		// Gap is too big
+		assertTrue(ReadTasksCoalescer.coalesce(tasks, 0).isEmpty());
+
+		// Merge t0 and t1 of different Components; others have a different Unit-ID,
+		// function code or a too big gap
+		var merged = ReadTasksCoalescer.coalesce(tasks, 1);
+		assertEquals(1, merged.size());
+		var m = merged.get(0);
+		assertEquals(2, m.getTasks().length);
+		assertEquals(t0, m.getTasks()[0]);
+		assertEquals(t1, m.getTasks()[1]);
+		assertEquals(0, m.getStartAddress());
+		assertEquals(5, m.getLength());
+		assertEquals(2, m.getElements().length);
+		assertEquals(13 - 2, m.getSavedBytes());
+
+		// Respect max length
+		var t5 = new FC3ReadRegistersTask(100, Priority.HIGH, new UnsignedWordElement(100));
+		var t6 = new FC3ReadRegistersTask(100 + MergedReadRegistersTask.MAX_LENGTH, Priority.HIGH,
+				new UnsignedWordElement(100 + MergedReadRegistersTask.MAX_LENGTH));
+		component0.getModbusProtocol().addTasks(t5, t6);
+		assertTrue(ReadTasksCoalescer.coalesce(List.of(t5, t6), 1000).isEmpty());
+	}
+
+	@Test
+	public void testTasksSupplier() throws OpenemsException {
+		var clock = new TimeLeapClock();
+		var defectiveComponents = new DefectiveComponents(clock);
+		var sut = new TasksSupplierImpl();
+		sut.setReadCoalescingMaxGap(1);
+
+		var component0 = new DummyModbusComponent("device0", "modbus0");
+		var component1 = new DummyModbusComponent("device1", "modbus0");
+		var t0 = new FC3ReadRegistersTask(0, Priority.HIGH, new UnsignedDoublewordElement(0));
+		var t1 = new FC3ReadRegistersTask(3, Priority.HIGH, new UnsignedDoublewordElement(3));
+		component0.getModbusProtocol().addTasks(t0);
+		component1.getModbusProtocol().addTasks(t1);
+		sut.addProtocol(component0.id(), component0.getModbusProtocol());
+		sut.addProtocol(component1.id(), component1.getModbusProtocol());
+
+		var tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(1, tasks.reads().size());
+		assertTrue(tasks.reads().get(0) instanceof MergedReadRegistersTask);
+		assertEquals(1, sut.getSavedRequests());
+		assertEquals(11, sut.getSavedBytes());
+
+		// One Component is defective -> fall back to original tasks
+		defectiveComponents.add(component1.id());
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(1, tasks.reads().size());
+		assertEquals(t0, tasks.reads().get(0));
+		assertFalse(tasks.reads().contains(t1));
+		assertEquals(0, sut.getSavedRequests());
+
+		// Disable merging
+		defectiveComponents.remove(component1.id());
+		sut.setReadCoalescingMaxGap(-1);
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(2, tasks.reads().size());
+		assertEquals(0, sut.getSavedBytes());
+	}
+}
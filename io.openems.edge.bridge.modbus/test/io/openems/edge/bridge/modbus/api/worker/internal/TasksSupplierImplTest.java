@@ -2,6 +2,8 @@ package io.openems.edge.bridge.modbus.api.worker.internal;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.time.temporal.ChronoUnit;
@@ -103,4 +105,40 @@ public class TasksSupplierImplTest {
 		assertTrue(tasks.writes().contains(WT_1));
 	}
 
+	@Test
+	public void testTasksChanged() throws OpenemsException {
+		var clock = new TimeLeapClock();
+		var defectiveComponents = new DefectiveComponents(clock);
+		var sut = new TasksSupplierImpl();
+
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(RT_H_1, WT_1);
+		sut.addProtocol(component.id(), protocol);
+
+		var tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(2, tasks.reads().size() + tasks.writes().size());
+
+		// Tasks are added after the protocol was registered
+		protocol.addTasks(RT_H_2, RT_L_1);
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(4, tasks.reads().size() + tasks.writes().size());
+		assertEquals(RT_L_1, tasks.reads().get(0));
+		assertTrue(tasks.reads().contains(RT_H_2));
+
+		// Buffers are reused
+		var tasks3 = sut.getCycleTasks(defectiveComponents);
+		var tasks4 = sut.getCycleTasks(defectiveComponents);
+		assertSame(tasks, tasks4);
+		assertNotSame(tasks3, tasks4);
+
+		// Polling consumes Tasks
+		assertEquals(RT_L_1, tasks4.reads().poll());
+		assertEquals(2, tasks4.reads().size());
+
+		sut.removeProtocol(component.id());
+		tasks = sut.getCycleTasks(defectiveComponents);
+		assertEquals(0, tasks.reads().size() + tasks.writes().size());
+	}
+
 }
@@ -1,15 +1,14 @@
 package io.openems.edge.common.channel;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.time.temporal.TemporalAmount;
-import java.util.TreeMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
@@ -169,15 +168,25 @@ public interface Channel<T> {
 	/**
 	 * Gets the past values for this Channel.
 	 *
-	 * @return a map of recording time and historic value at that time
+	 * @return the {@link PastValues}, providing range and floor queries over the
+	 *         recording time and historic value at that time
 	 */
 	// TODO this should be a ZonedDateTime
-	public TreeMap<LocalDateTime, Value<T>> getPastValues();
+	public PastValues<T> getPastValues();
 
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
 	 * nextProcessImage().
-	 * 
+	 *
+	 * <p>
+	 * Threading: if the Process-Image is switched in parallel (see Core.Cycle
+	 * 'Process-Image Parallelism'), the callback runs on a Process-Image thread
+	 * instead of the Cycle thread. Callbacks of all Channels of one Component run
+	 * sequentially on the same thread; Channels of other Components are switched
+	 * concurrently. A callback that sets values of another Component requires that
+	 * Component to implement
+	 * {@link io.openems.edge.common.cycle.ProcessImageDependent}.
+	 *
 	 * @param callback the callback
 	 * @return the same callback for fluent coding
 	 */
@@ -195,6 +204,9 @@ public interface Channel<T> {
 	 * Add an onChange callback. It is called, after a new, different active value
 	 * was set by nextProcessImage().
 	 *
+	 * <p>
+	 * Threading: same as for {@link #onUpdate(Consumer)}.
+	 *
 	 * @param callback old value and new value
 	 * @return the same callback for fluent coding
 	 */
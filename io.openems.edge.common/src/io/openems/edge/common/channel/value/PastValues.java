@@ -0,0 +1,394 @@
+package io.openems.edge.common.channel.value;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.DoubleStream;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.cycle.Cycle;
+
+/**
+ * Holds the past values of a {@link Channel} in a time-series ring buffer.
+ *
+ * <p>
+ * Timestamps are stored as local epoch milliseconds in a primitive
+ * {@code long[]}; values are stored in a primitive array depending on the
+ * {@link OpenemsType} of the Channel ({@code int[]} for BOOLEAN, SHORT and
+ * INTEGER, {@code long[]} for LONG, {@code double[]} for FLOAT and DOUBLE) plus
+ * a bitmap for 'null' values. Only STRING values are kept as object
+ * references.
+ *
+ * <p>
+ * Appending a value does not allocate, unless the buffer has to grow because
+ * the Cycle-Time is shorter than {@link Cycle#DEFAULT_CYCLE_TIME}. Values that
+ * are older than {@link Channel#MAX_AGE_OF_PAST_VALUES} based on the latest
+ * value are dropped. {@link Value} objects are only created on query.
+ *
+ * @param <T> the type of the Channel
+ */
+public class PastValues<T> {
+
+	private final Channel<T> parent;
+	private final OpenemsType type;
+	private final long maxAgeMillis;
+	private final int initialCapacity;
+
+	private long[] timestamps = null;
+	private int[] intValues = null;
+	private long[] longValues = null;
+	private double[] doubleValues = null;
+	private Object[] objectValues = null;
+	private long[] nulls = null;
+
+	/** Physical index of the oldest entry. */
+	private int head = 0;
+	/** Number of entries. */
+	private int size = 0;
+
+	public PastValues(Channel<T> parent, OpenemsType type) {
+		this(parent, type, Channel.MAX_AGE_OF_PAST_VALUES, Cycle.DEFAULT_CYCLE_TIME);
+	}
+
+	public PastValues(Channel<T> parent, OpenemsType type, TemporalAmount maxAge, int cycleTime) {
+		this.parent = parent;
+		this.type = type;
+		this.maxAgeMillis = Duration.from(maxAge).toMillis();
+		this.initialCapacity = (int) Math.max(2, this.maxAgeMillis / Math.max(1, cycleTime) + 1);
+	}
+
+	/**
+	 * Appends a value and drops entries that are older than the configured max
+	 * age. Internal method, called on process image switch.
+	 *
+	 * <p>
+	 * If the timestamp of the value is the same millisecond as an existing entry,
+	 * that entry is overwritten. A timestamp before the latest entry, e.g. after
+	 * the system clock was set back, is inserted in order.
+	 *
+	 * @param value the {@link Value}
+	 */
+	public synchronized void append(Value<T> value) {
+		final var timestamp = toEpochMilli(value.getTimestamp());
+		if (this.timestamps == null) {
+			this.allocate(this.initialCapacity);
+		}
+
+		// Drop values that are too old
+		final var minTimestamp = timestamp - this.maxAgeMillis;
+		while (this.size > 0 && this.timestamps[this.head] < minTimestamp) {
+			if (this.objectValues != null) {
+				this.objectValues[this.head] = null;
+			}
+			this.head = (this.head + 1) % this.timestamps.length;
+			this.size--;
+		}
+
+		final var position = this.size > 0 && this.timestamps[this.physical(this.size - 1)] < timestamp //
+				? this.size // after the latest entry
+				: this.ceilingIndex(timestamp);
+		final int index;
+		if (position < this.size && this.timestamps[this.physical(position)] == timestamp) {
+			// Same timestamp -> overwrite
+			index = this.physical(position);
+		} else {
+			if (this.size == this.timestamps.length) {
+				this.grow();
+			}
+			// Shift newer entries, if any
+			for (var i = this.size; i > position; i--) {
+				this.move(this.physical(i - 1), this.physical(i));
+			}
+			index = this.physical(position);
+			this.size++;
+		}
+		this.timestamps[index] = timestamp;
+		this.set(index, value.get());
+	}
+
+	/**
+	 * Gets the number of past values.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Is this buffer empty?.
+	 *
+	 * @return true if there are no past values
+	 */
+	public synchronized boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Gets the timestamp of the latest past value that is before or equal to the
+	 * given time.
+	 *
+	 * @param time the time
+	 * @return the timestamp; or null if there is no such value
+	 */
+	public synchronized LocalDateTime floorTimestamp(LocalDateTime time) {
+		var i = this.floorIndex(toEpochMilli(time));
+		if (i < 0) {
+			return null;
+		}
+		return fromEpochMilli(this.timestamps[this.physical(i)]);
+	}
+
+	/**
+	 * Gets the latest past value that is before or equal to the given time.
+	 *
+	 * @param time the time
+	 * @return the {@link Value}; or null if there is no such value
+	 */
+	public synchronized Value<T> floor(LocalDateTime time) {
+		var i = this.floorIndex(toEpochMilli(time));
+		if (i < 0) {
+			return null;
+		}
+		return this.getValue(i);
+	}
+
+	/**
+	 * Gets the past values within the given time range in ascending order.
+	 *
+	 * @param fromInclusive the start time (inclusive)
+	 * @param toExclusive   the end time (exclusive); null for no limit
+	 * @return a list of {@link Value}s
+	 */
+	public synchronized List<Value<T>> range(LocalDateTime fromInclusive, LocalDateTime toExclusive) {
+		final var from = this.ceilingIndex(toEpochMilli(fromInclusive));
+		final var to = this.toIndex(toExclusive);
+		final var result = new ArrayList<Value<T>>(Math.max(0, to - from));
+		for (var i = from; i < to; i++) {
+			result.add(this.getValue(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the past values starting from the latest value that is before or equal
+	 * to the given start time - or the start time itself if there is no such value
+	 * - up to the end time.
+	 *
+	 * <p>
+	 * This makes sure a value is returned even for Channels whose value has not
+	 * changed within the given time range.
+	 *
+	 * @param from        the start time
+	 * @param toExclusive the end time (exclusive); null for no limit
+	 * @return a list of {@link Value}s
+	 */
+	public synchronized List<Value<T>> rangeFromFloor(LocalDateTime from, LocalDateTime toExclusive) {
+		final var floorTime = this.floorTimestamp(from);
+		return this.range(floorTime != null ? floorTime : from, toExclusive);
+	}
+
+	/**
+	 * Gets all past values in ascending order.
+	 *
+	 * @return a list of {@link Value}s
+	 */
+	public synchronized List<Value<T>> toList() {
+		final var result = new ArrayList<Value<T>>(this.size);
+		for (var i = 0; i < this.size; i++) {
+			result.add(this.getValue(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the defined (i.e. non-null) past values within the given time range as
+	 * primitive doubles, without creating {@link Value} objects.
+	 *
+	 * <p>
+	 * BOOLEAN values are mapped to 1 and 0; STRING values are not supported and
+	 * result in an empty stream.
+	 *
+	 * @param fromInclusive the start time (inclusive)
+	 * @param toExclusive   the end time (exclusive); null for no limit
+	 * @return a {@link DoubleStream}
+	 */
+	public synchronized DoubleStream doubles(LocalDateTime fromInclusive, LocalDateTime toExclusive) {
+		if (this.type == OpenemsType.STRING) {
+			return DoubleStream.empty();
+		}
+		final var from = this.ceilingIndex(toEpochMilli(fromInclusive));
+		final var to = this.toIndex(toExclusive);
+		final var result = new double[Math.max(0, to - from)];
+		var count = 0;
+		for (var i = from; i < to; i++) {
+			final var index = this.physical(i);
+			if (this.isNull(index)) {
+				continue;
+			}
+			result[count++] = switch (this.type) {
+			case BOOLEAN, SHORT, INTEGER -> this.intValues[index];
+			case LONG -> this.longValues[index];
+			case FLOAT, DOUBLE -> this.doubleValues[index];
+			case STRING -> 0; // not reached
+			};
+		}
+		return DoubleStream.of(result).limit(count);
+	}
+
+	private void allocate(int capacity) {
+		this.timestamps = new long[capacity];
+		this.nulls = new long[(capacity + 63) / 64];
+		switch (this.type) {
+		case BOOLEAN, SHORT, INTEGER -> this.intValues = new int[capacity];
+		case LONG -> this.longValues = new long[capacity];
+		case FLOAT, DOUBLE -> this.doubleValues = new double[capacity];
+		case STRING -> this.objectValues = new Object[capacity];
+		}
+	}
+
+	private void grow() {
+		final var oldTimestamps = this.timestamps;
+		final var oldIntValues = this.intValues;
+		final var oldLongValues = this.longValues;
+		final var oldDoubleValues = this.doubleValues;
+		final var oldObjectValues = this.objectValues;
+		final var oldNulls = this.nulls;
+		final var oldCapacity = oldTimestamps.length;
+		final var oldHead = this.head;
+
+		this.allocate(oldCapacity * 2);
+		for (var i = 0; i < this.size; i++) {
+			final var from = (oldHead + i) % oldCapacity;
+			this.timestamps[i] = oldTimestamps[from];
+			switch (this.type) {
+			case BOOLEAN, SHORT, INTEGER -> this.intValues[i] = oldIntValues[from];
+			case LONG -> this.longValues[i] = oldLongValues[from];
+			case FLOAT, DOUBLE -> this.doubleValues[i] = oldDoubleValues[from];
+			case STRING -> this.objectValues[i] = oldObjectValues[from];
+			}
+			if ((oldNulls[from >>> 6] & (1L << from)) != 0) {
+				this.nulls[i >>> 6] |= 1L << i;
+			}
+		}
+		this.head = 0;
+	}
+
+	private void move(int from, int to) {
+		this.timestamps[to] = this.timestamps[from];
+		switch (this.type) {
+		case BOOLEAN, SHORT, INTEGER -> this.intValues[to] = this.intValues[from];
+		case LONG -> this.longValues[to] = this.longValues[from];
+		case FLOAT, DOUBLE -> this.doubleValues[to] = this.doubleValues[from];
+		case STRING -> this.objectValues[to] = this.objectValues[from];
+		}
+		if (this.isNull(from)) {
+			this.nulls[to >>> 6] |= 1L << to;
+		} else {
+			this.nulls[to >>> 6] &= ~(1L << to);
+		}
+	}
+
+	private void set(int index, T value) {
+		if (value == null) {
+			this.nulls[index >>> 6] |= 1L << index;
+			if (this.objectValues != null) {
+				this.objectValues[index] = null;
+			}
+			return;
+		}
+		this.nulls[index >>> 6] &= ~(1L << index);
+		switch (this.type) {
+		case BOOLEAN -> this.intValues[index] = (Boolean) value ? 1 : 0;
+		case SHORT, INTEGER -> this.intValues[index] = ((Number) value).intValue();
+		case LONG -> this.longValues[index] = ((Number) value).longValue();
+		case FLOAT, DOUBLE -> this.doubleValues[index] = ((Number) value).doubleValue();
+		case STRING -> this.objectValues[index] = value;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Value<T> getValue(int logicalIndex) {
+		final var index = this.physical(logicalIndex);
+		final Object value;
+		if (this.isNull(index)) {
+			value = null;
+		} else {
+			value = switch (this.type) {
+			case BOOLEAN -> this.intValues[index] != 0;
+			case SHORT -> (short) this.intValues[index];
+			case INTEGER -> this.intValues[index];
+			case LONG -> this.longValues[index];
+			case FLOAT -> (float) this.doubleValues[index];
+			case DOUBLE -> this.doubleValues[index];
+			case STRING -> this.objectValues[index];
+			};
+		}
+		return new Value<>(this.parent, (T) value, fromEpochMilli(this.timestamps[index]));
+	}
+
+	private boolean isNull(int index) {
+		return (this.nulls[index >>> 6] & (1L << index)) != 0;
+	}
+
+	private int physical(int logicalIndex) {
+		return (this.head + logicalIndex) % this.timestamps.length;
+	}
+
+	/**
+	 * Binary search for the logical index of the latest entry with timestamp less
+	 * than or equal to the given timestamp.
+	 *
+	 * @param timestamp the timestamp in local epoch milliseconds
+	 * @return the logical index; -1 if there is no such entry
+	 */
+	private int floorIndex(long timestamp) {
+		return this.ceilingIndex(timestamp + 1) - 1;
+	}
+
+	/**
+	 * Binary search for the logical index of the first entry with timestamp
+	 * greater than or equal to the given timestamp.
+	 *
+	 * @param timestamp the timestamp in local epoch milliseconds
+	 * @return the logical index; {@link #size} if there is no such entry
+	 */
+	private int ceilingIndex(long timestamp) {
+		var low = 0;
+		var high = this.size;
+		while (low < high) {
+			final var mid = (low + high) >>> 1;
+			if (this.timestamps[this.physical(mid)] < timestamp) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private int toIndex(LocalDateTime toExclusive) {
+		if (toExclusive == null) {
+			return this.size;
+		}
+		return this.ceilingIndex(toEpochMilli(toExclusive));
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "PastValues [type=" + this.type + ", size=" + this.size + "]";
+	}
+
+	private static long toEpochMilli(LocalDateTime time) {
+		return time.toEpochSecond(ZoneOffset.UTC) * 1000 + time.getNano() / 1_000_000;
+	}
+
+	private static LocalDateTime fromEpochMilli(long epochMilli) {
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMilli, 1000),
+				(int) Math.floorMod(epochMilli, 1000) * 1_000_000, ZoneOffset.UTC);
+	}
+}
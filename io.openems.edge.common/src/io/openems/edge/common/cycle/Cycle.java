@@ -6,6 +6,7 @@ import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
+import io.openems.edge.common.channel.StringReadChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 
@@ -27,6 +28,86 @@ public interface Cycle extends OpenemsComponent {
 		 */
 		MEASURED_CYCLE_TIME(Doc.of(OpenemsType.LONG) //
 				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Measured duration of the Process-Image phase in [ms].
+		 *
+		 * <p>
+		 * Covers the BEFORE_PROCESS_IMAGE event, the Process-Image switch of all
+		 * Channels and the AFTER_PROCESS_IMAGE event.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_PROCESS_IMAGE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Measured duration of the Controllers phase in [ms].
+		 *
+		 * <p>
+		 * Covers the BEFORE_CONTROLLERS event, the execution of all Controllers and
+		 * the AFTER_CONTROLLERS event.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_CONTROLLERS_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Measured duration of the Write phase in [ms].
+		 *
+		 * <p>
+		 * Covers the BEFORE_WRITE, EXECUTE_WRITE and AFTER_WRITE events.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		MEASURED_WRITE_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Component-ID of the Controller with the longest execution time in the last
+		 * Cycle.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: String
+		 * </ul>
+		 */
+		SLOWEST_CONTROLLER(Doc.of(OpenemsType.STRING)),
+		/**
+		 * Execution time of {@link #SLOWEST_CONTROLLER} in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		SLOWEST_CONTROLLER_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * EventAdmin topic with the longest handling time in the last Cycle.
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: String
+		 * </ul>
+		 */
+		SLOWEST_EVENT_TOPIC(Doc.of(OpenemsType.STRING)),
+		/**
+		 * Handling time of {@link #SLOWEST_EVENT_TOPIC} in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		SLOWEST_EVENT_TOPIC_TIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)),
 		/**
 		 * A configured Controller is not executed because it is disabled.
 		 *
@@ -88,6 +169,209 @@ public interface Cycle extends OpenemsComponent {
 		this.getMeasuredCycleTimeChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredProcessImageTimeChannel() {
+		return this.channel(ChannelId.MEASURED_PROCESS_IMAGE_TIME);
+	}
+
+	/**
+	 * Gets the Measured Process-Image Time in [ms]. See
+	 * {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredProcessImageTime() {
+		return this.getMeasuredProcessImageTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_PROCESS_IMAGE_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredProcessImageTime(long value) {
+		this.getMeasuredProcessImageTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredControllersTimeChannel() {
+		return this.channel(ChannelId.MEASURED_CONTROLLERS_TIME);
+	}
+
+	/**
+	 * Gets the Measured Controllers Time in [ms]. See
+	 * {@link ChannelId#MEASURED_CONTROLLERS_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredControllersTime() {
+		return this.getMeasuredControllersTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#MEASURED_CONTROLLERS_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredControllersTime(long value) {
+		this.getMeasuredControllersTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#MEASURED_WRITE_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getMeasuredWriteTimeChannel() {
+		return this.channel(ChannelId.MEASURED_WRITE_TIME);
+	}
+
+	/**
+	 * Gets the Measured Write Time in [ms]. See
+	 * {@link ChannelId#MEASURED_WRITE_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getMeasuredWriteTime() {
+		return this.getMeasuredWriteTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#MEASURED_WRITE_TIME}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setMeasuredWriteTime(long value) {
+		this.getMeasuredWriteTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SLOWEST_CONTROLLER}.
+	 *
+	 * @return the Channel
+	 */
+	public default StringReadChannel getSlowestControllerChannel() {
+		return this.channel(ChannelId.SLOWEST_CONTROLLER);
+	}
+
+	/**
+	 * Gets the Slowest Controller. See
+	 * {@link ChannelId#SLOWEST_CONTROLLER}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<String> getSlowestController() {
+		return this.getSlowestControllerChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#SLOWEST_CONTROLLER} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSlowestController(String value) {
+		this.getSlowestControllerChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SLOWEST_CONTROLLER_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getSlowestControllerTimeChannel() {
+		return this.channel(ChannelId.SLOWEST_CONTROLLER_TIME);
+	}
+
+	/**
+	 * Gets the Slowest Controller Time in [ms]. See
+	 * {@link ChannelId#SLOWEST_CONTROLLER_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getSlowestControllerTime() {
+		return this.getSlowestControllerTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#SLOWEST_CONTROLLER_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSlowestControllerTime(long value) {
+		this.getSlowestControllerTimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SLOWEST_EVENT_TOPIC}.
+	 *
+	 * @return the Channel
+	 */
+	public default StringReadChannel getSlowestEventTopicChannel() {
+		return this.channel(ChannelId.SLOWEST_EVENT_TOPIC);
+	}
+
+	/**
+	 * Gets the Slowest Event Topic. See
+	 * {@link ChannelId#SLOWEST_EVENT_TOPIC}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<String> getSlowestEventTopic() {
+		return this.getSlowestEventTopicChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#SLOWEST_EVENT_TOPIC} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSlowestEventTopic(String value) {
+		this.getSlowestEventTopicChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#SLOWEST_EVENT_TOPIC_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getSlowestEventTopicTimeChannel() {
+		return this.channel(ChannelId.SLOWEST_EVENT_TOPIC_TIME);
+	}
+
+	/**
+	 * Gets the Slowest Event Topic Time in [ms]. See
+	 * {@link ChannelId#SLOWEST_EVENT_TOPIC_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getSlowestEventTopicTime() {
+		return this.getSlowestEventTopicTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#SLOWEST_EVENT_TOPIC_TIME} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setSlowestEventTopicTime(long value) {
+		this.getSlowestEventTopicTimeChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#IGNORE_DISABLED_CONTROLLER}.
 	 *
@@ -0,0 +1,30 @@
+package io.openems.edge.common.cycle;
+
+import io.openems.edge.common.channel.AbstractChannelListenerManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Marks an {@link OpenemsComponent} whose Channel values are set by callbacks
+ * on Channels of other Components, e.g. via an
+ * {@link AbstractChannelListenerManager}.
+ *
+ * <p>
+ * If the Process-Image switch is executed in parallel, these Components are
+ * switched only after all their possible inputs were switched, i.e. after all
+ * Components that do not implement this interface and after all
+ * {@link ProcessImageDependent}s returned by
+ * {@link #getProcessImageInputIds()}.
+ */
+public interface ProcessImageDependent {
+
+	/**
+	 * Gets the Component-IDs of the inputs of this Component, e.g. the members of
+	 * a cluster.
+	 *
+	 * @return an array of Component-IDs
+	 */
+	public default String[] getProcessImageInputIds() {
+		return new String[0];
+	}
+
+}
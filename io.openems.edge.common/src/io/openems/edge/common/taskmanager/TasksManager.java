@@ -20,6 +20,8 @@ public class TasksManager<T extends ManagedTask> {
 
 	private int nextTaskIndex = 0;
 
+	private int version = 0;
+
 	@SafeVarargs
 	public TasksManager(T... tasks) {
 		this.addTasks(tasks);
@@ -55,6 +57,7 @@ public class TasksManager<T extends ManagedTask> {
 	 */
 	public synchronized void addTask(T task) {
 		this.tasks.add(task);
+		this.version++;
 	}
 
 	/**
@@ -63,7 +66,9 @@ public class TasksManager<T extends ManagedTask> {
 	 * @param task the Task
 	 */
 	public synchronized void removeTask(T task) {
-		this.tasks.remove(task);
+		if (this.tasks.remove(task)) {
+			this.version++;
+		}
 	}
 
 	/**
@@ -71,6 +76,20 @@ public class TasksManager<T extends ManagedTask> {
 	 */
 	public synchronized void clearAll() {
 		this.tasks.clear();
+		this.version++;
+	}
+
+	/**
+	 * Gets a version number that changes whenever Tasks are added or removed.
+	 *
+	 * <p>
+	 * Allows users to cache data derived from {@link #getTasks()} and to detect
+	 * cheaply if it needs to be recalculated.
+	 *
+	 * @return the version number
+	 */
+	public synchronized int getVersion() {
+		return this.version;
 	}
 
 	/**
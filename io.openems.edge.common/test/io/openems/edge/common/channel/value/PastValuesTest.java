@@ -0,0 +1,131 @@
+package io.openems.edge.common.channel.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+
+public class PastValuesTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+	private static <T> Value<T> value(T value, int seconds) {
+		return new Value<>(null, value, START.plusSeconds(seconds));
+	}
+
+	@Test
+	public void testRangeAndFloor() {
+		var sut = new PastValues<Integer>(null, OpenemsType.INTEGER, Duration.ofSeconds(10), 1000);
+		for (var i = 0; i < 5; i++) {
+			sut.append(value(i == 2 ? null : i * 10, i));
+		}
+		assertEquals(5, sut.size());
+
+		assertNull(sut.floor(START.minusSeconds(1)));
+		assertEquals(30, sut.floor(START.plusSeconds(3).plusNanos(500_000_000)).get().intValue());
+		assertEquals(START.plusSeconds(3), sut.floorTimestamp(START.plusSeconds(3)));
+
+		var range = sut.range(START.plusSeconds(1), START.plusSeconds(4));
+		assertEquals(3, range.size());
+		assertEquals(10, range.get(0).get().intValue());
+		assertFalse(range.get(1).isDefined());
+		assertEquals(30, range.get(2).get().intValue());
+
+		assertEquals(4, sut.rangeFromFloor(START.plusSeconds(1).plusNanos(1_000_000), null).size());
+		assertEquals(80., sut.doubles(START, null).sum(), 0.001);
+	}
+
+	@Test
+	public void testMaxAge() {
+		var sut = new PastValues<Long>(null, OpenemsType.LONG, Duration.ofSeconds(10), 1000);
+		for (var i = 0; i < 100; i++) {
+			sut.append(value((long) i, i));
+		}
+		// entries within [89, 99] seconds
+		assertEquals(11, sut.size());
+		assertEquals(89L, sut.toList().get(0).get().longValue());
+		assertEquals(99L, sut.toList().get(10).get().longValue());
+	}
+
+	@Test
+	public void testGrow() {
+		// Cycle-Time hint is too large -> buffer has to grow
+		var sut = new PastValues<Boolean>(null, OpenemsType.BOOLEAN, Duration.ofSeconds(100), 50_000);
+		for (var i = 0; i < 50; i++) {
+			sut.append(value(i % 3 == 0 ? null : i % 2 == 0, i));
+		}
+		assertEquals(50, sut.size());
+		var list = sut.toList();
+		for (var i = 0; i < 50; i++) {
+			assertEquals(START.plusSeconds(i), list.get(i).getTimestamp());
+			if (i % 3 == 0) {
+				assertFalse(list.get(i).isDefined());
+			} else {
+				assertEquals(i % 2 == 0, list.get(i).get());
+			}
+		}
+	}
+
+	@Test
+	public void testOverwriteSameTimestamp() {
+		var sut = new PastValues<String>(null, OpenemsType.STRING, Duration.ofSeconds(10), 1000);
+		sut.append(value("foo", 1));
+		sut.append(value("bar", 1));
+		assertEquals(1, sut.size());
+		assertEquals("bar", sut.floor(START.plusSeconds(1)).get());
+		assertEquals(0, sut.doubles(START, null).count());
+	}
+
+	@Test
+	public void testClockSetBack() {
+		var sut = new PastValues<Integer>(null, OpenemsType.INTEGER, Duration.ofSeconds(10), 1000);
+		for (var i = 0; i < 10; i++) {
+			sut.append(value(i == 5 ? null : i, i));
+		}
+		sut.append(value(100, 3)); // overwrite
+		sut.append(value(200, -1)); // insert before the oldest
+		sut.append(value(null, 7)); // overwrite with null
+
+		var list = sut.toList();
+		assertEquals(11, list.size());
+		for (var i = 1; i < list.size(); i++) {
+			assertTrue(list.get(i - 1).getTimestamp().isBefore(list.get(i).getTimestamp()));
+		}
+		assertEquals(200, list.get(0).get().intValue());
+		assertEquals(100, sut.floor(START.plusSeconds(3)).get().intValue());
+		assertFalse(sut.floor(START.plusSeconds(5)).isDefined());
+		assertFalse(sut.floor(START.plusSeconds(7)).isDefined());
+		assertEquals(9, sut.floor(START.plusSeconds(20)).get().intValue());
+
+		// Insert in the middle of a full buffer
+		for (var i = 10; i < 15; i++) {
+			sut.append(value(i, i));
+		}
+		sut.append(new Value<>(null, -1, START.plusSeconds(8).plusNanos(500_000_000)));
+		list = sut.toList();
+		assertEquals(12, list.size());
+		for (var i = 1; i < list.size(); i++) {
+			assertTrue(list.get(i - 1).getTimestamp().isBefore(list.get(i).getTimestamp()));
+		}
+		assertEquals(8, sut.floor(START.plusSeconds(8)).get().intValue());
+		assertEquals(-1, sut.floor(START.plusSeconds(8).plusNanos(900_000_000)).get().intValue());
+		assertEquals(9, sut.floor(START.plusSeconds(9)).get().intValue());
+		assertEquals(14, sut.floor(START.plusSeconds(20)).get().intValue());
+	}
+
+	@Test
+	public void testEmpty() {
+		var sut = new PastValues<Float>(null, OpenemsType.FLOAT);
+		assertTrue(sut.isEmpty());
+		assertNull(sut.floorTimestamp(START));
+		assertTrue(sut.range(START, null).isEmpty());
+		assertEquals(0, sut.doubles(START, null).count());
+	}
+}
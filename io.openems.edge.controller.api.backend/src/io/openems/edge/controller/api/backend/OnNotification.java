@@ -4,8 +4,10 @@ import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.DataFormatNotification;
+import io.openems.common.websocket.BinaryDataCodec;
 
 public class OnNotification implements io.openems.common.websocket.OnNotification {
 
@@ -17,8 +19,27 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 	}
 
 	@Override
-	public void run(WebSocket ws, JsonrpcNotification notification) throws OpenemsException {
-		this.parent.logWarn(this.log, "Unhandled Notification: " + notification);
+	public void run(WebSocket ws, JsonrpcNotification notification) throws OpenemsNamedException {
+		switch (notification.getMethod()) {
+		case DataFormatNotification.METHOD ->
+			this.handleDataFormatNotification(DataFormatNotification.from(notification), ws.getAttachment());
+		default -> this.parent.logWarn(this.log, "Unhandled Notification: " + notification);
+		}
+	}
+
+	/**
+	 * Handles a {@link DataFormatNotification}.
+	 *
+	 * @param notification the {@link DataFormatNotification}
+	 * @param wsData       the WebSocket attachment
+	 */
+	private void handleDataFormatNotification(DataFormatNotification notification, WsData wsData) {
+		if (!this.parent.config.binaryDataFormat() || !BinaryDataCodec.FORMAT.equals(notification.getFormat())) {
+			this.parent.logWarn(this.log, "Ignoring data format [" + notification.getFormat() + "]");
+			return;
+		}
+		this.parent.logInfo(this.log, "Using data format [" + notification.getFormat() + "]");
+		wsData.setBinaryDataFormat(true);
 	}
 
 }
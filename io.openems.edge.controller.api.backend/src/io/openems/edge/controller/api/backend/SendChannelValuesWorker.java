@@ -39,6 +39,7 @@ import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
 
@@ -187,17 +188,16 @@ public class SendChannelValuesWorker {
 				.forEach(channel -> {
 					try {
 						// This is the highest timestamp before `startTime`. If existing it is used for
-						// the tailMap to make sure we get a Value even for Channels where the value has
+						// the range to make sure we get a Value even for Channels where the value has
 						// not changed within the last 5 minutes.
-						var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(startTime))
+						var channelStartTime = Optional.ofNullable(channel.getPastValues().floorTimestamp(startTime))
 								.orElse(startTime);
 
 						var value = channel.getPastValues() //
-								.tailMap(channelStartTime, true) //
-								.entrySet() //
+								.range(channelStartTime, endTime) //
 								.stream() //
-								.filter(e -> e.getKey().isBefore(endTime)) //
-								.filter(e -> e.getValue().isDefined()).map(e -> e.getValue().get()) //
+								.filter(Value::isDefined) //
+								.map(Value::get) //
 								.collect(aggregateCollector(channel.channelDoc().getUnit().isCumulated(), //
 										channel.getType()));
 
@@ -230,12 +230,10 @@ public class SendChannelValuesWorker {
 			return JsonNull.INSTANCE;
 		}
 		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
+				.range(channelStartTime, endTime) //
 				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
+				.filter(Value::isDefined) //
+				.map(v -> (Integer) v.get()) //
 				.collect(groupingBy(Function.identity(), counting()));
 
 		final var values = numberOfValuesPerOption.entrySet().stream() //
@@ -258,12 +256,14 @@ public class SendChannelValuesWorker {
 		}
 
 		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
+		final var pastValues = channel.getPastValues().toList();
+		for (var i = pastValues.size() - 1; i >= 0; i--) {
+			final var entry = pastValues.get(i);
 			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
+				if (!entry.isDefined()) {
 					continue;
 				}
-				final var entryValue = entry.getValue().get();
+				final var entryValue = entry.get();
 				if (((Integer) entryValue).intValue() == optionValue) {
 					return new JsonPrimitive(optionValue);
 				}
@@ -394,7 +394,7 @@ public class SendChannelValuesWorker {
 			}
 
 			// Try to send
-			var wasSent = this.parent.parent.websocket.sendMessage(message);
+			var wasSent = this.parent.parent.websocket.sendDataNotification(message);
 
 			if (wasSent) {
 				// Successfully sent: update information for next runs
@@ -428,7 +428,7 @@ public class SendChannelValuesWorker {
 			final var message = new AggregatedDataNotification();
 			message.add(this.timestamp.toEpochMilli(), this.allValues);
 
-			final var wasSent = this.parent.parent.websocket.sendMessage(message);
+			final var wasSent = this.parent.parent.websocket.sendDataNotification(message);
 
 			// Set the UNABLE_TO_SEND channel
 			this.parent.parent.getUnableToSendChannel().setNextValue(!wasSent);
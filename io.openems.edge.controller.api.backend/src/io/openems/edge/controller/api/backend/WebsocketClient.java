@@ -10,6 +10,7 @@ import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.websocket.AbstractWebsocketClient;
 import io.openems.common.websocket.OnClose;
 
@@ -35,6 +36,9 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.onClose = (ws, code, reason, remote) -> {
 			this.log.error("Disconnected from OpenEMS Backend [" + serverUri.toString() //
 					+ (proxy != AbstractWebsocketClient.NO_PROXY ? " via Proxy" : "") + "]");
+			// Data format is negotiated again on reconnect
+			WsData wsData = ws.getAttachment();
+			wsData.setBinaryDataFormat(false);
 			this.parent.getUnableToSendChannel().setNextValue(true);
 		};
 	}
@@ -84,6 +88,35 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.parent.logError(log, message);
 	}
 
+	/**
+	 * Sends a data notification; as binary frame if the binary data format was
+	 * negotiated with the Backend, otherwise as JSON-RPC.
+	 *
+	 * @param notification the {@link AbstractDataNotification}
+	 * @return true if sending was successful
+	 */
+	public boolean sendDataNotification(AbstractDataNotification notification) {
+		WsData wsData = this.ws.getAttachment();
+		var encoder = wsData.getBinaryDataEncoder();
+		if (encoder == null) {
+			return this.sendMessage(notification);
+		}
+		// Encode and send atomically to keep the order of stateful frames
+		synchronized (encoder) {
+			try {
+				this.ws.send(encoder.encode(notification));
+				return true;
+
+			} catch (Exception e) {
+				// Backend may have missed new Channel definitions
+				encoder.reset();
+				this.logWarn(this.log, "Unable to send binary data. " + e.getClass().getSimpleName() + ": "
+						+ e.getMessage());
+				return false;
+			}
+		}
+	}
+
 	public boolean isConnected() {
 		return this.ws.isOpen();
 	}
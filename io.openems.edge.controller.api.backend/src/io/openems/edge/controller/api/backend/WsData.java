@@ -1,7 +1,32 @@
 package io.openems.edge.controller.api.backend;
 
+import io.openems.common.websocket.BinaryDataCodec;
+
 public class WsData extends io.openems.common.websocket.WsData {
 
+	/**
+	 * Encoder for binary data frames; null if the session uses JSON-RPC.
+	 */
+	private volatile BinaryDataCodec.Encoder binaryDataEncoder = null;
+
+	/**
+	 * Enables or disables the {@link BinaryDataCodec} for this session.
+	 *
+	 * @param enabled true to enable
+	 */
+	public void setBinaryDataFormat(boolean enabled) {
+		this.binaryDataEncoder = enabled ? new BinaryDataCodec.Encoder() : null;
+	}
+
+	/**
+	 * Gets the {@link BinaryDataCodec.Encoder} of this session.
+	 *
+	 * @return the Encoder; null if the binary data format is not enabled
+	 */
+	public BinaryDataCodec.Encoder getBinaryDataEncoder() {
+		return this.binaryDataEncoder;
+	}
+
 	@Override
 	public String toString() {
 		return "BackendApi.WsData []";
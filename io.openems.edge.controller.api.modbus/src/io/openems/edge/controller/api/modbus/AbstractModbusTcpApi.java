@@ -1,12 +1,17 @@
 package io.openems.edge.controller.api.modbus;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +29,7 @@ import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.meta.Meta;
 import io.openems.edge.common.modbusslave.ModbusRecord;
@@ -44,7 +50,7 @@ import io.openems.edge.controller.api.modbus.jsonrpc.GetModbusProtocolRequest;
 import io.openems.edge.controller.api.modbus.jsonrpc.GetModbusProtocolResponse;
 
 public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
-		implements ModbusTcpApi, Controller, OpenemsComponent, JsonApi {
+		implements ModbusTcpApi, Controller, OpenemsComponent, JsonApi, EventHandler {
 
 	public static final int UNIT_ID = 1;
 	public static final int DEFAULT_PORT = 502;
@@ -69,6 +75,20 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 
 	private ConfigRecord config;
 
+	/**
+	 * Maps the {@link #records} to a flat array of registers; updated together
+	 * with the records.
+	 */
+	private volatile ProcessImageSnapshot.Layout layout = new ProcessImageSnapshot.Layout(this.records);
+
+	/**
+	 * Holds the register values of the current Cycle; replaced on
+	 * {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_PROCESS_IMAGE}.
+	 */
+	private volatile ProcessImageSnapshot processImageSnapshot = null;
+
+	private Set<String> disabledComponentIds = Set.of();
+
 	protected synchronized void addComponent(OpenemsComponent component) {
 		if (!(component instanceof ModbusSlave)) {
 			this.logError(this.log, "Component [" + component.id() + "] does not implement ModbusSlave");
@@ -236,6 +256,8 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 			// add component to process image
 			nextAddress = this.addComponentToProcessImage(nextAddress, component);
 		}
+
+		this.layout = new ProcessImageSnapshot.Layout(this.records);
 	}
 
 	/**
@@ -337,10 +359,70 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 			return;
 		}
 
-		this.updateCycleValues();
 		this.apiWorker.run();
 	}
 
+	@Override
+	public void handleEvent(Event event) {
+		if (!this.isEnabled()) {
+			return;
+		}
+		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
+			this.updateCycleValues();
+			this.updateProcessImageSnapshot();
+			break;
+		}
+	}
+
+	/**
+	 * Gets the {@link ProcessImageSnapshot} of the current Cycle.
+	 *
+	 * @return the {@link ProcessImageSnapshot}
+	 */
+	protected ProcessImageSnapshot getProcessImageSnapshot() {
+		var result = this.processImageSnapshot;
+		if (result == null) {
+			// Before the first Cycle
+			result = this.updateProcessImageSnapshot();
+		}
+		return result;
+	}
+
+	/**
+	 * Once every cycle: takes a {@link ProcessImageSnapshot} of the values of all
+	 * {@link ModbusRecord}s.
+	 *
+	 * @return the new {@link ProcessImageSnapshot}
+	 */
+	private synchronized ProcessImageSnapshot updateProcessImageSnapshot() {
+		// Collect the enabled Components once per Cycle
+		var components = new HashMap<String, OpenemsComponent>();
+		var disabledComponentIds = new HashSet<String>();
+		var config = this.config;
+		if (config != null) {
+			components.put(Meta.SINGLETON_COMPONENT_ID, config.metaComponent);
+		}
+		for (var component : this._components) {
+			if (component.isEnabled()) {
+				components.put(component.id(), component);
+			} else {
+				disabledComponentIds.add(component.id());
+				if (!this.disabledComponentIds.contains(component.id())) {
+					this.logWarn(this.log, "Trying to access disabled Component [" + component.id() + "]");
+				}
+			}
+		}
+		this.disabledComponentIds = disabledComponentIds;
+
+		var result = ProcessImageSnapshot.from(this.layout, //
+				componentId -> componentId == null ? null : components.get(componentId), //
+				(record, e) -> this.logWarn(this.log, "Unable to get value for " + record + ": " + e.getMessage()), //
+				this.processImageSnapshot);
+		this.processImageSnapshot = result;
+		return result;
+	}
+
 	@SuppressWarnings("unchecked")
 	/**
 	 * Once every cycle: update the values for each registered
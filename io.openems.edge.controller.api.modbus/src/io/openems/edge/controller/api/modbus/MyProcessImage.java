@@ -14,12 +14,9 @@ import com.ghgande.j2mod.modbus.procimg.SimpleDigitalIn;
 import com.ghgande.j2mod.modbus.procimg.SimpleDigitalOut;
 import com.ghgande.j2mod.modbus.procimg.SimpleInputRegister;
 
-import io.openems.edge.common.component.OpenemsComponent;
-import io.openems.edge.common.modbusslave.ModbusRecord;
-import io.openems.edge.common.modbusslave.ModbusRecordUint16Reserved;
-
 /**
- * This implementation answers Modbus-TCP Slave requests.
+ * This implementation answers Modbus-TCP Slave requests from the
+ * {@link ProcessImageSnapshot} of the current Cycle.
  */
 public class MyProcessImage implements ProcessImage {
 
@@ -32,14 +29,10 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		try {
 			this.parent.logDebug(this.log, "Reading Input Registers. Address [" + offset + "] Count [" + count + "].");
-			var registers = this.getRegisterRange(offset, count);
-			var result = new Register[registers.length];
-			for (var i = 0; i < registers.length; i++) {
-				result[i] = registers[i];
-			}
+			var result = this.getRegisterRange(offset, count);
 			this.parent._setProcessImageFault(false);
 			return result;
 
@@ -51,7 +44,7 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Reading Registers. Address [" + offset + "] Count [" + count + "].");
 
 		try {
@@ -65,31 +58,7 @@ public class MyProcessImage implements ProcessImage {
 				throw new MyIllegalAddressException(this, "Invalid length: " + length + "; max. 126 registers allowed");
 			}
 
-			var records = this.parent.records.subMap(offset, offset + count);
-			var result = new Register[count];
-			for (var i = 0; i < count;) {
-				// Get record for modbus address
-				var ref = i + offset;
-				var record = records.get(ref);
-				if (record == null) {
-					record = new ModbusRecordUint16Reserved(ref);
-				}
-
-				// Get Registers from Record
-				var registers = this.getRecordValueRegisters(record);
-
-				// make sure this Record fits
-				if (result.length < i + registers.length) {
-					throw new MyIllegalAddressException(this,
-							"Record for Modbus address [" + ref + "] does not fit in Result.");
-				}
-				for (var j = 0; j < registers.length; j++) {
-					result[i + j] = registers[j];
-				}
-
-				// increase i by word length
-				i += registers.length;
-			}
+			var result = this.parent.getProcessImageSnapshot().getRegisterRange(offset, count);
 			this.parent._setProcessImageFault(false);
 			return result;
 
@@ -100,65 +69,41 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized Register getRegister(int ref) throws MyIllegalAddressException {
+	public Register getRegister(int ref) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Get Register. Address [" + ref + "].");
 
 		try {
-			var record = this.parent.records.get(ref);
+			var snapshot = this.parent.getProcessImageSnapshot();
+			var record = snapshot.getRecord(ref);
 
 			// make sure the ModbusRecord is available
 			if (record == null) {
 				throw new MyIllegalAddressException(this, "Record for Modbus address [" + ref + "] is not available.");
 			}
 
-			// Get Registers from Record
-			var registers = this.getRecordValueRegisters(record);
-
 			// make sure this Record requires only one Register/Word
-			if (registers.length > 1) {
+			if (record.getType().getWords() > 1) {
 				throw new MyIllegalAddressException(this,
 						"Record for Modbus address [" + ref + "] requires more than one Register.");
 			}
 
-			this.parent._setProcessImageFault(false);
-			return registers[0];
-
-		} catch (Exception e) {
-			this.parent._setProcessImageFault(true);
-			throw new MyIllegalAddressException(this, e.getMessage());
-		}
-	}
-
-	/**
-	 * Get value as byte-array and convert it to InputRegisters.
-	 *
-	 * @param record the record
-	 * @return the Register
-	 */
-	private Register[] getRecordValueRegisters(ModbusRecord record) {
-		var result = new MyRegister[record.getType().getWords()];
-		final OpenemsComponent component;
-		{
-			var cmp = this.parent.getPossiblyDisabledComponent(record.getComponentId());
-			if (cmp != null && !cmp.isEnabled()) {
-				this.parent.logWarn(this.log, "Trying to access disabled Component [" + cmp.id() + "] for " + record);
-				component = null;
-			} else {
-				component = cmp;
-			}
-		}
-
-		var value = record.getValue(component);
-		for (var j = 0; j < value.length / 2; j++) {
-			result[j] = new MyRegister(j, value[j * 2], value[j * 2 + 1], //
+			// Not shared: the written value is read back for the response
+			var value = snapshot.getWord(ref);
+			var result = new MyRegister(0, (byte) (value >> 8), (byte) value, //
 					/*
 					 * On Set-Value event:
 					 */
 					register -> {
-						record.writeValue(register.getIndex(), register.getByte1(), register.getByte2());
+						MyRegister.writeValue(record, register.getIndex(), register.getByte1(), register.getByte2());
 					});
+
+			this.parent._setProcessImageFault(false);
+			return result;
+
+		} catch (Exception e) {
+			this.parent._setProcessImageFault(true);
+			throw new MyIllegalAddressException(this, e.getMessage());
 		}
-		return result;
 	}
 
 	/**********************************************
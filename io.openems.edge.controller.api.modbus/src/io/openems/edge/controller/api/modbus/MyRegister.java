@@ -4,12 +4,32 @@ import java.util.function.Consumer;
 
 import com.ghgande.j2mod.modbus.procimg.Register;
 
+import io.openems.edge.common.modbusslave.ModbusRecord;
+
 /**
  * Largely copied from
  * {@link com.ghgande.j2mod.modbus.procimg.SynchronizedAbstractRegister}.
  */
 public class MyRegister implements Register {
 
+	/**
+	 * Writes a word to a {@link ModbusRecord}.
+	 *
+	 * <p>
+	 * Writes to the same record are serialized, because a record collects the
+	 * words of a value from possibly concurrent requests.
+	 *
+	 * @param record the {@link ModbusRecord}
+	 * @param index  the index of the word within the record
+	 * @param byte1  the first byte
+	 * @param byte2  the second byte
+	 */
+	protected static void writeValue(ModbusRecord record, int index, byte byte1, byte byte2) {
+		synchronized (record) {
+			record.writeValue(index, byte1, byte2);
+		}
+	}
+
 	private final int index;
 	private final Consumer<MyRegister> onSetCallback;
 	private byte byte1;
@@ -0,0 +1,239 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.util.SortedMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.ghgande.j2mod.modbus.procimg.Register;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16Reserved;
+
+/**
+ * An immutable snapshot of the values of all {@link ModbusRecord}s of the
+ * Modbus/TCP-Api.
+ *
+ * <p>
+ * The {@link Layout} maps every Modbus address to a position in a flat array
+ * of registers; it is calculated once, when the ModbusRecords are initialized.
+ * The values are taken once per Cycle. Modbus/TCP requests are then answered by
+ * copying from the array, without locking and without converting Channel
+ * values on every request.
+ */
+public final class ProcessImageSnapshot {
+
+	private static final short UNDEFINED_WORD = (short) 0xFFFF;
+
+	/**
+	 * Maps Modbus addresses to {@link ModbusRecord}s and to positions in the flat
+	 * array of registers.
+	 */
+	protected static final class Layout {
+
+		/** The ModbusRecord that starts at an address; null for gaps. */
+		private final ModbusRecord[] recordAt;
+		/** The position of the first word of an address. */
+		private final int[] positionAt;
+		/** The ModbusRecord of an address, including a Reserved record for gaps. */
+		private final ModbusRecord[] records;
+		private final int length;
+
+		protected Layout(SortedMap<Integer, ModbusRecord> records) {
+			var addresses = records.isEmpty() ? 0 : records.lastKey() + 1;
+			this.recordAt = new ModbusRecord[addresses];
+			this.positionAt = new int[addresses];
+			this.records = new ModbusRecord[addresses];
+			var position = 0;
+			for (var address = 0; address < addresses; address++) {
+				var record = records.get(address);
+				this.recordAt[address] = record;
+				if (record == null) {
+					// Like for a request with a start address within a multi-word record
+					record = new ModbusRecordUint16Reserved(address);
+				}
+				this.positionAt[address] = position;
+				this.records[address] = record;
+				position += record.getType().getWords();
+			}
+			this.length = position;
+		}
+	}
+
+	/**
+	 * Takes a snapshot of the current values of all {@link ModbusRecord}s.
+	 *
+	 * <p>
+	 * Registers with unchanged values are reused from the previous snapshot.
+	 *
+	 * @param layout       the {@link Layout}
+	 * @param getComponent gets the enabled Component for a Component-ID; possibly
+	 *                     null
+	 * @param onError      called if the value of a {@link ModbusRecord} is not
+	 *                     available; the record is then undefined
+	 * @param previous     the previous {@link ProcessImageSnapshot}; possibly null
+	 * @return the {@link ProcessImageSnapshot}
+	 */
+	protected static ProcessImageSnapshot from(Layout layout, Function<String, OpenemsComponent> getComponent,
+			BiConsumer<ModbusRecord, RuntimeException> onError, ProcessImageSnapshot previous) {
+		var words = new short[layout.length];
+		var registers = new Register[layout.length];
+		if (previous != null && previous.layout != layout) {
+			previous = null;
+		}
+		for (var i = 0; i < layout.records.length; i++) {
+			var record = layout.records[i];
+			var position = layout.positionAt[i];
+			var length = record.getType().getWords();
+
+			byte[] value;
+			try {
+				value = record.getValue(getComponent.apply(record.getComponentId()));
+			} catch (RuntimeException e) {
+				onError.accept(record, e);
+				value = new byte[0];
+			}
+
+			for (var j = 0; j < length; j++) {
+				var word = j * 2 + 1 < value.length //
+						? (short) ((value[j * 2] & 0xff) << 8 | value[j * 2 + 1] & 0xff) //
+						: UNDEFINED_WORD;
+				words[position + j] = word;
+				if (previous != null && previous.words[position + j] == word) {
+					registers[position + j] = previous.registers[position + j];
+				} else {
+					registers[position + j] = new SnapshotRegister(word, record, j);
+				}
+			}
+		}
+		return new ProcessImageSnapshot(layout, words, registers);
+	}
+
+	private final Layout layout;
+	private final short[] words;
+	private final Register[] registers;
+
+	private ProcessImageSnapshot(Layout layout, short[] words, Register[] registers) {
+		this.layout = layout;
+		this.words = words;
+		this.registers = registers;
+	}
+
+	/**
+	 * Gets the {@link ModbusRecord} that starts at the given address.
+	 *
+	 * @param address the Modbus address
+	 * @return the {@link ModbusRecord}; null if no record starts at this address
+	 */
+	protected ModbusRecord getRecord(int address) {
+		if (address < 0 || address >= this.layout.recordAt.length) {
+			return null;
+		}
+		return this.layout.recordAt[address];
+	}
+
+	/**
+	 * Gets the value of the first word of the given address.
+	 *
+	 * @param address the Modbus address
+	 * @return the value
+	 */
+	protected short getWord(int address) {
+		if (address < 0 || address >= this.layout.positionAt.length) {
+			return UNDEFINED_WORD;
+		}
+		return this.words[this.layout.positionAt[address]];
+	}
+
+	/**
+	 * Copies the Registers for a range of Modbus addresses.
+	 *
+	 * <p>
+	 * Registers are shared between requests: writing a value to a Register is
+	 * forwarded to its {@link ModbusRecord}, but does not change the value in this
+	 * snapshot.
+	 *
+	 * @param offset the start address
+	 * @param count  the number of Registers
+	 * @return the Registers
+	 * @throws IllegalArgumentException if a {@link ModbusRecord} does not fit in
+	 *                                  the range
+	 */
+	protected Register[] getRegisterRange(int offset, int count) throws IllegalArgumentException {
+		var result = new Register[count];
+		for (var i = 0; i < count;) {
+			var ref = i + offset;
+			if (ref >= this.layout.positionAt.length) {
+				result[i] = new SnapshotRegister(UNDEFINED_WORD, new ModbusRecordUint16Reserved(ref), 0);
+				i++;
+				continue;
+			}
+
+			var record = this.layout.recordAt[ref];
+			var length = record == null ? 1 : record.getType().getWords();
+
+			// make sure this Record fits
+			if (result.length < i + length) {
+				throw new IllegalArgumentException("Record for Modbus address [" + ref + "] does not fit in Result.");
+			}
+			System.arraycopy(this.registers, this.layout.positionAt[ref], result, i, length);
+
+			// increase i by word length
+			i += length;
+		}
+		return result;
+	}
+
+	/**
+	 * A {@link Register} with a fixed value. Writes are forwarded to the
+	 * {@link ModbusRecord}.
+	 */
+	private static final class SnapshotRegister implements Register {
+
+		private final short value;
+		private final ModbusRecord record;
+		private final int index;
+
+		private SnapshotRegister(short value, ModbusRecord record, int index) {
+			this.value = value;
+			this.record = record;
+			this.index = index;
+		}
+
+		@Override
+		public int getValue() {
+			return this.value & 0xffff;
+		}
+
+		@Override
+		public int toUnsignedShort() {
+			return this.getValue();
+		}
+
+		@Override
+		public short toShort() {
+			return this.value;
+		}
+
+		@Override
+		public byte[] toBytes() {
+			return new byte[] { (byte) (this.value >> 8), (byte) this.value };
+		}
+
+		@Override
+		public void setValue(int v) {
+			this.setValue((short) v);
+		}
+
+		@Override
+		public void setValue(short s) {
+			MyRegister.writeValue(this.record, this.index, (byte) (0xff & s >> 8), (byte) (0xff & s));
+		}
+
+		@Override
+		public void setValue(byte[] bytes) {
+			MyRegister.writeValue(this.record, this.index, bytes[0], bytes[1]);
+		}
+	}
+
+}
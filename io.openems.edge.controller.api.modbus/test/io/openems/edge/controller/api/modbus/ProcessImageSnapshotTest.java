@@ -0,0 +1,116 @@
+package io.openems.edge.controller.api.modbus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.common.channel.Unit;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16Hash;
+import io.openems.edge.common.modbusslave.ModbusRecordUint32;
+import io.openems.edge.common.modbusslave.ModbusType;
+
+public class ProcessImageSnapshotTest {
+
+	private static ProcessImageSnapshot snapshot(ProcessImageSnapshot.Layout layout, ProcessImageSnapshot previous) {
+		return ProcessImageSnapshot.from(layout, componentId -> null, (record, e) -> {
+			throw e;
+		}, previous);
+	}
+
+	@Test
+	public void testGetRegisterRange() {
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, new ModbusRecordUint16Hash(0, "OpenEMS"));
+		records.put(1, new ModbusRecordUint32(-1, "Uint32", 0x12345678));
+		records.put(4, new ModbusRecordUint16(-1, "Uint16", (short) 42));
+		var sut = snapshot(new ProcessImageSnapshot.Layout(records), null);
+
+		var registers = sut.getRegisterRange(0, 7);
+		assertEquals((short) "OpenEMS".hashCode(), registers[0].toShort());
+		assertEquals(0x1234, registers[1].getValue());
+		assertEquals(0x5678, registers[2].getValue());
+		assertEquals(0xFFFF, registers[3].getValue()); // gap
+		assertEquals(42, registers[4].getValue());
+		assertEquals(0xFFFF, registers[5].getValue()); // after last record
+		assertEquals(0xFFFF, registers[6].getValue());
+
+		// Start within a multi-word record
+		assertEquals(0xFFFF, sut.getRegisterRange(2, 1)[0].getValue());
+
+		assertSame(records.get(4), sut.getRecord(4));
+		assertNull(sut.getRecord(2));
+		assertEquals((short) 0x1234, sut.getWord(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRecordDoesNotFit() {
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, new ModbusRecordUint32(-1, "Uint32", 1));
+		snapshot(new ProcessImageSnapshot.Layout(records), null).getRegisterRange(0, 1);
+	}
+
+	@Test
+	public void testReuseAndWrite() {
+		var value = new AtomicInteger(1);
+		var written = new AtomicInteger();
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, new ModbusRecordUint16(-1, "Fixed", (short) 7));
+		records.put(1, new ModbusRecord(-1, ModbusType.UINT16) {
+
+			@Override
+			public byte[] getValue(OpenemsComponent component) {
+				return ModbusRecordUint16.toByteArray(value.get());
+			}
+
+			@Override
+			public void writeValue(int index, byte byte1, byte byte2) {
+				written.set((byte1 & 0xff) << 8 | byte2 & 0xff);
+			}
+
+			@Override
+			public String getName() {
+				return "Variable";
+			}
+
+			@Override
+			public Unit getUnit() {
+				return Unit.NONE;
+			}
+
+			@Override
+			public String getValueDescription() {
+				return "";
+			}
+
+			@Override
+			public AccessMode getAccessMode() {
+				return AccessMode.READ_WRITE;
+			}
+		});
+		var layout = new ProcessImageSnapshot.Layout(records);
+		var first = snapshot(layout, null);
+		value.set(2);
+		var second = snapshot(layout, first);
+
+		// Unchanged Registers are reused
+		assertSame(first.getRegisterRange(0, 1)[0], second.getRegisterRange(0, 1)[0]);
+		assertEquals(1, first.getRegisterRange(1, 1)[0].getValue());
+		assertEquals(2, second.getRegisterRange(1, 1)[0].getValue());
+
+		// Writes are forwarded to the record, but do not change the snapshot
+		var register = second.getRegisterRange(1, 1)[0];
+		register.setValue(1234);
+		assertEquals(1234, written.get());
+		assertEquals(2, second.getRegisterRange(1, 1)[0].getValue());
+	}
+
+}
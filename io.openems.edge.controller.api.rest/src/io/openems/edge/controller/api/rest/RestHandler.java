@@ -502,7 +502,7 @@ public class RestHandler extends AbstractHandler {
 	 */
 	private CompletableFuture<JsonrpcResponseSuccess> handleQueryHistoricDataRequest(User user,
 			QueryHistoricTimeseriesDataRequest request) throws OpenemsNamedException {
-		var data = this.parent.getTimedata().queryHistoricData(//
+		var data = this.parent.getTimedata().queryHistoricDataColumnar(//
 				null, /* ignore Edge-ID */
 				request);
 
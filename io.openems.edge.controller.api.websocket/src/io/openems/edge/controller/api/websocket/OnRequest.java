@@ -288,7 +288,7 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 	 */
 	private CompletableFuture<JsonrpcResponseSuccess> handleQueryHistoricDataRequest(User user,
 			QueryHistoricTimeseriesDataRequest request) throws OpenemsNamedException {
-		var data = this.parent.getTimedata().queryHistoricData(//
+		var data = this.parent.getTimedata().queryHistoricDataColumnar(//
 				null, /* ignore Edge-ID */
 				request);
 
@@ -463,7 +463,7 @@ public abstract class AbstractFixStateOfCharge extends AbstractOpenemsComponent
 	 */
 	public static OptionalInt getLastValidValue(IntegerReadChannel channel) {
 		// Possibly shift "getLastValidValue" to AbstractReadChannels
-		return channel.getPastValues().values() //
+		return channel.getPastValues().toList() //
 				.stream() //
 				.filter(Value::isDefined) //
 				.mapToInt(Value::get) //
@@ -477,7 +477,7 @@ public abstract class AbstractFixStateOfCharge extends AbstractOpenemsComponent
 	 * @return Last defined value
 	 */
 	private static Optional<Boolean> getLastValidValue(StateChannel channel) {
-		return channel.getPastValues().values() //
+		return channel.getPastValues().toList() //
 				.stream() //
 				.filter(Value::isDefined) //
 				.map(Value::get).findFirst();
@@ -491,7 +491,7 @@ public abstract class AbstractFixStateOfCharge extends AbstractOpenemsComponent
 	 * @return Last defined value from given {@link LongReadChannel}
 	 */
 	public static OptionalLong getLastValidValue(LongReadChannel channel) {
-		return channel.getPastValues().values() //
+		return channel.getPastValues().toList() //
 				.stream() //
 				.filter(Value::isDefined) //
 				.mapToLong(Value::get) //
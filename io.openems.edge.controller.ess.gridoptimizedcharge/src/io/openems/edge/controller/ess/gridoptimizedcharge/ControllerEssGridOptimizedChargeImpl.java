@@ -364,8 +364,7 @@ public class ControllerEssGridOptimizedChargeImpl extends AbstractOpenemsCompone
 
 		// Get the past channel values
 		var pastValues = channel.getPastValues()
-				.tailMap(LocalDateTime.now(this.componentManager.getClock()).minusSeconds(consideredSeconds), true)
-				.values();
+				.range(LocalDateTime.now(this.componentManager.getClock()).minusSeconds(consideredSeconds), null);
 
 		// Make sure we have at least one value
 		if (pastValues.isEmpty()) {
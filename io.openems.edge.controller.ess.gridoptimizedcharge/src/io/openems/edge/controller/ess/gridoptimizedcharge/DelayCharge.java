@@ -309,8 +309,8 @@ public class DelayCharge {
 		var minimumPowerFactor = MINIMUM_POWER_FACTOR;
 
 		boolean delayChargeMinimumReached = this.parent.getDelayChargeStateChannel().getPastValues()
-				.tailMap(LocalDateTime.now(this.parent.componentManager.getClock()).with(MINUTE_OF_DAY, 5), true)
-				.values().stream().filter(Value::isDefined)
+				.range(LocalDateTime.now(this.parent.componentManager.getClock()).with(MINUTE_OF_DAY, 5), null)
+				.stream().filter(Value::isDefined)
 				.filter(channel -> channel.asEnum() == DelayChargeState.ACTIVE_LIMIT).findAny().isPresent();
 
 		minimumPowerFactor = delayChargeMinimumReached ? minimumPowerFactor * 0.5F : minimumPowerFactor;
@@ -358,8 +358,8 @@ public class DelayCharge {
 		this.parent._setRawDelayChargeLimit(calculatedPower);
 
 		var pastLimits = delayChargeLimitRawChannel.getPastValues()
-				.tailMap(LocalDateTime.now(this.parent.componentManager.getClock()).minusSeconds(900), true) //
-				.values().stream().filter(Value::isDefined).mapToInt(Value::get);
+				.range(LocalDateTime.now(this.parent.componentManager.getClock()).minusSeconds(900), null) //
+				.stream().filter(Value::isDefined).mapToInt(Value::get);
 
 		var currentLimit = IntStream.of(calculatedPower);
 
@@ -40,6 +40,12 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Limit Charge Power for §14a EnWG", description = "Always apply §14a EnWG limitation of 4.2 kW")
 	boolean limitChargePowerFor14aEnWG() default false;
 
+	@AttributeDefinition(name = "Optimizer threads", description = "Number of CPU cores used to evaluate schedules in the optimizer", min = "1")
+	int optimizerThreads() default 1;
+
+	@AttributeDefinition(name = "Re-Optimization threshold [%]", description = "If prices and predictions changed less than this, the previous schedule is only refined in a shorter optimizer run. 0 = always run full optimization", min = "0")
+	int reoptimizeThreshold() default 0;
+
 	@AttributeDefinition(name = "Ess target filter", description = "This is auto-generated by 'Ess-ID'.")
 	String ess_target() default "(enabled=true)";
 
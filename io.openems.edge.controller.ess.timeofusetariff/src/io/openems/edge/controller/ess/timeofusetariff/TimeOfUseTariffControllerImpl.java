@@ -122,6 +122,8 @@ public class TimeOfUseTariffControllerImpl extends AbstractOpenemsComponent
 				.setControlMode(this.config.controlMode()) //
 				.setMaxChargePowerFromGrid(this.config.maxChargePowerFromGrid()) //
 				.setLimitChargePowerFor14aEnWG(this.config.limitChargePowerFor14aEnWG()) //
+				.setOptimizerThreads(this.config.optimizerThreads()) //
+				.setReoptimizeThreshold(this.config.reoptimizeThreshold()) //
 				.build());
 	}
 
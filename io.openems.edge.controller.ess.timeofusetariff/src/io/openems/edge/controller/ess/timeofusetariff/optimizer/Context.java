@@ -21,7 +21,9 @@ public record Context(//
 		List<ControllerEssLimitTotalDischarge> ctrlLimitTotalDischarges, //
 		ControlMode controlMode, //
 		int maxChargePowerFromGrid, //
-		boolean limitChargePowerFor14aEnWG) {
+		boolean limitChargePowerFor14aEnWG, //
+		int optimizerThreads, //
+		int reoptimizeThreshold) {
 
 	public static class Builder {
 		private Clock clock;
@@ -34,6 +36,8 @@ public record Context(//
 		private ControlMode controlMode;
 		private int maxChargePowerFromGrid;
 		private boolean limitChargePowerFor14aEnWG;
+		private int optimizerThreads = 1;
+		private int reoptimizeThreshold = 0;
 
 		/**
 		 * The {@link Clock}.
@@ -148,6 +152,29 @@ public record Context(//
 			return this;
 		}
 
+		/**
+		 * The number of threads used by the optimizer.
+		 * 
+		 * @param optimizerThreads the number of threads
+		 * @return myself
+		 */
+		public Builder setOptimizerThreads(int optimizerThreads) {
+			this.optimizerThreads = optimizerThreads;
+			return this;
+		}
+
+		/**
+		 * The threshold in [%]; if prices and predictions changed less, the
+		 * optimizer run is shortened.
+		 * 
+		 * @param reoptimizeThreshold the threshold in [%]
+		 * @return myself
+		 */
+		public Builder setReoptimizeThreshold(int reoptimizeThreshold) {
+			this.reoptimizeThreshold = reoptimizeThreshold;
+			return this;
+		}
+
 		/**
 		 * Builds the {@link Context}.
 		 * 
@@ -156,7 +183,8 @@ public record Context(//
 		public Context build() {
 			return new Context(this.clock, this.sum, this.predictorManager, this.timeOfUseTariff, this.ess,
 					this.ctrlEmergencyCapacityReserves, this.ctrlLimitTotalDischarges, this.controlMode,
-					this.maxChargePowerFromGrid, this.limitChargePowerFor14aEnWG);
+					this.maxChargePowerFromGrid, this.limitChargePowerFor14aEnWG, this.optimizerThreads,
+					this.reoptimizeThreshold);
 		}
 	}
 
@@ -0,0 +1,176 @@
+package io.openems.edge.controller.ess.timeofusetariff.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.EFFICIENCY_FACTOR;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.function.IntUnaryOperator;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.Params.OptimizePeriod;
+
+/**
+ * Allocation-free variant of {@link Simulator#calculateCost(Params, StateMachine[])}
+ * for the hot loop of the optimizer.
+ *
+ * <p>
+ * The {@link OptimizePeriod}s are flattened once to primitive arrays. The
+ * calculation is the same as {@link EnergyFlow#create} and
+ * {@link Simulator#simulatePeriod}, but only the values that are required for
+ * the cost are evaluated. Instances are immutable and can be shared between
+ * threads; use {@link #of(Params)} to reuse the instance of a {@link Params}.
+ */
+public final class CostKernel {
+
+	/** Instances per {@link Params}; weak keys are compared by identity. */
+	private static final LoadingCache<Params, CostKernel> CACHE = CacheBuilder.newBuilder() //
+			.weakKeys() //
+			.build(CacheLoader.from(CostKernel::new));
+
+	private final StateMachine[] states;
+	private final int essTotalEnergy;
+	private final int essMinSocEnergy;
+	private final int essMaxSocEnergy;
+	private final int essInitialEnergy;
+
+	private final int[] essMaxChargeEnergy;
+	private final int[] essMaxDischargeEnergy;
+	private final int[] essChargeInChargeGrid;
+	private final int[] maxBuyFromGrid;
+	private final int[] production;
+	private final int[] consumption;
+	private final double[] price;
+
+	public CostKernel(Params p) {
+		this.states = p.states();
+		this.essTotalEnergy = p.essTotalEnergy();
+		this.essMinSocEnergy = p.essMinSocEnergy();
+		this.essMaxSocEnergy = p.essMaxSocEnergy();
+		this.essInitialEnergy = p.essInitialEnergy();
+
+		var size = p.optimizePeriods().size();
+		this.essMaxChargeEnergy = new int[size];
+		this.essMaxDischargeEnergy = new int[size];
+		this.essChargeInChargeGrid = new int[size];
+		this.maxBuyFromGrid = new int[size];
+		this.production = new int[size];
+		this.consumption = new int[size];
+		this.price = new double[size];
+		for (var i = 0; i < size; i++) {
+			var op = p.optimizePeriods().get(i);
+			this.essMaxChargeEnergy[i] = op.essMaxChargeEnergy();
+			this.essMaxDischargeEnergy[i] = op.essMaxDischargeEnergy();
+			this.essChargeInChargeGrid[i] = op.essChargeInChargeGrid();
+			this.maxBuyFromGrid[i] = op.maxBuyFromGrid();
+			this.production[i] = op.production();
+			this.consumption[i] = op.consumption();
+			this.price[i] = op.price();
+		}
+	}
+
+	/**
+	 * Gets the {@link CostKernel} for the {@link Params}; it is created only once
+	 * per {@link Params} instance.
+	 *
+	 * @param p the {@link Params}
+	 * @return the {@link CostKernel}
+	 */
+	public static CostKernel of(Params p) {
+		return CACHE.getUnchecked(p);
+	}
+
+	/**
+	 * Gets the number of periods.
+	 *
+	 * @return the number of periods
+	 */
+	public int size() {
+		return this.price.length;
+	}
+
+	/**
+	 * Simulates a Schedule and calculates the cost.
+	 *
+	 * @param schedule the {@link StateMachine} states of the Schedule
+	 * @return the cost, lower is better; always positive
+	 */
+	public double calculateCost(StateMachine[] schedule) {
+		var nextEssInitial = this.essInitialEnergy;
+		var sum = 0.;
+		for (var i = 0; i < this.price.length; i++) {
+			var essInitial = max(0, nextEssInitial); // always at least '0'
+			var ess = this.calculateEss(i, schedule[i], essInitial);
+			nextEssInitial = essInitial - ess;
+			sum += this.calculatePeriodCost(i, ess);
+		}
+		return sum;
+	}
+
+	/**
+	 * Simulates a Schedule and calculates the cost.
+	 *
+	 * @param stateIndex the index in {@link Params#states()} per period
+	 * @return the cost, lower is better; always positive
+	 */
+	public double calculateCost(IntUnaryOperator stateIndex) {
+		var nextEssInitial = this.essInitialEnergy;
+		var sum = 0.;
+		for (var i = 0; i < this.price.length; i++) {
+			var essInitial = max(0, nextEssInitial); // always at least '0'
+			var ess = this.calculateEss(i, this.states[stateIndex.applyAsInt(i)], essInitial);
+			nextEssInitial = essInitial - ess;
+			sum += this.calculatePeriodCost(i, ess);
+		}
+		return sum;
+	}
+
+	private int calculateEss(int i, StateMachine state, int essInitial) {
+		final var consumption = this.consumption[i];
+		final var production = this.production[i];
+		final int essMaxSocEnergy;
+		final int essTarget;
+		switch (state) {
+		case BALANCING -> {
+			essMaxSocEnergy = this.essTotalEnergy;
+			essTarget = consumption - production;
+		}
+		case DELAY_DISCHARGE -> {
+			essMaxSocEnergy = this.essTotalEnergy;
+			essTarget = min(0, consumption - production);
+		}
+		case CHARGE_GRID -> {
+			essMaxSocEnergy = this.essMaxSocEnergy;
+			essTarget = min(0, consumption - production) - this.essChargeInChargeGrid[i];
+		}
+		default -> throw new IllegalArgumentException("Unexpected State: " + state);
+		}
+
+		return EnergyFlow.calculateEss(essInitial, this.essMinSocEnergy, essMaxSocEnergy, essTarget, production,
+				consumption, this.maxBuyFromGrid[i], this.essMaxChargeEnergy[i], this.essMaxDischargeEnergy[i]);
+	}
+
+	private double calculatePeriodCost(int i, int ess) {
+		final var consumption = this.consumption[i];
+		final var production = this.production[i];
+		var grid = consumption - production - ess;
+		if (grid <= 0) {
+			// Sell-to-Grid
+			return 0.;
+		}
+		var productionToConsumption = min(production, consumption);
+		var productionToEss = max(0, min(-ess, production - productionToConsumption));
+		var productionToGrid = max(0, production - productionToConsumption - productionToEss);
+		var essToConsumption = max(0, min(consumption - productionToConsumption, ess - productionToGrid));
+		var gridToConsumption = max(0, consumption - essToConsumption - productionToConsumption);
+		var gridToEss = grid - gridToConsumption + productionToGrid;
+		final var price = this.price[i];
+		return // Cost for direct Consumption
+		gridToConsumption * price
+				// Cost for future Consumption after storage
+				+ gridToEss * price * EFFICIENCY_FACTOR;
+	}
+}
@@ -68,16 +68,8 @@ public record EnergyFlow(//
 
 	protected static EnergyFlow create(Params p, OptimizePeriod op, int essInitial, int essMaxSocEnergy,
 			int essTarget) {
-		var essMaxDischarge = max(0, essInitial - p.essMinSocEnergy());
-		var essMaxCharge = max(0, essMaxSocEnergy - essInitial);
-
-		var ess = essTarget;
-		// Apply Max Buy-From-Grid Energy
-		ess = max(op.consumption() - op.production() - op.maxBuyFromGrid(), ess);
-		// Apply Minimum-SoC / Maximum-SoC
-		ess = fitWithin(-essMaxCharge, essMaxDischarge, ess);
-		// Apply ESS Max Charge/Discharge Energy
-		ess = fitWithin(-op.essMaxChargeEnergy(), op.essMaxDischargeEnergy(), ess);
+		var ess = calculateEss(essInitial, p.essMinSocEnergy(), essMaxSocEnergy, essTarget, op.production(),
+				op.consumption(), op.maxBuyFromGrid(), op.essMaxChargeEnergy(), op.essMaxDischargeEnergy());
 
 		var grid = op.consumption() - op.production() - ess;
 		var productionToConsumption = min(op.production(), op.consumption());
@@ -98,4 +90,35 @@ public record EnergyFlow(//
 				essToConsumption, /* essToConsumption */
 				gridToEss /* gridToEss */);
 	}
+
+	/**
+	 * Calculates the ESS Energy for a target, limited by Max Buy-From-Grid, the
+	 * Minimum-/Maximum-SoC and the ESS Max Charge/Discharge Energy.
+	 * 
+	 * @param essInitial            ESS Initially Available Energy (SoC in [Wh])
+	 * @param essMinSocEnergy       ESS energy below Minimum-SoC [Wh]
+	 * @param essMaxSocEnergy       ESS energy up to which charging is allowed [Wh]
+	 * @param essTarget             the target ESS Energy; charge negative,
+	 *                              discharge positive
+	 * @param production            the production
+	 * @param consumption           the consumption
+	 * @param maxBuyFromGrid        the Max Buy-From-Grid Energy
+	 * @param essMaxChargeEnergy    the ESS Max Charge Energy
+	 * @param essMaxDischargeEnergy the ESS Max Discharge Energy
+	 * @return the ESS Energy; charge negative, discharge positive
+	 */
+	protected static int calculateEss(int essInitial, int essMinSocEnergy, int essMaxSocEnergy, int essTarget,
+			int production, int consumption, int maxBuyFromGrid, int essMaxChargeEnergy, int essMaxDischargeEnergy) {
+		var essMaxDischarge = max(0, essInitial - essMinSocEnergy);
+		var essMaxCharge = max(0, essMaxSocEnergy - essInitial);
+
+		var ess = essTarget;
+		// Apply Max Buy-From-Grid Energy
+		ess = max(consumption - production - maxBuyFromGrid, ess);
+		// Apply Minimum-SoC / Maximum-SoC
+		ess = fitWithin(-essMaxCharge, essMaxDischarge, ess);
+		// Apply ESS Max Charge/Discharge Energy
+		ess = fitWithin(-essMaxChargeEnergy, essMaxDischargeEnergy, ess);
+		return ess;
+	}
 }
@@ -6,6 +6,7 @@ import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.DELAY_
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.findFirstPeakIndex;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.findFirstValleyIndex;
 
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +14,7 @@ import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.math.Quantiles;
 
 import io.jenetics.Genotype;
@@ -44,6 +46,24 @@ public class InitialPopulationUtils {
 	 * @return the {@link Genotype}
 	 */
 	public static ImmutableList<Genotype<IntegerGene>> buildInitialPopulation(Params p) {
+		return buildInitialPopulation(p, ImmutableList.of());
+	}
+
+	/**
+	 * Builds an initial population like {@link #buildInitialPopulation(Params)}
+	 * and adds the Schedules of a previous optimization run, shifted to the
+	 * {@link OptimizePeriod}s of the given {@link Params}.
+	 * 
+	 * <p>
+	 * Periods that are not covered by a previous Schedule are filled with
+	 * BALANCING.
+	 * 
+	 * @param p         the {@link Params}
+	 * @param warmStart quarterly Schedules of a previous optimization run
+	 * @return the {@link Genotype}
+	 */
+	public static ImmutableList<Genotype<IntegerGene>> buildInitialPopulation(Params p,
+			List<ImmutableSortedMap<ZonedDateTime, StateMachine>> warmStart) {
 		var states = List.of(p.states());
 		if (!states.contains(BALANCING)) {
 			throw new IllegalArgumentException("State option BALANCING is always required!");
@@ -69,6 +89,21 @@ public class InitialPopulationUtils {
 							.toList()));
 		}
 
+		// Schedules of previous optimization run
+		for (var schedule : warmStart) {
+			if (p.optimizePeriods().stream() //
+					.map(op -> schedule.get(op.time())) //
+					.noneMatch(s -> s != null && s != BALANCING)) {
+				continue;
+			}
+			b.add(Genotype.of(//
+					p.optimizePeriods().stream() //
+							.map(op -> Optional.ofNullable(schedule.get(op.time())).orElse(BALANCING))
+							.map(state -> IntegerChromosome.of(IntegerGene.of(//
+									toIndex(states, state), 0, p.states().length))) //
+							.toList()));
+		}
+
 		// Suggest different combinations of CHARGE_GRID and DELAY_CHARGE
 		{
 			var prices = p.optimizePeriods().stream() //
@@ -4,10 +4,12 @@ import static com.google.common.collect.ImmutableSortedMap.toImmutableSortedMap;
 import static io.openems.common.utils.DateUtils.roundDownToQuarter;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.simulate;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.calculateExecutionLimitSeconds;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.calculateParamsDeviation;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.createSimulatorParams;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.initializeRandomRegistryForProduction;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.logSchedule;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.updateSchedule;
+import static java.lang.Math.max;
 import static java.lang.Thread.sleep;
 
 import java.time.Duration;
@@ -20,12 +22,14 @@ import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedMap;
 
 import io.openems.common.exceptions.InvalidValueException;
 import io.openems.common.test.TimeLeapClock;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.ParamsUtils.ChargeEnergyInChargeGridMemo;
 import io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.Period;
 
 /**
@@ -34,12 +38,21 @@ import io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.Period
  */
 public class Optimizer extends AbstractImmediateWorker {
 
+	/**
+	 * Divides the execution limit if prices and predictions did not change more
+	 * than {@link Context#reoptimizeThreshold()}.
+	 */
+	private static final long SHORT_RUN_DIVISOR = 4;
+
 	private final Logger log = LoggerFactory.getLogger(Optimizer.class);
 
 	private final Supplier<Context> context;
 	private final TreeMap<ZonedDateTime, Period> schedule = new TreeMap<>();
+	private final ChargeEnergyInChargeGridMemo chargeEnergyInChargeGridMemo = new ChargeEnergyInChargeGridMemo();
 
 	private Params params = null;
+	private Params previousParams = null;
+	private ImmutableList<ImmutableSortedMap<ZonedDateTime, StateMachine>> warmStart = ImmutableList.of();
 
 	public Optimizer(Supplier<Context> context) {
 		this.context = context;
@@ -63,8 +76,22 @@ public class Optimizer extends AbstractImmediateWorker {
 		// Calculate max execution time till next quarter (with buffer)
 		executionLimitSeconds = calculateExecutionLimitSeconds(context.clock());
 
+		// Shorten the run if prices and predictions did not change significantly;
+		// the previous population is used as warm-start anyway
+		var deviation = calculateParamsDeviation(this.previousParams, this.params);
+		var optimizeLimitSeconds = executionLimitSeconds;
+		if (!this.warmStart.isEmpty() && deviation < context.reoptimizeThreshold()) {
+			optimizeLimitSeconds = max(1, executionLimitSeconds / SHORT_RUN_DIVISOR);
+			this.log.info("# Inputs changed by [" + String.format("%.1f", deviation) + "%]. Shorten Optimizer run to ["
+					+ optimizeLimitSeconds + "s]");
+		}
+
 		// Find best Schedule
-		var schedule = Simulator.getBestSchedule(this.params, executionLimitSeconds);
+		var result = Simulator.optimize(this.params, optimizeLimitSeconds, context.optimizerThreads(), null, null,
+				this.warmStart);
+		var schedule = result.bestSchedule();
+		this.warmStart = result.population();
+		this.previousParams = this.params;
 
 		// Re-Simulate and keep best Schedule
 		var newSchedule = simulate(this.params, schedule);
@@ -101,13 +128,16 @@ public class Optimizer extends AbstractImmediateWorker {
 							this.schedule.entrySet().stream() //
 									.collect(toImmutableSortedMap(//
 											ZonedDateTime::compareTo, //
-											Entry::getKey, e -> e.getValue().state())));
+											Entry::getKey, e -> e.getValue().state())), //
+							this.chargeEnergyInChargeGridMemo);
 					return;
 				}
 
 			} catch (InvalidValueException e) {
 				this.log.info("# Stuck trying to get Params. " + e.getMessage());
 				this.params = null;
+				this.previousParams = null;
+				this.warmStart = ImmutableList.of();
 				synchronized (this.schedule) {
 					this.schedule.clear();
 				}
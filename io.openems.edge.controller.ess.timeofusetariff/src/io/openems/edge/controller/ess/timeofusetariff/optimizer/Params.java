@@ -15,6 +15,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedMap;
 
 import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.ParamsUtils.ChargeEnergyInChargeGridMemo;
 
 public record Params(//
 		/** Start-Timestamp of the Schedule */
@@ -96,6 +97,7 @@ public record Params(//
 		private double[] prices = new double[0];
 		private StateMachine[] states = new StateMachine[0];
 		private ImmutableSortedMap<ZonedDateTime, StateMachine> existingSchedule;
+		private ChargeEnergyInChargeGridMemo chargeEnergyInChargeGridMemo = null;
 
 		protected Builder setTime(ZonedDateTime time) {
 			this.time = time;
@@ -162,9 +164,17 @@ public record Params(//
 			return this;
 		}
 
+		protected Builder setChargeEnergyInChargeGridMemo(ChargeEnergyInChargeGridMemo chargeEnergyInChargeGridMemo) {
+			this.chargeEnergyInChargeGridMemo = chargeEnergyInChargeGridMemo;
+			return this;
+		}
+
 		private ImmutableList<OptimizePeriod> generatePeriods() {
-			var essChargeInChargeGrid = calculateChargeEnergyInChargeGrid(this.essMinSocEnergy, this.essMaxSocEnergy,
-					this.productions, this.consumptions, this.prices);
+			var essChargeInChargeGrid = this.chargeEnergyInChargeGridMemo != null //
+					? this.chargeEnergyInChargeGridMemo.calculate(this.essMinSocEnergy, this.essMaxSocEnergy,
+							this.productions, this.consumptions, this.prices) //
+					: calculateChargeEnergyInChargeGrid(this.essMinSocEnergy, this.essMaxSocEnergy, this.productions,
+							this.consumptions, this.prices);
 			var noOfPeriods = min(this.productions.length, min(this.consumptions.length, this.prices.length));
 
 			final Function<Integer, QuarterPeriod> toQuarterPeriod = (i) -> new QuarterPeriod(
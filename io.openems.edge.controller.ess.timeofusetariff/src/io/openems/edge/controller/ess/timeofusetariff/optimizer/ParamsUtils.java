@@ -11,6 +11,7 @@ import static java.lang.Math.round;
 import static java.util.Arrays.stream;
 
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.stream.IntStream;
 
 import com.google.common.primitives.ImmutableIntArray;
@@ -20,6 +21,56 @@ import io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.Period
 
 public class ParamsUtils {
 
+	/**
+	 * Remembers the last result of
+	 * {@link ParamsUtils#calculateChargeEnergyInChargeGrid(int, int, int[], int[], double[])}.
+	 * Prices and predictions rarely change between two runs of one
+	 * {@link Optimizer}, so every {@link Optimizer} holds its own instance.
+	 */
+	protected static class ChargeEnergyInChargeGridMemo {
+
+		private record Input(int essMinSocEnergy, int essMaxSocEnergy, int[] productions, int[] consumptions,
+				double[] prices) {
+
+			private boolean matches(int essMinSocEnergy, int essMaxSocEnergy, int[] productions, int[] consumptions,
+					double[] prices) {
+				return this.essMinSocEnergy == essMinSocEnergy //
+						&& this.essMaxSocEnergy == essMaxSocEnergy //
+						&& Arrays.equals(this.productions, productions) //
+						&& Arrays.equals(this.consumptions, consumptions) //
+						&& Arrays.equals(this.prices, prices);
+			}
+		}
+
+		private Input lastInput = null;
+		private int lastResult;
+
+		/**
+		 * See
+		 * {@link ParamsUtils#calculateChargeEnergyInChargeGrid(int, int, int[], int[], double[])}.
+		 * 
+		 * @param essMinSocEnergy ESS energy below a configured minimum SoC [Wh]
+		 * @param essMaxSocEnergy ESS energy below a configured maximium SoC [Wh]
+		 * @param productions     Production predictions per period
+		 * @param consumptions    Consumption predictions per period
+		 * @param prices          Prices per period
+		 * @return the value in [Wh]
+		 */
+		protected synchronized int calculate(int essMinSocEnergy, int essMaxSocEnergy, int[] productions,
+				int[] consumptions, double[] prices) {
+			var last = this.lastInput;
+			if (last != null && last.matches(essMinSocEnergy, essMaxSocEnergy, productions, consumptions, prices)) {
+				return this.lastResult;
+			}
+			var result = calculateChargeEnergyInChargeGrid(essMinSocEnergy, essMaxSocEnergy, productions,
+					consumptions, prices);
+			this.lastInput = new Input(essMinSocEnergy, essMaxSocEnergy, productions.clone(), consumptions.clone(),
+					prices.clone());
+			this.lastResult = result;
+			return result;
+		}
+	}
+
 	private ParamsUtils() {
 	}
 
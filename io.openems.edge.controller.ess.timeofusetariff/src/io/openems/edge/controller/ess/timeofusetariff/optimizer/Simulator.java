@@ -1,14 +1,18 @@
 package io.openems.edge.controller.ess.timeofusetariff.optimizer;
 
-import static io.jenetics.engine.EvolutionResult.toBestGenotype;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.jenetics.engine.EvolutionResult.toBestEvolutionResult;
 import static io.jenetics.engine.Limits.byExecutionTime;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.InitialPopulationUtils.buildInitialPopulation;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.paramsAreValid;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.postprocessSimulatorState;
 import static java.lang.Math.max;
 import static java.time.Duration.ofSeconds;
+import static java.util.Comparator.comparingDouble;
 
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -21,8 +25,11 @@ import com.google.common.collect.ImmutableSortedMap;
 import io.jenetics.Genotype;
 import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
 import io.jenetics.engine.Engine;
+import io.jenetics.engine.Evaluator;
 import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
 import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
 import io.openems.edge.controller.ess.timeofusetariff.optimizer.Params.Length;
 import io.openems.edge.controller.ess.timeofusetariff.optimizer.Params.OptimizePeriod;
@@ -32,9 +39,23 @@ public class Simulator {
 	/** Used to incorporate charge/discharge efficiency. */
 	public static final double EFFICIENCY_FACTOR = 1.17;
 
+	/** Number of Schedules of the last population that are kept for warm-start. */
+	private static final int WARM_START_SIZE = 10;
+
 	public record Period(OptimizePeriod op, StateMachine state, int essInitial, EnergyFlow ef) {
 	}
 
+	/**
+	 * The result of {@link Simulator#optimize}.
+	 * 
+	 * @param bestSchedule the best Schedule
+	 * @param population   the best distinct Schedules of the final population as
+	 *                     quarterly Maps
+	 */
+	public record Result(StateMachine[] bestSchedule,
+			ImmutableList<ImmutableSortedMap<ZonedDateTime, StateMachine>> population) {
+	}
+
 	/**
 	 * Simulates a Schedule and calculates the cost.
 	 * 
@@ -43,12 +64,7 @@ public class Simulator {
 	 * @return the cost, lower is better; always positive
 	 */
 	protected static double calculateCost(Params p, StateMachine[] schedule) {
-		final var nextEssInitial = new AtomicInteger(p.essInitialEnergy());
-		var sum = 0.;
-		for (var i = 0; i < p.optimizePeriods().size(); i++) {
-			sum += simulatePeriod(p, p.optimizePeriods().get(i), schedule[i], nextEssInitial, null);
-		}
-		return sum;
+		return CostKernel.of(p).calculateCost(schedule);
 	}
 
 	/**
@@ -129,43 +145,146 @@ public class Simulator {
 	 * @return the best schedule
 	 */
 	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds) {
-		return getBestSchedule(p, executionLimitSeconds, null, null);
+		return getBestSchedule(p, executionLimitSeconds, 1);
+	}
+
+	/**
+	 * Runs the optimization with default settings.
+	 * 
+	 * @param p                     the {@link Params}
+	 * @param executionLimitSeconds limit.byExecutionTime.ofSeconds
+	 * @param threads               the number of threads used to evaluate the
+	 *                              population
+	 * @return the best schedule
+	 */
+	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, int threads) {
+		return getBestSchedule(p, executionLimitSeconds, threads, null, null);
 	}
 
 	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
 			Integer limit) {
+		return getBestSchedule(p, executionLimitSeconds, 1, populationSize, limit);
+	}
+
+	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, int threads,
+			Integer populationSize, Integer limit) {
+		return optimize(p, executionLimitSeconds, threads, populationSize, limit, ImmutableList.of()).bestSchedule();
+	}
+
+	/**
+	 * Runs the optimization.
+	 * 
+	 * @param p                     the {@link Params}
+	 * @param executionLimitSeconds limit.byExecutionTime.ofSeconds
+	 * @param threads               the number of threads used to evaluate the
+	 *                              population
+	 * @param populationSize        the optional population size
+	 * @param limit                 the optional limit of generations
+	 * @param warmStart             Schedules of a previous run to be added to the
+	 *                              initial population, e.g.
+	 *                              {@link Result#population()}
+	 * @return the {@link Result}
+	 */
+	protected static Result optimize(Params p, long executionLimitSeconds, int threads, Integer populationSize,
+			Integer limit, List<ImmutableSortedMap<ZonedDateTime, StateMachine>> warmStart) {
 		// Return pure BALANCING Schedule if no predictions are available
 		if (!paramsAreValid(p)) {
-			return p.optimizePeriods().stream() //
+			return new Result(p.optimizePeriods().stream() //
 					.map(op -> StateMachine.BALANCING) //
-					.toArray(StateMachine[]::new);
+					.toArray(StateMachine[]::new), ImmutableList.of());
 		}
 
 		var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)), p.optimizePeriods().size()); //
-		var eval = (Function<Genotype<IntegerGene>, Double>) (gt) -> {
-			var modes = new StateMachine[p.optimizePeriods().size()];
-			for (var i = 0; i < modes.length; i++) {
-				modes[i] = p.states()[gt.get(i).get(0).intValue()];
+		var kernel = CostKernel.of(p);
+		var eval = (Function<Genotype<IntegerGene>, Double>) (gt) -> kernel
+				.calculateCost(i -> gt.get(i).get(0).intValue());
+		final var executor = threads > 1 //
+				? new ForkJoinPool(threads) //
+				: null;
+		try {
+			// Only the fitness evaluation runs in parallel. Selection and alteration stay
+			// on the current thread, so the result for a given random seed does not
+			// depend on the number of threads.
+			var engine = new Engine.Builder<>(evaluator(eval, executor), gtf) //
+					.executor(Runnable::run) //
+					.minimizing();
+			if (populationSize != null) {
+				engine.populationSize(populationSize); //
+			}
+			Stream<EvolutionResult<IntegerGene, Double>> stream = engine.build() //
+					.stream(buildInitialPopulation(p, warmStart)) //
+					.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
+			if (limit != null) {
+				stream = stream.limit(limit); // apply optional limit
+			}
+			var bestResult = stream //
+					.collect(toBestEvolutionResult());
+			var bestSchedule = toSchedule(p, bestResult.bestPhenotype().genotype());
+			var population = bestResult.population().stream() //
+					.sorted(comparingDouble(pt -> pt.fitness())) //
+					.map(Phenotype::genotype) //
+					.distinct() //
+					.limit(WARM_START_SIZE) //
+					.map(gt -> toQuarterlySchedule(p, toSchedule(p, gt))) //
+					.collect(toImmutableList());
+			return new Result(bestSchedule, population);
+
+		} finally {
+			if (executor != null) {
+				executor.shutdown();
 			}
-			return calculateCost(p, modes);
-		};
-		var engine = Engine //
-				.builder(eval, gtf) //
-				.executor(Runnable::run) // current thread
-				.minimizing();
-		if (populationSize != null) {
-			engine.populationSize(populationSize); //
 		}
-		Stream<EvolutionResult<IntegerGene, Double>> stream = engine.build() //
-				.stream(buildInitialPopulation(p)) //
-				.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
-		if (limit != null) {
-			stream = stream.limit(limit); // apply optional limit
+	}
+
+	/**
+	 * Builds an {@link Evaluator} that calculates the fitness of all not yet
+	 * evaluated {@link Phenotype}s, keeping the order of the population.
+	 * 
+	 * @param eval     the fitness function
+	 * @param executor the {@link ForkJoinPool} for parallel evaluation; null to
+	 *                 evaluate on the current thread
+	 * @return the {@link Evaluator}
+	 */
+	private static Evaluator<IntegerGene, Double> evaluator(Function<Genotype<IntegerGene>, Double> eval,
+			ForkJoinPool executor) {
+		final Function<Phenotype<IntegerGene, Double>, Phenotype<IntegerGene, Double>> evaluate = pt -> pt
+				.isEvaluated() //
+						? pt //
+						: pt.withFitness(eval.apply(pt.genotype()));
+		if (executor == null) {
+			return population -> population.stream() //
+					.map(evaluate) //
+					.collect(ISeq.toISeq());
 		}
-		var bestGt = stream //
-				.collect(toBestGenotype());
+		return population -> executor.submit(() -> population.stream() //
+				.parallel() //
+				.map(evaluate) //
+				.collect(ISeq.toISeq())) //
+				.join();
+	}
+
+	private static StateMachine[] toSchedule(Params p, Genotype<IntegerGene> gt) {
 		return IntStream.range(0, p.optimizePeriods().size()) //
-				.mapToObj(period -> p.states()[bestGt.get(period).get(0).intValue()]) //
+				.mapToObj(period -> p.states()[gt.get(period).get(0).intValue()]) //
 				.toArray(StateMachine[]::new);
 	}
+
+	/**
+	 * Converts a Schedule to a Map of quarterly {@link StateMachine}s, so that it
+	 * can be mapped to the {@link OptimizePeriod}s of a later run.
+	 * 
+	 * @param p        the {@link Params}
+	 * @param schedule the {@link StateMachine} states of the Schedule
+	 * @return a Map of quarter start-timestamps to {@link StateMachine}s
+	 */
+	protected static ImmutableSortedMap<ZonedDateTime, StateMachine> toQuarterlySchedule(Params p,
+			StateMachine[] schedule) {
+		var result = ImmutableSortedMap.<ZonedDateTime, StateMachine>naturalOrder();
+		for (var i = 0; i < schedule.length; i++) {
+			for (var qp : p.optimizePeriods().get(i).quarterPeriods()) {
+				result.put(qp.time(), schedule[i]);
+			}
+		}
+		return result.build();
+	}
 }
@@ -46,6 +46,7 @@ import io.openems.edge.controller.ess.timeofusetariff.TimeOfUseTariffController;
 import io.openems.edge.controller.ess.timeofusetariff.jsonrpc.GetScheduleResponse;
 import io.openems.edge.controller.ess.timeofusetariff.jsonrpc.ScheduleDatas;
 import io.openems.edge.controller.ess.timeofusetariff.jsonrpc.ScheduleDatas.ScheduleData;
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.ParamsUtils.ChargeEnergyInChargeGridMemo;
 import io.openems.edge.controller.ess.timeofusetariff.optimizer.Simulator.Period;
 import io.openems.edge.ess.api.HybridEss;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
@@ -135,6 +136,25 @@ public final class Utils {
 	 */
 	public static Params createSimulatorParams(Context context,
 			ImmutableSortedMap<ZonedDateTime, StateMachine> existingSchedule) throws InvalidValueException {
+		return createSimulatorParams(context, existingSchedule, null);
+	}
+
+	/**
+	 * Create {@link Params} for {@link Simulator}.
+	 * 
+	 * @param context                      the {@link Context} object
+	 * @param existingSchedule             the existing schedule, i.e. result of
+	 *                                     previous optimization
+	 * @param chargeEnergyInChargeGridMemo the
+	 *                                     {@link ChargeEnergyInChargeGridMemo} of
+	 *                                     the {@link Optimizer}; null to always
+	 *                                     calculate
+	 * @return {@link Params}
+	 * @throws InvalidValueException on error
+	 */
+	protected static Params createSimulatorParams(Context context,
+			ImmutableSortedMap<ZonedDateTime, StateMachine> existingSchedule,
+			ChargeEnergyInChargeGridMemo chargeEnergyInChargeGridMemo) throws InvalidValueException {
 		final var time = roundDownToQuarter(ZonedDateTime.now());
 
 		// Prediction values
@@ -176,6 +196,7 @@ public final class Utils {
 				.setPrices(interpolateArray(prices.asArray())) //
 				.setStates(context.controlMode().states) //
 				.setExistingSchedule(existingSchedule) //
+				.setChargeEnergyInChargeGridMemo(chargeEnergyInChargeGridMemo) //
 				.build();
 	}
 
@@ -437,6 +458,71 @@ public final class Utils {
 		return Duration.between(now, nextQuarter.plusMinutes(15)).getSeconds();
 	}
 
+	/**
+	 * Calculates how much the prices and predictions changed between two
+	 * {@link Params}.
+	 * 
+	 * <p>
+	 * Only quarters that are available in both {@link Params} are compared. The
+	 * result is the maximum of the relative deviations of production, consumption
+	 * and price, each calculated as sum of absolute differences divided by the sum
+	 * of previous absolute values.
+	 * 
+	 * @param previous the previous {@link Params}, possibly null
+	 * @param next     the new {@link Params}
+	 * @return the deviation in [%]; {@link Double#POSITIVE_INFINITY} if there is
+	 *         nothing to compare
+	 */
+	public static double calculateParamsDeviation(Params previous, Params next) {
+		if (previous == null) {
+			return Double.POSITIVE_INFINITY;
+		}
+		var previousQuarters = new TreeMap<ZonedDateTime, Params.QuarterPeriod>();
+		for (var op : previous.optimizePeriods()) {
+			for (var qp : op.quarterPeriods()) {
+				previousQuarters.put(qp.time(), qp);
+			}
+		}
+		double productionDiff = 0;
+		double productionSum = 0;
+		double consumptionDiff = 0;
+		double consumptionSum = 0;
+		double priceDiff = 0;
+		double priceSum = 0;
+		var count = 0;
+		for (var op : next.optimizePeriods()) {
+			for (var qp : op.quarterPeriods()) {
+				var pqp = previousQuarters.get(qp.time());
+				if (pqp == null) {
+					continue;
+				}
+				count++;
+				productionDiff += Math.abs(qp.production() - pqp.production());
+				productionSum += Math.abs(pqp.production());
+				consumptionDiff += Math.abs(qp.consumption() - pqp.consumption());
+				consumptionSum += Math.abs(pqp.consumption());
+				priceDiff += Math.abs(qp.price() - pqp.price());
+				priceSum += Math.abs(pqp.price());
+			}
+		}
+		if (count == 0) {
+			return Double.POSITIVE_INFINITY;
+		}
+		return Math.max(relativeDeviation(productionDiff, productionSum), //
+				Math.max(relativeDeviation(consumptionDiff, consumptionSum), //
+						relativeDeviation(priceDiff, priceSum)));
+	}
+
+	private static double relativeDeviation(double diff, double sum) {
+		if (diff == 0) {
+			return 0;
+		}
+		if (sum == 0) {
+			return Double.POSITIVE_INFINITY;
+		}
+		return diff / sum * 100;
+	}
+
 	/**
 	 * Post-Process a state of a Period during Simulation, i.e. replace with
 	 * 'better' state with the same behaviour.
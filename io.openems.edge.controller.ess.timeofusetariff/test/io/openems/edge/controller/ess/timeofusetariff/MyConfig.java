@@ -16,6 +16,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private int maxChargePowerFromGrid;
 		private boolean limitChargePowerFor14aEnWG;
 		private RiskLevel riskLevel;
+		private int optimizerThreads = 1;
+		private int reoptimizeThreshold = 0;
 
 		private Builder() {
 		}
@@ -65,6 +67,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setOptimizerThreads(int optimizerThreads) {
+			this.optimizerThreads = optimizerThreads;
+			return this;
+		}
+
+		public Builder setReoptimizeThreshold(int reoptimizeThreshold) {
+			this.reoptimizeThreshold = reoptimizeThreshold;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -121,6 +133,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.riskLevel;
 	}
 
+	@Override
+	public int optimizerThreads() {
+		return this.builder.optimizerThreads;
+	}
+
+	@Override
+	public int reoptimizeThreshold() {
+		return this.builder.reoptimizeThreshold;
+	}
+
 	@Override
 	public String ess_target() {
 		return ConfigUtils.generateReferenceTargetFilter(this.id(), this.ess_id());
@@ -8,6 +8,8 @@ import java.time.ZonedDateTime;
 
 import org.junit.Test;
 
+import io.openems.edge.controller.ess.timeofusetariff.optimizer.ParamsUtils.ChargeEnergyInChargeGridMemo;
+
 public class ParamsUtilsTest {
 
 	@Test
@@ -30,6 +32,21 @@ public class ParamsUtilsTest {
 				new double[] { 120, 121, 122, 126, 125, 122, 121, 120 }));
 	}
 
+	@Test
+	public void testChargeEnergyInChargeGridMemo() {
+		var sut = new ChargeEnergyInChargeGridMemo();
+		var productions = new int[] { 0, 100, 200 };
+		var consumptions = new int[] { 1000, 1100 };
+		assertEquals(583, sut.calculate(1000, 11000, productions, consumptions, new double[0]));
+		assertEquals(583, sut.calculate(1000, 11000, productions, consumptions, new double[0]));
+
+		// Inputs are copied; changing them invalidates the memo
+		consumptions[1] = 100;
+		assertEquals(calculateChargeEnergyInChargeGrid(1000, 11000, productions, consumptions, new double[0]),
+				sut.calculate(1000, 11000, productions, consumptions, new double[0]));
+		assertEquals(1250, sut.calculate(1000, 11000, new int[0], new int[0], new double[0]));
+	}
+
 	@Test
 	public void testCalculatePeriodLengthHourFromIndex() {
 		assertEquals(24, calculatePeriodLengthHourFromIndex(ZonedDateTime.parse("2020-03-04T14:00:00.00Z")));
@@ -13,6 +13,8 @@ import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.toE
 import static java.util.Arrays.stream;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -25,6 +27,7 @@ import java.util.stream.DoubleStream;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedMap;
 
 import io.jenetics.util.RandomRegistry;
@@ -166,6 +169,79 @@ public class SimulatorTest {
 		assertArrayEquals(existingSchedule, Arrays.copyOfRange(s, 0, existingSchedule.length));
 	}
 
+	@Test
+	public void testCostKernel() {
+		var p = createParams888d20231106WithExistingSchedule();
+		var kernel = new CostKernel(p);
+		var random = new Random(123);
+		for (var run = 0; run < 100; run++) {
+			var schedule = new StateMachine[p.optimizePeriods().size()];
+			for (var i = 0; i < schedule.length; i++) {
+				schedule[i] = p.states()[random.nextInt(p.states().length)];
+			}
+
+			// Reference implementation with EnergyFlow
+			var nextEssInitial = new AtomicInteger(p.essInitialEnergy());
+			var expected = 0.;
+			for (var i = 0; i < schedule.length; i++) {
+				expected += Simulator.simulatePeriod(p, p.optimizePeriods().get(i), schedule[i], nextEssInitial,
+						null);
+			}
+
+			assertEquals(expected, kernel.calculateCost(schedule), 0.);
+			assertEquals(expected, kernel.calculateCost(i -> Arrays.asList(p.states()).indexOf(schedule[i])), 0.);
+		}
+
+		// One instance per Params
+		assertSame(CostKernel.of(p), CostKernel.of(p));
+	}
+
+	@Test
+	public void testGetBestScheduleParallel() {
+		var p = createParams888d20231106WithExistingSchedule();
+		var balancing = p.optimizePeriods().stream() //
+				.map(op -> BALANCING) //
+				.toArray(StateMachine[]::new);
+
+		var schedule = getBestSchedule(p, //
+				/* executionLimitSeconds */ 30, //
+				/* threads */ 4, //
+				/* populationSize */ 50, //
+				/* limit */ 20);
+
+		assertEquals(p.optimizePeriods().size(), schedule.length);
+		assertTrue(Simulator.calculateCost(p, schedule) <= Simulator.calculateCost(p, balancing));
+
+		// Same seed and population: parallel and sequential evaluation give identical
+		// results
+		RandomRegistry.random(new Random(123));
+		var parallel = Simulator.optimize(p, 30, 4, 50, 20, ImmutableList.of());
+		RandomRegistry.random(new Random(123));
+		var sequential = Simulator.optimize(p, 30, 1, 50, 20, ImmutableList.of());
+		assertArrayEquals(sequential.bestSchedule(), parallel.bestSchedule());
+		assertEquals(Simulator.calculateCost(p, sequential.bestSchedule()),
+				Simulator.calculateCost(p, parallel.bestSchedule()), 0.);
+		assertEquals(sequential.population(), parallel.population());
+	}
+
+	private static Params createParams888d20231106WithExistingSchedule() {
+		return Params.create() //
+				.setTime(TIME) //
+				.setEssTotalEnergy(22000) //
+				.setEssMinSocEnergy(0) //
+				.setEssMaxSocEnergy(22000) //
+				.setEssInitialEnergy((int) (22000 * 0.1)) //
+				.setEssMaxChargeEnergy(toEnergy(10000)) //
+				.setEssMaxDischargeEnergy(toEnergy(10000)) //
+				.seMaxBuyFromGrid(toEnergy(24_000)) //
+				.setProductions(stream(interpolateArray(PRODUCTION_888_20231106)).map(v -> toEnergy(v)).toArray()) //
+				.setConsumptions(stream(interpolateArray(CONSUMPTION_888_20231106)).map(v -> toEnergy(v)).toArray()) //
+				.setPrices(hourlyToQuarterly(interpolateArray(PRICES_888_20231106))) //
+				.setStates(ControlMode.CHARGE_CONSUMPTION.states) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+	}
+
 	/**
 	 * Creates dummy {@link Params}.
 	 * 
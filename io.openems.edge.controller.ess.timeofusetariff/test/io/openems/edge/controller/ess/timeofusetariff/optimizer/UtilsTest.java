@@ -33,6 +33,7 @@ import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.cal
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.calculateDelayDischargePower;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.calculateEssChargeInChargeGridPowerFromParams;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.calculateExecutionLimitSeconds;
+import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.calculateParamsDeviation;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.calculateMaxChargeProductionPower;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.createSimulatorParams;
 import static io.openems.edge.controller.ess.timeofusetariff.optimizer.Utils.findFirstPeakIndex;
@@ -62,6 +63,7 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import org.junit.Test;
@@ -555,4 +557,34 @@ public class UtilsTest {
 		schedule.remove(t);
 		updateSchedule(t, schedule, newSchedule);
 	}
+
+	@Test
+	public void testCalculateParamsDeviation() {
+		final Function<ZonedDateTime, Params.Builder> params = time -> Params.create() //
+				.setTime(time) //
+				.setStates(BALANCING) //
+				.setExistingSchedule(ImmutableSortedMap.of());
+		var p = params.apply(TIME) //
+				.setProductions(0, 100, 200, 300) //
+				.setConsumptions(500, 500, 500, 500) //
+				.setPrices(100, 200, 300, 400) //
+				.build();
+
+		assertEquals(Double.POSITIVE_INFINITY, calculateParamsDeviation(null, p), 0.);
+		assertEquals(0., calculateParamsDeviation(p, p), 0.);
+
+		// Shifted by one quarter; same values
+		assertEquals(0., calculateParamsDeviation(p, params.apply(TIME.plusMinutes(15)) //
+				.setProductions(100, 200, 300, 999) //
+				.setConsumptions(500, 500, 500, 999) //
+				.setPrices(200, 300, 400, 999) //
+				.build()), 0.);
+
+		// Price changed by 10 %
+		assertEquals(10., calculateParamsDeviation(p, params.apply(TIME) //
+				.setProductions(0, 100, 200, 300) //
+				.setConsumptions(500, 500, 500, 500) //
+				.setPrices(110, 220, 330, 440) //
+				.build()), 0.001);
+	}
 }
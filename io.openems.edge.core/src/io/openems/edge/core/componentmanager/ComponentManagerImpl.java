@@ -72,6 +72,8 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 
 	protected BundleContext bundleContext;
 
+	private volatile ComponentRegistry registry = null;
+
 	@Reference(cardinality = ReferenceCardinality.OPTIONAL)
 	private volatile ClockProvider clockProvider = null;
 
@@ -102,6 +104,11 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	private void activate(ComponentContext componentContext, BundleContext bundleContext) throws OpenemsException {
 		super.activate(componentContext, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.bundleContext = bundleContext;
+		if (bundleContext != null) {
+			// Can be null in JUnit tests
+			this.registry = new ComponentRegistry(bundleContext, this);
+			this.registry.open();
+		}
 
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.activate(this.id());
@@ -134,21 +141,38 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 		for (ComponentManagerWorker worker : this.workers) {
 			worker.deactivate();
 		}
+
+		if (this.registry != null) {
+			this.registry.close();
+			this.registry = null;
+		}
 	}
 
 	@Override
 	public List<OpenemsComponent> getEnabledComponents() {
-		return this.getComponentsViaService("(&(enabled=true)(!(service.factoryPid=Core.ComponentManager)))");
+		var snapshot = this.getSnapshot();
+		if (snapshot == null) {
+			return Collections.emptyList();
+		}
+		return snapshot.getEnabledComponents();
 	}
 
 	@Override
 	public <T extends OpenemsComponent> List<T> getEnabledComponentsOfType(Class<T> clazz) {
-		return this.getComponentsViaService(clazz, "(enabled=true)");
+		var snapshot = this.getSnapshot();
+		if (snapshot == null) {
+			return Collections.emptyList();
+		}
+		return snapshot.getEnabledComponentsOfType(clazz);
 	}
 
 	@Override
 	public List<OpenemsComponent> getAllComponents() {
-		return this.getComponentsViaService("(!(service.factoryPid=" + ComponentManager.SINGLETON_SERVICE_PID + "))");
+		var snapshot = this.getSnapshot();
+		if (snapshot == null) {
+			return Collections.emptyList();
+		}
+		return snapshot.getAllComponents();
 	}
 
 	@Override
@@ -165,7 +189,7 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@SuppressWarnings("unchecked")
 	public <T extends OpenemsComponent> T getPossiblyDisabledComponent(String componentId)
 			throws OpenemsNamedException {
-		var component = this.getComponentViaService(componentId);
+		var component = this.getComponentViaService(componentId, false);
 		if (component != null) {
 			return (T) component;
 		}
@@ -173,82 +197,32 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	}
 
 	/**
-	 * Gets the components via OSGi service reference.
+	 * Gets the current {@link ComponentRegistry.Snapshot} of OSGi services.
 	 *
-	 * @param filter the filter for the components
-	 * @return the components matching the filter
+	 * @return the snapshot; null if the registry is not available
 	 */
-	private List<OpenemsComponent> getComponentsViaService(String filter) {
-		return this.getComponentsViaService(OpenemsComponent.class, filter);
-	}
-
-	/**
-	 * Gets the components via OSGi service reference.
-	 * 
-	 * @param <T>    the class type
-	 * @param clazz  The class under whose name the service was registered. Must not
-	 *               be {@code null}.
-	 * @param filter the filter for the components
-	 * @return the components matching the filter
-	 */
-	private <T> List<T> getComponentsViaService(Class<T> clazz, String filter) {
-		if (this.bundleContext == null) {
+	private ComponentRegistry.Snapshot getSnapshot() {
+		var registry = this.registry;
+		if (registry == null) {
 			// Can be null in JUnit tests
-			return Collections.emptyList();
-		}
-
-		try {
-			var serviceReferences = this.bundleContext.getServiceReferences(clazz, filter);
-
-			var allComponents = new ArrayList<T>(serviceReferences.size());
-			for (var reference : serviceReferences) {
-				var component = this.bundleContext.getService(reference);
-				if (component == null) {
-					continue;
-				}
-				allComponents.add(component);
-				this.bundleContext.ungetService(reference);
-			}
-			return allComponents;
-
-		} catch (InvalidSyntaxException e) {
-			// filter invalid
-			e.printStackTrace();
-			return Collections.emptyList();
+			return null;
 		}
-	}
-
-	/**
-	 * Gets the component via OSGi service reference. Be careful, that the Component
-	 * might not be 'enabled'.
-	 *
-	 * @param <T>         the type of the component
-	 * @param componentId the id of the component
-	 * @return the component or null if not found
-	 */
-	private <T extends OpenemsComponent> T getComponentViaService(String componentId) {
-		return this.getComponentViaService(componentId, false);
+		return registry.getSnapshot();
 	}
 
 	/**
 	 * Gets the component via OSGi service reference.
 	 *
-	 * @param <T>            the type of the component
 	 * @param componentId    the id of the component
 	 * @param hasToBeEnabled if the component has to be enabled
 	 * @return the component or null if not found
 	 */
-	@SuppressWarnings("unchecked")
-	private <T extends OpenemsComponent> T getComponentViaService(String componentId, boolean hasToBeEnabled) {
-		var filter = "(id=" + componentId + ")";
-		if (hasToBeEnabled) {
-			filter = "(&(enabled=true)" + filter + ")";
-		}
-		var components = this.getComponentsViaService(filter);
-		if (components.isEmpty()) {
+	private OpenemsComponent getComponentViaService(String componentId, boolean hasToBeEnabled) {
+		var snapshot = this.getSnapshot();
+		if (snapshot == null) {
 			return null;
 		}
-		return (T) components.get(0);
+		return snapshot.getComponent(componentId, hasToBeEnabled);
 	}
 
 	@Override
@@ -0,0 +1,249 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceReference;
+import org.osgi.util.tracker.ServiceTracker;
+import org.osgi.util.tracker.ServiceTrackerCustomizer;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Keeps track of all {@link OpenemsComponent} services and provides them as an
+ * immutable, versioned {@link Snapshot}.
+ *
+ * <p>
+ * The {@link Snapshot} is rebuilt lazily on the first access after a service
+ * was added, modified or removed. Between those changes all callers share the
+ * same lists and lookup maps, so frequent calls - e.g. once per Cycle - do not
+ * need to query the OSGi service registry.
+ */
+public class ComponentRegistry implements ServiceTrackerCustomizer<OpenemsComponent, OpenemsComponent> {
+
+	private static record Tracked(OpenemsComponent component, String id, boolean enabled,
+			boolean isComponentManager, List<String> objectClasses) {
+
+		private static Tracked from(ServiceReference<OpenemsComponent> reference, OpenemsComponent component) {
+			final var id = reference.getProperty("id");
+			final var objectClass = reference.getProperty(Constants.OBJECTCLASS);
+			return new Tracked(component, //
+					id instanceof String s ? s : component.id(), //
+					Boolean.parseBoolean(String.valueOf(reference.getProperty("enabled"))), //
+					ComponentManager.SINGLETON_SERVICE_PID.equals(reference.getProperty("service.factoryPid")), //
+					objectClass instanceof String[] o ? List.of(o) : List.of());
+		}
+	}
+
+	/**
+	 * An immutable view on the {@link OpenemsComponent}s at one point in time.
+	 */
+	public static final class Snapshot {
+
+		private final long version;
+		private final List<Tracked> tracked;
+		private final List<OpenemsComponent> allComponents;
+		private final List<OpenemsComponent> enabledComponents;
+		private final Map<String, Tracked> byId;
+		private final Map<Class<?>, List<?>> enabledByType = new ConcurrentHashMap<>();
+
+		private Snapshot(long version, List<Tracked> tracked) {
+			this.version = version;
+			this.tracked = tracked;
+			final var all = new ArrayList<OpenemsComponent>(tracked.size());
+			final var enabled = new ArrayList<OpenemsComponent>(tracked.size());
+			final var byId = new HashMap<String, Tracked>();
+			for (var t : tracked) {
+				// Prefer an enabled instance if the same ID is registered more than once
+				byId.merge(t.id(), t, (existing, next) -> !existing.enabled() && next.enabled() ? next : existing);
+				if (t.isComponentManager()) {
+					continue;
+				}
+				all.add(t.component());
+				if (t.enabled()) {
+					enabled.add(t.component());
+				}
+			}
+			this.allComponents = Collections.unmodifiableList(all);
+			this.enabledComponents = Collections.unmodifiableList(enabled);
+			this.byId = byId;
+		}
+
+		/**
+		 * Gets the version of this {@link Snapshot}. The version is increased on
+		 * every change of the tracked services.
+		 *
+		 * @return the version
+		 */
+		public long getVersion() {
+			return this.version;
+		}
+
+		/**
+		 * Gets all {@link OpenemsComponent}s - enabled or not - except the
+		 * {@link ComponentManager}.
+		 *
+		 * @return an unmodifiable list
+		 */
+		public List<OpenemsComponent> getAllComponents() {
+			return this.allComponents;
+		}
+
+		/**
+		 * Gets all enabled {@link OpenemsComponent}s except the
+		 * {@link ComponentManager}.
+		 *
+		 * @return an unmodifiable list
+		 */
+		public List<OpenemsComponent> getEnabledComponents() {
+			return this.enabledComponents;
+		}
+
+		/**
+		 * Gets all enabled {@link OpenemsComponent}s that were registered as a service
+		 * of the given type. The result is cached per type.
+		 *
+		 * @param <T>   the type
+		 * @param clazz the service class
+		 * @return an unmodifiable list
+		 */
+		@SuppressWarnings("unchecked")
+		public <T> List<T> getEnabledComponentsOfType(Class<T> clazz) {
+			return (List<T>) this.enabledByType.computeIfAbsent(clazz, c -> {
+				final var name = c.getName();
+				final var result = new ArrayList<T>();
+				for (var t : this.tracked) {
+					if (t.enabled() && t.objectClasses().contains(name)) {
+						result.add((T) t.component());
+					}
+				}
+				return Collections.unmodifiableList(result);
+			});
+		}
+
+		/**
+		 * Gets the {@link OpenemsComponent} with the given ID.
+		 *
+		 * @param componentId    the Component-ID
+		 * @param hasToBeEnabled if the component has to be enabled
+		 * @return the component or null if not found
+		 */
+		public OpenemsComponent getComponent(String componentId, boolean hasToBeEnabled) {
+			final var t = this.byId.get(componentId);
+			if (t == null || hasToBeEnabled && !t.enabled()) {
+				return null;
+			}
+			return t.component();
+		}
+	}
+
+	private final BundleContext bundleContext;
+	private final ComponentManager self;
+	private final ServiceTracker<OpenemsComponent, OpenemsComponent> tracker;
+
+	/** Tracked services ordered by Service-ID; guarded by 'this'. */
+	private final TreeMap<Long, Tracked> tracked = new TreeMap<>();
+
+	private long version = 0;
+	private volatile Snapshot snapshot = null;
+
+	public ComponentRegistry(BundleContext bundleContext, ComponentManager self) {
+		this.bundleContext = bundleContext;
+		this.self = self;
+		this.tracker = new ServiceTracker<>(bundleContext, OpenemsComponent.class, this);
+	}
+
+	/**
+	 * Starts tracking the services.
+	 */
+	public void open() {
+		this.tracker.open();
+	}
+
+	/**
+	 * Stops tracking the services.
+	 */
+	public void close() {
+		this.tracker.close();
+	}
+
+	/**
+	 * Gets the current {@link Snapshot}.
+	 *
+	 * @return the {@link Snapshot}
+	 */
+	public Snapshot getSnapshot() {
+		var snapshot = this.snapshot;
+		if (snapshot != null) {
+			return snapshot;
+		}
+		synchronized (this) {
+			if (this.snapshot == null) {
+				this.snapshot = new Snapshot(this.version, List.copyOf(this.tracked.values()));
+			}
+			return this.snapshot;
+		}
+	}
+
+	@Override
+	public OpenemsComponent addingService(ServiceReference<OpenemsComponent> reference) {
+		final OpenemsComponent component;
+		if (this.isSelf(reference)) {
+			// Avoid a circular getService() while the ComponentManager is activated
+			component = this.self;
+		} else {
+			component = this.bundleContext.getService(reference);
+		}
+		if (component == null) {
+			return null;
+		}
+		this.put(reference, Tracked.from(reference, component));
+		return component;
+	}
+
+	@Override
+	public void modifiedService(ServiceReference<OpenemsComponent> reference, OpenemsComponent component) {
+		this.put(reference, Tracked.from(reference, component));
+	}
+
+	@Override
+	public void removedService(ServiceReference<OpenemsComponent> reference, OpenemsComponent component) {
+		synchronized (this) {
+			this.tracked.remove(getServiceId(reference));
+			this.invalidate();
+		}
+		if (!this.isSelf(reference)) {
+			this.bundleContext.ungetService(reference);
+		}
+	}
+
+	private synchronized void put(ServiceReference<OpenemsComponent> reference, Tracked tracked) {
+		this.tracked.put(getServiceId(reference), tracked);
+		this.invalidate();
+	}
+
+	private void invalidate() {
+		this.version++;
+		this.snapshot = null;
+	}
+
+	private boolean isSelf(ServiceReference<OpenemsComponent> reference) {
+		return ComponentManager.SINGLETON_SERVICE_PID.equals(reference.getProperty(Constants.SERVICE_PID))
+				&& reference.getProperty(Constants.OBJECTCLASS) instanceof String[] o
+				&& Arrays.asList(o).contains(ComponentManager.class.getName());
+	}
+
+	private static Long getServiceId(ServiceReference<?> reference) {
+		return (Long) reference.getProperty(Constants.SERVICE_ID);
+	}
+
+}
@@ -2,6 +2,8 @@ package io.openems.edge.core.cycle;
 
 import java.util.Comparator;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -18,13 +20,21 @@ import org.osgi.service.event.EventAdmin;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 
+import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.session.Role;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.user.User;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleProfileRequest;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleProfileResponse;
 import io.openems.edge.scheduler.api.Scheduler;
 
 @Designate(ocd = Config.class, factory = false)
@@ -35,7 +45,7 @@ import io.openems.edge.scheduler.api.Scheduler;
 		property = { //
 				"enabled=true" //
 		})
-public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
+public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle, JsonApi {
 
 	private final CycleWorker worker = new CycleWorker(this);
 
@@ -59,6 +69,20 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 
 	private Config config = null;
 
+	/**
+	 * The {@link ProcessImageSwitch}; only replaced by the {@link CycleWorker}
+	 * between two Cycles.
+	 */
+	private volatile ProcessImageSwitch processImageSwitch = new ProcessImageSwitch(1);
+
+	/**
+	 * A new {@link ProcessImageSwitch} after a configuration change; applied
+	 * before the next Cycle.
+	 */
+	private final AtomicReference<ProcessImageSwitch> nextProcessImageSwitch = new AtomicReference<>();
+
+	protected final CycleProfiler profiler = new CycleProfiler();
+
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
@@ -86,6 +110,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	@Activate
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
+		this.updateProcessImageSwitch(this.config, config);
 		this.config = config;
 		this.worker.activate(this.id());
 
@@ -97,6 +122,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	@Modified
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
+		this.updateProcessImageSwitch(this.config, config);
 		this.config = config;
 		this.worker.modified(this.id());
 
@@ -110,6 +136,42 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		var next = this.nextProcessImageSwitch.getAndSet(null);
+		if (next != null) {
+			next.deactivate();
+		}
+		this.processImageSwitch.deactivate();
+	}
+
+	private void updateProcessImageSwitch(Config previousConfig, Config config) {
+		if (previousConfig != null && previousConfig.processImageParallelism() == config.processImageParallelism()) {
+			return;
+		}
+		// The current ProcessImageSwitch might be in use by a running Cycle
+		var replaced = this.nextProcessImageSwitch
+				.getAndSet(new ProcessImageSwitch(config.processImageParallelism()));
+		if (replaced != null) {
+			replaced.deactivate();
+		}
+	}
+
+	/**
+	 * Gets the {@link ProcessImageSwitch} for the next Cycle.
+	 *
+	 * <p>
+	 * Must only be called by the {@link CycleWorker} before a Cycle. Applies a
+	 * pending new {@link ProcessImageSwitch} and deactivates the previous one.
+	 *
+	 * @return the {@link ProcessImageSwitch}
+	 */
+	protected ProcessImageSwitch getProcessImageSwitch() {
+		var next = this.nextProcessImageSwitch.getAndSet(null);
+		if (next != null) {
+			var previous = this.processImageSwitch;
+			this.processImageSwitch = next;
+			previous.deactivate();
+		}
+		return this.processImageSwitch;
 	}
 
 	@Override
@@ -122,6 +184,32 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		super.logWarn(log, message);
 	}
 
+	@Override
+	public CompletableFuture<? extends JsonrpcResponseSuccess> handleJsonrpcRequest(User user, JsonrpcRequest request)
+			throws OpenemsNamedException {
+		user.assertRoleIsAtLeast("handleJsonrpcRequest", Role.OWNER);
+		switch (request.getMethod()) {
+
+		case GetCycleProfileRequest.METHOD:
+			return this.handleGetCycleProfileRequest(user, GetCycleProfileRequest.from(request));
+
+		default:
+			throw OpenemsError.JSONRPC_UNHANDLED_METHOD.exception(request.getMethod());
+		}
+	}
+
+	/**
+	 * Handles a {@link GetCycleProfileRequest}.
+	 *
+	 * @param user    the User
+	 * @param request the {@link GetCycleProfileRequest}
+	 * @return the Future JSON-RPC Response
+	 */
+	private CompletableFuture<JsonrpcResponseSuccess> handleGetCycleProfileRequest(User user,
+			GetCycleProfileRequest request) {
+		return CompletableFuture.completedFuture(new GetCycleProfileResponse(request.getId(), this.profiler.toJson()));
+	}
+
 	@Override
 	public int getCycleTime() {
 		var config = this.config;
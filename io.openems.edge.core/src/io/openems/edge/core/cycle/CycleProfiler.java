@@ -0,0 +1,205 @@
+package io.openems.edge.core.cycle;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * A low-overhead profiler for the OpenEMS Cycle.
+ *
+ * <p>
+ * Keeps the durations of each EventAdmin topic and of each Controller
+ * execution of the last {@link #WINDOW} Cycles in primitive ring buffers.
+ * Recording a sample does not allocate; percentiles are only calculated on
+ * request via {@link #toJson()}.
+ *
+ * <p>
+ * Additionally the slowest Controller and the slowest EventAdmin topic of the
+ * last Cycle are tracked.
+ */
+public class CycleProfiler {
+
+	/**
+	 * Number of samples that are kept per key. Equals five minutes with the
+	 * default Cycle-Time.
+	 */
+	public static final int WINDOW = 300;
+
+	protected static class Histogram {
+
+		private final long[] samples = new long[WINDOW];
+		private int index = 0;
+		private int count = 0;
+
+		protected synchronized void add(long nanos) {
+			this.samples[this.index] = nanos;
+			this.index = (this.index + 1) % WINDOW;
+			if (this.count < WINDOW) {
+				this.count++;
+			}
+		}
+
+		protected JsonObject toJson() {
+			final long[] sorted;
+			synchronized (this) {
+				sorted = Arrays.copyOf(this.samples, this.count);
+			}
+			Arrays.sort(sorted);
+			return JsonUtils.buildJsonObject() //
+					.addProperty("count", sorted.length) //
+					.addProperty("p50", toMicros(percentile(sorted, 0.50))) //
+					.addProperty("p99", toMicros(percentile(sorted, 0.99))) //
+					.addProperty("max", toMicros(sorted.length == 0 ? 0 : sorted[sorted.length - 1])) //
+					.build();
+		}
+
+		private static long percentile(long[] sorted, double percentile) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			var index = (int) Math.ceil(percentile * sorted.length) - 1;
+			return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+		}
+	}
+
+	private final Map<String, Histogram> topics = new ConcurrentHashMap<>();
+	private final Map<String, Histogram> controllers = new ConcurrentHashMap<>();
+
+	private String slowestTopic = null;
+	private long slowestTopicNanos = 0;
+	private String slowestController = null;
+	private long slowestControllerNanos = 0;
+
+	/**
+	 * Resets the statistics of the last Cycle. Called at the start of each Cycle.
+	 */
+	public void startCycle() {
+		this.slowestTopic = null;
+		this.slowestTopicNanos = 0;
+		this.slowestController = null;
+		this.slowestControllerNanos = 0;
+	}
+
+	/**
+	 * Records the duration of sending an EventAdmin topic.
+	 *
+	 * @param topic the topic
+	 * @param nanos the duration in [ns]
+	 */
+	public void addTopic(String topic, long nanos) {
+		this.topics.computeIfAbsent(topic, t -> new Histogram()).add(nanos);
+		if (nanos >= this.slowestTopicNanos) {
+			this.slowestTopic = topic;
+			this.slowestTopicNanos = nanos;
+		}
+	}
+
+	/**
+	 * Records the duration of a Controller execution.
+	 *
+	 * @param controllerId the Component-ID of the Controller
+	 * @param nanos        the duration in [ns]
+	 */
+	public void addController(String controllerId, long nanos) {
+		this.controllers.computeIfAbsent(controllerId, t -> new Histogram()).add(nanos);
+		if (nanos >= this.slowestControllerNanos) {
+			this.slowestController = controllerId;
+			this.slowestControllerNanos = nanos;
+		}
+	}
+
+	/**
+	 * Removes the statistics of all Controllers that are not in the given set,
+	 * e.g. because they were deleted or removed from every Scheduler.
+	 *
+	 * @param controllerIds the Component-IDs of the currently scheduled Controllers
+	 */
+	public void retainControllers(Set<String> controllerIds) {
+		this.controllers.keySet().retainAll(controllerIds);
+	}
+
+	/**
+	 * Gets the EventAdmin topic that took longest in the last Cycle.
+	 *
+	 * @return the topic; null if no topic was recorded
+	 */
+	public String getSlowestTopic() {
+		return this.slowestTopic;
+	}
+
+	/**
+	 * Gets the duration of {@link #getSlowestTopic()} in [ms].
+	 *
+	 * @return the duration
+	 */
+	public long getSlowestTopicTime() {
+		return TimeUnit.NANOSECONDS.toMillis(this.slowestTopicNanos);
+	}
+
+	/**
+	 * Gets the Component-ID of the Controller that took longest in the last Cycle.
+	 *
+	 * @return the Component-ID; null if no Controller was executed
+	 */
+	public String getSlowestController() {
+		return this.slowestController;
+	}
+
+	/**
+	 * Gets the duration of {@link #getSlowestController()} in [ms].
+	 *
+	 * @return the duration
+	 */
+	public long getSlowestControllerTime() {
+		return TimeUnit.NANOSECONDS.toMillis(this.slowestControllerNanos);
+	}
+
+	/**
+	 * Exports the rolling histograms as {@link JsonObject}. All durations are in
+	 * [us].
+	 *
+	 * <pre>
+	 * {
+	 *   "window": number,
+	 *   "topics": {
+	 *     [topic: string]: {
+	 *       "count": number, "p50": number, "p99": number, "max": number
+	 *     }
+	 *   },
+	 *   "controllers": {
+	 *     [controllerId: string]: {
+	 *       "count": number, "p50": number, "p99": number, "max": number
+	 *     }
+	 *   }
+	 * }
+	 * </pre>
+	 *
+	 * @return the {@link JsonObject}
+	 */
+	public JsonObject toJson() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("window", WINDOW) //
+				.add("topics", toJson(this.topics)) //
+				.add("controllers", toJson(this.controllers)) //
+				.build();
+	}
+
+	private static JsonObject toJson(Map<String, Histogram> histograms) {
+		var result = new JsonObject();
+		new TreeMap<>(histograms).forEach((key, histogram) -> {
+			result.add(key, histogram.toJson());
+		});
+		return result;
+	}
+
+	private static long toMicros(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos);
+	}
+}
@@ -1,6 +1,9 @@
 package io.openems.edge.core.cycle;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +23,7 @@ public class CycleWorker extends AbstractWorker {
 
 	private final Logger log = LoggerFactory.getLogger(CycleWorker.class);
 	private final CycleImpl parent;
+	private final Set<String> scheduledControllerIds = new HashSet<>();
 
 	public CycleWorker(CycleImpl parent) {
 		this.parent = parent;
@@ -43,22 +47,22 @@ public class CycleWorker extends AbstractWorker {
 			}
 		}
 
+		this.parent.profiler.startCycle();
+
 		try {
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			var phaseStart = System.nanoTime();
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
-					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
-						});
-					});
+			this.parent.getProcessImageSwitch().switchProcessImage(//
+					this.parent.componentManager.getEnabledComponents().stream() //
+							.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
+							.toList());
 			this.parent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
@@ -74,14 +78,16 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			phaseStart = this.setPhaseTime(phaseStart, this.parent::_setMeasuredProcessImageTime);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
 
 			var hasDisabledController = false;
+			this.scheduledControllerIds.clear();
 
 			/*
 			 * Execute Schedulers and their Controllers
@@ -93,6 +99,7 @@ public class CycleWorker extends AbstractWorker {
 					var schedulerControllerIsMissing = false;
 
 					for (String controllerId : scheduler.getControllers()) {
+						this.scheduledControllerIds.add(controllerId);
 						Controller controller;
 						try {
 							controller = this.parent.componentManager.getPossiblyDisabledComponent(controllerId);
@@ -109,6 +116,7 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
+						var controllerStart = System.nanoTime();
 						try {
 							// Execute Controller logic
 							controller.run();
@@ -133,6 +141,7 @@ public class CycleWorker extends AbstractWorker {
 							// announce running failed
 							controller._setRunFailed(true);
 						}
+						this.parent.profiler.addController(controller.id(), System.nanoTime() - controllerStart);
 					}
 
 					// announce Scheduler Controller is missing
@@ -140,28 +149,33 @@ public class CycleWorker extends AbstractWorker {
 				}
 			}
 
+			// drop Profiler statistics of Controllers that are no longer scheduled
+			this.parent.profiler.retainControllers(this.scheduledControllerIds);
+
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
 
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			phaseStart = this.setPhaseTime(phaseStart, this.parent::_setMeasuredControllersTime);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.setPhaseTime(phaseStart, this.parent::_setMeasuredWriteTime);
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -173,6 +187,38 @@ public class CycleWorker extends AbstractWorker {
 
 		// Measure actual Cycle-Time
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+		// Publish Profiler results of this Cycle
+		var profiler = this.parent.profiler;
+		this.parent._setSlowestController(profiler.getSlowestController());
+		this.parent._setSlowestControllerTime(profiler.getSlowestControllerTime());
+		this.parent._setSlowestEventTopic(profiler.getSlowestTopic());
+		this.parent._setSlowestEventTopicTime(profiler.getSlowestTopicTime());
+	}
+
+	/**
+	 * Sends an Event via EventAdmin and records its duration in the
+	 * {@link CycleProfiler}.
+	 *
+	 * @param topic the Event topic
+	 */
+	private void sendEvent(String topic) {
+		var start = System.nanoTime();
+		EventBuilder.send(this.parent.eventAdmin, topic);
+		this.parent.profiler.addTopic(topic, System.nanoTime() - start);
+	}
+
+	/**
+	 * Sets the duration of a Cycle phase in [ms].
+	 *
+	 * @param phaseStart the start of the phase from {@link System#nanoTime()}
+	 * @param setter     the setter for the Channel
+	 * @return the end of the phase, i.e. the start of the next phase
+	 */
+	private long setPhaseTime(long phaseStart, LongConsumer setter) {
+		var now = System.nanoTime();
+		setter.accept(TimeUnit.NANOSECONDS.toMillis(now - phaseStart));
+		return now;
 	}
 
 }
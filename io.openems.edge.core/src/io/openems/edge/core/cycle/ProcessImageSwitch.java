@@ -0,0 +1,171 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.ProcessImageDependent;
+
+/**
+ * Switches the Process-Image of all Channels of the given Components.
+ *
+ * <p>
+ * With a parallelism of 1 all Components are switched serially in the Cycle
+ * thread. Otherwise Components are partitioned into groups of roughly the same
+ * number of Channels that are switched in parallel on a {@link ForkJoinPool}.
+ * Components that implement {@link ProcessImageDependent} are switched
+ * serially afterwards, each one after its inputs, so that callbacks from their
+ * inputs are already applied.
+ */
+public class ProcessImageSwitch {
+
+	private final Logger log = LoggerFactory.getLogger(ProcessImageSwitch.class);
+
+	private final int parallelism;
+	private final ForkJoinPool pool;
+
+	public ProcessImageSwitch(int parallelism) {
+		this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		if (this.parallelism > 1) {
+			var counter = new AtomicInteger();
+			this.pool = new ForkJoinPool(this.parallelism, pool -> {
+				var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("Cycle-ProcessImage-" + counter.incrementAndGet());
+				return thread;
+			}, null, false);
+		} else {
+			this.pool = null;
+		}
+	}
+
+	/**
+	 * Switches the Process-Image of all Channels of the given Components.
+	 *
+	 * @param components the Components
+	 */
+	public void switchProcessImage(List<OpenemsComponent> components) {
+		if (this.pool == null || this.pool.isShutdown()) {
+			components.forEach(ProcessImageSwitch::switchProcessImage);
+			return;
+		}
+
+		// Partition independent Components; keep dependent Components in order
+		final var groups = new ArrayList<List<OpenemsComponent>>(this.parallelism);
+		final var groupSizes = new int[this.parallelism];
+		for (var i = 0; i < this.parallelism; i++) {
+			groups.add(new ArrayList<>());
+		}
+		final var dependents = new ArrayList<OpenemsComponent>();
+		for (var component : components) {
+			if (component instanceof ProcessImageDependent) {
+				dependents.add(component);
+				continue;
+			}
+			// add to the group with the least Channels
+			var index = 0;
+			for (var i = 1; i < this.parallelism; i++) {
+				if (groupSizes[i] < groupSizes[index]) {
+					index = i;
+				}
+			}
+			groups.get(index).add(component);
+			groupSizes[index] += component.channels().size();
+		}
+
+		final var tasks = new ArrayList<Callable<Void>>(this.parallelism);
+		for (var group : groups) {
+			if (group.isEmpty()) {
+				continue;
+			}
+			tasks.add(() -> {
+				group.forEach(ProcessImageSwitch::switchProcessImage);
+				return null;
+			});
+		}
+		for (var future : this.pool.invokeAll(tasks)) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				this.log.warn("Error while switching the Process-Image: " + e.getCause().getClass().getSimpleName()
+						+ ": " + e.getCause().getMessage(), e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+
+		sortByInputs(dependents).forEach(ProcessImageSwitch::switchProcessImage);
+	}
+
+	/**
+	 * Sorts {@link ProcessImageDependent}s so that every Component comes after the
+	 * Components it gets its inputs from. Cyclic dependencies are broken up
+	 * arbitrarily.
+	 *
+	 * @param dependents the {@link ProcessImageDependent} Components
+	 * @return the sorted Components
+	 */
+	protected static List<OpenemsComponent> sortByInputs(List<OpenemsComponent> dependents) {
+		final var byId = new HashMap<String, OpenemsComponent>();
+		for (var component : dependents) {
+			byId.put(component.id(), component);
+		}
+		final var result = new ArrayList<OpenemsComponent>(dependents.size());
+		final var visited = new HashSet<String>();
+		for (var component : dependents) {
+			addAfterInputs(component, byId, visited, result);
+		}
+		return result;
+	}
+
+	private static void addAfterInputs(OpenemsComponent component, Map<String, OpenemsComponent> byId,
+			Set<String> visited, List<OpenemsComponent> result) {
+		if (!visited.add(component.id())) {
+			return;
+		}
+		var inputIds = ((ProcessImageDependent) component).getProcessImageInputIds();
+		if (inputIds != null) {
+			for (var inputId : inputIds) {
+				var input = byId.get(inputId);
+				if (input != null) {
+					addAfterInputs(input, byId, visited, result);
+				}
+			}
+		}
+		result.add(component);
+	}
+
+	/**
+	 * Shuts down the {@link ForkJoinPool}.
+	 */
+	public void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.pool, 1);
+	}
+
+	/**
+	 * Gets the effective parallelism.
+	 *
+	 * @return the number of threads
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	private static void switchProcessImage(OpenemsComponent component) {
+		component.channels().forEach(channel -> {
+			channel.nextProcessImage();
+		});
+	}
+}
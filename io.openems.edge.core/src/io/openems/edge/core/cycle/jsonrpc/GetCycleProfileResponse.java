@@ -0,0 +1,39 @@
+package io.openems.edge.core.cycle.jsonrpc;
+
+import java.util.UUID;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.edge.core.cycle.CycleProfiler;
+
+/**
+ * JSON-RPC Response to {@link GetCycleProfileRequest}.
+ *
+ * <p>
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     {@link CycleProfiler#toJson()}
+ *   }
+ * }
+ * </pre>
+ */
+public class GetCycleProfileResponse extends JsonrpcResponseSuccess {
+
+	private final JsonObject profile;
+
+	public GetCycleProfileResponse(UUID id, JsonObject profile) {
+		super(id);
+		this.profile = profile;
+	}
+
+	@Override
+	public JsonObject getResult() {
+		return this.profile;
+	}
+
+}
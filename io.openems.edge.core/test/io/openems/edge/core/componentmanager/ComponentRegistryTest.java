@@ -0,0 +1,111 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceReference;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.meta.Meta;
+import io.openems.edge.common.test.DummyCycle;
+import io.openems.edge.common.test.DummyMeta;
+
+public class ComponentRegistryTest {
+
+	private static final Map<ServiceReference<?>, OpenemsComponent> SERVICES = new HashMap<>();
+
+	private static final BundleContext BUNDLE_CONTEXT = (BundleContext) Proxy.newProxyInstance(
+			ComponentRegistryTest.class.getClassLoader(), new Class<?>[] { BundleContext.class },
+			(proxy, method, args) -> switch (method.getName()) {
+			case "getService" -> SERVICES.get(args[0]);
+			case "ungetService" -> true;
+			default -> null;
+			});
+
+	@SuppressWarnings("unchecked")
+	private static ServiceReference<OpenemsComponent> createReference(OpenemsComponent component, long serviceId,
+			boolean enabled, Class<?>... objectClasses) {
+		final var properties = new HashMap<String, Object>();
+		properties.put(Constants.SERVICE_ID, serviceId);
+		properties.put("id", component.id());
+		properties.put("enabled", enabled);
+		final var names = new String[objectClasses.length];
+		for (var i = 0; i < objectClasses.length; i++) {
+			names[i] = objectClasses[i].getName();
+		}
+		properties.put(Constants.OBJECTCLASS, names);
+		final var reference = (ServiceReference<OpenemsComponent>) Proxy.newProxyInstance(
+				ComponentRegistryTest.class.getClassLoader(), new Class<?>[] { ServiceReference.class },
+				(proxy, method, args) -> switch (method.getName()) {
+				case "getProperty" -> properties.get(args[0]);
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				default -> null;
+				});
+		SERVICES.put(reference, component);
+		return reference;
+	}
+
+	@Test
+	public void test() {
+		final var sut = new ComponentRegistry(BUNDLE_CONTEXT, null);
+		final var cycle = new DummyCycle(1000);
+		final var meta = new DummyMeta("_meta");
+		final var cycleRef = createReference(cycle, 2L, true, OpenemsComponent.class, Cycle.class);
+		final var metaRef = createReference(meta, 1L, true, OpenemsComponent.class, Meta.class);
+
+		sut.addingService(cycleRef);
+		sut.addingService(metaRef);
+
+		final var snapshot = sut.getSnapshot();
+		assertSame(snapshot, sut.getSnapshot());
+		assertEquals(List.of(meta, cycle), snapshot.getEnabledComponents());
+		assertEquals(List.of(cycle), snapshot.getEnabledComponentsOfType(Cycle.class));
+		assertSame(snapshot.getEnabledComponentsOfType(Cycle.class),
+				snapshot.getEnabledComponentsOfType(Cycle.class));
+		assertSame(meta, snapshot.getComponent("_meta", true));
+		assertNull(snapshot.getComponent("foo", false));
+
+		// Disable Meta
+		final var disabledMetaRef = createReference(meta, 1L, false, OpenemsComponent.class, Meta.class);
+		sut.modifiedService(disabledMetaRef, meta);
+		final var modified = sut.getSnapshot();
+		assertNotEquals(snapshot.getVersion(), modified.getVersion());
+		assertEquals(List.of(cycle), modified.getEnabledComponents());
+		assertEquals(List.of(meta, cycle), modified.getAllComponents());
+		assertTrue(modified.getEnabledComponentsOfType(Meta.class).isEmpty());
+		assertNull(modified.getComponent("_meta", true));
+		assertSame(meta, modified.getComponent("_meta", false));
+
+		// Remove Cycle
+		sut.removedService(cycleRef, cycle);
+		assertEquals(List.of(meta), sut.getSnapshot().getAllComponents());
+		assertEquals(List.of(cycle), snapshot.getEnabledComponentsOfType(Cycle.class));
+	}
+
+	@Test
+	public void testDuplicateIdPrefersEnabled() {
+		final var sut = new ComponentRegistry(BUNDLE_CONTEXT, null);
+		final var disabledMeta = new DummyMeta("_meta");
+		final var enabledMeta = new DummyMeta("_meta");
+		sut.addingService(createReference(disabledMeta, 1L, false, OpenemsComponent.class, Meta.class));
+		sut.addingService(createReference(enabledMeta, 2L, true, OpenemsComponent.class, Meta.class));
+
+		final var snapshot = sut.getSnapshot();
+		assertSame(enabledMeta, snapshot.getComponent("_meta", true));
+		assertSame(enabledMeta, snapshot.getComponent("_meta", false));
+	}
+
+}
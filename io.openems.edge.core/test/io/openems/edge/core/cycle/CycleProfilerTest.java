@@ -0,0 +1,66 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class CycleProfilerTest {
+
+	@Test
+	public void test() {
+		var sut = new CycleProfiler();
+		sut.startCycle();
+		assertNull(sut.getSlowestController());
+
+		for (var i = 1; i <= 100; i++) {
+			sut.addController("ctrl0", TimeUnit.MICROSECONDS.toNanos(i));
+		}
+		sut.addController("ctrl1", TimeUnit.MILLISECONDS.toNanos(5));
+		sut.addTopic("topic0", TimeUnit.MILLISECONDS.toNanos(2));
+
+		assertEquals("ctrl1", sut.getSlowestController());
+		assertEquals(5, sut.getSlowestControllerTime());
+		assertEquals("topic0", sut.getSlowestTopic());
+		assertEquals(2, sut.getSlowestTopicTime());
+
+		var json = sut.toJson();
+		var ctrl0 = json.getAsJsonObject("controllers").getAsJsonObject("ctrl0");
+		assertEquals(100, ctrl0.get("count").getAsInt());
+		assertEquals(50, ctrl0.get("p50").getAsLong());
+		assertEquals(99, ctrl0.get("p99").getAsLong());
+		assertEquals(100, ctrl0.get("max").getAsLong());
+
+		sut.startCycle();
+		assertNull(sut.getSlowestTopic());
+	}
+
+	@Test
+	public void testWindow() {
+		var sut = new CycleProfiler();
+		for (var i = 0; i < CycleProfiler.WINDOW + 10; i++) {
+			sut.addTopic("topic0", TimeUnit.MICROSECONDS.toNanos(i));
+		}
+		var topic0 = sut.toJson().getAsJsonObject("topics").getAsJsonObject("topic0");
+		assertEquals(CycleProfiler.WINDOW, topic0.get("count").getAsInt());
+		assertEquals(CycleProfiler.WINDOW + 9, topic0.get("max").getAsLong());
+	}
+
+	@Test
+	public void testRetainControllers() {
+		var sut = new CycleProfiler();
+		sut.addController("ctrl0", TimeUnit.MICROSECONDS.toNanos(1));
+		sut.addController("ctrl1", TimeUnit.MICROSECONDS.toNanos(1));
+
+		sut.retainControllers(Set.of("ctrl1"));
+		var controllers = sut.toJson().getAsJsonObject("controllers");
+		assertEquals(Set.of("ctrl1"), controllers.keySet());
+
+		sut.retainControllers(Set.of());
+		assertTrue(sut.toJson().getAsJsonObject("controllers").keySet().isEmpty());
+	}
+}
@@ -0,0 +1,100 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.ProcessImageDependent;
+import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
+import io.openems.edge.common.test.DummyCycle;
+
+public class ProcessImageSwitchTest {
+
+	private static class DependentCycle extends DummyCycle implements ProcessImageDependent {
+
+		public DependentCycle() {
+			super(1000);
+		}
+	}
+
+	private static class DummyCluster extends AbstractDummyOpenemsComponent<DummyCluster>
+			implements ProcessImageDependent {
+
+		private final String[] inputIds;
+
+		public DummyCluster(String id, String... inputIds) {
+			super(id, OpenemsComponent.ChannelId.values());
+			this.inputIds = inputIds;
+		}
+
+		@Override
+		protected DummyCluster self() {
+			return this;
+		}
+
+		@Override
+		public String[] getProcessImageInputIds() {
+			return this.inputIds;
+		}
+	}
+
+	@Test
+	public void testSerial() {
+		var sut = new ProcessImageSwitch(1);
+		assertEquals(1, sut.getParallelism());
+		var component = new DummyCycle(1000);
+		component._setMeasuredCycleTime(123L);
+
+		sut.switchProcessImage(List.of(component));
+
+		assertEquals(123L, component.getMeasuredCycleTime().get().longValue());
+		sut.deactivate();
+	}
+
+	@Test
+	public void testParallel() {
+		var sut = new ProcessImageSwitch(4);
+		var components = new ArrayList<OpenemsComponent>();
+		var dependent = new DependentCycle();
+		components.add(dependent); // is switched last, independent of its position
+		for (var i = 0; i < 20; i++) {
+			var component = new DummyCycle(1000);
+			component._setMeasuredCycleTime(i);
+			components.add(component);
+		}
+
+		// callback of an input sets the value of the dependent Component
+		((DummyCycle) components.get(1)).getMeasuredCycleTimeChannel().onChange((oldValue, newValue) -> {
+			dependent._setMeasuredCycleTime(newValue.get() + 1000);
+		});
+
+		sut.switchProcessImage(components);
+
+		for (var i = 0; i < 20; i++) {
+			assertEquals(i, ((DummyCycle) components.get(i + 1)).getMeasuredCycleTime().get().longValue());
+		}
+		assertEquals(1000L, dependent.getMeasuredCycleTime().get().longValue());
+		sut.deactivate();
+	}
+
+	@Test
+	public void testSortByInputs() {
+		// cluster of clusters is listed first
+		var cluster0 = new DummyCluster("cluster0", "ess0", "cluster1");
+		var cluster1 = new DummyCluster("cluster1", "ess1", "cluster2");
+		var cluster2 = new DummyCluster("cluster2", "ess2");
+		var meter0 = new DummyCluster("meter0");
+
+		assertEquals(List.of(cluster2, cluster1, cluster0, meter0),
+				ProcessImageSwitch.sortByInputs(List.of(cluster0, cluster1, meter0, cluster2)));
+
+		// cyclic dependencies do not loop forever
+		var a = new DummyCluster("a", "b");
+		var b = new DummyCluster("b", "a");
+		assertEquals(List.of(b, a), ProcessImageSwitch.sortByInputs(List.of(a, b)));
+	}
+}
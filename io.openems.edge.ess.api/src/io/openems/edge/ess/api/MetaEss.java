@@ -1,11 +1,13 @@
 package io.openems.edge.ess.api;
 
+import io.openems.edge.common.cycle.ProcessImageDependent;
+
 /**
  * A MetaEss is a wrapper for physical energy storage systems. It is not a
  * physical Ess itself. This is used to distinguish e.g. an EssCluster from an
  * actual Ess.
  */
-public interface MetaEss extends SymmetricEss {
+public interface MetaEss extends SymmetricEss, ProcessImageDependent {
 
 	/**
 	 * Get the Component-IDs of energy storage systems that are handled by this
@@ -15,4 +17,9 @@ public interface MetaEss extends SymmetricEss {
 	 */
 	public String[] getEssIds();
 
+	@Override
+	public default String[] getProcessImageInputIds() {
+		return this.getEssIds();
+	}
+
 }
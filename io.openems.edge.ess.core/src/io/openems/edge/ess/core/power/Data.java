@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -40,6 +41,11 @@ public class Data {
 	private final List<Constraint> constraints = new CopyOnWriteArrayList<>();
 	private final Coefficients coefficients = new Coefficients();
 
+	/**
+	 * Is increased on every change of Constraints, Inverters or Cycle.
+	 */
+	private final AtomicLong version = new AtomicLong();
+
 	private boolean symmetricMode = EssPower.DEFAULT_SYMMETRIC_MODE;
 	private Consumer<Boolean> onStaticConstraintsFailed = null;
 
@@ -104,11 +110,13 @@ public class Data {
 		// Initially sort Inverters
 		WeightsUtil.updateWeightsFromSoc(this.inverters, this.esss);
 		WeightsUtil.sortByWeights(this.inverters);
+		this.version.incrementAndGet();
 	}
 
 	protected synchronized void initializeCycle() {
 		// Remove Constraints of last Cycle
 		this.constraints.clear();
+		this.version.incrementAndGet();
 		// Update sorting of Inverters
 		WeightsUtil.updateWeightsFromSoc(this.inverters, this.esss);
 		WeightsUtil.adjustSortingByWeights(this.inverters);
@@ -124,10 +132,31 @@ public class Data {
 
 	protected void addConstraint(Constraint constraint) {
 		this.constraints.add(constraint);
+		this.version.incrementAndGet();
 	}
 
 	protected void removeConstraint(Constraint constraint) {
-		this.constraints.remove(constraint);
+		if (this.constraints.remove(constraint)) {
+			this.version.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Marks the current Constraints as changed, e.g. because the Channel values
+	 * of the Ess that are used for generic Constraints were updated.
+	 */
+	protected void invalidate() {
+		this.version.incrementAndGet();
+	}
+
+	/**
+	 * Gets the version of the current Constraints. The version is increased on
+	 * every change of Constraints, Inverters or Cycle.
+	 *
+	 * @return the version
+	 */
+	public long getVersion() {
+		return this.version.get();
 	}
 
 	/**
@@ -150,6 +179,7 @@ public class Data {
 		}
 		this.constraints.add(ConstraintUtil.createSimpleConstraint(this.coefficients, //
 				description, essId, phase, pwr, relationship, value));
+		this.version.incrementAndGet();
 	}
 
 	/**
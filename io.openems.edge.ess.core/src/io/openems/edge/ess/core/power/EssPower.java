@@ -46,6 +46,78 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		 * </ul>
 		 */
 		SOLVE_STRATEGY(Doc.of(SolverStrategy.values())),
+		/**
+		 * The duration needed for trying {@link SolverStrategy#ALL_CONSTRAINTS}.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds, rounded up
+		 * <li>Range: positive; null if the strategy was not tried
+		 * </ul>
+		 */
+		SOLVE_DURATION_ALL_CONSTRAINTS(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The duration needed for trying
+		 * {@link SolverStrategy#OPTIMIZE_BY_MOVING_TOWARDS_TARGET}.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds, rounded up
+		 * <li>Range: positive; null if the strategy was not tried
+		 * </ul>
+		 */
+		SOLVE_DURATION_MOVING_TOWARDS_TARGET(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The duration needed for trying
+		 * {@link SolverStrategy#OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER}.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds, rounded up
+		 * <li>Range: positive; null if the strategy was not tried
+		 * </ul>
+		 */
+		SOLVE_DURATION_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * The duration needed for trying
+		 * {@link SolverStrategy#OPTIMIZE_BY_KEEPING_ALL_EQUAL}.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Unit: milliseconds, rounded up
+		 * <li>Range: positive; null if the strategy was not tried
+		 * </ul>
+		 */
+		SOLVE_DURATION_KEEPING_ALL_EQUAL(Doc.of(OpenemsType.INTEGER) //
+				.unit(Unit.MILLISECONDS)),
+		/**
+		 * Number of Max/Min-Power requests in the last Cycle that were answered from
+		 * the cache.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		EXTREMA_CACHE_HITS(Doc.of(OpenemsType.INTEGER)),
+		/**
+		 * Number of Max/Min-Power requests in the last Cycle that required solving.
+		 *
+		 * <ul>
+		 * <li>Interface: PowerComponent
+		 * <li>Type: Integer
+		 * <li>Range: positive
+		 * </ul>
+		 */
+		EXTREMA_CACHE_MISSES(Doc.of(OpenemsType.INTEGER)),
 		/**
 		 * Whether the Power problem could be solved.
 		 *
@@ -134,6 +206,66 @@ public interface EssPower extends OpenemsComponent, EventHandler, Power {
 		this.getSolveStrategyChannel().setNextValue(value);
 	}
 
+	/**
+	 * Internal method to set the 'nextValue' on the SOLVE_DURATION Channel of the
+	 * given {@link SolverStrategy}, e.g.
+	 * {@link ChannelId#SOLVE_DURATION_MOVING_TOWARDS_TARGET}.
+	 *
+	 * @param strategy the {@link SolverStrategy}
+	 * @param value    the next value
+	 */
+	public default void _setSolveDuration(SolverStrategy strategy, Integer value) {
+		final var channelId = switch (strategy) {
+		case ALL_CONSTRAINTS -> ChannelId.SOLVE_DURATION_ALL_CONSTRAINTS;
+		case OPTIMIZE_BY_MOVING_TOWARDS_TARGET -> ChannelId.SOLVE_DURATION_MOVING_TOWARDS_TARGET;
+		case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER ->
+			ChannelId.SOLVE_DURATION_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER;
+		case OPTIMIZE_BY_KEEPING_ALL_EQUAL -> ChannelId.SOLVE_DURATION_KEEPING_ALL_EQUAL;
+		case NONE, UNDEFINED -> null;
+		};
+		if (channelId != null) {
+			this.channel(channelId).setNextValue(value);
+		}
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#EXTREMA_CACHE_HITS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getExtremaCacheHitsChannel() {
+		return this.channel(ChannelId.EXTREMA_CACHE_HITS);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#EXTREMA_CACHE_HITS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setExtremaCacheHits(int value) {
+		this.getExtremaCacheHitsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#EXTREMA_CACHE_MISSES}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getExtremaCacheMissesChannel() {
+		return this.channel(ChannelId.EXTREMA_CACHE_MISSES);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#EXTREMA_CACHE_MISSES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setExtremaCacheMisses(int value) {
+		this.getExtremaCacheMissesChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#STATIC_CONSTRAINTS_FAILED}.
 	 *
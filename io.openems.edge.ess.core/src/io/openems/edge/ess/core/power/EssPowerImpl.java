@@ -1,7 +1,5 @@
 package io.openems.edge.ess.core.power;
 
-import java.util.List;
-
 import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -31,7 +29,6 @@ import io.openems.edge.common.filter.PidFilter;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.LogUtil;
-import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Phase;
@@ -49,6 +46,7 @@ import io.openems.edge.ess.power.api.Relationship;
 				"enabled=true" //
 		})
 @EventTopics({ //
+		EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS, //
 		EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE, //
 		EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE //
 })
@@ -61,6 +59,7 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 
 	private final Data data;
 	private final Solver solver;
+	private final PowerExtremaCache extremaCache;
 
 	private boolean debugMode = EssPowerImpl.DEFAULT_DEBUG_MODE;
 
@@ -81,6 +80,9 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 			this._setSolveDuration(duration);
 			this._setSolveStrategy(strategy);
 		});
+		this.solver.onStrategyDuration(this::_setSolveDuration);
+
+		this.extremaCache = new PowerExtremaCache(this.data);
 	}
 
 	@Activate
@@ -195,14 +197,13 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 	}
 
 	private int getActivePowerExtrema(ManagedSymmetricEss ess, Phase phase, Pwr pwr, GoalType goal) {
-		final List<Constraint> allConstraints;
+		final double power;
 		try {
-			allConstraints = this.data.getConstraintsForAllInverters();
+			power = this.extremaCache.get(ess.id(), phase, pwr, goal);
 		} catch (OpenemsException e) {
 			this.logError(this.log, "Unable to get Constraints " + e.getMessage());
 			return 0;
 		}
-		var power = CalculatePowerExtrema.from(this.data.getCoefficients(), allConstraints, ess.id(), phase, pwr, goal);
 		if (power <= Integer.MIN_VALUE || power >= Integer.MAX_VALUE) {
 			this.logError(this.log, goal.name() + " Power for [" + ess.toString() + "," + phase.toString() + ","
 					+ pwr.toString() + "=" + power + "] is out of bounds. Returning '0'");
@@ -217,10 +218,16 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 	@Override
 	public void handleEvent(Event event) {
 		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS:
+			// Ess Channel values for generic Constraints were updated
+			this.data.invalidate();
+			break;
 		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE:
 			this.solver.solve(this.config.strategy());
 			break;
 		case EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE:
+			this._setExtremaCacheHits(this.extremaCache.getAndResetHits());
+			this._setExtremaCacheMisses(this.extremaCache.getAndResetMisses());
 			this.data.initializeCycle();
 			break;
 		}
@@ -0,0 +1,105 @@
+package io.openems.edge.ess.core.power;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.math3.optim.linear.LinearConstraintSet;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
+import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+
+/**
+ * Memoizes the results of {@link CalculatePowerExtrema} as long as the
+ * {@link Data#getVersion()} does not change, i.e. until a Constraint is added
+ * or removed or a new Cycle starts.
+ *
+ * <p>
+ * Controllers typically ask for both the maximum and the minimum power of an
+ * Ess; on a miss both are calculated together under the same converted
+ * Constraints.
+ */
+public class PowerExtremaCache {
+
+	private static record Key(String essId, Phase phase, Pwr pwr, GoalType goal) {
+	}
+
+	private final Data data;
+	private final Map<Key, Double> values = new HashMap<>();
+
+	private long version = -1;
+	private LinearConstraintSet constraints = null;
+	private int hits = 0;
+	private int misses = 0;
+
+	public PowerExtremaCache(Data data) {
+		this.data = data;
+	}
+
+	/**
+	 * Gets the extrema under the current Constraints for the given parameters.
+	 *
+	 * @param essId the ID of the {@link ManagedSymmetricEss}
+	 * @param phase the {@link Phase}
+	 * @param pwr   the {@link Pwr}
+	 * @param goal  the {@link GoalType}
+	 * @return the extrema value; or 0 on error
+	 * @throws OpenemsException if the Constraints could not be created
+	 */
+	public synchronized double get(String essId, Phase phase, Pwr pwr, GoalType goal) throws OpenemsException {
+		final var version = this.data.getVersion();
+		if (version != this.version) {
+			this.values.clear();
+			this.constraints = null;
+			this.version = version;
+		}
+
+		var value = this.values.get(new Key(essId, phase, pwr, goal));
+		if (value != null) {
+			this.hits++;
+			return value;
+		}
+
+		this.misses++;
+		if (this.constraints == null) {
+			final var coefficients = this.data.getCoefficients();
+			this.constraints = new LinearConstraintSet(LinearSolverUtil.convertToLinearConstraints(coefficients,
+					this.data.getConstraintsForAllInverters()));
+		}
+		for (var g : GoalType.values()) {
+			var v = CalculatePowerExtrema.from(this.data.getCoefficients(), this.constraints, essId, phase, pwr, g);
+			this.values.put(new Key(essId, phase, pwr, g), v);
+			if (g == goal) {
+				value = v;
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Gets the number of cache hits since the last call and resets it.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized int getAndResetHits() {
+		var result = this.hits;
+		this.hits = 0;
+		return result;
+	}
+
+	/**
+	 * Gets the number of cache misses since the last call and resets it.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized int getAndResetMisses() {
+		var result = this.misses;
+		this.misses = 0;
+		return result;
+	}
+
+}
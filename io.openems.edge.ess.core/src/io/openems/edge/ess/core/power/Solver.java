@@ -1,13 +1,16 @@
 package io.openems.edge.ess.core.power;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.LinearConstraint;
 import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
 import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 import org.slf4j.Logger;
@@ -15,11 +18,12 @@ import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
-import io.openems.common.function.ThrowingFunction;
 import io.openems.edge.ess.api.ManagedAsymmetricEss;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.api.MetaEss;
+import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.InverterPrecision;
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
 import io.openems.edge.ess.core.power.data.LogUtil;
 import io.openems.edge.ess.core.power.data.TargetDirection;
 import io.openems.edge.ess.core.power.optimizers.AddConstraintsForNotStrictlyDefinedCoefficients;
@@ -28,6 +32,7 @@ import io.openems.edge.ess.core.power.optimizers.KeepTargetDirectionAndMaximizeI
 import io.openems.edge.ess.core.power.optimizers.MoveTowardsTarget;
 import io.openems.edge.ess.core.power.optimizers.Optimizers;
 import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.core.power.solver.LinearConstraintsSolver;
 import io.openems.edge.ess.core.power.solver.PowerTuple;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Inverter;
@@ -47,25 +52,11 @@ public class Solver {
 	private boolean debugMode = EssPower.DEFAULT_DEBUG_MODE;
 	private OnSolved onSolvedCallback = (isSolved, duration, strategy) -> {
 	};
-
-	private final ThrowingFunction<List<Inverter>, PointValuePair, Exception> solveWithDisabledInverters;
+	private BiConsumer<SolverStrategy, Integer> onStrategyDurationCallback = (strategy, duration) -> {
+	};
 
 	public Solver(Data data) {
 		this.data = data;
-
-		/**
-		 * Solves the problem, while setting all DisabledInverters to EQUALS zero.
-		 *
-		 * @param disabledInverters a list of disabled inverters
-		 * @return a solution
-		 * @throws NoFeasibleSolutionException if not solvable
-		 * @throws UnboundedSolutionException  if not solvable
-		 * @throws OpenemsException
-		 */
-		this.solveWithDisabledInverters = disabledInverters -> {
-			var constraints = this.data.getConstraintsWithoutDisabledInverters(disabledInverters);
-			return ConstraintSolver.solve(this.data.getCoefficients(), constraints);
-		};
 	}
 
 	/**
@@ -77,6 +68,37 @@ public class Solver {
 		this.onSolvedCallback = onSolvedCallback;
 	}
 
+	/**
+	 * Adds a callback that receives the duration of every {@link SolverStrategy}
+	 * in milliseconds, rounded up so that a tried strategy is never reported as
+	 * zero; or null if the strategy was not tried in this Cycle.
+	 *
+	 * @param onStrategyDurationCallback the Callback
+	 */
+	public void onStrategyDuration(BiConsumer<SolverStrategy, Integer> onStrategyDurationCallback) {
+		this.onStrategyDurationCallback = onStrategyDurationCallback;
+	}
+
+	/**
+	 * Solves the problem, while setting all DisabledInverters to EQUALS zero.
+	 *
+	 * @param linearConstraintsForAllInverters the {@link LinearConstraint}s for all
+	 *                                         Inverters
+	 * @param disabledInverters                a list of disabled inverters
+	 * @return a solution
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 * @throws OpenemsException            on error
+	 */
+	protected PointValuePair solveWithDisabledInverters(List<LinearConstraint> linearConstraintsForAllInverters,
+			List<Inverter> disabledInverters) throws OpenemsException {
+		var coefficients = this.data.getCoefficients();
+		var linearConstraints = LinearSolverUtil.convertToLinearConstraints(coefficients,
+				ConstraintUtil.createDisableConstraintsForInactiveInverters(coefficients, disabledInverters));
+		linearConstraints.addAll(linearConstraintsForAllInverters);
+		return LinearConstraintsSolver.solve(coefficients, linearConstraints);
+	}
+
 	/**
 	 * Tests whether the Problem is solvable under the current Constraints.
 	 *
@@ -127,12 +149,17 @@ public class Solver {
 		var allInverters = this.data.getInverters();
 
 		var solution = new SolveSolution(SolverStrategy.NONE, null);
+		final var strategyDurations = new EnumMap<SolverStrategy, Integer>(SolverStrategy.class);
 
 		List<Constraint> allConstraints = new ArrayList<>();
 		TargetDirection targetDirection = null;
 		try {
-			// Check if the Problem is solvable at all.
-			allConstraints = this.data.getConstraintsForAllInverters();
+			// Constraints for all Inverters are created and converted only once per
+			// Cycle and shared by all following solving attempts
+			final var constraintsForAllInverters = this.data.getConstraintsForAllInverters();
+			final var linearConstraintsForAllInverters = LinearSolverUtil
+					.convertToLinearConstraints(this.data.getCoefficients(), constraintsForAllInverters);
+			allConstraints = new ArrayList<>(constraintsForAllInverters);
 
 			// Add Strict constraints if required
 			AddConstraintsForNotStrictlyDefinedCoefficients.apply(allInverters, this.data.getCoefficients(),
@@ -152,36 +179,38 @@ public class Solver {
 			targetDirection = TargetDirection.from(//
 					this.data.getInverters(), //
 					this.data.getCoefficients(), //
-					this.data.getConstraintsForAllInverters() //
+					new ArrayList<>(constraintsForAllInverters) //
 			);
 
 			// Gets the target-Inverters, i.e. the Inverters that are minimally required to
 			// solve the Problem.
 			var targetInverters = this.optimizers.reduceNumberOfUsedInverters.apply(allInverters, targetDirection,
-					this.solveWithDisabledInverters);
+					disabledInverters -> this.solveWithDisabledInverters(linearConstraintsForAllInverters,
+							disabledInverters));
 
 			switch (strategy) {
 			case UNDEFINED:
 			case ALL_CONSTRAINTS:
 			case NONE:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints);
+				solution = this.tryStrategies(strategyDurations, targetDirection, allInverters, targetInverters,
+						allConstraints);
 				break;
 
 			case OPTIMIZE_BY_MOVING_TOWARDS_TARGET:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET,
+				solution = this.tryStrategies(strategyDurations, targetDirection, allInverters, targetInverters,
+						allConstraints, SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET,
 						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER);
 				break;
 
 			case OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
+				solution = this.tryStrategies(strategyDurations, targetDirection, allInverters, targetInverters,
+						allConstraints, SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
 						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
 				break;
 
 			case OPTIMIZE_BY_KEEPING_ALL_EQUAL:
-				solution = this.tryStrategies(targetDirection, allInverters, targetInverters, allConstraints,
-						SolverStrategy.OPTIMIZE_BY_KEEPING_ALL_EQUAL,
+				solution = this.tryStrategies(strategyDurations, targetDirection, allInverters, targetInverters,
+						allConstraints, SolverStrategy.OPTIMIZE_BY_KEEPING_ALL_EQUAL,
 						SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER,
 						SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
 				break;
@@ -204,6 +233,9 @@ public class Solver {
 		// announce success/failure
 		var isSolved = solution.getPoints() != null;
 		this.onSolvedCallback.accept(isSolved, duration, solution.getSolvedBy());
+		for (var s : SolverStrategy.values()) {
+			this.onStrategyDurationCallback.accept(s, strategyDurations.get(s));
+		}
 
 		// Apply final Solution to Inverters
 		if (isSolved) {
@@ -226,19 +258,22 @@ public class Solver {
 	 * Tries different solving strategies in order. 'ALL_CONSTRAINTS' is always
 	 * tried last if everything else failed. Returns as soon as a result is found.
 	 *
-	 * @param targetDirection the target direction
-	 * @param allInverters    a list of all inverters
-	 * @param targetInverters a list of target inverters
-	 * @param allConstraints  a list of all Constraints
-	 * @param strategies      an array of SolverStrategies
+	 * @param strategyDurations collects the duration of each tried strategy in
+	 *                          milliseconds, rounded up
+	 * @param targetDirection   the target direction
+	 * @param allInverters      a list of all inverters
+	 * @param targetInverters   a list of target inverters
+	 * @param allConstraints    a list of all Constraints
+	 * @param strategies        an array of SolverStrategies
 	 * @return a Solution
 	 * @throws OpenemsException on error
 	 */
-	private SolveSolution tryStrategies(TargetDirection targetDirection, List<Inverter> allInverters,
-			List<Inverter> targetInverters, List<Constraint> allConstraints, SolverStrategy... strategies)
-			throws OpenemsException {
+	private SolveSolution tryStrategies(Map<SolverStrategy, Integer> strategyDurations,
+			TargetDirection targetDirection, List<Inverter> allInverters, List<Inverter> targetInverters,
+			List<Constraint> allConstraints, SolverStrategy... strategies) throws OpenemsException {
 		PointValuePair solution = null;
 		for (SolverStrategy strategy : strategies) {
+			final var startTime = System.nanoTime();
 			switch (strategy) {
 			case UNDEFINED:
 			case NONE:
@@ -258,19 +293,26 @@ public class Solver {
 				solution = KeepAllEqual.apply(this.data.getCoefficients(), allInverters, allConstraints);
 				break;
 			}
+			strategyDurations.put(strategy, toMillisRoundedUp(System.nanoTime() - startTime));
 
 			if (solution != null) {
 				return new SolveSolution(strategy, solution);
 			}
 		}
 		// no strategy was successful -> try allConstraints
+		final var startTime = System.nanoTime();
 		solution = ConstraintSolver.solve(this.data.getCoefficients(), allConstraints);
+		strategyDurations.put(SolverStrategy.ALL_CONSTRAINTS, toMillisRoundedUp(System.nanoTime() - startTime));
 		if (solution != null) {
 			return new SolveSolution(SolverStrategy.ALL_CONSTRAINTS, solution);
 		}
 		return new SolveSolution(SolverStrategy.NONE, null);
 	}
 
+	private static int toMillisRoundedUp(long nanos) {
+		return (int) ((nanos + 999_999) / 1_000_000);
+	}
+
 	private Map<Inverter, PowerTuple> getZeroSolution(List<Inverter> allInverters) {
 		Map<Inverter, PowerTuple> result = new HashMap<>();
 		for (Inverter inv : allInverters) {
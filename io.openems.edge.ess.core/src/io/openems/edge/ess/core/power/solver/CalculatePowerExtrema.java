@@ -38,6 +38,29 @@ public class CalculatePowerExtrema {
 	 */
 	public static double from(Coefficients coefficients, List<Constraint> allConstraints, String essId, Phase phase,
 			Pwr pwr, GoalType goal) {
+		var constraints = new LinearConstraintSet(
+				LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints));
+		return from(coefficients, constraints, essId, phase, pwr, goal);
+	}
+
+	/**
+	 * Calculates the extrema under the given, already converted constraints for
+	 * the given parameters.
+	 *
+	 * <p>
+	 * Use this method to calculate multiple extrema under the same constraints
+	 * without converting them again.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @param constraints  the {@link LinearConstraintSet}
+	 * @param essId        the ID of the {@link ManagedSymmetricEss}
+	 * @param phase        the {@link Phase}
+	 * @param pwr          the {@link Pwr}
+	 * @param goal         the {@link GoalType}
+	 * @return the extrema value; or 0 on error
+	 */
+	public static double from(Coefficients coefficients, LinearConstraintSet constraints, String essId, Phase phase,
+			Pwr pwr, GoalType goal) {
 		// prepare objective function
 		int index;
 		try {
@@ -50,9 +73,6 @@ public class CalculatePowerExtrema {
 		cos[index] = 1;
 		var objectiveFunction = new LinearObjectiveFunction(cos, 0);
 
-		var constraints = new LinearConstraintSet(
-				LinearSolverUtil.convertToLinearConstraints(coefficients, allConstraints));
-
 		var solver = new SimplexSolver();
 		try {
 			var solution = solver.optimize(//
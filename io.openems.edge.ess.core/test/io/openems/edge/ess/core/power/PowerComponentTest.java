@@ -1,6 +1,8 @@
 package io.openems.edge.ess.core.power;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -8,6 +10,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.test.AbstractComponentTest.TestCase;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyConfigurationAdmin;
@@ -524,6 +527,47 @@ public class PowerComponentTest {
 		componentTest.next(new TestCase("#1"));
 	}
 
+	@Test
+	public void testSolveDurationChannels() throws Exception {
+		EssPower powerComponent = new EssPowerImpl();
+		var ess0 = new DummyManagedSymmetricEss("ess0") //
+				.setPower(powerComponent) //
+				.withAllowedChargePower(-50000) //
+				.withAllowedDischargePower(50000) //
+				.withMaxApparentPower(12000) //
+				.withSoc(30);
+
+		final var cm = new DummyConfigurationAdmin();
+		cm.getOrCreateEmptyConfiguration(EssPower.SINGLETON_SERVICE_PID);
+
+		final var componentTest = new ComponentTest(powerComponent) //
+				.addReference("cm", cm) //
+				.addReference("addEss", ess0) //
+				.activate(MyConfig.create() //
+						.setStrategy(SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET) //
+						.setSymmetricMode(true) //
+						.setDebugMode(false) //
+						.setEnablePid(false) //
+						.build()); //
+
+		expect("#1", ess0, 5000, 3000);
+		ess0.addPowerConstraint("", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 5000);
+		ess0.addPowerConstraint("", Phase.ALL, Pwr.REACTIVE, Relationship.EQUALS, 3000);
+		componentTest.next(new TestCase());
+
+		// Only the strategy that solved the problem was tried
+		assertTrue(solveDuration(powerComponent, EssPower.ChannelId.SOLVE_DURATION_MOVING_TOWARDS_TARGET) > 0);
+		assertNull(solveDuration(powerComponent,
+				EssPower.ChannelId.SOLVE_DURATION_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER));
+		assertNull(solveDuration(powerComponent, EssPower.ChannelId.SOLVE_DURATION_KEEPING_ALL_EQUAL));
+		assertNull(solveDuration(powerComponent, EssPower.ChannelId.SOLVE_DURATION_ALL_CONSTRAINTS));
+	}
+
+	private static Integer solveDuration(EssPower powerComponent, EssPower.ChannelId channelId) {
+		IntegerReadChannel channel = powerComponent.channel(channelId);
+		return channel.getNextValue().get();
+	}
+
 	private static void expect(String description, DummyManagedSymmetricEss ess, int p, int q) {
 		openCallbacks.incrementAndGet();
 		ess.withSymmetricApplyPowerCallback(record -> {
@@ -0,0 +1,47 @@
+package io.openems.edge.ess.core.power;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.junit.Test;
+
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+
+public class PowerExtremaCacheTest {
+
+	@Test
+	public void test() throws Exception {
+		var ess0 = new DummyManagedSymmetricEss("ess0") //
+				.setPower(new EssPowerImpl()) //
+				.withAllowedChargePower(-5000) //
+				.withAllowedDischargePower(5000) //
+				.withMaxApparentPower(12000) //
+				.withSoc(30);
+		var data = new Data();
+		data.addEss(ess0);
+		data.initializeCycle();
+		var sut = new PowerExtremaCache(data);
+
+		// Max and Min are calculated together
+		assertEquals(5000, sut.get("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+		assertEquals(-5000, sut.get("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MINIMIZE), 0.001);
+		assertEquals(1, sut.getAndResetMisses());
+		assertEquals(1, sut.getAndResetHits());
+
+		// Adding a Constraint invalidates the cache
+		data.addSimpleConstraint("Max 3000", "ess0", Phase.ALL, Pwr.ACTIVE, Relationship.LESS_OR_EQUALS, 3000);
+		assertEquals(3000, sut.get("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+		assertEquals(1, sut.getAndResetMisses());
+
+		// New Cycle
+		data.initializeCycle();
+		assertEquals(5000, sut.get("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+		assertEquals(5000, sut.get("ess0", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+		assertEquals(1, sut.getAndResetMisses());
+		assertEquals(1, sut.getAndResetHits());
+	}
+
+}
@@ -0,0 +1,119 @@
+package io.openems.edge.ess.core.power;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
+import io.openems.edge.ess.core.power.solver.ConstraintSolver;
+import io.openems.edge.ess.power.api.Inverter;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+import io.openems.edge.ess.power.api.SolverStrategy;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+import io.openems.edge.ess.test.DummyMetaEss;
+
+public class SolverTest {
+
+	private Data data;
+
+	@Before
+	public void before() {
+		EssPower powerComponent = new EssPowerImpl();
+		var ess1 = new DummyManagedSymmetricEss("ess1") //
+				.setPower(powerComponent) //
+				.withAllowedChargePower(-50000) //
+				.withAllowedDischargePower(50000) //
+				.withMaxApparentPower(12000) //
+				.withSoc(30);
+		var ess2 = new DummyManagedSymmetricEss("ess2") //
+				.setPower(powerComponent) //
+				.withAllowedChargePower(-50000) //
+				.withAllowedDischargePower(50000) //
+				.withMaxApparentPower(12000) //
+				.withSoc(60);
+		var ess0 = new DummyMetaEss("ess0", ess1, ess2) //
+				.setPower(powerComponent);
+
+		this.data = new Data();
+		this.data.addEss(ess0);
+		this.data.addEss(ess1);
+		this.data.addEss(ess2);
+		this.data.setSymmetricMode(true);
+		this.data.initializeCycle();
+	}
+
+	@Test
+	public void testSolveWithDisabledInverters() throws Exception {
+		this.data.addSimpleConstraint("#1", "ess0", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 5000);
+		var sut = new Solver(this.data);
+		var coefficients = this.data.getCoefficients();
+		var linearConstraintsForAllInverters = LinearSolverUtil.convertToLinearConstraints(coefficients,
+				this.data.getConstraintsForAllInverters());
+
+		var inverters = this.data.getInverters();
+		for (var disabledInverters : List.<List<Inverter>>of(//
+				List.of(), //
+				List.of(inverters.get(0)), //
+				List.of(inverters.get(1)), //
+				inverters)) {
+			PointValuePair expected;
+			try {
+				expected = ConstraintSolver.solve(coefficients,
+						this.data.getConstraintsWithoutDisabledInverters(disabledInverters));
+			} catch (NoFeasibleSolutionException e) {
+				expected = null;
+			}
+			PointValuePair actual;
+			try {
+				actual = sut.solveWithDisabledInverters(new ArrayList<>(linearConstraintsForAllInverters),
+						disabledInverters);
+			} catch (NoFeasibleSolutionException e) {
+				actual = null;
+			}
+
+			var description = "Disabled " + disabledInverters;
+			if (expected == null) {
+				assertNull(description, actual);
+			} else {
+				assertNotNull(description, actual);
+				assertArrayEquals(description, expected.getPoint(), actual.getPoint(), 0.001);
+				assertEquals(description, expected.getValue(), actual.getValue(), 0.001);
+			}
+		}
+	}
+
+	@Test
+	public void testStrategyDurations() throws Exception {
+		this.data.addSimpleConstraint("#1", "ess0", Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 5000);
+		var sut = new Solver(this.data);
+		var durations = new EnumMap<SolverStrategy, Integer>(SolverStrategy.class);
+		sut.onStrategyDuration(durations::put);
+		var solvedBy = new SolverStrategy[1];
+		sut.onSolved((isSolved, duration, strategy) -> solvedBy[0] = strategy);
+
+		sut.solve(SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET);
+
+		assertEquals(SolverStrategy.values().length, durations.size());
+		assertEquals(SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET, solvedBy[0]);
+		assertTrue(durations.get(SolverStrategy.OPTIMIZE_BY_MOVING_TOWARDS_TARGET) > 0);
+		assertNull(durations.get(SolverStrategy.OPTIMIZE_BY_KEEPING_TARGET_DIRECTION_AND_MAXIMIZING_IN_ORDER));
+		assertNull(durations.get(SolverStrategy.OPTIMIZE_BY_KEEPING_ALL_EQUAL));
+		assertNull(durations.get(SolverStrategy.ALL_CONSTRAINTS));
+		assertNull(durations.get(SolverStrategy.NONE));
+		assertNull(durations.get(SolverStrategy.UNDEFINED));
+	}
+
+}
@@ -1,9 +1,11 @@
 package io.openems.edge.meter.api;
 
+import io.openems.edge.common.cycle.ProcessImageDependent;
+
 /**
  * A VirtualMeter is a meter that does not exist physically.
  */
-public interface VirtualMeter extends ElectricityMeter {
+public interface VirtualMeter extends ElectricityMeter, ProcessImageDependent {
 
 	/**
 	 * Whether or not to add the values of this meter to Sum.
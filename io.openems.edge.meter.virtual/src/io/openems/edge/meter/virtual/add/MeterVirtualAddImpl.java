@@ -97,6 +97,11 @@ public class MeterVirtualAddImpl extends AbstractOpenemsComponent
 		return this.config.addToSum();
 	}
 
+	@Override
+	public String[] getProcessImageInputIds() {
+		return this.config.meterIds();
+	}
+
 	@Override
 	public String debugLog() {
 		return this.getActivePower().asString();
@@ -1,6 +1,7 @@
 package io.openems.edge.meter.virtual.subtract;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -103,6 +104,12 @@ public class VirtualSubtractMeterImpl extends AbstractOpenemsComponent
 		return this.config.addToSum();
 	}
 
+	@Override
+	public String[] getProcessImageInputIds() {
+		return Stream.concat(Stream.of(this.config.minuend_id()), Stream.of(this.config.subtrahends_ids())) //
+				.toArray(String[]::new);
+	}
+
 	@Override
 	public ModbusSlaveTable getModbusSlaveTable(AccessMode accessMode) {
 		return new ModbusSlaveTable(//
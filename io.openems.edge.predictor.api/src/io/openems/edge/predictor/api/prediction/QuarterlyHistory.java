@@ -0,0 +1,166 @@
+package io.openems.edge.predictor.api.prediction;
+
+import static io.openems.common.utils.DateUtils.roundDownToQuarter;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.timedata.HistoricData;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Caches the quarterly historic values of Channels for Predictors.
+ *
+ * <p>
+ * Per {@link ChannelAddress} the values of the last completed quarters are kept
+ * in a primitive int-array. Once the full history was queried, only the
+ * quarters that passed since the last call are queried from the
+ * {@link Source}. The most recent cached quarter and all missing quarters at
+ * the end of the cached history are queried again, in case they were not yet
+ * completely persisted.
+ */
+public class QuarterlyHistory {
+
+	/** Marks a missing value. */
+	public static final int NULL = Integer.MIN_VALUE;
+
+	/** Query the most recent cached quarters again. */
+	private static final int REFRESH_QUARTERS = 1;
+
+	private static final long SECONDS_PER_QUARTER = 15 * 60;
+
+	@FunctionalInterface
+	public interface Source {
+
+		/**
+		 * Queries historic data in quarterly resolution, e.g. from a Timedata
+		 * service.
+		 *
+		 * @param channelAddress the {@link ChannelAddress}
+		 * @param fromDate       the start date, inclusive
+		 * @param toDate         the end date, exclusive
+		 * @return the query result; possibly null
+		 * @throws OpenemsNamedException on error
+		 */
+		public HistoricData query(ChannelAddress channelAddress, ZonedDateTime fromDate, ZonedDateTime toDate)
+				throws OpenemsNamedException;
+	}
+
+	private static class Entry {
+		/** Values in chronological order. */
+		private final int[] values;
+		/** The end of the last value; exclusive. */
+		private ZonedDateTime end = null;
+
+		private Entry(int quarters) {
+			this.values = new int[quarters];
+		}
+	}
+
+	private final Source source;
+	private final Map<ChannelAddress, Entry> entries = new HashMap<>();
+
+	public QuarterlyHistory(Source source) {
+		this.source = source;
+	}
+
+	/**
+	 * Gets the values of the completed quarters before the given time.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param now            the current time; rounded down to the quarter
+	 * @param quarters       the number of quarters
+	 * @return a new array with the values in chronological order; {@link #NULL}
+	 *         for missing values
+	 * @throws OpenemsNamedException on error
+	 */
+	public synchronized int[] get(ChannelAddress channelAddress, ZonedDateTime now, int quarters)
+			throws OpenemsNamedException {
+		var end = roundDownToQuarter(now);
+		var entry = this.entries.get(channelAddress);
+		if (entry == null || entry.values.length < quarters) {
+			entry = new Entry(quarters);
+			this.entries.put(channelAddress, entry);
+		}
+		var values = entry.values;
+
+		final int offset; // the index of the first queried quarter
+		if (entry.end == null || end.isBefore(entry.end)) {
+			offset = 0;
+		} else {
+			var passed = Duration.between(entry.end, end).toSeconds() / SECONDS_PER_QUARTER;
+			if (passed + REFRESH_QUARTERS >= values.length) {
+				offset = 0;
+			} else {
+				// Roll the history
+				var shift = (int) passed;
+				System.arraycopy(values, shift, values, 0, values.length - shift);
+				var refresh = values.length - shift - REFRESH_QUARTERS;
+				// Query missing quarters at the end again
+				while (refresh > 0 && values[refresh - 1] == NULL) {
+					refresh--;
+				}
+				offset = refresh;
+			}
+		}
+
+		Arrays.fill(values, offset, values.length, NULL);
+		var fromDate = end.minus((values.length - offset) * SECONDS_PER_QUARTER, ChronoUnit.SECONDS);
+		final HistoricData result;
+		try {
+			result = this.source.query(channelAddress, fromDate, end);
+		} catch (OpenemsNamedException e) {
+			// Query everything on next call
+			entry.end = null;
+			throw e;
+		}
+		if (result != null) {
+			for (var i = 0; i < result.size(); i++) {
+				var index = offset + (int) Math.floorDiv(
+						Duration.between(fromDate, result.getTimestamp(i)).toSeconds(), SECONDS_PER_QUARTER);
+				var value = result.getDouble(channelAddress, i);
+				if (index >= offset && index < values.length && !Double.isNaN(value)) {
+					values[index] = (int) Math.round(value);
+				}
+			}
+		}
+		entry.end = end;
+
+		return Arrays.copyOfRange(values, values.length - quarters, values.length);
+	}
+
+	/**
+	 * Is every value {@link #NULL}?.
+	 *
+	 * @param values the values
+	 * @return true if no value is available
+	 */
+	public static boolean isEmpty(int[] values) {
+		for (var value : values) {
+			if (value != NULL) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Converts values to an Integer-Array, e.g. to create a {@link Prediction}.
+	 *
+	 * @param values the values; {@link #NULL} for missing values
+	 * @return the Integer-Array; null for missing values
+	 */
+	public static Integer[] toIntegerArray(int[] values) {
+		var result = new Integer[values.length];
+		for (var i = 0; i < values.length; i++) {
+			result[i] = values[i] == NULL ? null : values[i];
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,103 @@
+package io.openems.edge.predictor.api.prediction;
+
+import static io.openems.edge.predictor.api.prediction.QuarterlyHistory.NULL;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.timedata.HistoricData;
+import io.openems.common.types.ChannelAddress;
+
+public class QuarterlyHistoryTest {
+
+	private static final ChannelAddress CHANNEL = new ChannelAddress("meter0", "ActivePower");
+	private static final ZonedDateTime START = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	/**
+	 * Simulates a Timedata with value = number of quarter since {@link #START}
+	 * plus 0.4; the 5th quarter and all quarters from {@link #persistedUntil} on
+	 * are missing.
+	 */
+	private static class Source implements QuarterlyHistory.Source {
+
+		private final List<ZonedDateTime[]> queries = new ArrayList<>();
+		private int persistedUntil = Integer.MAX_VALUE;
+
+		@Override
+		public HistoricData query(ChannelAddress channelAddress, ZonedDateTime fromDate, ZonedDateTime toDate) {
+			this.queries.add(new ZonedDateTime[] { fromDate, toDate });
+			var result = HistoricData.create(fromDate.getZone());
+			for (var time = fromDate; time.isBefore(toDate); time = time.plusMinutes(15)) {
+				var quarter = (int) (time.toEpochSecond() - START.toEpochSecond()) / 900;
+				result.put(time, channelAddress, quarter == 5 || quarter >= this.persistedUntil //
+						? Double.NaN //
+						: quarter + 0.4);
+			}
+			return result.build();
+		}
+	}
+
+	@Test
+	public void testGet() throws Exception {
+		var source = new Source();
+		var sut = new QuarterlyHistory(source);
+
+		// Full query
+		assertArrayEquals(new int[] { 2, 3, 4, NULL }, sut.get(CHANNEL, START.plusMinutes(6 * 15 + 7), 4));
+		assertEquals(1, source.queries.size());
+		assertEquals(START.plusMinutes(2 * 15), source.queries.get(0)[0]);
+		assertEquals(START.plusMinutes(6 * 15), source.queries.get(0)[1]);
+
+		// Same quarter: only the last quarter is queried again
+		assertArrayEquals(new int[] { 2, 3, 4, NULL }, sut.get(CHANNEL, START.plusMinutes(6 * 15 + 14), 4));
+		assertEquals(START.plusMinutes(5 * 15), source.queries.get(1)[0]);
+
+		// Two quarters later: incremental
+		assertArrayEquals(new int[] { 4, NULL, 6, 7 }, sut.get(CHANNEL, START.plusMinutes(8 * 15), 4));
+		assertEquals(START.plusMinutes(5 * 15), source.queries.get(2)[0]);
+		assertEquals(START.plusMinutes(8 * 15), source.queries.get(2)[1]);
+
+		// Shorter
+		assertArrayEquals(new int[] { 6, 7 }, sut.get(CHANNEL, START.plusMinutes(8 * 15), 2));
+
+		// Far later: full query
+		assertArrayEquals(new int[] { 16, 17, 18, 19 }, sut.get(CHANNEL, START.plusMinutes(20 * 15), 4));
+		assertEquals(START.plusMinutes(16 * 15), source.queries.get(4)[0]);
+
+		// Longer: full query
+		assertArrayEquals(new int[] { 14, 15, 16, 17, 18, 19 }, sut.get(CHANNEL, START.plusMinutes(20 * 15), 6));
+		assertEquals(START.plusMinutes(14 * 15), source.queries.get(5)[0]);
+	}
+
+	@Test
+	public void testRequeryMissingQuarters() throws Exception {
+		var source = new Source();
+		var sut = new QuarterlyHistory(source);
+
+		// Quarters 8 and 9 are not yet persisted
+		source.persistedUntil = 8;
+		assertArrayEquals(new int[] { 6, 7, NULL, NULL }, sut.get(CHANNEL, START.plusMinutes(10 * 15), 4));
+
+		// One quarter later: missing quarters are queried again
+		source.persistedUntil = Integer.MAX_VALUE;
+		assertArrayEquals(new int[] { 7, 8, 9, 10 }, sut.get(CHANNEL, START.plusMinutes(11 * 15), 4));
+		assertEquals(START.plusMinutes(8 * 15), source.queries.get(1)[0]);
+		assertEquals(START.plusMinutes(11 * 15), source.queries.get(1)[1]);
+	}
+
+	@Test
+	public void testIsEmpty() {
+		assertTrue(QuarterlyHistory.isEmpty(new int[] { NULL, NULL }));
+		assertFalse(QuarterlyHistory.isEmpty(new int[] { NULL, 0 }));
+		assertArrayEquals(new Integer[] { null, 0 }, QuarterlyHistory.toIntegerArray(new int[] { NULL, 0 }));
+	}
+
+}
@@ -4,12 +4,6 @@ import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTI
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
-import java.util.SortedMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.IntStream;
 
 import org.apache.commons.math3.stat.regression.SimpleRegression;
 import org.osgi.service.component.ComponentContext;
@@ -22,11 +16,7 @@ import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
-import com.google.common.collect.Streams;
-import com.google.common.util.concurrent.AtomicDouble;
-import com.google.gson.JsonElement;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.timedata.Resolution;
@@ -39,6 +29,7 @@ import io.openems.edge.controller.api.Controller;
 import io.openems.edge.predictor.api.prediction.AbstractPredictor;
 import io.openems.edge.predictor.api.prediction.Prediction;
 import io.openems.edge.predictor.api.prediction.Predictor;
+import io.openems.edge.predictor.api.prediction.QuarterlyHistory;
 import io.openems.edge.timedata.api.Timedata;
 
 @Designate(ocd = Config.class, factory = true)
@@ -58,6 +49,8 @@ public class PredictorPersistenceModelImpl extends AbstractPredictor implements
 	/** Apply smooth factor on that many quarters. */
 	private static final int SMOOTH_APPLY_QUARTERS = 3 /* hours */ * 4 /* quarters */;
 
+	private static final int QUARTERS_PER_DAY = 24 * 4;
+
 	private static final int EXTRA_QUERY_QUARTERS = Math.max(SMOOTH_QUERY_QUARTERS, REGRESSION_QUERY_QUARTERS);
 
 	private final Logger log = LoggerFactory.getLogger(PredictorPersistenceModelImpl.class);
@@ -71,6 +64,10 @@ public class PredictorPersistenceModelImpl extends AbstractPredictor implements
 	@Reference
 	private ComponentManager componentManager;
 
+	private final QuarterlyHistory history = new QuarterlyHistory(
+			(channelAddress, fromDate, toDate) -> this.timedata.queryHistoricDataColumnar(null, fromDate, toDate,
+					Sets.newHashSet(channelAddress), new Resolution(15, ChronoUnit.MINUTES)));
+
 	public PredictorPersistenceModelImpl() throws OpenemsNamedException {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -94,103 +91,103 @@ public class PredictorPersistenceModelImpl extends AbstractPredictor implements
 	@Override
 	protected Prediction createNewPrediction(ChannelAddress channelAddress) {
 		var now = ZonedDateTime.now(this.componentManager.getClock());
-		var fromDate = now.minus(24 * 60 + EXTRA_QUERY_QUARTERS * 15, ChronoUnit.MINUTES);
 
-		// Query database
-		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
+		// Query completed quarters of the last day; from cache
+		final int[] data;
 		try {
-			queryResult = this.timedata.queryHistoricData(null, fromDate, now, Sets.newHashSet(channelAddress),
-					new Resolution(15, ChronoUnit.MINUTES));
+			data = this.history.get(channelAddress, now, QUARTERS_PER_DAY + EXTRA_QUERY_QUARTERS);
 		} catch (OpenemsNamedException e) {
 			this.logError(this.log, "Historic data is not available: " + e.getMessage());
 			e.printStackTrace();
 			return EMPTY_PREDICTION;
 		}
-		if (queryResult == null) {
-			this.logError(this.log, "Historic data is not available: query result is null");
-			return EMPTY_PREDICTION;
-		}
-		// Extract data
-		var data = queryResult.values().stream() //
-				.map(SortedMap::values) //
-				// extract JsonElement values as flat stream
-				.flatMap(Collection::stream) //
-				// convert JsonElement to Integer
-				.map(v -> {
-					if (v.isJsonNull()) {
-						return (Integer) null;
-					}
-					return v.getAsInt();
-				}).toList();
-		if (data.isEmpty()) {
+		if (QuarterlyHistory.isEmpty(data)) {
 			this.logError(this.log, "Historic data is not available: query result is empty");
 			return EMPTY_PREDICTION;
 		}
 
-		// Apply regression for ultra-short-term prediction
-		final var regression = this.getRegressionPrediction(data);
-
-		final var factor = this.getSmoothFactor(data);
-
+		final var factor = getSmoothFactor(data);
 		final double reduce = -1. / SMOOTH_APPLY_QUARTERS;
-		final var i = new AtomicDouble(1.);
+		var reduceFactor = 1.;
 
 		// Prepare and return result
-		var result = Streams.concat(//
-				// -> Next 24 hours
-				// Ultra-short term prediction (by regression)
-				regression.stream(),
-				// Apply factor
-				data.stream() //
-						.skip(EXTRA_QUERY_QUARTERS + REGRESSION_APPLY_QUARTERS) //
-						.limit(SMOOTH_APPLY_QUARTERS) //
-						.map(v -> v == null ? null : (int) Math.round(v * reduceFactor(factor, i.getAndAdd(reduce)))), //
-				// Keep remaining
-				data.stream() //
-						.skip(EXTRA_QUERY_QUARTERS + REGRESSION_APPLY_QUARTERS + SMOOTH_APPLY_QUARTERS), //
-
-				// -> to 48 hours
-				// Apply factor
-				data.stream() //
-						.skip(EXTRA_QUERY_QUARTERS) // no regression, more smoothing
-						.limit(REGRESSION_APPLY_QUARTERS + SMOOTH_APPLY_QUARTERS) //
-						.map(v -> v == null ? null : (int) Math.round(v * reduceFactor(factor, i.getAndAdd(reduce)))), //
-				// Keep remaining
-				data.stream() //
-						.skip(EXTRA_QUERY_QUARTERS + REGRESSION_APPLY_QUARTERS + SMOOTH_APPLY_QUARTERS) //
-		).toArray(Integer[]::new);
+		var result = new Integer[2 * (data.length - EXTRA_QUERY_QUARTERS)];
+		var index = 0;
+
+		// -> Next 24 hours
+		// Ultra-short term prediction (by regression)
+		for (var value : getRegressionPrediction(data)) {
+			result[index++] = value;
+		}
+		// Apply factor
+		for (var i = EXTRA_QUERY_QUARTERS + REGRESSION_APPLY_QUARTERS; i < EXTRA_QUERY_QUARTERS
+				+ REGRESSION_APPLY_QUARTERS + SMOOTH_APPLY_QUARTERS; i++) {
+			if (data[i] != QuarterlyHistory.NULL) {
+				result[index] = (int) Math.round(data[i] * reduceFactor(factor, reduceFactor));
+				reduceFactor += reduce;
+			}
+			index++;
+		}
+		// Keep remaining
+		index = copy(data, EXTRA_QUERY_QUARTERS + REGRESSION_APPLY_QUARTERS + SMOOTH_APPLY_QUARTERS, result, index);
+
+		// -> to 48 hours
+		// Apply factor; no regression, more smoothing
+		for (var i = EXTRA_QUERY_QUARTERS; i < EXTRA_QUERY_QUARTERS + REGRESSION_APPLY_QUARTERS
+				+ SMOOTH_APPLY_QUARTERS; i++) {
+			if (data[i] != QuarterlyHistory.NULL) {
+				result[index] = (int) Math.round(data[i] * reduceFactor(factor, reduceFactor));
+				reduceFactor += reduce;
+			}
+			index++;
+		}
+		// Keep remaining
+		copy(data, EXTRA_QUERY_QUARTERS + REGRESSION_APPLY_QUARTERS + SMOOTH_APPLY_QUARTERS, result, index);
 
 		return Prediction.from(this.sum, channelAddress, now, result);
 	}
 
+	/**
+	 * Copies values from 'from' to the end of data to the result.
+	 *
+	 * @param data   the timedata
+	 * @param from   the first index in data
+	 * @param result the result
+	 * @param index  the first index in result
+	 * @return the next index in result
+	 */
+	private static int copy(int[] data, int from, Integer[] result, int index) {
+		for (var i = from; i < data.length; i++) {
+			result[index++] = data[i] == QuarterlyHistory.NULL ? null : data[i];
+		}
+		return index;
+	}
+
 	/**
 	 * Generate a ultra-short-term prediction purely based on regression.
 	 * 
 	 * @param data the timedata
-	 * @return the list of predictions
+	 * @return the predictions
 	 */
-	private List<Integer> getRegressionPrediction(List<Integer> data) {
+	private static Integer[] getRegressionPrediction(int[] data) {
 		final var regression = new SimpleRegression();
-		final var counter = new AtomicInteger(0);
-		data.stream() //
-				.skip(data.size() - REGRESSION_QUERY_QUARTERS) //
-				.forEach(v -> {
-					var i = counter.incrementAndGet();
-					if (v == null) {
-						return;
-					}
-					regression.addData(i, v);
-				});
-		var start = counter.incrementAndGet();
-		return IntStream.range(start, start + REGRESSION_APPLY_QUARTERS) //
-				.mapToObj(i -> {
-					var p = regression.predict(i);
-					if (Double.isNaN(i)) {
-						return null; // TODO use proper value
-					}
-					return (int) Math.round(p);
-				}) //
-				.toList();
+		var x = 0;
+		for (var i = data.length - REGRESSION_QUERY_QUARTERS; i < data.length; i++) {
+			x++;
+			if (data[i] != QuarterlyHistory.NULL) {
+				regression.addData(x, data[i]);
+			}
+		}
+		var result = new Integer[REGRESSION_APPLY_QUARTERS];
+		for (var i = 0; i < REGRESSION_APPLY_QUARTERS; i++) {
+			var p = regression.predict(x + 1 + i);
+			if (Double.isNaN(p)) {
+				result[i] = null; // TODO use proper value
+			} else {
+				result[i] = (int) Math.round(p);
+			}
+		}
+		return result;
 	}
 
 	/**
@@ -199,19 +196,11 @@ public class PredictorPersistenceModelImpl extends AbstractPredictor implements
 	 * @param data the timedata
 	 * @return the smooth factor
 	 */
-	private double getSmoothFactor(List<Integer> data) {
-		var predicted = data.stream() //
-				.limit(SMOOTH_QUERY_QUARTERS) //
-				.filter(Objects::nonNull) //
-				.mapToInt(Integer::intValue) //
-				.average();
-		var actual = Lists.reverse(data).stream() //
-				.limit(SMOOTH_QUERY_QUARTERS) //
-				.filter(Objects::nonNull) //
-				.mapToInt(Integer::intValue) //
-				.average();
-		if (actual.isPresent() && predicted.isPresent() && predicted.getAsDouble() != 0) {
-			var f = actual.getAsDouble() / predicted.getAsDouble();
+	private static double getSmoothFactor(int[] data) {
+		var predicted = average(data, 0, SMOOTH_QUERY_QUARTERS);
+		var actual = average(data, data.length - SMOOTH_QUERY_QUARTERS, data.length);
+		if (!Double.isNaN(actual) && !Double.isNaN(predicted) && predicted != 0) {
+			var f = actual / predicted;
 			if (f <= 0) {
 				return 1.; // Disallow zero or negative
 			} else if (f < 0 && f > -0.1) { // Avoid small negative number
@@ -226,6 +215,26 @@ public class PredictorPersistenceModelImpl extends AbstractPredictor implements
 		}
 	}
 
+	/**
+	 * Gets the average of the available values in a range.
+	 *
+	 * @param data the timedata
+	 * @param from the first index, inclusive
+	 * @param to   the last index, exclusive
+	 * @return the average; NaN if no value is available
+	 */
+	private static double average(int[] data, int from, int to) {
+		var sum = 0L;
+		var count = 0;
+		for (var i = from; i < to; i++) {
+			if (data[i] != QuarterlyHistory.NULL) {
+				sum += data[i];
+				count++;
+			}
+		}
+		return count == 0 ? Double.NaN : (double) sum / count;
+	}
+
 	/**
 	 * Steadily reduces the original factor to 1.
 	 * 
@@ -5,10 +5,6 @@ import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTI
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.SortedMap;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -21,7 +17,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Sets;
-import com.google.gson.JsonElement;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.timedata.Resolution;
@@ -34,6 +29,7 @@ import io.openems.edge.controller.api.Controller;
 import io.openems.edge.predictor.api.prediction.AbstractPredictor;
 import io.openems.edge.predictor.api.prediction.Prediction;
 import io.openems.edge.predictor.api.prediction.Predictor;
+import io.openems.edge.predictor.api.prediction.QuarterlyHistory;
 import io.openems.edge.timedata.api.Timedata;
 
 @Designate(ocd = Config.class, factory = true)
@@ -55,6 +51,8 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 	public static final int PREDCTION_FOR_SIX_DAY = 5;
 	public static final int PREDCTION_FOR_SEVEN_DAY = 6;
 
+	private static final int QUARTERS_PER_DAY = 24 * 4;
+
 	@Reference
 	private Sum sum;
 
@@ -64,6 +62,10 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 	@Reference
 	private ComponentManager componentManager;
 
+	private final QuarterlyHistory history = new QuarterlyHistory(
+			(channelAddress, fromDate, toDate) -> this.timedata.queryHistoricDataColumnar(null, fromDate, toDate,
+					Sets.newHashSet(channelAddress), new Resolution(15, ChronoUnit.MINUTES)));
+
 	private Config config;
 
 	public PredictorSimilardayModelImpl() throws OpenemsNamedException {
@@ -95,132 +97,58 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 	@Override
 	protected Prediction createNewPrediction(ChannelAddress channelAddress) {
 		var now = roundDownToQuarter(ZonedDateTime.now(this.componentManager.getClock()));
-		// From now time to Last 4 weeks
-		var fromDate = now.minus(this.config.numOfWeeks(), ChronoUnit.WEEKS);
-
-		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
 
-		// Query database
+		// From now time to Last 4 weeks
+		final int[] data;
 		try {
-			queryResult = this.timedata.queryHistoricData(null, fromDate, now, Sets.newHashSet(channelAddress),
-					new Resolution(15, ChronoUnit.MINUTES));
+			data = this.history.get(channelAddress, now,
+					this.config.numOfWeeks() * NUM_OF_DAYS_OF_WEEK * QUARTERS_PER_DAY);
 		} catch (OpenemsNamedException e) {
 			this.logError(this.log, e.getMessage());
 			e.printStackTrace();
 			return EMPTY_PREDICTION;
 		}
+		if (QuarterlyHistory.isEmpty(data)) {
+			return EMPTY_PREDICTION;
+		}
 
-		// Extract data
-		List<Integer> result = queryResult.values().stream() //
-				.map(SortedMap::values) //
-				// extract JsonElement values as flat stream
-				.flatMap(Collection::stream) //
-				// convert JsonElement to Integer
-				.map(v -> {
-					if (v.isJsonNull()) {
-						return (Integer) null;
-					}
-					return v.getAsInt();
-				})
-				// get as Array
-				.toList();
-
-		// Num of Data per day
-		// TODO change this variable based on the resolution which is 900 in query
-		var numOfDataPerDay = 96;
-
-		var mainData = getSlicedArrayList(result, numOfDataPerDay);
-
-		// Getting the indexes of the last four similar days
-		var lastFourSimilarDays = getCorrectIndexes(mainData, NUM_OF_DAYS_OF_WEEK, PREDCTION_FOR_ONE_DAY);
-
-		// Getting the average predictions
-		var nextOneDayPredictions = getAverage(lastFourSimilarDays);
+		// Getting the average of the last four similar days
+		var nextOneDayPredictions = getAverageOfSimilarDays(data, QUARTERS_PER_DAY, NUM_OF_DAYS_OF_WEEK,
+				PREDCTION_FOR_ONE_DAY);
 
 		return Prediction.from(Prediction.getValueRange(this.sum, channelAddress), now,
-				nextOneDayPredictions.stream().toArray(Integer[]::new));
-	}
-
-	/**
-	 * This methods takes a List of integers and returns a 2dimension List of
-	 * integers, specific to correct days.
-	 *
-	 * @param arrlist array list of all data.
-	 * @param n       number of data per day.
-	 * @return 2dimension array list
-	 */
-	private static List<List<Integer>> getSlicedArrayList(List<Integer> arrlist, int n) {
-		List<List<Integer>> twoDimensionalArrayList = new ArrayList<>();
-		for (var i = 0; i < arrlist.size(); i = i + n) {
-			twoDimensionalArrayList.add(arrlist.subList(i, i + n));
-		}
-		return twoDimensionalArrayList;
-
+				QuarterlyHistory.toIntegerArray(nextOneDayPredictions));
 	}
 
 	/**
-	 * This methods get the average of data based on the indexes.
+	 * Gets the average of the similar days, i.e. of every 'numDaysOfWeek'th day
+	 * starting at 'whichDay'. Missing values count as zero.
 	 *
-	 * @param twoDimensionalArrayList The actual data.
-	 * @return Average values of the last four days.
+	 * @param data           all data points, in chronological order
+	 * @param quartersPerDay number of data points per day
+	 * @param numDaysOfWeek  total number of days of week
+	 * @param whichDay       current actual day
+	 * @return average values per quarter of the day
 	 */
-	private static List<Integer> getAverage(List<List<Integer>> twoDimensionalArrayList) {
-		List<Integer> averageList = new ArrayList<>();
-		var rows = twoDimensionalArrayList.size();
-		var cols = twoDimensionalArrayList.get(0).size();
-		for (var i = 0; i < cols; i++) {
-			var sumRow = 0;
-			for (var j = 0; j < rows; j++) {
-				if (twoDimensionalArrayList.get(j).get(i) != null) {
-					sumRow += twoDimensionalArrayList.get(j).get(i);
+	private static int[] getAverageOfSimilarDays(int[] data, int quartersPerDay, int numDaysOfWeek, int whichDay) {
+		var result = new int[quartersPerDay];
+		var days = 0;
+		for (var day = whichDay; (day + 1) * quartersPerDay <= data.length; day += numDaysOfWeek) {
+			var offset = day * quartersPerDay;
+			for (var i = 0; i < quartersPerDay; i++) {
+				var value = data[offset + i];
+				if (value != QuarterlyHistory.NULL) {
+					result[i] += value;
 				}
 			}
-			averageList.add(sumRow / twoDimensionalArrayList.size());
+			days++;
 		}
-		return averageList;
-
-	}
-
-	/**
-	 * Data manipulation, to get the proper indexes.
-	 *
-	 * @param mainData      all data points.
-	 * @param numDaysOfWeek total number of days of week.
-	 * @param whichDay      current actual day.
-	 * @return proper indexed days.
-	 */
-	private static List<List<Integer>> getCorrectIndexes(List<List<Integer>> mainData, int numDaysOfWeek,
-			int whichDay) {
-		List<Integer> indexes = new ArrayList<>();
-		List<List<Integer>> days = new ArrayList<>();
-		for (var i = 0; i < mainData.size(); i++) {
-			if (isMember(whichDay, numDaysOfWeek, i)) {
-				indexes.add(i);
+		if (days > 0) {
+			for (var i = 0; i < quartersPerDay; i++) {
+				result[i] /= days;
 			}
 		}
-
-		for (Integer i : indexes) {
-			days.add(mainData.get(i));
-		}
-
-		return days;
-
-	}
-
-	/**
-	 * Check if the day belongs to correct day.
-	 *
-	 * @param whichDay      current actual day.
-	 * @param numDaysOfWeek total number of days of week.
-	 * @param nthTerm       nthterm
-	 * @return boolean value to represent is value member of correct day
-	 */
-	private static boolean isMember(int whichDay, int numDaysOfWeek, int nthTerm) {
-		if (numDaysOfWeek == 0) {
-			return nthTerm == whichDay;
-		}
-		return (nthTerm - whichDay) % numDaysOfWeek == 0 && (nthTerm - whichDay) / numDaysOfWeek >= 0;
-
+		return result;
 	}
 
 }
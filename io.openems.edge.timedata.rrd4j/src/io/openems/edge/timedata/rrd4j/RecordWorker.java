@@ -2,12 +2,14 @@ package io.openems.edge.timedata.rrd4j;
 
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Map.Entry;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
@@ -15,7 +17,6 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.ToDoubleFunction;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -34,7 +35,6 @@ import io.openems.common.channel.PersistencePriority;
 import io.openems.common.channel.Unit;
 import io.openems.common.timedata.DurationUnit;
 import io.openems.common.types.ChannelAddress;
-import io.openems.common.types.OpenemsType;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
@@ -144,7 +144,6 @@ public class RecordWorker extends AbstractImmediateWorker {
 									&& doc.getAccessMode() != AccessMode.WRITE_ONLY) //
 							.orElse(false);
 				}).map(channel -> {
-					final var channelMapFunction = getChannelMapFunction(channel.channelDoc().getType());
 					final var channelAggregateFunction = channel.channelDoc().getUnit().getChannelAggregateFunction();
 
 					final long writeSeconds;
@@ -156,20 +155,14 @@ public class RecordWorker extends AbstractImmediateWorker {
 					}
 
 					// This is the highest timestamp before `startTime`. If existing it is used for
-					// the tailMap to make sure we get a Value even for Channels where the value has
+					// the range to make sure we get a Value even for Channels where the value has
 					// not changed within the last 5 minutes.
-					var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(from)) //
+					var channelStartTime = Optional.ofNullable(channel.getPastValues().floorTimestamp(from)) //
 							.orElse(from);
 
 					var value = channelAggregateFunction.apply(//
 							channel.getPastValues() //
-									.tailMap(channelStartTime, true) //
-									.entrySet().stream() //
-									.filter(e -> e.getKey().isBefore(to)) //
-									.map(Entry::getValue) //
-									.map(Value::get) //
-									.filter(Objects::nonNull) //
-									.mapToDouble(channelMapFunction) // convert to double
+									.doubles(channelStartTime, to) // primitive, defined values only
 					);
 
 					if (channel.channelDoc() instanceof EnumDoc) {
@@ -200,66 +193,62 @@ public class RecordWorker extends AbstractImmediateWorker {
 
 	@Override
 	protected void forever() throws InterruptedException {
-		final var record = this.records.take();
+		// Take all queued records, i.e. usually all records of one heartbeat
+		final var batch = new ArrayList<DataRecord>();
+		batch.add(this.records.take());
+		this.records.drainTo(batch);
 
 		if (this.config.readOnly() && this.config.debugMode()) {
-			this.log.info("Read-Only-Mode is activated. Not writing record: " + record.toString());
+			for (var record : batch) {
+				this.log.info("Read-Only-Mode is activated. Not writing record: " + record.toString());
+			}
 			return;
 		}
 
-		try (var database = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
-				record.timestamp - 1)) {
-			if (database.getLastUpdateTime() == record.timestamp()) {
-				// overwrite last value if same time stamp
-				final var robin = database.getArchive(0).getRobin(0);
-				robin.setValue(robin.getSize() - 1, record.value());
-			} else if (database.getLastUpdateTime() < record.timestamp()) {
-				// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
-				// YYY. Last update time was ZZZ, at least one second step is required".
-
-				// Add Sample to RRD4J
-				database.createSample(record.timestamp()) //
-						.setValue(0, record.value) //
-						.update();
+		// Group by database; keeps the order of the timestamps
+		final var recordsPerDatabase = batch.stream() //
+				.collect(groupingBy(DataRecord::address, LinkedHashMap::new, toList()));
+		for (var records : recordsPerDatabase.values()) {
+			this.write(records);
+		}
+	}
+
+	/**
+	 * Writes the records of one Channel to its RRD4j database.
+	 * 
+	 * @param records the {@link DataRecord}s of one Channel, sorted by timestamp
+	 */
+	private void write(List<DataRecord> records) {
+		final var first = records.get(0);
+		try (var lease = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, first.address, first.unit,
+				first.timestamp - 1)) {
+			final var database = lease.get();
+			for (var record : records) {
+				if (database.getLastUpdateTime() == record.timestamp()) {
+					// overwrite last value if same time stamp
+					final var robin = database.getArchive(0).getRobin(0);
+					robin.setValue(robin.getSize() - 1, record.value());
+				} else if (database.getLastUpdateTime() < record.timestamp()) {
+					// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
+					// YYY. Last update time was ZZZ, at least one second step is required".
+
+					// Add Sample to RRD4J
+					database.createSample(record.timestamp()) //
+							.setValue(0, record.value) //
+							.update();
+				}
 			}
 
 			this.config.onQueueFull.accept(false);
 		} catch (Throwable e) {
 			this.config.onQueueFull.accept(true);
 			if (this.config.debugMode()) {
-				this.log.error("Unable to insert Sample [%s] %s: %s".formatted(record.address,
+				this.log.error("Unable to insert Sample [%s] %s: %s".formatted(first.address,
 						e.getClass().getSimpleName(), e.getMessage()), e);
 			}
 		}
 	}
 
-	private static final ToDoubleFunction<? super Object> MAP_BOOLEAN_TO_DOUBLE //
-			= value -> ((Boolean) value ? 1d : 0d);
-	private static final ToDoubleFunction<? super Object> MAP_SHORT_TO_DOUBLE //
-			= value -> ((Short) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_INTEGER_TO_DOUBLE //
-			= value -> ((Integer) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_LONG_TO_DOUBLE //
-			= value -> ((Long) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_FLOAT_TO_DOUBLE //
-			= value -> ((Float) value).doubleValue();
-	private static final ToDoubleFunction<? super Object> MAP_DOUBLE_TO_DOUBLE //
-			= value -> ((Double) value);
-	private static final ToDoubleFunction<? super Object> MAP_TO_DOUBLE_NOT_SUPPORTED //
-			= value -> 0d;
-
-	private static ToDoubleFunction<? super Object> getChannelMapFunction(OpenemsType openemsType) {
-		return switch (openemsType) {
-		case BOOLEAN -> MAP_BOOLEAN_TO_DOUBLE;
-		case SHORT -> MAP_SHORT_TO_DOUBLE;
-		case INTEGER -> MAP_INTEGER_TO_DOUBLE;
-		case LONG -> MAP_LONG_TO_DOUBLE;
-		case FLOAT -> MAP_FLOAT_TO_DOUBLE;
-		case DOUBLE -> MAP_DOUBLE_TO_DOUBLE;
-		case STRING -> MAP_TO_DOUBLE_NOT_SUPPORTED; // Strings are not supported by RRD4J
-		};
-	}
-
 	protected static JsonElement aggregateEnumChannel(//
 			Channel<?> channel, //
 			LocalDateTime channelStartTime, //
@@ -270,12 +259,10 @@ public class RecordWorker extends AbstractImmediateWorker {
 			return JsonNull.INSTANCE;
 		}
 		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
+				.range(channelStartTime, endTime) //
 				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
+				.filter(Value::isDefined) //
+				.map(v -> (Integer) v.get()) //
 				.collect(groupingBy(Function.identity(), counting()));
 
 		final var values = numberOfValuesPerOption.entrySet().stream() //
@@ -298,12 +285,14 @@ public class RecordWorker extends AbstractImmediateWorker {
 		}
 
 		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
+		final var pastValues = channel.getPastValues().toList();
+		for (var i = pastValues.size() - 1; i >= 0; i--) {
+			final var entry = pastValues.get(i);
 			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
+				if (!entry.isDefined()) {
 					continue;
 				}
-				final var entryValue = entry.getValue().get();
+				final var entryValue = entry.get();
 				if (((Integer) entryValue).intValue() == optionValue) {
 					return new JsonPrimitive(optionValue);
 				}
@@ -9,6 +9,20 @@ public final class Rrd4jConstants {
 	public static final int DEFAULT_STEP_SECONDS = 300;
 	public static final int DEFAULT_HEARTBEAT_SECONDS = DEFAULT_STEP_SECONDS;
 
+	/**
+	 * The maximum number of RrdDbs of the read path that are kept open in the
+	 * {@link RrdDbCache}. Every open RrdDb holds a file handle and a memory
+	 * mapping of its file (about 1 MB for non-cumulated Channels).
+	 */
+	public static final int MAX_OPEN_DATABASES = 512;
+
+	/**
+	 * RrdDbs of the write path are kept open in the {@link RrdDbCache}
+	 * independent of {@link #MAX_OPEN_DATABASES}, until they were not written for
+	 * this duration.
+	 */
+	public static final int WRITE_DATABASE_PIN_TIMEOUT_SECONDS = 3 * DEFAULT_HEARTBEAT_SECONDS;
+
 	/**
 	 * Creates a string of the default datasource name with the version included.
 	 * 
@@ -1,7 +1,6 @@
 package io.openems.edge.timedata.rrd4j;
 
 import java.io.IOException;
-import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -30,6 +29,7 @@ import com.google.gson.JsonPrimitive;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.timedata.HistoricData;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.Channel;
@@ -166,11 +166,12 @@ public class Rrd4jReadHandler {
 			// unable to get channel
 			throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 		}
-		try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+		try (final var lease = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 				rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-			if (database == null) {
+			if (lease == null) {
 				throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 			}
+			final var database = lease.get();
 			return getTimerangesOfNotSendData(database, lastResendTimestamp);
 		} catch (IOException e) {
 			throw new OpenemsException("Unable to query database.", e);
@@ -211,15 +212,16 @@ public class Rrd4jReadHandler {
 				}
 				continue;
 			}
-			try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+			try (final var lease = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 					rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (lease == null) {
 					if (debugMode) {
 						this.log.warn("Unable to query RRD4j: " //
 								+ "RRD4j Database for " + channelAddress + " is missing");
 					}
 					continue;
 				}
+				final var database = lease.get();
 
 				for (int i = 0; i < database.getArcCount(); i++) {
 					final var archive = database.getArchive(i);
@@ -287,9 +289,31 @@ public class Rrd4jReadHandler {
 			final Set<ChannelAddress> channels, //
 			final Resolution resolution, //
 			final boolean debugMode //
+	) throws OpenemsNamedException {
+		return this.queryHistoricDataColumnar(rrdDbId, fromDate, toDate, channels, resolution, debugMode).toMap();
+	}
+
+	/**
+	 * Queries historic data in columnar form.
+	 *
+	 * @param rrdDbId    the id of the rrdb
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @param debugMode  if debugMode is active
+	 * @return the query result
+	 */
+	public HistoricData queryHistoricDataColumnar(//
+			final String rrdDbId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final Resolution resolution, //
+			final boolean debugMode //
 	) throws OpenemsNamedException {
 		final var timezone = fromDate.getZone();
-		final var table = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		final var builder = HistoricData.create(timezone);
 
 		final var fromTimestamp = fromDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
 		final var toTimeStamp = toDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
@@ -309,9 +333,9 @@ public class Rrd4jReadHandler {
 				}
 				final var chDef = Rrd4jSupplier.getDsDefForChannel(channel.channelDoc().getUnit());
 				final double[] result;
-				try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel.address(),
+				try (final var lease = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel.address(),
 						channel.channelDoc().getUnit())) {
-					if (database == null) {
+					if (lease == null) {
 						if (debugMode) {
 							this.log.warn(
 									"Unable to query RRD4j" + "RRD4j Database for " + channelAddress + " is missing");
@@ -319,6 +343,7 @@ public class Rrd4jReadHandler {
 						errorCounter++;
 						continue;
 					}
+					final var database = lease.get();
 
 					final var fetchedData = database
 							.createFetchRequest(chDef.consolFun(), fromTimestamp, toTimeStamp, resolution.toSeconds())
@@ -333,20 +358,12 @@ public class Rrd4jReadHandler {
 					continue;
 				}
 				try {
+					final var column = builder.addColumn(channelAddress);
 					for (var i = 0; i < result.length; i++) {
 						final var timestamp = fromTimestamp + (i * resolution.toSeconds());
 
-						// Prepare result table row
-						var timestampInstant = Instant.ofEpochSecond(timestamp);
-						var dateTime = ZonedDateTime.ofInstant(timestampInstant, ZoneOffset.UTC) //
-								.withZoneSameInstant(timezone);
-
-						final var tableRow = table.computeIfAbsent(dateTime, t -> new TreeMap<>());
-
-						final var value = result[i];
-						tableRow.put(channelAddress, Double.isNaN(value) //
-								? JsonNull.INSTANCE
-								: new JsonPrimitive(value));
+						// NaN is stored as null
+						builder.put(timestamp * 1000, column, result[i]);
 					}
 				} catch (Exception e) {
 					if (debugMode) {
@@ -366,7 +383,7 @@ public class Rrd4jReadHandler {
 		} catch (Exception e) {
 			throw new OpenemsException("Unable to read historic data: " + e.getMessage());
 		}
-		return table;
+		return builder.build();
 	}
 
 	/**
@@ -401,15 +418,16 @@ public class Rrd4jReadHandler {
 						}
 						return JsonNull.INSTANCE;
 					}
-					try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+					try (final var lease = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 							rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-						if (database == null) {
+						if (lease == null) {
 							if (debugMode) {
 								this.log.warn("Unable to query RRD4j: " //
 										+ "RRD4j Database for " + channelAddress + " is missing");
 							}
 							return JsonNull.INSTANCE;
 						}
+						final var database = lease.get();
 
 						var first = getFirstValueBefore(database, fromTimestamp);
 
@@ -542,11 +560,12 @@ public class Rrd4jReadHandler {
 				return Optional.empty();
 			}
 
-			try (var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
+			try (var lease = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
 					channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (lease == null) {
 					return Optional.empty();
 				}
+				final var database = lease.get();
 
 				// search for last value in robin
 				final var robin = database.getArchive(0).getRobin(0);
@@ -6,13 +6,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ServiceScope;
 import org.rrd4j.ConsolFun;
@@ -21,7 +24,7 @@ import org.rrd4j.core.DsDef;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
-import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
+import org.rrd4j.core.RrdNioBackendFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,16 +50,28 @@ public class Rrd4jSupplier {
 
 	private final KeyLock keyLock = new KeyLock();
 	private final RrdBackendFactory factory;
+	private final RrdDbCache cache;
 
 	protected Rrd4jSupplier(//
-			final RrdBackendFactory factory //
+			final RrdBackendFactory factory, //
+			final int maxOpenDatabases //
 	) {
 		this.factory = factory;
+		this.cache = new RrdDbCache(maxOpenDatabases,
+				Duration.ofSeconds(Rrd4jConstants.WRITE_DATABASE_PIN_TIMEOUT_SECONDS));
 	}
 
 	@Activate
 	public Rrd4jSupplier() {
-		this(new RrdRandomAccessFileBackendFactory());
+		this(new RrdNioBackendFactory(), Rrd4jConstants.MAX_OPEN_DATABASES);
+	}
+
+	/**
+	 * Closes all open RrdDbs.
+	 */
+	@Deactivate
+	public void deactivate() {
+		this.cache.closeAll();
 	}
 
 	/**
@@ -66,20 +81,28 @@ public class Rrd4jSupplier {
 	 * The predefined RRD4J archives match the requirements of
 	 * {@link CommonTimedataService#calculateResolution(ZonedDateTime, ZonedDateTime)}
 	 * 
+	 * <p>
+	 * The RrdDb is shared via a cache of open databases: close the returned
+	 * {@link RrdDbCache.Lease}, not the RrdDb. Other threads cannot access the
+	 * RrdDb until the {@link RrdDbCache.Lease} is closed. As this is the write
+	 * path, the RrdDb is pinned, i.e. it stays open independent of the capacity
+	 * of the cache.
+	 * 
 	 * @param channelAddress the Channel-Address
 	 * @param channelUnit    the {@link Unit}
 	 * @param startTime      the starttime for newly created RrdDbs
 	 * @param rrdDbId        the id of the rrd4j database
-	 * @return the RrdDb
+	 * @return the {@link RrdDbCache.Lease} of the RrdDb
 	 * @throws IOException on error
 	 */
-	public RrdDb getRrdDb(//
+	public RrdDbCache.Lease getRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit, //
 			final long startTime //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+		final var key = rrdDbId + "/" + channelAddress.toString();
+		return this.keyLock.lease(key, () -> this.cache.lease(key, true, () -> {
 			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb != null) {
 				// Database exists
@@ -87,31 +110,39 @@ public class Rrd4jSupplier {
 			}
 			// Create new database
 			return this.createNewDb(rrdDbId, channelAddress, channelUnit, startTime);
-		});
+		}));
 	}
 
 	/**
 	 * Gets an existing and updated {@link RrdDb}. If the found {@link RrdDb} is not
 	 * on the current version it gets updated.
 	 * 
+	 * <p>
+	 * The {@link RrdDb} is shared via a cache of open databases: close the
+	 * returned {@link RrdDbCache.Lease}, not the {@link RrdDb}. Other threads
+	 * cannot access the {@link RrdDb} until the {@link RrdDbCache.Lease} is
+	 * closed.
+	 * 
 	 * @param rrdDbId        the id of the RrdDb
 	 * @param channelAddress the address of the {@link RrdDb}
 	 * @param channelUnit    the unit of the channel
-	 * @return the {@link RrdDb} or null if not existing
+	 * @return the {@link RrdDbCache.Lease} of the {@link RrdDb} or null if not
+	 *         existing
 	 * @throws IOException on IO-Error
 	 */
-	public RrdDb getExistingUpdatedRrdDb(//
+	public RrdDbCache.Lease getExistingUpdatedRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+		final var key = rrdDbId + "/" + channelAddress.toString();
+		return this.keyLock.lease(key, () -> this.cache.lease(key, false, () -> {
 			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb == null) {
 				return null;
 			}
 			return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
-		});
+		}));
 	}
 
 	/**
@@ -368,13 +399,32 @@ public class Rrd4jSupplier {
 		return result;
 	}
 
-	private class KeyLock {
-
-		private final Map<String, Object> locks = new ConcurrentHashMap<>();
-
-		public <T, E extends Exception> T lock(String key, ThrowingSupplier<T, E> supplier) throws E {
-			synchronized (this.locks.computeIfAbsent(key, t -> new Object())) {
-				return supplier.get();
+	private static class KeyLock {
+
+		private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+		/**
+		 * Gets a {@link RrdDbCache.Lease} while holding the lock of the key. The lock
+		 * is held until the {@link RrdDbCache.Lease} is closed, because a
+		 * {@link RrdDb} must not be read and written concurrently.
+		 * 
+		 * @param key      the key
+		 * @param supplier supplies the {@link RrdDbCache.Lease}; may return null
+		 * @return the {@link RrdDbCache.Lease}; null if the supplier returned null
+		 * @throws IOException on error
+		 */
+		public RrdDbCache.Lease lease(String key, ThrowingSupplier<RrdDbCache.Lease, IOException> supplier)
+				throws IOException {
+			final var lock = this.locks.computeIfAbsent(key, t -> new ReentrantLock());
+			lock.lock();
+			RrdDbCache.Lease lease = null;
+			try {
+				lease = supplier.get();
+				return lease == null ? null : lease.onClose(lock::unlock);
+			} finally {
+				if (lease == null) {
+					lock.unlock();
+				}
 			}
 		}
 
@@ -0,0 +1,329 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.function.ThrowingSupplier;
+
+/**
+ * A bounded cache of open {@link RrdDb}s.
+ *
+ * <p>
+ * Opening a {@link RrdDb} reads and validates its header; with the memory
+ * mapped backend it also maps the file. Instead of opening and closing the
+ * database on every access, open databases are kept open and handed out as
+ * {@link Lease}s.
+ *
+ * <p>
+ * The write path leases every persisted Channel once per heartbeat, always in
+ * the same order. A least-recently-used cache that is smaller than that set of
+ * Channels would miss on every access of such a cyclic scan. Databases that are
+ * leased with 'pin' are therefore kept open outside of the bounded cache, until
+ * they were not pinned for the pin timeout; then they are moved into the
+ * bounded least-recently-used cache of the read path.
+ *
+ * <p>
+ * A database is only closed if it is evicted and not leased anymore, or on
+ * {@link #closeAll()}.
+ */
+public class RrdDbCache {
+
+	/**
+	 * A lease of a cached {@link RrdDb}. Closing the lease releases the database
+	 * back into the cache; it does not close the database.
+	 */
+	public final class Lease implements AutoCloseable {
+
+		private final Entry entry;
+		private boolean released = false;
+		private Runnable onClose = null;
+
+		private Lease(Entry entry) {
+			this.entry = entry;
+		}
+
+		/**
+		 * Sets a callback that is run after the lease was released.
+		 *
+		 * @param onClose the callback
+		 * @return myself
+		 */
+		public Lease onClose(Runnable onClose) {
+			this.onClose = onClose;
+			return this;
+		}
+
+		/**
+		 * Gets the {@link RrdDb}. It must not be closed by the caller.
+		 *
+		 * @return the {@link RrdDb}
+		 */
+		public RrdDb get() {
+			return this.entry.rrdDb;
+		}
+
+		@Override
+		public void close() {
+			if (this.released) {
+				return;
+			}
+			this.released = true;
+			try {
+				RrdDbCache.this.release(this.entry);
+			} finally {
+				if (this.onClose != null) {
+					this.onClose.run();
+				}
+			}
+		}
+	}
+
+	private static class Entry {
+		private final String key;
+		private final RrdDb rrdDb;
+		private int leases = 0;
+		private boolean evicted = false;
+		private long lastPinned = 0;
+
+		private Entry(String key, RrdDb rrdDb) {
+			this.key = key;
+			this.rrdDb = rrdDb;
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(RrdDbCache.class);
+
+	private final int capacity;
+	private final long pinTimeout;
+	private final Clock clock;
+
+	/** Bounded entries in access-order; guarded by 'this'. */
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** Pinned entries; guarded by 'this'. */
+	private final Map<String, Entry> pinned = new HashMap<>();
+
+	/** Last time pinned entries were checked for the pin timeout. */
+	private long lastUnpin;
+
+	public RrdDbCache(int capacity, Duration pinTimeout) {
+		this(capacity, pinTimeout, Clock.systemUTC());
+	}
+
+	protected RrdDbCache(int capacity, Duration pinTimeout, Clock clock) {
+		this.capacity = capacity;
+		this.pinTimeout = pinTimeout.toMillis();
+		this.clock = clock;
+		this.lastUnpin = clock.millis();
+	}
+
+	/**
+	 * Leases the cached {@link RrdDb} for the given key; opens it if it is not
+	 * cached.
+	 *
+	 * <p>
+	 * The caller is responsible for not opening the same key concurrently.
+	 *
+	 * @param key    the key, i.e. RrdDb-ID and Channel-Address
+	 * @param pin    keep the {@link RrdDb} open outside of the bounded cache, i.e.
+	 *               for the write path
+	 * @param opener opens the {@link RrdDb}; may return null
+	 * @return the {@link Lease}; null if the opener returned null
+	 * @throws IOException on error
+	 */
+	public Lease lease(String key, boolean pin, ThrowingSupplier<RrdDb, IOException> opener) throws IOException {
+		final Entry cached;
+		final List<Entry> expired;
+		synchronized (this) {
+			cached = this.get(key, pin);
+			if (cached != null) {
+				cached.leases++;
+			}
+			expired = pin ? this.unpinExpired() : List.of();
+		}
+		this.close(expired);
+		if (cached != null) {
+			return new Lease(cached);
+		}
+
+		// Open without holding the lock
+		var rrdDb = opener.get();
+		if (rrdDb == null) {
+			return null;
+		}
+		var entry = new Entry(key, rrdDb);
+		entry.leases++;
+		final List<Entry> evicted;
+		synchronized (this) {
+			final Entry previous;
+			if (pin) {
+				entry.lastPinned = this.clock.millis();
+				previous = this.pinned.put(key, entry);
+			} else {
+				previous = this.entries.put(key, entry);
+			}
+			if (previous != null) {
+				// Should not happen; keep the previous one open until it is released
+				previous.evicted = true;
+			}
+			evicted = this.evict();
+		}
+		this.close(evicted);
+		return new Lease(entry);
+	}
+
+	/**
+	 * Gets a cached entry; moves it to the pinned entries if 'pin' is set. Must be
+	 * called while holding the lock.
+	 *
+	 * @param key the key
+	 * @param pin pin the entry
+	 * @return the entry; null if it is not cached
+	 */
+	private Entry get(String key, boolean pin) {
+		var entry = this.pinned.get(key);
+		if (entry == null) {
+			entry = this.entries.get(key);
+			if (entry != null && pin) {
+				this.entries.remove(key);
+				this.pinned.put(key, entry);
+			}
+		}
+		if (entry != null && pin) {
+			entry.lastPinned = this.clock.millis();
+		}
+		return entry;
+	}
+
+	/**
+	 * Moves pinned entries that were not pinned for the pin timeout to the bounded
+	 * cache, e.g. the Channels of a deleted Component. Must be called while holding
+	 * the lock.
+	 *
+	 * @return the evicted entries; to be closed
+	 */
+	private List<Entry> unpinExpired() {
+		final var now = this.clock.millis();
+		if (now - this.lastUnpin < this.pinTimeout) {
+			return List.of();
+		}
+		this.lastUnpin = now;
+		final var expired = new ArrayList<Entry>();
+		var iterator = this.pinned.values().iterator();
+		while (iterator.hasNext()) {
+			var entry = iterator.next();
+			if (now - entry.lastPinned >= this.pinTimeout) {
+				iterator.remove();
+				expired.add(entry);
+			}
+		}
+		// Least-recently pinned entries are evicted first
+		expired.sort(Comparator.comparingLong(e -> e.lastPinned));
+		for (var entry : expired) {
+			this.entries.put(entry.key, entry);
+		}
+		return this.evict();
+	}
+
+	/**
+	 * Gets the number of cached {@link RrdDb}s, including pinned ones.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.entries.size() + this.pinned.size();
+	}
+
+	/**
+	 * Gets the number of pinned {@link RrdDb}s.
+	 *
+	 * @return the number of pinned {@link RrdDb}s
+	 */
+	public synchronized int pinnedSize() {
+		return this.pinned.size();
+	}
+
+	/**
+	 * Removes all {@link RrdDb}s from the cache and closes them.
+	 *
+	 * <p>
+	 * Databases that are leased at the moment are closed when the lease is
+	 * released.
+	 */
+	public void closeAll() {
+		final var closeable = new ArrayList<Entry>();
+		synchronized (this) {
+			for (var map : List.of(this.entries, this.pinned)) {
+				for (var entry : map.values()) {
+					entry.evicted = true;
+					if (entry.leases == 0) {
+						closeable.add(entry);
+					}
+				}
+				map.clear();
+			}
+		}
+		this.close(closeable);
+	}
+
+	private void release(Entry entry) {
+		final List<Entry> closeable;
+		synchronized (this) {
+			entry.leases--;
+			if (entry.leases > 0) {
+				return;
+			}
+			// Capacity might have been exceeded while this entry was leased
+			closeable = entry.evicted ? List.of(entry) : this.evict();
+		}
+		this.close(closeable);
+	}
+
+	/**
+	 * Removes least-recently-used entries that are not leased, until the capacity
+	 * of the bounded cache is met. Must be called while holding the lock.
+	 *
+	 * @return the removed entries; to be closed
+	 */
+	private List<Entry> evict() {
+		var overflow = this.entries.size() - this.capacity;
+		if (overflow <= 0) {
+			return List.of();
+		}
+		final var result = new ArrayList<Entry>(overflow);
+		var iterator = this.entries.values().iterator();
+		while (overflow > 0 && iterator.hasNext()) {
+			var entry = iterator.next();
+			if (entry.leases > 0) {
+				continue;
+			}
+			iterator.remove();
+			entry.evicted = true;
+			result.add(entry);
+			overflow--;
+		}
+		return result;
+	}
+
+	private void close(List<Entry> entries) {
+		for (var entry : entries) {
+			try {
+				entry.rrdDb.close();
+			} catch (IOException e) {
+				this.log.warn("Unable to close RrdDb [" + entry.key + "]: " + e.getMessage());
+			}
+		}
+	}
+
+}
@@ -20,6 +20,7 @@ import org.osgi.service.metatype.annotations.Designate;
 import com.google.gson.JsonElement;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.timedata.HistoricData;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
@@ -111,6 +112,18 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 		return this.readHandler.queryHistoricData(this.id(), fromDate, toDate, channels, resolution, this.debugMode);
 	}
 
+	@Override
+	public HistoricData queryHistoricDataColumnar(//
+			final String edgeId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final Resolution resolution //
+	) throws OpenemsNamedException {
+		return this.readHandler.queryHistoricDataColumnar(this.id(), fromDate, toDate, channels, resolution,
+				this.debugMode);
+	}
+
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(//
 			final String edgeId, //
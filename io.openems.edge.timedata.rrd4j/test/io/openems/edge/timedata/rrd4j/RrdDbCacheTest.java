@@ -0,0 +1,194 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.DsDef;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+import io.openems.common.test.TimeLeapClock;
+
+public class RrdDbCacheTest {
+
+	private static final Duration PIN_TIMEOUT = Duration.ofMinutes(15);
+
+	private static RrdDb createRrdDb(String path) throws IOException {
+		final var rrdDef = new RrdDef(path, 0, Rrd4jConstants.DEFAULT_STEP_SECONDS);
+		rrdDef.addDatasource(new DsDef(Rrd4jConstants.DEFAULT_DATASOURCE_NAME, DsType.GAUGE,
+				Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS, Double.NaN, Double.NaN));
+		rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 10);
+		return RrdDb.getBuilder() //
+				.setBackendFactory(new RrdMemoryBackendFactory()) //
+				.setRrdDef(rrdDef) //
+				.build();
+	}
+
+	@Test
+	public void testLease() throws IOException {
+		final var opened = new AtomicInteger();
+		final var sut = new RrdDbCache(2, PIN_TIMEOUT);
+
+		final RrdDb db0;
+		try (var lease = sut.lease("db0", false, () -> {
+			opened.incrementAndGet();
+			return createRrdDb("db0");
+		})) {
+			db0 = lease.get();
+		}
+		assertFalse(db0.isClosed());
+
+		// Cached
+		try (var lease = sut.lease("db0", false, () -> {
+			opened.incrementAndGet();
+			return createRrdDb("db0");
+		})) {
+			assertSame(db0, lease.get());
+		}
+		assertEquals(1, opened.get());
+
+		// Not existing
+		assertNull(sut.lease("missing", false, () -> null));
+		assertEquals(1, sut.size());
+	}
+
+	@Test
+	public void testOnClose() throws IOException {
+		final var closed = new AtomicInteger();
+		final var sut = new RrdDbCache(2, PIN_TIMEOUT);
+
+		final var lease = sut.lease("db0", false, () -> createRrdDb("db0")).onClose(closed::incrementAndGet);
+		assertEquals(0, closed.get());
+		lease.close();
+		assertEquals(1, closed.get());
+
+		// Released only once
+		lease.close();
+		assertEquals(1, closed.get());
+	}
+
+	@Test
+	public void testEvict() throws IOException {
+		final var sut = new RrdDbCache(2, PIN_TIMEOUT);
+
+		final var db0 = sut.lease("db0", false, () -> createRrdDb("db0"));
+		final var db1 = sut.lease("db1", false, () -> createRrdDb("db1"));
+		db1.close();
+
+		// db0 is leased -> db1 is evicted instead
+		final var db2 = sut.lease("db2", false, () -> createRrdDb("db2"));
+		assertEquals(2, sut.size());
+		assertTrue(db1.get().isClosed());
+		assertFalse(db0.get().isClosed());
+
+		// Capacity exceeded while all are leased
+		final var db3 = sut.lease("db3", false, () -> createRrdDb("db3"));
+		assertEquals(3, sut.size());
+
+		// Evicted on release
+		db0.close();
+		assertEquals(2, sut.size());
+		assertTrue(db0.get().isClosed());
+
+		// Leased ones are closed on release
+		sut.closeAll();
+		assertEquals(0, sut.size());
+		assertFalse(db2.get().isClosed());
+		db2.close();
+		db3.close();
+		assertTrue(db2.get().isClosed());
+		assertTrue(db3.get().isClosed());
+	}
+
+	@Test
+	public void testCyclicWrites() throws IOException {
+		final var opened = new AtomicInteger();
+		final var sut = new RrdDbCache(2, PIN_TIMEOUT, new TimeLeapClock());
+
+		// Write more databases than the capacity, always in the same order
+		final var databases = new ArrayList<RrdDb>();
+		for (var cycle = 0; cycle < 3; cycle++) {
+			for (var i = 0; i < 5; i++) {
+				final var key = "db" + i;
+				try (var lease = sut.lease(key, true, () -> {
+					opened.incrementAndGet();
+					return createRrdDb(key);
+				})) {
+					if (cycle == 0) {
+						databases.add(lease.get());
+					} else {
+						assertSame(databases.get(i), lease.get());
+					}
+				}
+			}
+		}
+		assertEquals(5, opened.get());
+		assertEquals(5, sut.pinnedSize());
+		assertTrue(databases.stream().noneMatch(RrdDb::isClosed));
+
+		// Reads do not evict pinned databases
+		for (var i = 0; i < 5; i++) {
+			final var key = "read" + i;
+			sut.lease(key, false, () -> createRrdDb(key)).close();
+		}
+		assertEquals(7, sut.size());
+		assertTrue(databases.stream().noneMatch(RrdDb::isClosed));
+
+		// Reading a pinned database is a hit
+		try (var lease = sut.lease("db0", false, () -> createRrdDb("db0"))) {
+			assertSame(databases.get(0), lease.get());
+		}
+		assertEquals(5, sut.pinnedSize());
+	}
+
+	@Test
+	public void testUnpin() throws IOException {
+		final var clock = new TimeLeapClock();
+		final var sut = new RrdDbCache(2, PIN_TIMEOUT, clock);
+
+		final var db0 = sut.lease("db0", true, () -> createRrdDb("db0"));
+		db0.close();
+		clock.leap(1, ChronoUnit.MINUTES);
+		final var db1 = sut.lease("db1", true, () -> createRrdDb("db1"));
+		db1.close();
+		clock.leap(1, ChronoUnit.MINUTES);
+		final var db2 = sut.lease("db2", true, () -> createRrdDb("db2"));
+		db2.close();
+
+		// Pinning a database of the read path
+		final var read0 = sut.lease("read0", false, () -> createRrdDb("read0"));
+		read0.close();
+		sut.lease("read0", true, () -> null).close();
+		assertEquals(4, sut.pinnedSize());
+
+		// Only db2 is still written
+		clock.leap(10, ChronoUnit.MINUTES);
+		sut.lease("db2", true, () -> null).close();
+		assertEquals(4, sut.pinnedSize());
+		clock.leap(10, ChronoUnit.MINUTES);
+		sut.lease("db2", true, () -> null).close();
+
+		// Unpinned databases are moved to the bounded cache; the least-recently
+		// pinned one is evicted
+		assertEquals(1, sut.pinnedSize());
+		assertEquals(3, sut.size());
+		assertTrue(db0.get().isClosed());
+		assertFalse(db1.get().isClosed());
+		assertFalse(db2.get().isClosed());
+		assertFalse(read0.get().isClosed());
+	}
+
+}
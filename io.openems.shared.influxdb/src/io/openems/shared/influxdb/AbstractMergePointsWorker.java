@@ -1,16 +1,22 @@
 package io.openems.shared.influxdb;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
 import com.influxdb.client.write.WriteParameters;
 import com.influxdb.exceptions.BadRequestException;
@@ -22,6 +28,8 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 	private static final int MAX_POINTS_PER_WRITE = 1_000;
 	private static final int MAX_AGGREGATE_WAIT = 10; // [s]
 	private static final int POINTS_QUEUE_SIZE = 1_000_000;
+	private static final int SPOOL_SYNC_INTERVAL = 1; // [s]
+	private static final int REPLAY_RETRY_DELAY = 10; // [s]
 
 	private final Logger log = LoggerFactory.getLogger(MergePointsWorker.class);
 
@@ -32,12 +40,23 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 
 	private final BlockingQueue<T> pointsQueue = new LinkedBlockingQueue<>(POINTS_QUEUE_SIZE);
 
+	/** Write-Ahead-Spool for Points that could not be written; null if disabled. */
+	private final WriteAheadSpool spool;
+	private final AtomicBoolean isReplaying = new AtomicBoolean(false);
+	private final AtomicLong replayedPoints = new AtomicLong();
+	private volatile Instant nextReplay = Instant.MIN;
+	private Instant nextSpoolSync = Instant.MIN;
+	private long lastReplayedPoints = 0;
+	private Instant lastReplayRateAt = Instant.now();
+	private volatile double replayRate = 0; // [points/s]
+
 	public AbstractMergePointsWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
 			Consumer<BadRequestException> onWriteError) {
 		this.parent = parent;
 		this.name = name;
 		this.writeParameters = writeParameters;
 		this.onWriteError = onWriteError;
+		this.spool = parent.openSpool(name);
 	}
 
 	@Override
@@ -45,10 +64,27 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 		this.activate("TimescaleDB-MergePoints" + this.name);
 	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		if (this.spool != null) {
+			try {
+				this.spool.close();
+			} catch (IOException e) {
+				this.log.warn("Unable to close " + this.spool + ": " + e.getMessage());
+			}
+		}
+	}
+
 	@Override
 	protected void forever() throws InterruptedException {
 		var points = this.pollPoints();
 
+		if (this.spool != null) {
+			this.syncSpool();
+			this.replaySpool();
+		}
+
 		if (points.isEmpty()) {
 			return;
 		}
@@ -58,6 +94,8 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 		 */
 		this.parent.executor.execute(() -> {
 			if (this.parent.queryProxy.isLimitReached()) {
+				// Points that cannot be spooled are dropped, as without a spool
+				this.spool(points);
 				return;
 			}
 			try {
@@ -65,7 +103,150 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 				this.parent.queryProxy.queryLimit.decrease();
 			} catch (Throwable t) {
 				this.parent.queryProxy.queryLimit.increase();
-				this.onWriteError(t, points);
+				if (t instanceof BadRequestException) {
+					this.onWriteError(t, points);
+					return;
+				}
+				var notSpooled = this.spool(points);
+				if (notSpooled.size() < points.size()) {
+					this.log.warn("Unable to write to InfluxDB. Spooled [" + (points.size() - notSpooled.size())
+							+ "] points. " + t.getClass().getSimpleName() + ": " + t.getMessage());
+					this.nextReplay = Instant.now().plusSeconds(REPLAY_RETRY_DELAY);
+				}
+				if (!notSpooled.isEmpty()) {
+					this.onWriteError(t, notSpooled);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Appends Points to the {@link WriteAheadSpool}.
+	 *
+	 * <p>
+	 * Points are stored in line protocol, prefixed with their
+	 * {@link WritePrecision}.
+	 *
+	 * @param points the points
+	 * @return the points that were not spooled; all points if the spool is
+	 *         disabled
+	 */
+	private List<T> spool(List<T> points) {
+		if (this.spool == null) {
+			return points;
+		}
+		var notSpooled = new ArrayList<T>();
+		for (var i = 0; i < points.size(); i++) {
+			var point = points.get(i);
+			try {
+				if (!this.appendToSpool(point)) {
+					notSpooled.add(point);
+				}
+			} catch (IOException e) {
+				this.log.error("Unable to append to " + this.spool + ": " + e.getMessage());
+				notSpooled.addAll(points.subList(i, points.size()));
+				break;
+			}
+		}
+		if (!notSpooled.isEmpty()) {
+			this.log.warn("Unable to spool [" + notSpooled.size() + "] of [" + points.size() + "] points");
+		}
+		return notSpooled;
+	}
+
+	private boolean appendToSpool(T point) throws IOException {
+		for (var p : this.writePoints(List.of(point))) {
+			var line = p.toLineProtocol().getBytes(StandardCharsets.UTF_8);
+			var record = new byte[line.length + 1];
+			record[0] = (byte) p.getPrecision().ordinal();
+			System.arraycopy(line, 0, record, 1, line.length);
+			if (!this.spool.append(record)) {
+				// Record is larger than a segment
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Forces the {@link WriteAheadSpool} to disk; at most once per
+	 * {@link #SPOOL_SYNC_INTERVAL}.
+	 */
+	private void syncSpool() {
+		var now = Instant.now();
+		if (now.isBefore(this.nextSpoolSync)) {
+			return;
+		}
+		this.nextSpoolSync = now.plusSeconds(SPOOL_SYNC_INTERVAL);
+		try {
+			this.spool.sync();
+		} catch (IOException e) {
+			this.log.error("Unable to sync " + this.spool + ": " + e.getMessage());
+		}
+
+		// Update replay rate
+		var replayed = this.replayedPoints.get();
+		var seconds = (now.toEpochMilli() - this.lastReplayRateAt.toEpochMilli()) / 1000.;
+		if (seconds > 0) {
+			this.replayRate = (replayed - this.lastReplayedPoints) / seconds;
+		}
+		this.lastReplayedPoints = replayed;
+		this.lastReplayRateAt = now;
+	}
+
+	/**
+	 * Replays one batch of spooled Points, if the database is available.
+	 *
+	 * <p>
+	 * Only one batch is in flight at a time and only if the executor is idle, so
+	 * replaying never delays current data.
+	 */
+	private void replaySpool() {
+		if (this.spool.getPendingRecords() == 0 //
+				|| Instant.now().isBefore(this.nextReplay) //
+				|| this.parent.queryProxy.isLimitReached() //
+				|| !this.parent.executor.getQueue().isEmpty() //
+				|| !this.isReplaying.compareAndSet(false, true)) {
+			return;
+		}
+		this.parent.executor.execute(() -> {
+			WriteAheadSpool.Batch batch = null;
+			try {
+				batch = this.spool.read(MAX_POINTS_PER_WRITE);
+				var linesByPrecision = new EnumMap<WritePrecision, List<String>>(WritePrecision.class);
+				for (var record : batch.records()) {
+					linesByPrecision.computeIfAbsent(WritePrecision.values()[record[0]], p -> new ArrayList<>()) //
+							.add(new String(record, 1, record.length - 1, StandardCharsets.UTF_8));
+				}
+				final var connection = this.parent.getInfluxConnection();
+				for (var entry : linesByPrecision.entrySet()) {
+					connection.writeApi.writeRecords(//
+							this.writeParameters.bucketSafe(this.parent.defaultOptions), //
+							this.writeParameters.orgSafe(this.parent.defaultOptions), //
+							entry.getKey(), entry.getValue());
+				}
+				this.spool.commit(batch);
+				this.replayedPoints.addAndGet(batch.records().size());
+				this.parent.queryProxy.queryLimit.decrease();
+
+			} catch (BadRequestException e) {
+				// Points are invalid and will never be accepted
+				this.log.warn("Unable to replay spooled points. Dropping batch. " + e.getMessage());
+				this.onWriteError.accept(e);
+				try {
+					this.spool.commit(batch);
+				} catch (IOException e1) {
+					this.log.error("Unable to commit " + this.spool + ": " + e1.getMessage());
+				}
+
+			} catch (Throwable t) {
+				this.parent.queryProxy.queryLimit.increase();
+				this.nextReplay = Instant.now().plusSeconds(REPLAY_RETRY_DELAY);
+				this.log.warn("Unable to replay spooled points. " + t.getClass().getSimpleName() + ": "
+						+ t.getMessage());
+
+			} finally {
+				this.isReplaying.set(false);
 			}
 		});
 	}
@@ -98,13 +279,18 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 	/**
 	 * Inserts the specified element into this queue if it is possible to do so
 	 * immediately without violating capacity restrictions, returning true upon
-	 * success and false if no space is currently available.
+	 * success and false if no space is currently available. If the queue is full
+	 * the point is appended to the {@link WriteAheadSpool} if available.
 	 * 
 	 * @param point the point to add
-	 * @return true if the point was added to this queue, else false
+	 * @return true if the point was added to this queue or spool, else false
 	 */
 	public boolean offer(T point) {
-		return this.pointsQueue.offer(point);
+		if (this.pointsQueue.offer(point)) {
+			return true;
+		}
+		// Queue is full: spool instead of dropping
+		return this.spool(List.of(point)).isEmpty();
 	}
 
 	@Override
@@ -117,6 +303,17 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 				.append("/") //
 				.append(POINTS_QUEUE_SIZE) //
 				.append((pointsQueueSize == POINTS_QUEUE_SIZE) ? " !!!POINTS BACKPRESSURE!!!" : "") //
+				.append(this.spool == null ? "" : new StringBuilder() //
+						.append("|Spool:") //
+						.append(this.spool.getPendingRecords()) //
+						.append("[") //
+						.append(this.spool.getPendingBytes() / 1024) //
+						.append("kB]|Replay:") //
+						.append(Math.round(this.replayRate)) //
+						.append("/s") //
+						.append(this.spool.getDroppedRecords() > 0 //
+								? "|Dropped:" + this.spool.getDroppedRecords()
+								: "")) //
 				.toString();
 	}
 
@@ -1,8 +1,11 @@
 package io.openems.shared.influxdb;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -31,9 +34,11 @@ import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
 import com.influxdb.client.write.WriteParameters;
 import com.influxdb.exceptions.BadRequestException;
+import com.influxdb.exceptions.InfluxException;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.timedata.HistoricData;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.ThreadPoolUtils;
@@ -60,6 +65,10 @@ public class InfluxConnector {
 	private final boolean isReadOnly;
 	private final boolean safeWrite;
 
+	private final Path spoolDirectory;
+	private final long spoolMaxSize;
+
+	protected final InfluxDBClientOptions defaultOptions;
 	private final WriteParameters defaultWriteParameters;
 	private final Map<WriteParameters, MergePointsWorker> mergePointsWorkerByWriteParameters = new HashMap<>();
 	private final AtomicInteger rejectedExecutionCount = new AtomicInteger();
@@ -80,14 +89,19 @@ public class InfluxConnector {
 	 * @param poolSize      the number of threads dedicated to handle the tasks
 	 * @param maxQueueSize  queue size limit for executor
 	 * @param onWriteError  A consumer for write-errors
-	 * @param safeWrite     Adds back points to the queue if a write fails
-	 * @param parameters    the {@link WriteParameters} to create a
-	 *                      {@link MergePointsWorker} for. All later used
-	 *                      {@link WriteParameters} need to be passed here
+	 * @param safeWrite      Adds back points to the queue if a write fails
+	 * @param spoolDirectory the directory of the {@link WriteAheadSpool} for
+	 *                       points that could not be written; null to disable
+	 * @param spoolMaxSize   the maximum size of the {@link WriteAheadSpool} per
+	 *                       {@link WriteParameters} in bytes
+	 * @param parameters     the {@link WriteParameters} to create a
+	 *                       {@link MergePointsWorker} for. All later used
+	 *                       {@link WriteParameters} need to be passed here
 	 */
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
 			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
-			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, Path spoolDirectory, long spoolMaxSize,
+			WriteParameters... parameters) {
 		this.queryProxy = QueryProxy.from(queryLanguage, tag);
 		this.url = url;
 		this.org = org;
@@ -95,6 +109,13 @@ public class InfluxConnector {
 		this.bucket = bucket;
 		this.isReadOnly = isReadOnly;
 		this.safeWrite = safeWrite;
+		this.spoolDirectory = spoolDirectory;
+		this.spoolMaxSize = spoolMaxSize;
+		this.defaultOptions = InfluxDBClientOptions.builder() //
+				.url(this.url.toString()) //
+				.org(this.org) //
+				.bucket(this.bucket) //
+				.build();
 
 		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
 				new LinkedBlockingQueue<Runnable>(maxQueueSize), //
@@ -120,20 +141,22 @@ public class InfluxConnector {
 		defaultMergePointsWorker.activate();
 		this.mergePointsWorkerByWriteParameters.put(this.defaultWriteParameters, defaultMergePointsWorker);
 
-		final var defaultOptions = InfluxDBClientOptions.builder() //
-				.url(this.url.toString()) //
-				.org(this.org) //
-				.bucket(this.bucket) //
-				.build();
 		// initialize merge points worker for specific write parameters
 		for (var writeParameters : parameters) {
-			final var mergePointsWorker = mergePointsWorkerFactory.apply(writeParameters.bucketSafe(defaultOptions),
-					writeParameters);
+			final var mergePointsWorker = mergePointsWorkerFactory
+					.apply(writeParameters.bucketSafe(this.defaultOptions), writeParameters);
 			mergePointsWorker.activate();
 			this.mergePointsWorkerByWriteParameters.put(writeParameters, mergePointsWorker);
 		}
 	}
 
+	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
+			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+		this(componentId, queryLanguage, url, org, apiKey, bucket, tag, isReadOnly, poolSize, maxQueueSize,
+				onWriteError, safeWrite, null, 0, parameters);
+	}
+
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
 			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
 			Consumer<BadRequestException> onWriteError, WriteParameters... parameters) {
@@ -169,6 +192,27 @@ public class InfluxConnector {
 				.toString();
 	}
 
+	/**
+	 * Opens the {@link WriteAheadSpool} of a {@link MergePointsWorker}.
+	 *
+	 * @param name the name of the {@link MergePointsWorker}
+	 * @return the {@link WriteAheadSpool}; null if disabled or on error
+	 */
+	protected WriteAheadSpool openSpool(String name) {
+		if (this.spoolDirectory == null || this.isReadOnly) {
+			return null;
+		}
+		var directory = this.spoolDirectory.resolve(name.replaceAll("[^A-Za-z0-9_.-]", "_"));
+		try {
+			var segmentSize = WriteAheadSpool.calculateSegmentSize(this.spoolMaxSize);
+			return new WriteAheadSpool(directory, segmentSize,
+					WriteAheadSpool.calculateMaxSegments(this.spoolMaxSize, segmentSize));
+		} catch (IOException | IllegalArgumentException e) {
+			this.log.error("Unable to open Spool [" + directory + "]: " + e.getMessage());
+			return null;
+		}
+	}
+
 	private InfluxConnection influxConnection = null;
 
 	/**
@@ -344,6 +388,31 @@ public class InfluxConnector {
 				fromDate, toDate, channels, resolution);
 	}
 
+	/**
+	 * Queries historic data in columnar form.
+	 *
+	 * @param influxEdgeId the unique, numeric Edge-ID; or Empty to query all Edges
+	 * @param fromDate     the From-Date
+	 * @param toDate       the To-Date
+	 * @param channels     the Channels to query
+	 * @param resolution   the resolution in seconds
+	 * @param measurement  the measurement
+	 * @return the historic data
+	 * @throws OpenemsException on error
+	 */
+	public HistoricData queryHistoricDataColumnar(Optional<Integer> influxEdgeId, ZonedDateTime fromDate,
+			ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution, String measurement)
+			throws OpenemsNamedException {
+
+		// handle empty call
+		if (channels.isEmpty()) {
+			return HistoricData.create(fromDate.getZone()).build();
+		}
+
+		return this.queryProxy.queryHistoricDataColumnar(this.getInfluxConnection(), this.bucket, measurement,
+				influxEdgeId, fromDate, toDate, channels, resolution);
+	}
+
 	/**
 	 * Queries the last value for given channel address from now to 100 days in the
 	 * past.
@@ -441,6 +510,46 @@ public class InfluxConnector {
 		mergePointsWorker.offer(point);
 	}
 
+	/**
+	 * Writes Points synchronously in the calling thread.
+	 *
+	 * <p>
+	 * Bypasses the {@link MergePointsWorker}s and the executor. Used for
+	 * low-priority bulk writes that run on their own thread; see
+	 * {@link #isWriteBacklogged()}.
+	 *
+	 * @param points the InfluxDB Points; Points without fields are ignored
+	 * @throws InfluxException on error
+	 */
+	public void writeBlocking(List<Point> points) throws InfluxException {
+		if (this.isReadOnly) {
+			return;
+		}
+		var pointsWithFields = points.stream() //
+				.filter(Point::hasFields) //
+				.toList();
+		if (pointsWithFields.isEmpty()) {
+			return;
+		}
+		try {
+			this.getInfluxConnection().writeApi.writePoints(pointsWithFields, this.defaultWriteParameters);
+			this.queryProxy.queryLimit.decrease();
+		} catch (InfluxException e) {
+			this.queryProxy.queryLimit.increase();
+			throw e;
+		}
+	}
+
+	/**
+	 * Is the writing of current data backlogged, i.e. are tasks waiting in the
+	 * executor queue or is the limit reached?.
+	 *
+	 * @return true if backlogged
+	 */
+	public boolean isWriteBacklogged() {
+		return !this.executor.getQueue().isEmpty() || this.queryProxy.isLimitReached();
+	}
+
 	/**
 	 * Gets the edges which already have the available since field set. Mapped from
 	 * edgeId to timestamp of availableSince. The timestamp should be in epoch
@@ -0,0 +1,511 @@
+package io.openems.shared.influxdb;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Durable, segment-based write-ahead spool for records that could not be
+ * written to the database.
+ *
+ * <p>
+ * Records are appended to memory-mapped segment files of fixed size. Each
+ * record is stored as [length][crc32][payload]; the length is written last, so
+ * a torn write is detected on recovery. Corrupt records are skipped using
+ * their length header. {@link #sync()} forces the current
+ * segment to disk and persists the read position, so it can be called in
+ * batches instead of per record.
+ *
+ * <p>
+ * Records are replayed via {@link #read(int)} and {@link #commit(Batch)}
+ * (at-least-once). Segments are deleted once they are fully replayed; if the
+ * maximum number of segments is exceeded, the oldest segment is dropped.
+ */
+public class WriteAheadSpool implements AutoCloseable {
+
+	public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024; // [byte]
+	public static final int MIN_SEGMENT_SIZE = 64 * 1024; // [byte]
+	public static final int MIN_SEGMENTS = 2;
+
+	private static final String SEGMENT_SUFFIX = ".spool";
+	private static final String CHECKPOINT_FILE = "checkpoint";
+	private static final int HEADER_SIZE = 8; // length + crc32
+
+	private final Logger log = LoggerFactory.getLogger(WriteAheadSpool.class);
+
+	/**
+	 * Records read from the spool.
+	 *
+	 * @param records        the records
+	 * @param corruptRecords the number of skipped corrupt records
+	 * @param bytes          the size of the records on disk, including corrupt
+	 *                       records
+	 * @param startSegment   the segment of the first record
+	 * @param startPosition  the position of the first record
+	 * @param endSegment     the segment after the last record
+	 * @param endPosition    the position after the last record
+	 */
+	public static record Batch(List<byte[]> records, int corruptRecords, long bytes, long startSegment,
+			int startPosition, long endSegment, int endPosition) {
+
+		/**
+		 * Is this {@link Batch} empty?.
+		 *
+		 * @return true if there are no records, not even corrupt ones
+		 */
+		public boolean isEmpty() {
+			return this.records.isEmpty() && this.corruptRecords == 0;
+		}
+	}
+
+	private final Path directory;
+	private final int configuredSegmentSize;
+	private final int maxSegments;
+
+	/**
+	 * The size of the segment files. Differs from the configured size while
+	 * segments of a previous configuration are recovered.
+	 */
+	private int segmentSize;
+	private final TreeSet<Long> segments = new TreeSet<>();
+
+	private long writeSegment = -1;
+	private MappedByteBuffer writeBuffer = null;
+
+	private long readSegment = 0;
+	private int readPosition = 0;
+	private long readBufferSegment = -1;
+	private ByteBuffer readBuffer = null;
+
+	private long pendingRecords = 0;
+	private long pendingBytes = 0;
+	private long droppedRecords = 0;
+	private boolean isDirty = false;
+
+	/**
+	 * Opens a spool; recovers existing segments.
+	 *
+	 * @param directory   the directory of the segment files
+	 * @param segmentSize the size of one segment file in bytes
+	 * @param maxSegments the maximum number of segment files
+	 * @throws IOException on error
+	 */
+	public WriteAheadSpool(Path directory, int segmentSize, int maxSegments) throws IOException {
+		if (segmentSize <= HEADER_SIZE) {
+			throw new IllegalArgumentException("Segment size [" + segmentSize + "] is too small");
+		}
+		this.directory = directory;
+		this.configuredSegmentSize = segmentSize;
+		this.segmentSize = segmentSize;
+		this.maxSegments = Math.max(MIN_SEGMENTS, maxSegments);
+		Files.createDirectories(directory);
+		this.recover();
+	}
+
+	/**
+	 * Appends a record.
+	 *
+	 * @param record the payload
+	 * @return false if the record is empty or larger than a segment
+	 * @throws IOException on error
+	 */
+	public synchronized boolean append(byte[] record) throws IOException {
+		var size = HEADER_SIZE + record.length;
+		if (record.length == 0 || size > this.segmentSize) {
+			return false;
+		}
+		if (this.writeBuffer == null || this.writeBuffer.remaining() < size) {
+			this.rollSegment();
+		}
+		var crc = new CRC32();
+		crc.update(record);
+		var position = this.writeBuffer.position();
+		this.writeBuffer.putInt(position + 4, (int) crc.getValue());
+		this.writeBuffer.put(position + HEADER_SIZE, record);
+		// Length is written last, so the record only becomes visible when complete
+		this.writeBuffer.putInt(position, record.length);
+		this.writeBuffer.position(position + size);
+
+		this.pendingRecords++;
+		this.pendingBytes += size;
+		this.isDirty = true;
+		return true;
+	}
+
+	/**
+	 * Reads the next records without removing them. Call
+	 * {@link #commit(Batch)} after they were written successfully.
+	 *
+	 * @param maxRecords the maximum number of records
+	 * @return the {@link Batch}; possibly empty
+	 * @throws IOException on error
+	 */
+	public synchronized Batch read(int maxRecords) throws IOException {
+		var records = new ArrayList<byte[]>();
+		var corruptRecords = 0;
+		var bytes = 0L;
+		var segment = this.readSegment;
+		var position = this.readPosition;
+		while (records.size() < maxRecords && this.segments.contains(segment)) {
+			var buffer = this.getReadBuffer(segment);
+			var length = readLength(buffer, position, segment == this.writeSegment //
+					? this.writeBuffer.position()
+					: this.segmentSize);
+			if (length <= 0) {
+				// End of segment
+				var next = this.segments.higher(segment);
+				if (next == null) {
+					break;
+				}
+				segment = next;
+				position = 0;
+				continue;
+			}
+			var record = new byte[length];
+			buffer.get(position + HEADER_SIZE, record);
+			var crc = new CRC32();
+			crc.update(record);
+			if (buffer.getInt(position + 4) != (int) crc.getValue()) {
+				this.log.warn("Spool [" + this.directory + "] skips corrupt Record in Segment [" + segment + "] at ["
+						+ position + "]");
+				corruptRecords++;
+			} else {
+				records.add(record);
+			}
+			bytes += HEADER_SIZE + length;
+			position += HEADER_SIZE + length;
+		}
+		return new Batch(records, corruptRecords, bytes, this.readSegment, this.readPosition, segment, position);
+	}
+
+	/**
+	 * Removes the records of a {@link Batch} from the spool. Fully replayed
+	 * segments are deleted.
+	 *
+	 * @param batch the {@link Batch} from {@link #read(int)}
+	 * @throws IOException on error
+	 */
+	public synchronized void commit(Batch batch) throws IOException {
+		if (batch.isEmpty() || batch.startSegment != this.readSegment
+				|| batch.startPosition != this.readPosition) {
+			// Read position was moved in between, e.g. by dropping a segment
+			return;
+		}
+		for (var segment : List.copyOf(this.segments.headSet(batch.endSegment))) {
+			this.deleteSegment(segment);
+		}
+		this.readSegment = batch.endSegment;
+		this.readPosition = batch.endPosition;
+		this.pendingRecords = Math.max(0, this.pendingRecords - batch.records.size() - batch.corruptRecords);
+		this.pendingBytes = Math.max(0, this.pendingBytes - batch.bytes);
+		this.isDirty = true;
+
+		if (this.pendingRecords == 0) {
+			this.compact();
+		}
+	}
+
+	/**
+	 * Forces written records and the read position to disk.
+	 *
+	 * @throws IOException on error
+	 */
+	public synchronized void sync() throws IOException {
+		if (!this.isDirty) {
+			return;
+		}
+		if (this.writeBuffer != null) {
+			this.writeBuffer.force();
+		}
+		var checkpoint = ByteBuffer.allocate(16) //
+				.putLong(this.readSegment) //
+				.putLong(this.readPosition) //
+				.array();
+		var tmp = this.directory.resolve(CHECKPOINT_FILE + ".tmp");
+		Files.write(tmp, checkpoint);
+		Files.move(tmp, this.directory.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+		this.isDirty = false;
+	}
+
+	/**
+	 * Gets the number of records that are waiting for replay.
+	 *
+	 * @return the number of records
+	 */
+	public synchronized long getPendingRecords() {
+		return this.pendingRecords;
+	}
+
+	/**
+	 * Gets the size of the records that are waiting for replay.
+	 *
+	 * @return the size in bytes
+	 */
+	public synchronized long getPendingBytes() {
+		return this.pendingBytes;
+	}
+
+	/**
+	 * Gets the number of records that were dropped because the spool was full.
+	 *
+	 * @return the number of records
+	 */
+	public synchronized long getDroppedRecords() {
+		return this.droppedRecords;
+	}
+
+	/**
+	 * Gets the number of segment files.
+	 *
+	 * @return the number of segments
+	 */
+	public synchronized int getNumberOfSegments() {
+		return this.segments.size();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		this.sync();
+		this.writeBuffer = null;
+		this.readBuffer = null;
+		this.readBufferSegment = -1;
+	}
+
+	private void recover() throws IOException {
+		try (var files = Files.list(this.directory)) {
+			files.map(f -> f.getFileName().toString()) //
+					.filter(f -> f.endsWith(SEGMENT_SUFFIX)) //
+					.forEach(f -> {
+						try {
+							this.segments.add(Long.parseLong(f.substring(0, f.length() - SEGMENT_SUFFIX.length())));
+						} catch (NumberFormatException e) {
+							this.log.warn("Spool [" + this.directory + "] ignores File [" + f + "]");
+						}
+					});
+		}
+		var checkpoint = this.directory.resolve(CHECKPOINT_FILE);
+		if (Files.exists(checkpoint)) {
+			var buffer = ByteBuffer.wrap(Files.readAllBytes(checkpoint));
+			if (buffer.remaining() == 16) {
+				this.readSegment = buffer.getLong();
+				this.readPosition = (int) buffer.getLong();
+			}
+		}
+		// Remove segments that were already replayed
+		for (var segment : List.copyOf(this.segments.headSet(this.readSegment))) {
+			this.deleteSegment(segment);
+		}
+		if (this.segments.isEmpty()) {
+			this.readPosition = 0;
+			return;
+		}
+		if (!this.segments.contains(this.readSegment)) {
+			this.readSegment = this.segments.first();
+			this.readPosition = 0;
+		}
+
+		// Keep the size of existing segments until the spool is empty
+		var existingSegmentSize = Files.size(this.segmentFile(this.segments.first()));
+		if (existingSegmentSize > HEADER_SIZE && existingSegmentSize <= Integer.MAX_VALUE
+				&& existingSegmentSize != this.segmentSize) {
+			this.log.info("Spool [" + this.directory + "] uses existing Segment size [" + existingSegmentSize
+					+ "] until it is empty");
+			this.segmentSize = (int) existingSegmentSize;
+		}
+
+		// Count pending records and find the end of the last segment
+		for (var segment : this.segments) {
+			var buffer = this.getReadBuffer(segment);
+			var start = segment == this.readSegment ? this.readPosition : 0;
+			var position = 0;
+			while (true) {
+				var length = readLength(buffer, position, this.segmentSize);
+				if (length <= 0) {
+					break;
+				}
+				var record = new byte[length];
+				buffer.get(position + HEADER_SIZE, record);
+				var crc = new CRC32();
+				crc.update(record);
+				if (buffer.getInt(position + 4) != (int) crc.getValue() && segment == this.segments.last()) {
+					// Torn write; is overwritten by the next record
+					break;
+				}
+				// Corrupt records in older segments are counted and skipped by read()
+				if (position >= start) {
+					this.pendingRecords++;
+					this.pendingBytes += HEADER_SIZE + length;
+				}
+				position += HEADER_SIZE + length;
+			}
+			if (segment == this.segments.last()) {
+				this.writeSegment = segment;
+				this.writeBuffer = this.map(segment);
+				this.writeBuffer.position(position);
+				if (this.readSegment == segment && this.readPosition > position) {
+					this.readPosition = position;
+				}
+			}
+		}
+		this.readBuffer = null;
+		this.readBufferSegment = -1;
+		if (this.pendingRecords > 0) {
+			this.log.info("Spool [" + this.directory + "] recovered [" + this.pendingRecords + "] records in ["
+					+ this.segments.size() + "] segments");
+		}
+	}
+
+	private static int readLength(ByteBuffer buffer, int position, int limit) {
+		if (position + HEADER_SIZE > limit) {
+			return 0;
+		}
+		var length = buffer.getInt(position);
+		if (length <= 0 || position + HEADER_SIZE + length > limit) {
+			return 0;
+		}
+		return length;
+	}
+
+	private void rollSegment() throws IOException {
+		var segment = this.segments.isEmpty() ? Math.max(this.writeSegment + 1, this.readSegment)
+				: this.segments.last() + 1;
+		this.writeBuffer = this.map(segment);
+		this.writeSegment = segment;
+		this.segments.add(segment);
+		if (this.segments.size() == 1) {
+			this.readSegment = segment;
+			this.readPosition = 0;
+		}
+		this.isDirty = true;
+
+		// Drop the oldest segment if the spool is full
+		while (this.segments.size() > this.maxSegments) {
+			this.dropOldestSegment();
+		}
+	}
+
+	private void dropOldestSegment() throws IOException {
+		var segment = this.segments.first();
+		var buffer = this.getReadBuffer(segment);
+		var position = segment == this.readSegment ? this.readPosition : 0;
+		var records = 0L;
+		var bytes = 0L;
+		while (true) {
+			var length = readLength(buffer, position, this.segmentSize);
+			if (length <= 0) {
+				break;
+			}
+			records++;
+			bytes += HEADER_SIZE + length;
+			position += HEADER_SIZE + length;
+		}
+		this.deleteSegment(segment);
+		this.readSegment = this.segments.first();
+		this.readPosition = 0;
+		this.pendingRecords = Math.max(0, this.pendingRecords - records);
+		this.pendingBytes = Math.max(0, this.pendingBytes - bytes);
+		this.droppedRecords += records;
+		this.log.warn("Spool [" + this.directory + "] is full. Dropped [" + records + "] records");
+	}
+
+	private void compact() throws IOException {
+		for (var segment : List.copyOf(this.segments)) {
+			this.deleteSegment(segment);
+		}
+		this.writeBuffer = null;
+		this.readSegment = this.writeSegment + 1;
+		this.readPosition = 0;
+		this.pendingBytes = 0;
+		this.segmentSize = this.configuredSegmentSize;
+	}
+
+	private void deleteSegment(long segment) throws IOException {
+		this.segments.remove(segment);
+		if (this.readBufferSegment == segment) {
+			this.readBuffer = null;
+			this.readBufferSegment = -1;
+		}
+		if (this.writeSegment == segment) {
+			this.writeBuffer = null;
+		}
+		try {
+			Files.deleteIfExists(this.segmentFile(segment));
+		} catch (IOException e) {
+			// e.g. file is still mapped on Windows; is deleted on next recovery
+			this.log.warn("Spool [" + this.directory + "] unable to delete Segment [" + segment + "]: "
+					+ e.getMessage());
+		}
+	}
+
+	private ByteBuffer getReadBuffer(long segment) throws IOException {
+		if (segment == this.writeSegment && this.writeBuffer != null) {
+			return this.writeBuffer;
+		}
+		if (this.readBufferSegment != segment) {
+			this.readBuffer = this.map(segment);
+			this.readBufferSegment = segment;
+		}
+		return this.readBuffer;
+	}
+
+	private MappedByteBuffer map(long segment) throws IOException {
+		try (var file = new RandomAccessFile(this.segmentFile(segment).toFile(), "rw")) {
+			if (file.length() != this.segmentSize) {
+				file.setLength(this.segmentSize);
+			}
+			return file.getChannel().map(MapMode.READ_WRITE, 0, this.segmentSize);
+		}
+	}
+
+	private Path segmentFile(long segment) {
+		return this.directory.resolve(String.format("%020d", segment) + SEGMENT_SUFFIX);
+	}
+
+	@Override
+	public String toString() {
+		return "WriteAheadSpool[" + this.directory + "]";
+	}
+
+	/**
+	 * Calculates the size of one segment for a total spool size, so that at least
+	 * {@link #MIN_SEGMENTS} segments fit.
+	 *
+	 * @param maxSize the maximum size in bytes
+	 * @return the size of one segment in bytes; at most
+	 *         {@link #DEFAULT_SEGMENT_SIZE}
+	 * @throws IllegalArgumentException if maxSize is smaller than
+	 *                                  {@link #MIN_SEGMENTS} times
+	 *                                  {@link #MIN_SEGMENT_SIZE}
+	 */
+	public static int calculateSegmentSize(long maxSize) throws IllegalArgumentException {
+		if (maxSize < (long) MIN_SEGMENTS * MIN_SEGMENT_SIZE) {
+			throw new IllegalArgumentException("Spool size [" + maxSize + "] is too small. Minimum is ["
+					+ MIN_SEGMENTS * MIN_SEGMENT_SIZE + "]");
+		}
+		return (int) Math.min(DEFAULT_SEGMENT_SIZE, maxSize / MIN_SEGMENTS);
+	}
+
+	/**
+	 * Calculates the maximum number of segments for a total spool size.
+	 *
+	 * @param maxSize     the maximum size in bytes
+	 * @param segmentSize the size of one segment in bytes
+	 * @return the number of segments
+	 */
+	public static int calculateMaxSegments(long maxSize, int segmentSize) {
+		return (int) Math.max(MIN_SEGMENTS, Math.min(Integer.MAX_VALUE, maxSize / segmentSize));
+	}
+}
@@ -23,6 +23,7 @@ import com.influxdb.query.dsl.functions.restriction.Restrictions;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.timedata.HistoricData;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.CollectorUtils;
@@ -72,6 +73,21 @@ public class FluxProxy extends QueryProxy {
 			ZonedDateTime toDate, //
 			Set<ChannelAddress> channels, //
 			Resolution resolution //
+	) throws OpenemsNamedException {
+		return this.queryHistoricDataColumnar(influxConnection, bucket, measurement, influxEdgeId, fromDate, toDate,
+				channels, resolution).toMap();
+	}
+
+	@Override
+	public HistoricData queryHistoricDataColumnar(//
+			InfluxConnection influxConnection, //
+			String bucket, //
+			String measurement, //
+			Optional<Integer> influxEdgeId, //
+			ZonedDateTime fromDate, //
+			ZonedDateTime toDate, //
+			Set<ChannelAddress> channels, //
+			Resolution resolution //
 	) throws OpenemsNamedException {
 		var query = this.buildHistoricDataQuery(bucket, measurement, influxEdgeId, fromDate, toDate, channels,
 				resolution);
@@ -92,7 +108,7 @@ public class FluxProxy extends QueryProxy {
 		var query = this.buildHistoricEnergyPerPeriodQuery(bucket, measurement, influxEdgeId, fromDate, toDate,
 				channels, resolution);
 		var queryResult = this.executeQuery(influxConnection, query);
-		return convertHistoricDataQueryResult(queryResult, fromDate, resolution);
+		return convertHistoricDataQueryResult(queryResult, fromDate, resolution).toMap();
 	}
 
 	@Override
@@ -304,19 +320,22 @@ public class FluxProxy extends QueryProxy {
 	}
 
 	/**
-	 * Converts the QueryResult of a Historic-Data query to a properly typed Table.
+	 * Converts the QueryResult of a Historic-Data query to a properly typed
+	 * {@link HistoricData}.
 	 *
 	 * @param queryResult the Query-Result
 	 * @param fromDate    start date from query
 	 * @param resolution  {@link Resolution} to revert InfluxDB offset
-	 * @return the historic data as Map
+	 * @return the historic data
 	 * @throws OpenemsException on error
 	 */
-	private static SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> convertHistoricDataQueryResult(
-			List<FluxTable> queryResult, ZonedDateTime fromDate, Resolution resolution) throws OpenemsNamedException {
-		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table = new TreeMap<>();
+	private static HistoricData convertHistoricDataQueryResult(List<FluxTable> queryResult, ZonedDateTime fromDate,
+			Resolution resolution) throws OpenemsNamedException {
+		var builder = HistoricData.create(fromDate.getZone());
 
 		for (FluxTable fluxTable : queryResult) {
+			ChannelAddress channelAddress = null;
+			String field = null;
 			for (FluxRecord record : fluxTable.getRecords()) {
 				var timestamp = ZonedDateTime.ofInstant(record.getTime(), fromDate.getZone());
 
@@ -326,29 +345,26 @@ public class FluxProxy extends QueryProxy {
 				}
 				timestamp = resolution.revertInfluxDbOffset(timestamp);
 
+				// a FluxTable usually holds one field only
+				if (!record.getField().equals(field)) {
+					field = record.getField();
+					channelAddress = ChannelAddress.fromString(field);
+				}
+
 				var valueObj = record.getValue();
-				final JsonElement value;
 				if (valueObj == null) {
-					value = JsonNull.INSTANCE;
-				} else if (valueObj instanceof Number) {
-					value = new JsonPrimitive((Number) valueObj);
+					builder.put(timestamp, channelAddress, Double.NaN);
+				} else if (valueObj instanceof Long l) {
+					builder.put(timestamp, channelAddress, l.longValue());
+				} else if (valueObj instanceof Number n) {
+					builder.put(timestamp, channelAddress, n.doubleValue());
 				} else {
-					value = new JsonPrimitive(valueObj.toString());
-				}
-
-				var channelAddresss = ChannelAddress.fromString(record.getField());
-
-				var row = table.get(timestamp);
-				if (row == null) {
-					row = new TreeMap<>();
+					builder.put(timestamp, channelAddress, new JsonPrimitive(valueObj.toString()));
 				}
-				row.put(channelAddresss, value);
-
-				table.put(timestamp, row);
 			}
 		}
 
-		return table;
+		return builder.build();
 	}
 
 	/**
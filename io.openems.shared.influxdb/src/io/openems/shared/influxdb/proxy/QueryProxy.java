@@ -11,6 +11,7 @@ import com.google.gson.JsonElement;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.timedata.CommonTimedataService;
+import io.openems.common.timedata.HistoricData;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.shared.influxdb.InfluxConnector.InfluxConnection;
@@ -137,6 +138,35 @@ public abstract class QueryProxy {
 			Resolution resolution //
 	) throws OpenemsNamedException;
 
+	/**
+	 * {@link CommonTimedataService#queryHistoricDataColumnar(String, ZonedDateTime, ZonedDateTime, Set, Resolution)}.
+	 * 
+	 * @param influxConnection a Influx-Connection
+	 * @param bucket           the bucket name; 'database/retentionPolicy' for
+	 *                         InfluxDB v1
+	 * @param measurement      the influx measurement
+	 * @param influxEdgeId     the Edge-ID
+	 * @param fromDate         the From-Date
+	 * @param toDate           the To-Date
+	 * @param channels         the {@link ChannelAddress}es
+	 * @param resolution       the {@link Resolution}
+	 * @return the query result
+	 * @throws OpenemsNamedException on error
+	 */
+	public HistoricData queryHistoricDataColumnar(//
+			InfluxConnection influxConnection, //
+			String bucket, //
+			String measurement, //
+			Optional<Integer> influxEdgeId, //
+			ZonedDateTime fromDate, //
+			ZonedDateTime toDate, //
+			Set<ChannelAddress> channels, //
+			Resolution resolution //
+	) throws OpenemsNamedException {
+		return HistoricData.fromMap(this.queryHistoricData(influxConnection, bucket, measurement, influxEdgeId,
+				fromDate, toDate, channels, resolution));
+	}
+
 	/**
 	 * {@link CommonTimedataService#queryHistoricEnergyPerPeriod(String, ZonedDateTime, ZonedDateTime, Set, Resolution)}.
 	 * 
@@ -0,0 +1,113 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class InfluxConnectorSpoolTest {
+
+	private static final int NUMBER_OF_POINTS = 10;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Local fake of the InfluxDB write API; can be switched to unavailable.
+	 */
+	private static class FakeInfluxDb implements AutoCloseable {
+
+		private final HttpServer server;
+		private final AtomicInteger lines = new AtomicInteger();
+		private volatile boolean isAvailable = false;
+
+		public FakeInfluxDb() throws IOException {
+			this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			this.server.createContext("/api/v2/write", this::handleWrite);
+			this.server.start();
+		}
+
+		private void handleWrite(HttpExchange exchange) throws IOException {
+			var body = exchange.getRequestBody();
+			if ("gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+				body = new GZIPInputStream(body);
+			}
+			var count = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)).lines() //
+					.filter(l -> !l.isBlank()) //
+					.count();
+			if (this.isAvailable) {
+				this.lines.addAndGet((int) count);
+				exchange.sendResponseHeaders(204, -1);
+			} else {
+				var response = "{\"code\":\"unavailable\",\"message\":\"maintenance\"}"
+						.getBytes(StandardCharsets.UTF_8);
+				exchange.sendResponseHeaders(503, response.length);
+				exchange.getResponseBody().write(response);
+			}
+			exchange.close();
+		}
+
+		public URI getUri() {
+			return URI.create("http://localhost:" + this.server.getAddress().getPort());
+		}
+
+		@Override
+		public void close() {
+			this.server.stop(0);
+		}
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		for (var i = 0; i < 900 && !condition.getAsBoolean(); i++) {
+			Thread.sleep(100);
+		}
+		assertTrue(condition.getAsBoolean());
+	}
+
+	@Test
+	public void testSpoolAndReplay() throws Exception {
+		try (var influxDb = new FakeInfluxDb()) {
+			var sut = new InfluxConnector("influx0", QueryLanguageConfig.INFLUX_QL, influxDb.getUri(), "-",
+					"user:password", "db/rp", "edge", false, 1, 100, e -> {
+					}, false, this.folder.getRoot().toPath(), 1024 * 1024 * 1024);
+			try {
+				// InfluxDB is down: points are spooled
+				for (var i = 0; i < NUMBER_OF_POINTS; i++) {
+					sut.write(Point.measurement("data") //
+							.addTag("edge", "0") //
+							.addField("_sum/ProductionActivePower", i) //
+							.time(1_700_000_000_000L + i * 1000, WritePrecision.MS));
+				}
+				await(() -> sut.debugLog().contains("Spool:" + NUMBER_OF_POINTS + "["));
+				assertEquals(0, influxDb.lines.get());
+
+				// InfluxDB is back: spool is replayed
+				influxDb.isAvailable = true;
+				await(() -> influxDb.lines.get() >= NUMBER_OF_POINTS);
+				await(() -> sut.debugLog().contains("Spool:0["));
+				assertEquals(NUMBER_OF_POINTS, influxDb.lines.get());
+
+			} finally {
+				sut.deactivate();
+			}
+		}
+	}
+
+}
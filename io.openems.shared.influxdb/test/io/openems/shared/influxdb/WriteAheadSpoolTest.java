@@ -0,0 +1,235 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WriteAheadSpoolTest {
+
+	private static final int SEGMENT_SIZE = 1024;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static byte[] record(int i) {
+		return ("measurement,edge=0 value=" + i + "i " + i).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static List<String> toStrings(WriteAheadSpool.Batch batch) {
+		var result = new ArrayList<String>();
+		for (var record : batch.records()) {
+			result.add(new String(record, StandardCharsets.UTF_8));
+		}
+		return result;
+	}
+
+	@Test
+	public void testAppendReadCommit() throws IOException {
+		var dir = this.folder.getRoot().toPath();
+		try (var sut = new WriteAheadSpool(dir, SEGMENT_SIZE, 10)) {
+			assertTrue(sut.read(10).isEmpty());
+			assertFalse(sut.append(new byte[0]));
+			assertFalse(sut.append(new byte[SEGMENT_SIZE]));
+
+			for (var i = 0; i < 5; i++) {
+				assertTrue(sut.append(record(i)));
+			}
+			assertEquals(5, sut.getPendingRecords());
+
+			var batch = sut.read(3);
+			assertEquals(3, batch.records().size());
+			assertArrayEquals(record(0), batch.records().get(0));
+
+			// Not committed -> read again
+			assertEquals(toStrings(batch), toStrings(sut.read(3)));
+
+			sut.commit(batch);
+			assertEquals(2, sut.getPendingRecords());
+			batch = sut.read(10);
+			assertEquals(2, batch.records().size());
+			assertArrayEquals(record(3), batch.records().get(0));
+
+			// Commit all -> compaction deletes the segments
+			sut.commit(batch);
+			assertEquals(0, sut.getPendingRecords());
+			assertEquals(0, sut.getPendingBytes());
+			assertEquals(0, sut.getNumberOfSegments());
+
+			// Append after compaction
+			assertTrue(sut.append(record(5)));
+			assertArrayEquals(record(5), sut.read(10).records().get(0));
+		}
+	}
+
+	@Test
+	public void testRecovery() throws IOException {
+		var dir = this.folder.getRoot().toPath();
+		try (var sut = new WriteAheadSpool(dir, SEGMENT_SIZE, 100)) {
+			for (var i = 0; i < 100; i++) {
+				sut.append(record(i));
+			}
+			assertTrue(sut.getNumberOfSegments() > 1);
+			sut.commit(sut.read(30));
+		}
+
+		// Reopen: continues after the committed records
+		try (var sut = new WriteAheadSpool(dir, SEGMENT_SIZE, 100)) {
+			assertEquals(70, sut.getPendingRecords());
+			var batch = sut.read(100);
+			assertEquals(70, batch.records().size());
+			assertArrayEquals(record(30), batch.records().get(0));
+			assertArrayEquals(record(99), batch.records().get(69));
+
+			// Append continues in the last segment
+			sut.append(record(100));
+			assertEquals(71, sut.read(100).records().size());
+		}
+	}
+
+	@Test
+	public void testRecoveryTornWrite() throws IOException {
+		var dir = this.folder.getRoot().toPath();
+		try (var sut = new WriteAheadSpool(dir, SEGMENT_SIZE, 10)) {
+			sut.append(record(0));
+			sut.append(record(1));
+		}
+
+		// Corrupt the payload of the second record
+		final Path segment;
+		try (var files = Files.list(dir)) {
+			segment = files.filter(f -> f.toString().endsWith(".spool")).findFirst().get();
+		}
+		try (var file = new RandomAccessFile(segment.toFile(), "rw")) {
+			file.seek(8 + record(0).length + 8);
+			file.write('X');
+		}
+
+		try (var sut = new WriteAheadSpool(dir, SEGMENT_SIZE, 10)) {
+			assertEquals(1, sut.getPendingRecords());
+
+			// Torn record is overwritten
+			sut.append(record(2));
+			var batch = sut.read(10);
+			assertEquals(2, batch.records().size());
+			assertArrayEquals(record(0), batch.records().get(0));
+			assertArrayEquals(record(2), batch.records().get(1));
+		}
+	}
+
+	@Test
+	public void testSkipCorruptRecord() throws IOException {
+		var dir = this.folder.getRoot().toPath();
+		try (var sut = new WriteAheadSpool(dir, SEGMENT_SIZE, 10)) {
+			for (var i = 0; i < 3; i++) {
+				sut.append(record(i));
+			}
+			sut.sync();
+
+			// Corrupt the payload of the second record in the current write segment
+			try (var file = new RandomAccessFile(segmentFile(dir).toFile(), "rw")) {
+				file.seek(8 + record(0).length + 8);
+				file.write('X');
+			}
+			sut.append(record(3));
+
+			var batch = sut.read(10);
+			assertEquals(1, batch.corruptRecords());
+			assertEquals(List.of(new String(record(0), StandardCharsets.UTF_8),
+					new String(record(2), StandardCharsets.UTF_8), new String(record(3), StandardCharsets.UTF_8)),
+					toStrings(batch));
+			sut.commit(batch);
+			assertEquals(0, sut.getPendingRecords());
+
+			// Later records of the same segment are still reachable
+			sut.append(record(4));
+			assertArrayEquals(record(4), sut.read(10).records().get(0));
+		}
+	}
+
+	@Test
+	public void testRecoveryKeepsSegmentSize() throws IOException {
+		var dir = this.folder.getRoot().toPath();
+		try (var sut = new WriteAheadSpool(dir, SEGMENT_SIZE * 4, 10)) {
+			for (var i = 0; i < 50; i++) {
+				sut.append(record(i));
+			}
+			assertEquals(1, sut.getNumberOfSegments());
+		}
+
+		// Smaller configured segment size must not truncate existing segments
+		try (var sut = new WriteAheadSpool(dir, SEGMENT_SIZE, 10)) {
+			assertEquals(50, sut.getPendingRecords());
+			var batch = sut.read(100);
+			assertEquals(50, batch.records().size());
+			sut.commit(batch);
+
+			// Empty spool uses the configured segment size
+			sut.append(record(50));
+			assertEquals(SEGMENT_SIZE, Files.size(segmentFile(dir)));
+		}
+	}
+
+	@Test
+	public void testCalculateSegmentSize() {
+		assertEquals(WriteAheadSpool.DEFAULT_SEGMENT_SIZE, WriteAheadSpool.calculateSegmentSize(1024L * 1024 * 1024));
+		assertEquals(512 * 1024, WriteAheadSpool.calculateSegmentSize(1024L * 1024));
+		assertEquals(2, WriteAheadSpool.calculateMaxSegments(1024L * 1024, 512 * 1024));
+		assertThrows(IllegalArgumentException.class, () -> WriteAheadSpool.calculateSegmentSize(1024));
+	}
+
+	private static Path segmentFile(Path dir) throws IOException {
+		try (var files = Files.list(dir)) {
+			return files.filter(f -> f.toString().endsWith(".spool")).findFirst().get();
+		}
+	}
+
+	@Test
+	public void testMaxSegments() throws IOException {
+		var dir = this.folder.getRoot().toPath();
+		try (var sut = new WriteAheadSpool(dir, SEGMENT_SIZE, 2)) {
+			for (var i = 0; i < 1000; i++) {
+				sut.append(record(i));
+			}
+			assertEquals(2, sut.getNumberOfSegments());
+			assertTrue(sut.getDroppedRecords() > 0);
+			assertEquals(1000, sut.getPendingRecords() + sut.getDroppedRecords());
+
+			// Oldest records were dropped
+			var batch = sut.read(2000);
+			assertEquals(sut.getPendingRecords(), batch.records().size());
+			assertArrayEquals(record(999), batch.records().get(batch.records().size() - 1));
+		}
+	}
+
+	@Test
+	public void testCommitAfterDrop() throws IOException {
+		var dir = this.folder.getRoot().toPath();
+		try (var sut = new WriteAheadSpool(dir, SEGMENT_SIZE, 2)) {
+			sut.append(record(0));
+			var batch = sut.read(10);
+
+			// Drops the segment of the batch
+			for (var i = 1; i < 1000; i++) {
+				sut.append(record(i));
+			}
+			var pending = sut.getPendingRecords();
+			sut.commit(batch);
+			assertEquals(pending, sut.getPendingRecords());
+		}
+	}
+
+}